@@ -1,52 +1,95 @@
 package com.looking4rate.backend.config;
 
-import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.looking4rate.backend.services.JuegoService;
 
 /**
  * Configuración de caché para optimizar el rendimiento.
  * Usa Caffeine como proveedor de caché de alto rendimiento.
  * 
- * Cachés configurados (todos con 5 min de expiración):
+ * Cachés configurados (tamaño y caducidad por caché en looking4rate.cache.*):
  * - juegos-listado: Lista completa de juegos
  * - juegos-novedades: Juegos recientes
  * - juegos-proximos: Próximos lanzamientos
- * - juegos-top: Mejor valorados
- * - juegos-populares: Más populares
  * - juego-detalle: Detalle de un juego específico
  * - catalogo: Géneros, plataformas, etc.
  * - juegos-busqueda: Resultados de búsqueda
+ * - usuario-estadisticas: Estadísticas del perfil de cada usuario
+ * 
+ * Los rankings por fecha (novedades y próximos) se refrescan por adelantado:
+ * la primera lectura pasado el tiempo de refresco lanza la recarga en segundo plano y sigue
+ * devolviendo el valor anterior hasta que termina, así nunca caducan todos a la vez bajo carga.
+ * 
+ * Todas registran estadísticas (recordStats): Spring Boot las publica en Micrometer
+ * (cache.gets, cache.evictions...) y el endpoint /actuator/estadocaches las resume.
  */
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CachePropiedades.class)
 public class CacheConfig {
 
+    private static final List<String> CACHES_SIMPLES = List.of("juegos-listado", "juego-detalle", "catalogo", "juegos-busqueda",
+            "usuario-estadisticas");
+
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
-            "juegos-listado",
-            "juegos-novedades", 
-            "juegos-proximos",
-            "juegos-top",
-            "juegos-populares",
-            "juego-detalle",
-            "catalogo",
-            "juegos-busqueda"
-        );
-        cacheManager.setCaffeine(caffeineCacheBuilder());
+    public CacheManager cacheManager(CachePropiedades propiedades, ObjectProvider<JuegoService> juegoService) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // Modo estático: solo existen las cachés registradas aquí
+        cacheManager.setCacheNames(List.of());
+        CACHES_SIMPLES.forEach(nombre ->
+            cacheManager.registerCustomCache(nombre, caffeineCacheBuilder(propiedades.de(nombre)).build()));
+
+        Executor recargas = Executors.newFixedThreadPool(2, tarea -> {
+            Thread hilo = new Thread(tarea, "recarga-cache");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        // El servicio se resuelve en cada recarga: JuegoService depende a su vez del CacheManager
+        registrarRanking(cacheManager, propiedades, recargas, "juegos-novedades",
+            clave -> juegoService.getObject().calcularNovedades());
+        registrarRanking(cacheManager, propiedades, recargas, "juegos-proximos",
+            clave -> juegoService.getObject().calcularProximosLanzamientos());
         return cacheManager;
     }
 
-    private Caffeine<Object, Object> caffeineCacheBuilder() {
-        return Caffeine.newBuilder()
-            .expireAfterWrite(Duration.ofMinutes(5))
-            .maximumSize(500);
+    /**
+     * Caducidad y límite de una caché: por peso estimado si tiene maximo-peso, si no por número de entradas
+     */
+    private Caffeine<Object, Object> caffeineCacheBuilder(CachePropiedades.Especificacion especificacion) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+            .expireAfterWrite(especificacion.getExpiracion())
+            .recordStats();
+        if (especificacion.getMaximoPeso() != null) {
+            return builder
+                .maximumWeight(especificacion.getMaximoPeso().toBytes())
+                .weigher((clave, valor) -> (int) Math.min(Integer.MAX_VALUE, PesoEstimado.de(valor)));
+        }
+        return builder.maximumSize(especificacion.getMaximoEntradas());
+    }
+
+    /**
+     * Caché con refresco anticipado: el cargador recalcula una clave en el executor de recargas
+     */
+    private void registrarRanking(CaffeineCacheManager cacheManager, CachePropiedades propiedades, Executor recargas,
+            String nombre, CacheLoader<Object, Object> cargador) {
+        CachePropiedades.Especificacion especificacion = propiedades.de(nombre);
+        Caffeine<Object, Object> builder = caffeineCacheBuilder(especificacion).executor(recargas);
+        if (especificacion.getRefresco() != null) {
+            builder.refreshAfterWrite(especificacion.getRefresco());
+        }
+        cacheManager.registerCustomCache(nombre, builder.build(cargador));
     }
 }
@@ -0,0 +1,47 @@
+package com.looking4rate.backend.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Políticas de tamaño y caducidad de cada caché (prefijo looking4rate.cache).
+ *
+ * Cada caché se limita por número de entradas (maximo-entradas) o por peso estimado
+ * en memoria (maximo-peso, pensado para las cachés de listas). Las cachés sin
+ * especificación propia usan la de por-defecto.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "looking4rate.cache")
+public class CachePropiedades {
+
+    private Especificacion porDefecto = new Especificacion();
+    private Map<String, Especificacion> especificaciones = new HashMap<>();
+
+    /**
+     * Especificación de una caché concreta (o la por defecto si no tiene)
+     */
+    public Especificacion de(String cache) {
+        return especificaciones.getOrDefault(cache, porDefecto);
+    }
+
+    @Getter
+    @Setter
+    public static class Especificacion {
+        /** Tiempo de vida de una entrada desde que se escribe */
+        private Duration expiracion = Duration.ofMinutes(5);
+        /** Solo cachés con cargador (rankings): recarga en segundo plano pasado este tiempo */
+        private Duration refresco;
+        /** Límite por número de entradas (se ignora si hay maximoPeso) */
+        private long maximoEntradas = 500;
+        /** Límite por peso estimado en memoria de los valores */
+        private DataSize maximoPeso;
+    }
+}
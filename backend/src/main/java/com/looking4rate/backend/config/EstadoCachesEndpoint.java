@@ -0,0 +1,60 @@
+package com.looking4rate.backend.config;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.looking4rate.backend.dtos.EstadoCacheDTO;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Endpoint de Actuator /actuator/estadocaches: ratio de aciertos, expulsiones
+ * y peso estimado en memoria de cada caché
+ */
+@Component
+@Endpoint(id = "estadocaches")
+@RequiredArgsConstructor
+public class EstadoCachesEndpoint {
+
+    private final CacheManager cacheManager;
+
+    @ReadOperation
+    public Map<String, EstadoCacheDTO> estado() {
+        Map<String, EstadoCacheDTO> estado = new TreeMap<>();
+        for (String nombre : cacheManager.getCacheNames()) {
+            if (cacheManager.getCache(nombre) instanceof CaffeineCache cache) {
+                estado.put(nombre, estadoDe(cache.getNativeCache()));
+            }
+        }
+        return estado;
+    }
+
+    private EstadoCacheDTO estadoDe(Cache<Object, Object> cache) {
+        CacheStats estadisticas = cache.stats();
+        Policy.Eviction<Object, Object> expulsion = cache.policy().eviction().orElse(null);
+        boolean porPeso = expulsion != null && expulsion.isWeighted();
+
+        // Con límite por peso Caffeine ya lleva la suma; si no, se estima recorriendo las entradas
+        long peso = porPeso
+                ? expulsion.weightedSize().orElse(0)
+                : cache.asMap().values().stream().mapToLong(PesoEstimado::de).sum();
+        return new EstadoCacheDTO(
+                cache.estimatedSize(),
+                estadisticas.hitCount(),
+                estadisticas.missCount(),
+                estadisticas.hitRate(),
+                estadisticas.evictionCount(),
+                peso,
+                expulsion != null && !porPeso ? expulsion.getMaximum() : null,
+                porPeso ? expulsion.getMaximum() : null);
+    }
+}
@@ -0,0 +1,77 @@
+package com.looking4rate.backend.config;
+
+import java.lang.reflect.RecordComponent;
+import java.time.temporal.Temporal;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Estimación aproximada del tamaño en memoria (bytes) de los valores cacheados.
+ *
+ * No mide el heap real: recorre records, colecciones, mapas y textos sumando cabeceras
+ * y referencias de una JVM de 64 bits con oops comprimidos. Basta para que Caffeine
+ * acote por peso cachés cuyas entradas van de unos pocos juegos al catálogo entero.
+ */
+final class PesoEstimado {
+
+    private static final int CABECERA = 16;
+    private static final int REFERENCIA = 4;
+    private static final int PROFUNDIDAD_MAXIMA = 8;
+
+    private PesoEstimado() {}
+
+    static long de(Object valor) {
+        return de(valor, 0);
+    }
+
+    private static long de(Object valor, int profundidad) {
+        if (valor == null) {
+            return 0;
+        }
+        if (valor instanceof String texto) {
+            // String + byte[] (Latin-1 ocupa 1 byte por carácter, UTF-16 dos)
+            return 24 + CABECERA + texto.length() * (texto.chars().allMatch(c -> c < 256) ? 1L : 2L);
+        }
+        if (valor instanceof Number || valor instanceof Boolean || valor instanceof Enum<?>
+                || valor instanceof Temporal) {
+            return 24;
+        }
+        if (profundidad >= PROFUNDIDAD_MAXIMA) {
+            return CABECERA;
+        }
+        if (valor instanceof Collection<?> coleccion) {
+            long peso = 24 + CABECERA + (long) REFERENCIA * coleccion.size();
+            for (Object elemento : coleccion) {
+                peso += de(elemento, profundidad + 1);
+            }
+            return peso;
+        }
+        if (valor instanceof Map<?, ?> mapa) {
+            long peso = 48 + CABECERA + (long) REFERENCIA * mapa.size();
+            for (Map.Entry<?, ?> entrada : mapa.entrySet()) {
+                peso += 32 + de(entrada.getKey(), profundidad + 1) + de(entrada.getValue(), profundidad + 1);
+            }
+            return peso;
+        }
+        if (valor instanceof Object[] array) {
+            long peso = CABECERA + (long) REFERENCIA * array.length;
+            for (Object elemento : array) {
+                peso += de(elemento, profundidad + 1);
+            }
+            return peso;
+        }
+        if (valor.getClass().isRecord()) {
+            RecordComponent[] componentes = valor.getClass().getRecordComponents();
+            long peso = CABECERA + (long) REFERENCIA * componentes.length;
+            for (RecordComponent componente : componentes) {
+                try {
+                    peso += de(componente.getAccessor().invoke(valor), profundidad + 1);
+                } catch (ReflectiveOperationException e) {
+                    peso += CABECERA;
+                }
+            }
+            return peso;
+        }
+        return 64;
+    }
+}
@@ -0,0 +1,13 @@
+package com.looking4rate.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Activa las tareas programadas (@Scheduled), p. ej. el refresco de la popularidad del autocompletado
+ * o el recálculo de recomendaciones
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -61,7 +61,8 @@ public class SecurityConfig {
                 .requestMatchers("/api-docs/**").permitAll()
                 .requestMatchers("/v3/api-docs/**").permitAll()
                 
-                // Actuator endpoints
+                // Actuator endpoints (el estado de las cachés solo para administradores)
+                .requestMatchers("/actuator/estadocaches/**").hasAuthority("ADMIN")
                 .requestMatchers("/actuator/**").permitAll()
                 
                 // Endpoints de lectura públicos (GET)
@@ -71,6 +72,7 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.GET, "/api/generos/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/interacciones/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/usuarios/{id}").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/usuarios/{id}/estadisticas").permitAll()
                 
                 // Registro de usuarios público
                 .requestMatchers(HttpMethod.POST, "/api/usuarios").permitAll()
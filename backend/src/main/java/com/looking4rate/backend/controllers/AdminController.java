@@ -0,0 +1,135 @@
+package com.looking4rate.backend.controllers;
+
+import java.io.InputStream;
+import java.util.List;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.looking4rate.backend.dtos.EstadoImportacionDTO;
+import com.looking4rate.backend.dtos.RecalculoRecomendacionesDTO;
+import com.looking4rate.backend.dtos.ReconstruccionStatsDTO;
+import com.looking4rate.backend.services.ExportacionDatos;
+import com.looking4rate.backend.services.ImportacionJuegos;
+import com.looking4rate.backend.services.JuegoStatsService;
+import com.looking4rate.backend.services.RecomendacionesJuegos;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+@Tag(name = "Administración", description = "Operaciones de mantenimiento (requieren rol ADMIN)")
+@SecurityRequirement(name = "bearerAuth")
+public class AdminController {
+
+    private final JuegoStatsService juegoStatsService;
+    private final RecomendacionesJuegos recomendacionesJuegos;
+    private final ImportacionJuegos importacionJuegos;
+    private final ExportacionDatos exportacionDatos;
+
+    // ==================== MANTENIMIENTO ====================
+
+    /**
+     * POST /api/admin/stats/reconstruir - Recalcula en paralelo los agregados de todos los juegos (solo ADMIN)
+     */
+    @Operation(summary = "Reconstruir agregados", description = "Recalcula la tabla juego_stats desde las interacciones")
+    @PostMapping("/stats/reconstruir")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<ReconstruccionStatsDTO> reconstruirStats() {
+        return ResponseEntity.ok(juegoStatsService.reconstruir());
+    }
+
+    /**
+     * POST /api/admin/recomendaciones/recalcular - Recalcula ya la tabla de recomendaciones (solo ADMIN)
+     */
+    @Operation(summary = "Recalcular recomendaciones", description = "Recalcula los vecinos item-item sin esperar a la tarea programada")
+    @PostMapping("/recomendaciones/recalcular")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<RecalculoRecomendacionesDTO> recalcularRecomendaciones() {
+        return ResponseEntity.ok(recomendacionesJuegos.recalcular());
+    }
+
+    // ==================== IMPORTACIÓN ====================
+
+    /**
+     * POST /api/admin/importaciones/juegos - Importa juegos en bloque desde NDJSON o CSV (solo ADMIN)
+     * El cuerpo se procesa mientras llega; la respuesta es el resultado final con las filas rechazadas
+     * (los índices en memoria se recargan después: indicesActualizados en el estado de la importación)
+     */
+    @Operation(summary = "Importar juegos", description = "Alta masiva de juegos desde NDJSON (application/x-ndjson) "
+            + "o CSV con cabecera (text/csv, listas separadas por |). Plataformas, desarrolladoras y géneros por ID o nombre")
+    @PostMapping(value = "/importaciones/juegos", consumes = { ImportacionJuegos.Formato.TIPO_NDJSON, "text/csv" })
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<EstadoImportacionDTO> importarJuegos(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String tipo, InputStream cuerpo) {
+        ImportacionJuegos.Formato formato = ImportacionJuegos.Formato.desde(MediaType.parseMediaType(tipo));
+        return ResponseEntity.ok(importacionJuegos.importar(formato, cuerpo));
+    }
+
+    /**
+     * GET /api/admin/importaciones - Progreso de la importación en curso y resultado de las últimas (solo ADMIN)
+     */
+    @Operation(summary = "Listar importaciones", description = "Estado de las últimas importaciones, de la más reciente a la más antigua")
+    @GetMapping("/importaciones")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<List<EstadoImportacionDTO>> listarImportaciones() {
+        return ResponseEntity.ok(importacionJuegos.recientes());
+    }
+
+    /**
+     * GET /api/admin/importaciones/{id} - Progreso o resultado de una importación (solo ADMIN)
+     */
+    @Operation(summary = "Estado de una importación", description = "Filas leídas, importadas y rechazadas hasta el momento")
+    @GetMapping("/importaciones/{id}")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<EstadoImportacionDTO> obtenerImportacion(@PathVariable Long id) {
+        return ResponseEntity.ok(importacionJuegos.estado(id));
+    }
+
+    // ==================== EXPORTACIÓN ====================
+
+    /**
+     * GET /api/admin/export/interacciones?gzip=true - Todas las interacciones en NDJSON (solo ADMIN)
+     */
+    @Operation(summary = "Exportar interacciones", description = "Volcado en NDJSON leído con cursor: "
+            + "la memoria no crece con el tamaño de la tabla. Con gzip=true se descarga comprimido")
+    @GetMapping("/export/interacciones")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportarInteracciones(@RequestParam(defaultValue = "false") boolean gzip) {
+        return descarga("interacciones", gzip, salida -> exportacionDatos.exportarInteracciones(salida, gzip));
+    }
+
+    /**
+     * GET /api/admin/export/juegos?gzip=true - Todos los juegos en NDJSON, en el formato de la importación (solo ADMIN)
+     */
+    @Operation(summary = "Exportar juegos", description = "Volcado en NDJSON con plataformas, desarrolladoras y "
+            + "géneros por nombre (se puede reimportar). Con gzip=true se descarga comprimido")
+    @GetMapping("/export/juegos")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportarJuegos(@RequestParam(defaultValue = "false") boolean gzip) {
+        return descarga("juegos", gzip, salida -> exportacionDatos.exportarJuegos(salida, gzip));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> descarga(String nombre, boolean gzip, StreamingResponseBody cuerpo) {
+        String fichero = nombre + ".ndjson" + (gzip ? ".gz" : "");
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : ImportacionJuegos.Formato.TIPO_NDJSON))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fichero).build().toString())
+                .body(cuerpo);
+    }
+}
@@ -14,9 +14,11 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.looking4rate.backend.dtos.DesarrolladoraDTO;
 import com.looking4rate.backend.services.DesarrolladoraService;
+import com.looking4rate.backend.services.VersionesCatalogo;
 
 import lombok.RequiredArgsConstructor;
 
@@ -26,6 +28,7 @@ import lombok.RequiredArgsConstructor;
 public class DesarrolladoraController {
     
     private final DesarrolladoraService desarrolladoraService;
+    private final VersionesCatalogo versionesCatalogo;
 
     // ==================== CRUD ====================
 
@@ -33,16 +36,18 @@ public class DesarrolladoraController {
      * GET /api/desarrolladoras - Lista todas las desarrolladoras
      */
     @GetMapping
-    public ResponseEntity<List<DesarrolladoraDTO>> listarTodas() {
-        return ResponseEntity.ok(desarrolladoraService.listarTodas());
+    public ResponseEntity<List<DesarrolladoraDTO>> listarTodas(WebRequest peticion) {
+        return RespuestaCondicional.segunVersion(peticion, versionesCatalogo.etagRecurso(VersionesCatalogo.DESARROLLADORAS),
+                desarrolladoraService::listarTodas);
     }
 
     /**
      * GET /api/desarrolladoras/{id} - Obtiene una desarrolladora por ID
      */
     @GetMapping("/{id}")
-    public ResponseEntity<DesarrolladoraDTO> obtenerPorId(@PathVariable Long id) {
-        return ResponseEntity.ok(desarrolladoraService.obtenerPorId(id));
+    public ResponseEntity<DesarrolladoraDTO> obtenerPorId(@PathVariable Long id, WebRequest peticion) {
+        return RespuestaCondicional.segunVersion(peticion, versionesCatalogo.etagRecurso(VersionesCatalogo.DESARROLLADORAS),
+                () -> desarrolladoraService.obtenerPorId(id));
     }
 
     /**
@@ -82,23 +87,26 @@ public class DesarrolladoraController {
      * GET /api/desarrolladoras/buscar?nombre=xxx - Busca desarrolladoras por nombre
      */
     @GetMapping("/buscar")
-    public ResponseEntity<List<DesarrolladoraDTO>> buscarPorNombre(@RequestParam String nombre) {
-        return ResponseEntity.ok(desarrolladoraService.buscarPorNombre(nombre));
+    public ResponseEntity<List<DesarrolladoraDTO>> buscarPorNombre(@RequestParam String nombre, WebRequest peticion) {
+        return RespuestaCondicional.segunVersion(peticion, versionesCatalogo.etagRecurso(VersionesCatalogo.DESARROLLADORAS),
+                () -> desarrolladoraService.buscarPorNombre(nombre));
     }
 
     /**
      * GET /api/desarrolladoras/pais/{pais} - Busca desarrolladoras por país
      */
     @GetMapping("/pais/{pais}")
-    public ResponseEntity<List<DesarrolladoraDTO>> buscarPorPais(@PathVariable String pais) {
-        return ResponseEntity.ok(desarrolladoraService.buscarPorPais(pais));
+    public ResponseEntity<List<DesarrolladoraDTO>> buscarPorPais(@PathVariable String pais, WebRequest peticion) {
+        return RespuestaCondicional.segunVersion(peticion, versionesCatalogo.etagRecurso(VersionesCatalogo.DESARROLLADORAS),
+                () -> desarrolladoraService.buscarPorPais(pais));
     }
 
     /**
      * GET /api/desarrolladoras/antiguas - Lista desarrolladoras por fecha de creación
      */
     @GetMapping("/antiguas")
-    public ResponseEntity<List<DesarrolladoraDTO>> listarPorFechaCreacion() {
-        return ResponseEntity.ok(desarrolladoraService.listarPorFechaCreacion());
+    public ResponseEntity<List<DesarrolladoraDTO>> listarPorFechaCreacion(WebRequest peticion) {
+        return RespuestaCondicional.segunVersion(peticion, versionesCatalogo.etagRecurso(VersionesCatalogo.DESARROLLADORAS),
+                desarrolladoraService::listarPorFechaCreacion);
     }
 }
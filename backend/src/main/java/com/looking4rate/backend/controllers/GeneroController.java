@@ -14,9 +14,11 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.looking4rate.backend.dtos.GeneroDTO;
 import com.looking4rate.backend.services.GeneroService;
+import com.looking4rate.backend.services.VersionesCatalogo;
 
 import lombok.RequiredArgsConstructor;
 
@@ -26,6 +28,7 @@ import lombok.RequiredArgsConstructor;
 public class GeneroController {
     
     private final GeneroService generoService;
+    private final VersionesCatalogo versionesCatalogo;
 
     // ==================== CRUD ====================
 
@@ -33,16 +36,18 @@ public class GeneroController {
      * GET /api/generos - Lista todos los géneros
      */
     @GetMapping
-    public ResponseEntity<List<GeneroDTO>> listarTodos() {
-        return ResponseEntity.ok(generoService.listarTodos());
+    public ResponseEntity<List<GeneroDTO>> listarTodos(WebRequest peticion) {
+        return RespuestaCondicional.segunVersion(peticion, versionesCatalogo.etagRecurso(VersionesCatalogo.GENEROS),
+                generoService::listarTodos);
     }
 
     /**
      * GET /api/generos/{id} - Obtiene un género por ID
      */
     @GetMapping("/{id}")
-    public ResponseEntity<GeneroDTO> obtenerPorId(@PathVariable Long id) {
-        return ResponseEntity.ok(generoService.obtenerPorId(id));
+    public ResponseEntity<GeneroDTO> obtenerPorId(@PathVariable Long id, WebRequest peticion) {
+        return RespuestaCondicional.segunVersion(peticion, versionesCatalogo.etagRecurso(VersionesCatalogo.GENEROS),
+                () -> generoService.obtenerPorId(id));
     }
 
     /**
@@ -82,7 +87,8 @@ public class GeneroController {
      * GET /api/generos/buscar?nombre=xxx - Busca géneros por nombre
      */
     @GetMapping("/buscar")
-    public ResponseEntity<List<GeneroDTO>> buscarPorNombre(@RequestParam String nombre) {
-        return ResponseEntity.ok(generoService.buscarPorNombre(nombre));
+    public ResponseEntity<List<GeneroDTO>> buscarPorNombre(@RequestParam String nombre, WebRequest peticion) {
+        return RespuestaCondicional.segunVersion(peticion, versionesCatalogo.etagRecurso(VersionesCatalogo.GENEROS),
+                () -> generoService.buscarPorNombre(nombre));
     }
 }
@@ -12,10 +12,12 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.looking4rate.backend.dtos.InteraccionCreacionDTO;
 import com.looking4rate.backend.dtos.InteraccionDTO;
+import com.looking4rate.backend.dtos.PaginaDTO;
 import com.looking4rate.backend.services.InteraccionService;
 
 import jakarta.validation.Valid;
@@ -39,6 +41,17 @@ public class InteraccionController {
         return ResponseEntity.ok(interaccionService.listarTodas());
     }
 
+    /**
+     * GET /api/interacciones/pagina?cursor=xxx&tamanio=20 - Página de todas las interacciones (solo ADMIN)
+     */
+    @GetMapping("/pagina")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<PaginaDTO<InteraccionDTO>> listarPagina(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") Integer tamanio) {
+        return ResponseEntity.ok(interaccionService.listarPagina(cursor, tamanio));
+    }
+
     /**
      * GET /api/interacciones/{id} - Obtiene una interacción por ID
      */
@@ -54,12 +67,17 @@ public class InteraccionController {
      * - Un usuario solo puede tener una interacción por juego
      * - La puntuación debe ser entre 1-10
      * - Para puntuar, debe marcar el juego como jugado
+     * 
+     * Con la escritura diferida activa responde 202 (aceptada, aún sin ID) y se guarda en el siguiente lote
      */
     @PostMapping("/usuario/{usuarioId}")
     @PreAuthorize("hasAuthority('ADMIN') or #usuarioId == authentication.principal.id")
     public ResponseEntity<InteraccionDTO> crear(
             @PathVariable Long usuarioId,
             @Valid @RequestBody InteraccionCreacionDTO dto) {
+        if (interaccionService.altasDiferidas()) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(interaccionService.encolar(usuarioId, dto));
+        }
         InteraccionDTO creada = interaccionService.crear(usuarioId, dto);
         return ResponseEntity.status(HttpStatus.CREATED).body(creada);
     }
@@ -98,6 +116,17 @@ public class InteraccionController {
         return ResponseEntity.ok(interaccionService.obtenerPorUsuario(usuarioId));
     }
 
+    /**
+     * GET /api/interacciones/usuario/{usuarioId}/pagina?cursor=xxx&tamanio=20 - Página de interacciones de un usuario
+     */
+    @GetMapping("/usuario/{usuarioId}/pagina")
+    public ResponseEntity<PaginaDTO<InteraccionDTO>> obtenerPaginaPorUsuario(
+            @PathVariable Long usuarioId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") Integer tamanio) {
+        return ResponseEntity.ok(interaccionService.obtenerPaginaPorUsuario(usuarioId, cursor, tamanio));
+    }
+
     /**
      * GET /api/interacciones/juego/{juegoId} - Obtiene reviews de un juego
      */
@@ -106,6 +135,17 @@ public class InteraccionController {
         return ResponseEntity.ok(interaccionService.obtenerPorJuego(juegoId));
     }
 
+    /**
+     * GET /api/interacciones/juego/{juegoId}/pagina?cursor=xxx&tamanio=20 - Página de reviews de un juego
+     */
+    @GetMapping("/juego/{juegoId}/pagina")
+    public ResponseEntity<PaginaDTO<InteraccionDTO>> obtenerPaginaPorJuego(
+            @PathVariable Long juegoId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") Integer tamanio) {
+        return ResponseEntity.ok(interaccionService.obtenerPaginaPorJuego(juegoId, cursor, tamanio));
+    }
+
     /**
      * GET /api/interacciones/usuario/{usuarioId}/juego/{juegoId} - Obtiene interacción específica
      */
@@ -124,6 +164,17 @@ public class InteraccionController {
         return ResponseEntity.ok(interaccionService.obtenerJuegosJugados(usuarioId));
     }
 
+    /**
+     * GET /api/interacciones/usuario/{usuarioId}/jugados/pagina?cursor=xxx&tamanio=20 - Página de juegos jugados
+     */
+    @GetMapping("/usuario/{usuarioId}/jugados/pagina")
+    public ResponseEntity<PaginaDTO<InteraccionDTO>> obtenerPaginaJuegosJugados(
+            @PathVariable Long usuarioId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") Integer tamanio) {
+        return ResponseEntity.ok(interaccionService.obtenerPaginaJuegosJugados(usuarioId, cursor, tamanio));
+    }
+
     /**
      * GET /api/interacciones/juego/{juegoId}/puntuacion - Obtiene puntuación media de un juego
      */
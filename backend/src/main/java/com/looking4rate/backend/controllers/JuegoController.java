@@ -14,14 +14,28 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.looking4rate.backend.dtos.DistribucionPuntuacionesDTO;
+import com.looking4rate.backend.dtos.ExploracionJuegosDTO;
 import com.looking4rate.backend.dtos.JuegoCreacionDTO;
 import com.looking4rate.backend.dtos.JuegoDTO;
 import com.looking4rate.backend.dtos.JuegoResumenDTO;
+import com.looking4rate.backend.dtos.OrdenJuegos;
+import com.looking4rate.backend.dtos.PaginaDTO;
+import com.looking4rate.backend.dtos.SugerenciaJuegoDTO;
+import com.looking4rate.backend.services.AutocompletadoJuegos;
+import com.looking4rate.backend.services.ClasificacionJuegos;
 import com.looking4rate.backend.services.JuegoService;
+import com.looking4rate.backend.services.RecomendacionesJuegos;
+import com.looking4rate.backend.services.TendenciasJuegos;
+import com.looking4rate.backend.services.VersionesCatalogo;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -36,6 +50,12 @@ import lombok.RequiredArgsConstructor;
 public class JuegoController {
 
     private final JuegoService juegoService;
+    private final AutocompletadoJuegos autocompletadoJuegos;
+    private final ClasificacionJuegos clasificacionJuegos;
+    private final TendenciasJuegos tendenciasJuegos;
+    private final RecomendacionesJuegos recomendacionesJuegos;
+    private final VersionesCatalogo versionesCatalogo;
+    private final RespuestasPrecalculadas respuestasPrecalculadas;
 
     // ==================== CRUD ====================
 
@@ -43,10 +63,30 @@ public class JuegoController {
      * GET /api/juegos - Lista todos los juegos (resumen)
      */
     @Operation(summary = "Listar juegos", description = "Obtiene la lista de todos los juegos con información resumida")
-    @ApiResponse(responseCode = "200", description = "Lista de juegos obtenida correctamente")
+    @ApiResponse(responseCode = "200", description = "Lista de juegos obtenida correctamente",
+            content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = JuegoResumenDTO.class))))
     @GetMapping
-    public ResponseEntity<List<JuegoResumenDTO>> listarTodos() {
-        return ResponseEntity.ok(juegoService.listarTodos());
+    public ResponseEntity<byte[]> listarTodos(WebRequest peticion) {
+        return respuestasPrecalculadas.responder(peticion, juegoService.listarTodos());
+    }
+
+    /**
+     * GET /api/juegos/pagina?orden=NOMBRE&cursor=xxx&tamanio=20 - Lista el catálogo paginado por cursor
+     */
+    @Operation(summary = "Listar juegos paginados", description = "Obtiene una página del catálogo ordenada por NOMBRE, FECHA, PUNTUACION o POPULARIDAD. " +
+            "Para la siguiente página se envía el siguienteCursor de la respuesta anterior")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Página obtenida correctamente"),
+        @ApiResponse(responseCode = "400", description = "Cursor u orden inválido")
+    })
+    @GetMapping("/pagina")
+    public ResponseEntity<PaginaDTO<JuegoResumenDTO>> listarPagina(
+            @Parameter(description = "Criterio de orden") @RequestParam(defaultValue = "NOMBRE") OrdenJuegos orden,
+            @Parameter(description = "Cursor devuelto por la página anterior") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamaño de página (máximo 100)") @RequestParam(defaultValue = "20") Integer tamanio,
+            WebRequest peticion) {
+        return RespuestaCondicional.segunVersion(peticion, versionesCatalogo.etagRecurso(VersionesCatalogo.JUEGOS),
+                () -> juegoService.listarPagina(orden, cursor, tamanio));
     }
 
     /**
@@ -58,8 +98,24 @@ public class JuegoController {
         @ApiResponse(responseCode = "404", description = "Juego no encontrado")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<JuegoDTO> obtenerPorId(@Parameter(description = "ID del juego") @PathVariable Long id) {
-        return ResponseEntity.ok(juegoService.obtenerPorId(id));
+    public ResponseEntity<JuegoDTO> obtenerPorId(@Parameter(description = "ID del juego") @PathVariable Long id, WebRequest peticion) {
+        return RespuestaCondicional.segunVersion(peticion, versionesCatalogo.etagJuego(id),
+                () -> juegoService.obtenerPorId(id));
+    }
+
+    /**
+     * GET /api/juegos/{id}/distribucion - Histograma de puntuaciones (1 a 10), media, varianza y desviación típica
+     */
+    @Operation(summary = "Distribución de puntuaciones", description = "Histograma y dispersión de las valoraciones de un juego")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Distribución del juego"),
+        @ApiResponse(responseCode = "404", description = "Juego no encontrado")
+    })
+    @GetMapping("/{id}/distribucion")
+    public ResponseEntity<DistribucionPuntuacionesDTO> obtenerDistribucion(
+            @Parameter(description = "ID del juego") @PathVariable Long id, WebRequest peticion) {
+        return RespuestaCondicional.segunVersion(peticion, versionesCatalogo.etagJuego(id),
+                () -> juegoService.obtenerDistribucion(id));
     }
 
     /**
@@ -104,41 +160,123 @@ public class JuegoController {
      * GET /api/juegos/buscar?nombre=xxx - Busca juegos por nombre
      */
     @GetMapping("/buscar")
-    public ResponseEntity<List<JuegoResumenDTO>> buscarPorNombre(@RequestParam String nombre) {
-        return ResponseEntity.ok(juegoService.buscarPorNombre(nombre));
+    public ResponseEntity<List<JuegoResumenDTO>> buscarPorNombre(@RequestParam String nombre, WebRequest peticion) {
+        return RespuestaCondicional.segunValor(peticion, versionesCatalogo, juegoService.buscarPorNombre(nombre));
+    }
+
+    /**
+     * GET /api/juegos/explorar?generos=1,2&plataformas=3&anios=2023&pagina=0&tamanio=20 - Navegación por facetas
+     */
+    @Operation(summary = "Explorar catálogo por facetas", description = "Filtra por géneros, plataformas, desarrolladoras y años de salida " +
+            "(cualquiera de los valores de una faceta, todas las facetas a la vez) y devuelve cuántos juegos hay para cada valor")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Resultados y recuentos obtenidos correctamente"),
+        @ApiResponse(responseCode = "400", description = "Parámetros inválidos")
+    })
+    @GetMapping("/explorar")
+    public ResponseEntity<ExploracionJuegosDTO> explorar(
+            @Parameter(description = "IDs de géneros") @RequestParam(required = false) List<Long> generos,
+            @Parameter(description = "IDs de plataformas") @RequestParam(required = false) List<Long> plataformas,
+            @Parameter(description = "IDs de desarrolladoras") @RequestParam(required = false) List<Long> desarrolladoras,
+            @Parameter(description = "Años de salida") @RequestParam(required = false) List<Integer> anios,
+            @Parameter(description = "Número de página (desde 0)") @RequestParam(defaultValue = "0") Integer pagina,
+            @Parameter(description = "Tamaño de página (máximo 100)") @RequestParam(defaultValue = "20") Integer tamanio,
+            WebRequest peticion) {
+        return RespuestaCondicional.segunVersion(peticion, versionesCatalogo.etagRecurso(VersionesCatalogo.JUEGOS),
+                () -> juegoService.explorar(generos, plataformas, desarrolladoras, anios, pagina, tamanio));
+    }
+
+    /**
+     * GET /api/juegos/autocompletar?q=xxx&limite=8 - Sugerencias de nombres mientras se escribe
+     * Se sirve desde memoria (no abre transacción ni consulta la base de datos)
+     */
+    @Operation(summary = "Autocompletar juegos", description = "Devuelve los juegos más populares con alguna palabra que empiece por el texto")
+    @GetMapping("/autocompletar")
+    public ResponseEntity<List<SugerenciaJuegoDTO>> autocompletar(
+            @Parameter(description = "Texto escrito por el usuario") @RequestParam String q,
+            @Parameter(description = "Número máximo de sugerencias (máximo 20)") @RequestParam(required = false) Integer limite,
+            WebRequest peticion) {
+        return RespuestaCondicional.segunVersion(peticion, versionesCatalogo.etagRecurso(VersionesCatalogo.JUEGOS),
+                () -> autocompletadoJuegos.sugerir(q, limite));
     }
 
     /**
      * GET /api/juegos/novedades - Obtiene los juegos más recientes
      */
     @GetMapping("/novedades")
-    public ResponseEntity<List<JuegoResumenDTO>> obtenerNovedades() {
-        return ResponseEntity.ok(juegoService.obtenerNovedades());
+    public ResponseEntity<byte[]> obtenerNovedades(WebRequest peticion) {
+        return respuestasPrecalculadas.responder(peticion, juegoService.obtenerNovedades());
     }
 
     /**
      * GET /api/juegos/proximos - Obtiene los próximos lanzamientos
      */
     @GetMapping("/proximos")
-    public ResponseEntity<List<JuegoResumenDTO>> obtenerProximosLanzamientos() {
-        return ResponseEntity.ok(juegoService.obtenerProximosLanzamientos());
+    public ResponseEntity<byte[]> obtenerProximosLanzamientos(WebRequest peticion) {
+        return respuestasPrecalculadas.responder(peticion, juegoService.obtenerProximosLanzamientos());
     }
 
     /**
-     * GET /api/juegos/top?limite=10 - Obtiene los juegos mejor valorados
+     * GET /api/juegos/top?limite=10 - Obtiene los juegos mejor valorados (límite de 1 a 100)
      */
     @GetMapping("/top")
-    public ResponseEntity<List<JuegoResumenDTO>> obtenerMejorValorados(
-            @RequestParam(defaultValue = "10") int limite) {
-        return ResponseEntity.ok(juegoService.obtenerMejorValorados(limite));
+    public ResponseEntity<byte[]> obtenerMejorValorados(
+            @RequestParam(defaultValue = "10") int limite,
+            WebRequest peticion) {
+        juegoService.validarLimiteClasificacion(limite);
+        var consulta = new RespuestasPrecalculadas.Consulta("top", limite, String.valueOf(clasificacionJuegos.generacion()));
+        return respuestasPrecalculadas.responder(peticion, consulta, () -> juegoService.obtenerMejorValorados(limite));
     }
 
     /**
-     * GET /api/juegos/populares?limite=10 - Obtiene los juegos más reviewados
+     * GET /api/juegos/populares?limite=10 - Obtiene los juegos más reviewados (límite de 1 a 100)
      */
     @GetMapping("/populares")
-    public ResponseEntity<List<JuegoResumenDTO>> obtenerMasReviewados(
-            @RequestParam(defaultValue = "10") int limite) {
-        return ResponseEntity.ok(juegoService.obtenerMasReviewados(limite));
+    public ResponseEntity<byte[]> obtenerMasReviewados(
+            @RequestParam(defaultValue = "10") int limite,
+            WebRequest peticion) {
+        juegoService.validarLimiteClasificacion(limite);
+        var consulta = new RespuestasPrecalculadas.Consulta("populares", limite, String.valueOf(clasificacionJuegos.generacion()));
+        return respuestasPrecalculadas.responder(peticion, consulta, () -> juegoService.obtenerMasReviewados(limite));
+    }
+
+    /**
+     * GET /api/juegos/{id}/similares?limite=10 - Juegos con más géneros, plataformas y desarrolladoras en común
+     */
+    @GetMapping("/{id}/similares")
+    public ResponseEntity<List<JuegoResumenDTO>> obtenerSimilares(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int limite,
+            WebRequest peticion) {
+        // La lista cambia con cualquier juego que comparta algo con este, no solo con el propio juego
+        String version = String.valueOf(versionesCatalogo.version(VersionesCatalogo.JUEGOS));
+        return RespuestaCondicional.segunVersion(peticion, versionesCatalogo.etagConsulta("similares-" + id, limite, version),
+                () -> juegoService.obtenerSimilares(id, limite));
+    }
+
+    /**
+     * GET /api/juegos/{id}/tambien-gustaron?limite=10 - Juegos que también gustaron a quienes valoraron este
+     */
+    @GetMapping("/{id}/tambien-gustaron")
+    public ResponseEntity<List<JuegoResumenDTO>> obtenerTambienGustaron(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int limite,
+            WebRequest peticion) {
+        // Los vecinos cambian con cada tabla publicada; sus nombres y medias, con los juegos
+        String version = recomendacionesJuegos.generacion() + "." + versionesCatalogo.version(VersionesCatalogo.JUEGOS);
+        return RespuestaCondicional.segunVersion(peticion, versionesCatalogo.etagConsulta("tambien-gustaron-" + id, limite, version),
+                () -> juegoService.obtenerTambienGustaron(id, limite));
+    }
+
+    /**
+     * GET /api/juegos/tendencias?limite=10 - Obtiene los juegos con más actividad reciente (límite de 1 a 100)
+     */
+    @GetMapping("/tendencias")
+    public ResponseEntity<byte[]> obtenerTendencias(
+            @RequestParam(defaultValue = "10") int limite,
+            WebRequest peticion) {
+        juegoService.validarLimiteClasificacion(limite);
+        var consulta = new RespuestasPrecalculadas.Consulta("tendencias", limite, tendenciasJuegos.version());
+        return respuestasPrecalculadas.responder(peticion, consulta, () -> juegoService.obtenerTendencias(limite));
     }
 }
\ No newline at end of file
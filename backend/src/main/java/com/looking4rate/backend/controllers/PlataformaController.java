@@ -14,9 +14,11 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.looking4rate.backend.dtos.PlataformaDTO;
 import com.looking4rate.backend.services.PlataformaService;
+import com.looking4rate.backend.services.VersionesCatalogo;
 
 import lombok.RequiredArgsConstructor;
 
@@ -26,6 +28,7 @@ import lombok.RequiredArgsConstructor;
 public class PlataformaController {
     
     private final PlataformaService plataformaService;
+    private final VersionesCatalogo versionesCatalogo;
 
     // ==================== CRUD ====================
 
@@ -33,16 +36,18 @@ public class PlataformaController {
      * GET /api/plataformas - Lista todas las plataformas
      */
     @GetMapping
-    public ResponseEntity<List<PlataformaDTO>> listarTodas() {
-        return ResponseEntity.ok(plataformaService.listarTodas());
+    public ResponseEntity<List<PlataformaDTO>> listarTodas(WebRequest peticion) {
+        return RespuestaCondicional.segunVersion(peticion, versionesCatalogo.etagRecurso(VersionesCatalogo.PLATAFORMAS),
+                plataformaService::listarTodas);
     }
 
     /**
      * GET /api/plataformas/{id} - Obtiene una plataforma por ID
      */
     @GetMapping("/{id}")
-    public ResponseEntity<PlataformaDTO> obtenerPorId(@PathVariable Long id) {
-        return ResponseEntity.ok(plataformaService.obtenerPorId(id));
+    public ResponseEntity<PlataformaDTO> obtenerPorId(@PathVariable Long id, WebRequest peticion) {
+        return RespuestaCondicional.segunVersion(peticion, versionesCatalogo.etagRecurso(VersionesCatalogo.PLATAFORMAS),
+                () -> plataformaService.obtenerPorId(id));
     }
 
     /**
@@ -82,23 +87,26 @@ public class PlataformaController {
      * GET /api/plataformas/buscar?nombre=xxx - Busca plataformas por nombre
      */
     @GetMapping("/buscar")
-    public ResponseEntity<List<PlataformaDTO>> buscarPorNombre(@RequestParam String nombre) {
-        return ResponseEntity.ok(plataformaService.buscarPorNombre(nombre));
+    public ResponseEntity<List<PlataformaDTO>> buscarPorNombre(@RequestParam String nombre, WebRequest peticion) {
+        return RespuestaCondicional.segunVersion(peticion, versionesCatalogo.etagRecurso(VersionesCatalogo.PLATAFORMAS),
+                () -> plataformaService.buscarPorNombre(nombre));
     }
 
     /**
      * GET /api/plataformas/fabricante/{fabricante} - Busca plataformas por fabricante
      */
     @GetMapping("/fabricante/{fabricante}")
-    public ResponseEntity<List<PlataformaDTO>> buscarPorFabricante(@PathVariable String fabricante) {
-        return ResponseEntity.ok(plataformaService.buscarPorFabricante(fabricante));
+    public ResponseEntity<List<PlataformaDTO>> buscarPorFabricante(@PathVariable String fabricante, WebRequest peticion) {
+        return RespuestaCondicional.segunVersion(peticion, versionesCatalogo.etagRecurso(VersionesCatalogo.PLATAFORMAS),
+                () -> plataformaService.buscarPorFabricante(fabricante));
     }
 
     /**
      * GET /api/plataformas/recientes - Lista plataformas por año descendente
      */
     @GetMapping("/recientes")
-    public ResponseEntity<List<PlataformaDTO>> listarPorAnioDesc() {
-        return ResponseEntity.ok(plataformaService.listarPorAnioDesc());
+    public ResponseEntity<List<PlataformaDTO>> listarPorAnioDesc(WebRequest peticion) {
+        return RespuestaCondicional.segunVersion(peticion, versionesCatalogo.etagRecurso(VersionesCatalogo.PLATAFORMAS),
+                plataformaService::listarPorAnioDesc);
     }
 }
@@ -0,0 +1,35 @@
+package com.looking4rate.backend.controllers;
+
+import java.util.function.Supplier;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import com.looking4rate.backend.services.VersionesCatalogo;
+
+/**
+ * GET condicionales con las ETag de VersionesCatalogo: si el If-None-Match coincide
+ * se responde 304 sin cuerpo (ni serialización ni compresión)
+ */
+final class RespuestaCondicional {
+
+    private RespuestaCondicional() {}
+
+    /**
+     * La ETag se calcula antes que el cuerpo, que solo se genera si el cliente no lo tiene
+     */
+    static <T> ResponseEntity<T> segunVersion(WebRequest peticion, String etag, Supplier<T> cuerpo) {
+        if (peticion.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok(cuerpo.get());
+    }
+
+    /**
+     * Para valores servidos desde caché: la ETag identifica la instancia cacheada
+     */
+    static <T> ResponseEntity<T> segunValor(WebRequest peticion, VersionesCatalogo versiones, T valor) {
+        return segunVersion(peticion, versiones.etagValor(valor), () -> valor);
+    }
+}
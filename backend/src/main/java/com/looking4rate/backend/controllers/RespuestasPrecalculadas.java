@@ -0,0 +1,228 @@
+package com.looking4rate.backend.controllers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.looking4rate.backend.services.VersionesCatalogo;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Caché de respuestas ya serializadas para las listas más pedidas (portada).
+ *
+ * - Por cada lista cacheada se guardan sus bytes JSON y, al pedirse por primera vez,
+ *   sus variantes gzip y brotli (se comprimen una sola vez por lista)
+ * - Las listas de la caché de datos se asocian por identidad a su instancia: cuando esta
+ *   se expulsa o se refresca llega una instancia nueva y sus bytes se descartan con ella
+ * - Las clasificaciones en memoria (top, populares, tendencias) se guardan por consulta:
+ *   ruta, límite y versión del índice, en una caché acotada por número de consultas
+ * - La respuesta lleva su Content-Encoding, así la compresión del servidor no vuelve a actuar
+ * - Sin la librería nativa de brotli solo se ofrecen JSON y gzip
+ */
+@Component
+@RequiredArgsConstructor
+class RespuestasPrecalculadas {
+
+    private static final MediaType JSON = MediaType.APPLICATION_JSON;
+    private static final boolean BROTLI_DISPONIBLE = cargarBrotli();
+    /** Calidad máxima para listas pequeñas; en las grandes (listado completo) prima el tiempo */
+    private static final int CALIDAD_BROTLI = 11;
+    private static final int CALIDAD_BROTLI_GRANDES = 6;
+    private static final int TAMANIO_GRANDE = 256 * 1024;
+    /** Tres rutas con límites de 1 a 100, más las versiones anteriores que aún no se han expulsado */
+    private static final int MAXIMO_CONSULTAS = 512;
+
+    private final ObjectMapper objectMapper;
+    private final VersionesCatalogo versionesCatalogo;
+
+    /** Claves débiles por identidad: viven lo mismo que la lista en la caché de datos */
+    private final Cache<Object, Variantes> variantes = Caffeine.newBuilder().weakKeys().build();
+    private final Cache<Consulta, Variantes> consultas = Caffeine.newBuilder().maximumSize(MAXIMO_CONSULTAS).build();
+
+    /**
+     * Lista servida desde la caché de datos: la ETag y los bytes siguen a la instancia
+     */
+    ResponseEntity<byte[]> responder(WebRequest peticion, Object valor) {
+        return responder(peticion, versionesCatalogo.etagValor(valor),
+                () -> variantes.get(valor, v -> new Variantes(serializar(v))));
+    }
+
+    /**
+     * Consulta con versión propia: la versión se ha leído antes de pedir la lista, que solo
+     * se calcula si el cliente no tiene ya esa versión y no hay bytes guardados para ella
+     */
+    ResponseEntity<byte[]> responder(WebRequest peticion, Consulta consulta, Supplier<?> valor) {
+        return responder(peticion, versionesCatalogo.etagConsulta(consulta.ruta(), consulta.limite(), consulta.version()),
+                () -> consultas.get(consulta, c -> new Variantes(serializar(valor.get()))));
+    }
+
+    /**
+     * Responde con la variante que acepta el cliente, o 304 si ya tiene esa misma versión
+     */
+    private ResponseEntity<byte[]> responder(WebRequest peticion, String etag, Supplier<Variantes> variante) {
+        Codificacion codificacion = Codificacion.preferida(peticion.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (codificacion != Codificacion.IDENTIDAD) {
+            // Cada codificación es una representación distinta: su ETag fuerte también
+            etag = etag.substring(0, etag.length() - 1) + "-" + codificacion.nombre + "\"";
+        }
+        if (peticion.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).varyBy(HttpHeaders.ACCEPT_ENCODING).build();
+        }
+
+        Variantes entrada = variante.get();
+        ResponseEntity.BodyBuilder respuesta = ResponseEntity.ok()
+                .contentType(JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        return switch (codificacion) {
+            case BROTLI -> respuesta.header(HttpHeaders.CONTENT_ENCODING, codificacion.nombre).body(entrada.brotli());
+            case GZIP -> respuesta.header(HttpHeaders.CONTENT_ENCODING, codificacion.nombre).body(entrada.gzip());
+            case IDENTIDAD -> respuesta.body(entrada.json);
+        };
+    }
+
+    private byte[] serializar(Object valor) {
+        try {
+            return objectMapper.writeValueAsBytes(valor);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se ha podido serializar la respuesta", e);
+        }
+    }
+
+    private static boolean cargarBrotli() {
+        try {
+            Brotli4jLoader.ensureAvailability();
+            return true;
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    // ==================== ESTRUCTURAS ====================
+
+    /**
+     * Clave de una respuesta de clasificación
+     */
+    record Consulta(String ruta, int limite, String version) {}
+
+    private enum Codificacion {
+        BROTLI("br"),
+        GZIP("gzip"),
+        IDENTIDAD("identity");
+
+        private final String nombre;
+
+        Codificacion(String nombre) {
+            this.nombre = nombre;
+        }
+
+        /**
+         * Brotli si el cliente lo acepta (y está disponible), si no gzip, si no JSON sin comprimir.
+         * Los valores con q=0 se tratan como no aceptados
+         */
+        static Codificacion preferida(String acceptEncoding) {
+            if (acceptEncoding == null) {
+                return IDENTIDAD;
+            }
+            boolean brotli = false;
+            boolean gzip = false;
+            for (String parte : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+                String[] campos = parte.split(";");
+                String nombre = campos[0].trim();
+                boolean aceptado = true;
+                for (int i = 1; i < campos.length; i++) {
+                    String parametro = campos[i].trim();
+                    if (parametro.startsWith("q=")) {
+                        try {
+                            aceptado = Double.parseDouble(parametro.substring(2)) > 0;
+                        } catch (NumberFormatException e) {
+                            aceptado = false;
+                        }
+                    }
+                }
+                brotli |= aceptado && nombre.equals(BROTLI.nombre);
+                gzip |= aceptado && nombre.equals(GZIP.nombre);
+            }
+            if (brotli && BROTLI_DISPONIBLE) {
+                return BROTLI;
+            }
+            return gzip ? GZIP : IDENTIDAD;
+        }
+    }
+
+    /**
+     * Bytes de una lista: el JSON al crearse, las variantes comprimidas bajo demanda
+     */
+    private static final class Variantes {
+
+        private final byte[] json;
+        private volatile byte[] gzip;
+        private volatile byte[] brotli;
+
+        Variantes(byte[] json) {
+            this.json = json;
+        }
+
+        byte[] gzip() {
+            byte[] actual = gzip;
+            if (actual == null) {
+                synchronized (this) {
+                    if (gzip == null) {
+                        gzip = comprimirGzip(json);
+                    }
+                    actual = gzip;
+                }
+            }
+            return actual;
+        }
+
+        byte[] brotli() {
+            byte[] actual = brotli;
+            if (actual == null) {
+                synchronized (this) {
+                    if (brotli == null) {
+                        try {
+                            brotli = Encoder.compress(json, new Encoder.Parameters()
+                                    .setQuality(json.length > TAMANIO_GRANDE ? CALIDAD_BROTLI_GRANDES : CALIDAD_BROTLI));
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }
+                    actual = brotli;
+                }
+            }
+            return actual;
+        }
+
+        private static byte[] comprimirGzip(byte[] datos) {
+            ByteArrayOutputStream salida = new ByteArrayOutputStream(datos.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(salida) {
+                {
+                    def.setLevel(Deflater.BEST_COMPRESSION);
+                }
+            }) {
+                gzip.write(datos);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return salida.toByteArray();
+        }
+    }
+}
@@ -17,6 +17,8 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.looking4rate.backend.dtos.AvatarDTO;
 import com.looking4rate.backend.dtos.CambioContraseniaDTO;
+import com.looking4rate.backend.dtos.EstadisticasUsuarioDTO;
+import com.looking4rate.backend.dtos.JuegoResumenDTO;
 import com.looking4rate.backend.dtos.UsuarioActualizacionDTO;
 import com.looking4rate.backend.dtos.UsuarioDTO;
 import com.looking4rate.backend.dtos.UsuarioRegistroDTO;
@@ -50,6 +52,14 @@ public class UsuarioController {
         return ResponseEntity.ok(usuarioService.obtenerPorId(id));
     }
 
+    /**
+     * GET /api/usuarios/{id}/estadisticas - Jugados, puntuados, media, histograma y géneros (público, como el perfil)
+     */
+    @GetMapping("/{id}/estadisticas")
+    public ResponseEntity<EstadisticasUsuarioDTO> obtenerEstadisticas(@PathVariable Long id) {
+        return ResponseEntity.ok(usuarioService.obtenerEstadisticas(id));
+    }
+
     /**
      * POST /api/usuarios - Registra un nuevo usuario
      */
@@ -106,6 +116,17 @@ public class UsuarioController {
 
     // ==================== BÚSQUEDAS ====================
 
+    /**
+     * GET /api/usuarios/{id}/recomendaciones?limite=10 - Juegos recomendados para el usuario (propio usuario o ADMIN)
+     */
+    @GetMapping("/{id}/recomendaciones")
+    @PreAuthorize("hasAuthority('ADMIN') or #id == authentication.principal.id")
+    public ResponseEntity<List<JuegoResumenDTO>> obtenerRecomendaciones(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int limite) {
+        return ResponseEntity.ok(usuarioService.obtenerRecomendaciones(id, limite));
+    }
+
     /**
      * GET /api/usuarios/buscar?nombre=xxx - Busca usuarios por nombre (solo ADMIN)
      */
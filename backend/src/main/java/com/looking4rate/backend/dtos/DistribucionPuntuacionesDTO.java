@@ -0,0 +1,15 @@
+package com.looking4rate.backend.dtos;
+
+import java.util.Map;
+
+/**
+ * DTO con la distribución de puntuaciones de un juego
+ * El histograma tiene siempre las claves 1 a 10; media y dispersión son null sin puntuaciones
+ */
+public record DistribucionPuntuacionesDTO(
+    long totalPuntuadas,
+    Double media,
+    Double varianza,
+    Double desviacionTipica,
+    Map<Integer, Long> histograma
+) {}
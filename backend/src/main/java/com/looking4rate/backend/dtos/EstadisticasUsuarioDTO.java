@@ -0,0 +1,27 @@
+package com.looking4rate.backend.dtos;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO de respuesta con las estadísticas del perfil de un usuario
+ * El histograma tiene siempre las claves 1 a 10 (valoraciones con cada puntuación)
+ */
+public record EstadisticasUsuarioDTO(
+    Long usuarioId,
+    long juegosJugados,
+    long juegosPuntuados,
+    Double puntuacionMedia,
+    Map<Integer, Long> histograma,
+    List<Genero> generos
+) {
+
+    /**
+     * Juegos del usuario en un género y la media de los que ha puntuado (null si ninguno)
+     */
+    public record Genero(
+        String nombre,
+        long juegos,
+        Double puntuacionMedia
+    ) {}
+}
@@ -0,0 +1,15 @@
+package com.looking4rate.backend.dtos;
+
+/**
+ * DTO con las estadísticas de una caché para el endpoint de Actuator /actuator/estadocaches
+ */
+public record EstadoCacheDTO(
+    long entradas,
+    long aciertos,
+    long fallos,
+    double ratioAciertos,
+    long expulsiones,
+    long pesoEstimadoBytes,
+    Long limiteEntradas,
+    Long limitePesoBytes
+) {}
@@ -0,0 +1,38 @@
+package com.looking4rate.backend.dtos;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO con el progreso o el resultado de una importación masiva de juegos
+ * Los errores se limitan a los primeros; rechazados cuenta todos.
+ * indicesActualizados pasa a true cuando búsquedas, listados y similares ya ven los juegos importados
+ */
+public record EstadoImportacionDTO(
+    long id,
+    String formato,
+    Estado estado,
+    long filasLeidas,
+    long importados,
+    long rechazados,
+    List<ErrorFila> errores,
+    LocalDateTime inicio,
+    LocalDateTime fin,
+    long duracionMs,
+    boolean indicesActualizados
+) {
+
+    public enum Estado {
+        EN_CURSO,
+        COMPLETADA,
+        FALLIDA
+    }
+
+    /**
+     * Fila rechazada: línea del fichero en la que empieza y motivo
+     */
+    public record ErrorFila(
+        long linea,
+        String mensaje
+    ) {}
+}
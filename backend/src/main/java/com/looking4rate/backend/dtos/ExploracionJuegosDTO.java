@@ -0,0 +1,27 @@
+package com.looking4rate.backend.dtos;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO de respuesta de la navegación por facetas: una página de juegos que cumplen
+ * los filtros y, para cada faceta, cuántos juegos quedarían al elegir cada valor
+ */
+public record ExploracionJuegosDTO(
+    List<JuegoResumenDTO> juegos,
+    long total,
+    int pagina,
+    boolean hayMas,
+    Facetas facetas
+) {
+
+    /**
+     * Recuentos por valor (ID de género, plataforma o desarrolladora, o año de salida)
+     */
+    public record Facetas(
+        Map<Long, Long> generos,
+        Map<Long, Long> plataformas,
+        Map<Long, Long> desarrolladoras,
+        Map<Integer, Long> anios
+    ) {}
+}
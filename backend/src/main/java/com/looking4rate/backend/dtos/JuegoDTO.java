@@ -17,5 +17,6 @@ public record JuegoDTO(
     List<String> generos,
     Double puntuacionMedia,
     Integer totalReviews,
-    List<ImagenJuegoDTO> imagenes
+    List<ImagenJuegoDTO> imagenes,
+    DistribucionPuntuacionesDTO distribucion
 ) {}
@@ -0,0 +1,21 @@
+package com.looking4rate.backend.dtos;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+
+/**
+ * Fila de una importación masiva de juegos (una línea NDJSON o CSV)
+ * Las plataformas, desarrolladoras y géneros se indican por ID o por nombre; también se
+ * aceptan los campos de JuegoCreacionDTO (plataformaIds, desarrolladoraIds, generoIds)
+ */
+public record JuegoImportacionDTO(
+    String nombre,
+    String descripcion,
+    String imagenPortada,
+    LocalDate fechaSalida,
+    @JsonAlias("plataformaIds") List<String> plataformas,
+    @JsonAlias("desarrolladoraIds") List<String> desarrolladoras,
+    @JsonAlias("generoIds") List<String> generos
+) {}
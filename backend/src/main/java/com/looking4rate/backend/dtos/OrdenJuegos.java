@@ -0,0 +1,11 @@
+package com.looking4rate.backend.dtos;
+
+/**
+ * Criterios de ordenación del catálogo paginado
+ */
+public enum OrdenJuegos {
+    NOMBRE,         // Alfabético ascendente
+    FECHA,          // Más recientes primero
+    PUNTUACION,     // Mejor media primero
+    POPULARIDAD     // Más interacciones primero
+}
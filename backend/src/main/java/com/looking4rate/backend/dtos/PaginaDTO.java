@@ -0,0 +1,13 @@
+package com.looking4rate.backend.dtos;
+
+import java.util.List;
+
+/**
+ * DTO genérico para respuestas paginadas por cursor (keyset).
+ * siguienteCursor es opaco: el cliente debe reenviarlo tal cual para pedir la siguiente página.
+ */
+public record PaginaDTO<T>(
+    List<T> contenido,
+    String siguienteCursor,
+    boolean hayMas
+) {}
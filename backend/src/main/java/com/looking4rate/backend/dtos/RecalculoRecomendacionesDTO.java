@@ -0,0 +1,13 @@
+package com.looking4rate.backend.dtos;
+
+/**
+ * DTO con el resultado de un recálculo de la tabla de recomendaciones
+ */
+public record RecalculoRecomendacionesDTO(
+    int interacciones,
+    int juegos,
+    int usuarios,
+    int hilos,
+    long cargaMs,
+    long duracionMs
+) {}
@@ -0,0 +1,10 @@
+package com.looking4rate.backend.dtos;
+
+/**
+ * DTO con el resultado de una reconstrucción de los agregados de juegos
+ */
+public record ReconstruccionStatsDTO(
+    int juegosProcesados,
+    int particiones,
+    long duracionMs
+) {}
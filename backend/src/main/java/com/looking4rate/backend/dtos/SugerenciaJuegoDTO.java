@@ -0,0 +1,10 @@
+package com.looking4rate.backend.dtos;
+
+/**
+ * DTO para las sugerencias de autocompletado del buscador
+ */
+public record SugerenciaJuegoDTO(
+    Long id,
+    String nombre,
+    String imagenPortada
+) {}
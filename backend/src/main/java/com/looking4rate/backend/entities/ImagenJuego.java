@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -16,7 +17,9 @@ import lombok.NoArgsConstructor;
  * Entidad para las imágenes de galería de un juego
  */
 @Entity
-@Table(name = "imagen_juego")
+@Table(name = "imagen_juego", indexes = {
+    @Index(name = "idx_imagen_juego_juego", columnList = "juego_id, id")
+})
 @AllArgsConstructor @NoArgsConstructor @Builder
 @Getter
 public class ImagenJuego {
@@ -7,16 +7,25 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "interaccion")
+@Table(name = "interaccion", indexes = {
+    @Index(name = "idx_interaccion_fecha", columnList = "fecha_interaccion, id"),
+    @Index(name = "idx_interaccion_juego_fecha", columnList = "juego_id, fecha_interaccion, id"),
+    @Index(name = "idx_interaccion_usuario_fecha", columnList = "usuario_id, fecha_interaccion, id")
+}, uniqueConstraints = {
+    // Una interacción por usuario y juego (la escritura diferida se apoya en ella con ON CONFLICT)
+    @UniqueConstraint(name = "uk_interaccion_usuario_juego", columnNames = {"usuario_id", "juego_id"})
+})
 @AllArgsConstructor @NoArgsConstructor @Builder
 @Getter
 public class Interaccion {
@@ -9,6 +9,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -17,7 +18,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "juego")
+@Table(name = "juego", indexes = {
+    @Index(name = "idx_juego_nombre", columnList = "nombre, id"),
+    @Index(name = "idx_juego_fecha_salida", columnList = "fecha_salida, id")
+})
 @AllArgsConstructor @NoArgsConstructor @Builder
 @Getter
 public class Juego {
@@ -4,6 +4,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -12,7 +13,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "juego_plataforma")
+@Table(name = "juego_plataforma", indexes = {
+    @Index(name = "idx_juego_plataforma_juego", columnList = "juego_id, id")
+})
 @AllArgsConstructor @NoArgsConstructor @Builder
 @Getter
 public class JuegoPlataforma {
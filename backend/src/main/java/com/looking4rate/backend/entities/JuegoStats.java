@@ -0,0 +1,111 @@
+package com.looking4rate.backend.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Agregados precalculados de las interacciones de un juego (read model).
+ * Se mantienen de forma incremental desde InteraccionService en la misma
+ * transacción que la escritura, de modo que los listados no necesitan
+ * agrupar la tabla interaccion en cada petición.
+ * Incluye el histograma de puntuaciones, del que salen la media y la varianza exactas.
+ */
+@Entity
+@Table(name = "juego_stats", indexes = {
+    @Index(name = "idx_juego_stats_media", columnList = "puntuacion_media, juego_id"),
+    @Index(name = "idx_juego_stats_interacciones", columnList = "total_interacciones, juego_id")
+})
+@AllArgsConstructor @NoArgsConstructor @Builder
+@Getter
+public class JuegoStats {
+
+    /** ID del juego al que pertenecen los agregados */
+    @Id
+    private Long juego_id;
+
+    /** Suma de todas las puntuaciones */
+    @Column(nullable = false)
+    private long suma_puntuaciones;
+
+    /** Número total de interacciones (con o sin puntuación) */
+    @Column(nullable = false)
+    private long total_interacciones;
+
+    /** Número de interacciones con puntuación */
+    @Column(nullable = false)
+    private long total_puntuadas;
+
+    /** Número de interacciones marcadas como jugado */
+    @Column(nullable = false)
+    private long total_jugados;
+
+    /** Media precalculada (0 si no hay puntuaciones) */
+    @Column(nullable = false)
+    private double puntuacion_media;
+
+    // Histograma de puntuaciones: un contador de ancho fijo por valor (1 a 10)
+
+    /** Número de interacciones con puntuación 1 */
+    @Column(nullable = false)
+    private long puntuadas_1;
+
+    /** Número de interacciones con puntuación 2 */
+    @Column(nullable = false)
+    private long puntuadas_2;
+
+    /** Número de interacciones con puntuación 3 */
+    @Column(nullable = false)
+    private long puntuadas_3;
+
+    /** Número de interacciones con puntuación 4 */
+    @Column(nullable = false)
+    private long puntuadas_4;
+
+    /** Número de interacciones con puntuación 5 */
+    @Column(nullable = false)
+    private long puntuadas_5;
+
+    /** Número de interacciones con puntuación 6 */
+    @Column(nullable = false)
+    private long puntuadas_6;
+
+    /** Número de interacciones con puntuación 7 */
+    @Column(nullable = false)
+    private long puntuadas_7;
+
+    /** Número de interacciones con puntuación 8 */
+    @Column(nullable = false)
+    private long puntuadas_8;
+
+    /** Número de interacciones con puntuación 9 */
+    @Column(nullable = false)
+    private long puntuadas_9;
+
+    /** Número de interacciones con puntuación 10 */
+    @Column(nullable = false)
+    private long puntuadas_10;
+
+    /**
+     * Histograma de puntuaciones: la posición k - 1 cuenta las interacciones con puntuación k
+     */
+    public long[] getHistograma() {
+        return new long[] {
+            puntuadas_1, puntuadas_2, puntuadas_3, puntuadas_4, puntuadas_5,
+            puntuadas_6, puntuadas_7, puntuadas_8, puntuadas_9, puntuadas_10
+        };
+    }
+
+    /**
+     * Media de puntuación tal y como se expone en la API (null si no hay puntuaciones)
+     */
+    public Double getMediaPublica() {
+        return total_puntuadas > 0 ? puntuacion_media : null;
+    }
+}
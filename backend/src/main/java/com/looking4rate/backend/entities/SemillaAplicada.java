@@ -0,0 +1,39 @@
+package com.looking4rate.backend.entities;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Huella de los datos iniciales cargados en la base de datos.
+ * La gestiona Hibernate como el resto del esquema: con create-drop desaparece junto con los
+ * datos y se vuelve a sembrar; con update se conserva y el arranque se salta la carga.
+ */
+@Entity
+@Table(name = "semilla_aplicada")
+@AllArgsConstructor @NoArgsConstructor @Builder
+@Getter
+public class SemillaAplicada {
+
+    /** Conjunto de ficheros (carpeta de semillas) */
+    @Id
+    private String conjunto;
+
+    /** SHA-256 del contenido de todos los ficheros, en orden de carga */
+    @Column(nullable = false, length = 64)
+    private String huella;
+
+    /** Filas cargadas */
+    @Column(nullable = false)
+    private long filas;
+
+    @Column(nullable = false)
+    private LocalDateTime fecha_aplicacion;
+}
@@ -0,0 +1,21 @@
+package com.looking4rate.backend.events;
+
+/**
+ * Evento publicado por los servicios de géneros, plataformas y desarrolladoras
+ * cuando cambia una de sus entradas.
+ */
+public record CatalogoCambiadoEvent(
+    Catalogo catalogo,
+    Long id,
+    TipoCambio tipo
+) {
+
+    /**
+     * Catálogo auxiliar al que pertenece la entrada
+     */
+    public enum Catalogo {
+        GENERO,
+        PLATAFORMA,
+        DESARROLLADORA
+    }
+}
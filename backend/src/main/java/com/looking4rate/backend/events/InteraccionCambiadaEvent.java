@@ -0,0 +1,11 @@
+package com.looking4rate.backend.events;
+
+/**
+ * Evento publicado por InteraccionService cuando un usuario crea, modifica o elimina
+ * su interacción con un juego (cambian la media y el número de reviews del juego).
+ */
+public record InteraccionCambiadaEvent(
+    Long juegoId,
+    Long usuarioId,
+    TipoCambio tipo
+) {}
@@ -0,0 +1,10 @@
+package com.looking4rate.backend.events;
+
+/**
+ * Evento publicado por JuegoService cuando cambia un juego del catálogo.
+ * Los índices en memoria lo escuchan tras el commit para actualizarse.
+ */
+public record JuegoCambiadoEvent(
+    Long juegoId,
+    TipoCambio tipo
+) {}
@@ -0,0 +1,10 @@
+package com.looking4rate.backend.events;
+
+/**
+ * Evento publicado por ImportacionJuegos al terminar una importación masiva.
+ * Sustituye a un JuegoCambiadoEvent por juego: los índices en memoria se recargan
+ * enteros y las cachés del catálogo se invalidan una sola vez.
+ */
+public record JuegosImportadosEvent(
+    int juegos
+) {}
@@ -0,0 +1,9 @@
+package com.looking4rate.backend.events;
+
+/**
+ * Evento publicado por RecargaIndicesJuegos cuando los datos pudieron cambiar sin recibir
+ * los eventos de cada cambio (reconexión del bus, reconstrucción de los agregados).
+ * Llega después del JuegosImportadosEvent de la misma recarga: los índices ya están rehechos
+ * y solo queda dar por caducado lo que se haya servido antes.
+ */
+public record RecargaCompletaEvent() {}
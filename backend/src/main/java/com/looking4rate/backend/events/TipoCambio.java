@@ -0,0 +1,10 @@
+package com.looking4rate.backend.events;
+
+/**
+ * Tipo de cambio en el catálogo
+ */
+public enum TipoCambio {
+    CREADO,
+    ACTUALIZADO,
+    ELIMINADO
+}
@@ -0,0 +1,15 @@
+package com.looking4rate.backend.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Excepción lanzada cuando el servidor no puede aceptar más trabajo por ahora (el cliente debe reintentar)
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ServiceUnavailableException extends RuntimeException {
+    
+    public ServiceUnavailableException(String mensaje) {
+        super(mensaje);
+    }
+}
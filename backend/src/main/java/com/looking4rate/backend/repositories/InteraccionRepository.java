@@ -1,8 +1,10 @@
 package com.looking4rate.backend.repositories;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -40,4 +42,47 @@ public interface InteraccionRepository extends JpaRepository<Interaccion, Long>{
     // Juegos jugados por un usuario
     @Query("SELECT i FROM Interaccion i WHERE i.usuario.id = :usuarioId AND i.estado_jugado = true")
     List<Interaccion> findJuegosJugadosByUsuarioId(@Param("usuarioId") Long usuarioId);
+    
+    // IDs de los juegos con los que ha interactuado un usuario
+    @Query("SELECT i.juego.id FROM Interaccion i WHERE i.usuario.id = :usuarioId")
+    List<Long> findJuegoIdsByUsuarioId(@Param("usuarioId") Long usuarioId);
+    
+    // Juego y fecha de las interacciones desde una fecha (reconstrucción de tendencias)
+    @Query("SELECT i.juego.id, i.fecha_interaccion FROM Interaccion i WHERE i.fecha_interaccion >= :desde")
+    List<Object[]> findActividadDesde(@Param("desde") LocalDateTime desde);
+    
+    // ==================== PAGINACIÓN POR CLAVE (fecha_interaccion, id) ====================
+    // Orden descendente (más recientes primero). La primera página usa valores centinela.
+    // El seek es una comparación de filas, que PostgreSQL usa como inicio del recorrido del índice.
+    // JOIN FETCH evita una consulta extra por usuario y juego de cada fila.
+    
+    // Página de todas las interacciones
+    @Query("SELECT i FROM Interaccion i JOIN FETCH i.usuario JOIN FETCH i.juego " +
+           "WHERE (i.fecha_interaccion, i.id) < (:fecha, :id) " +
+           "ORDER BY i.fecha_interaccion DESC, i.id DESC")
+    List<Interaccion> findPagina(@Param("fecha") LocalDateTime fecha, @Param("id") Long id, Pageable pageable);
+    
+    // Página de las reviews de un juego
+    @Query("SELECT i FROM Interaccion i JOIN FETCH i.usuario JOIN FETCH i.juego " +
+           "WHERE i.juego.id = :juegoId " +
+           "AND (i.fecha_interaccion, i.id) < (:fecha, :id) " +
+           "ORDER BY i.fecha_interaccion DESC, i.id DESC")
+    List<Interaccion> findPaginaByJuegoId(@Param("juegoId") Long juegoId, @Param("fecha") LocalDateTime fecha,
+                                          @Param("id") Long id, Pageable pageable);
+    
+    // Página de las interacciones de un usuario
+    @Query("SELECT i FROM Interaccion i JOIN FETCH i.usuario JOIN FETCH i.juego " +
+           "WHERE i.usuario.id = :usuarioId " +
+           "AND (i.fecha_interaccion, i.id) < (:fecha, :id) " +
+           "ORDER BY i.fecha_interaccion DESC, i.id DESC")
+    List<Interaccion> findPaginaByUsuarioId(@Param("usuarioId") Long usuarioId, @Param("fecha") LocalDateTime fecha,
+                                            @Param("id") Long id, Pageable pageable);
+    
+    // Página de los juegos jugados por un usuario
+    @Query("SELECT i FROM Interaccion i JOIN FETCH i.usuario JOIN FETCH i.juego " +
+           "WHERE i.usuario.id = :usuarioId AND i.estado_jugado = true " +
+           "AND (i.fecha_interaccion, i.id) < (:fecha, :id) " +
+           "ORDER BY i.fecha_interaccion DESC, i.id DESC")
+    List<Interaccion> findPaginaJugadosByUsuarioId(@Param("usuarioId") Long usuarioId, @Param("fecha") LocalDateTime fecha,
+                                                   @Param("id") Long id, Pageable pageable);
 }
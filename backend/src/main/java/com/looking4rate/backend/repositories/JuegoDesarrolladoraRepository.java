@@ -3,6 +3,8 @@ package com.looking4rate.backend.repositories;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.looking4rate.backend.entities.JuegoDesarrolladora;
 
@@ -16,4 +18,16 @@ public interface JuegoDesarrolladoraRepository extends JpaRepository<JuegoDesarr
     
     // Eliminar relación específica
     void deleteByJuegoIdAndDesarrolladoraId(Long juegoId, Long desarrolladoraId);
+    
+    // Pares [juegoId, desarrolladoraId] de todo el catálogo (solo claves, sin cargar entidades)
+    @Query("SELECT jd.juego.id, jd.desarrolladora.id FROM JuegoDesarrolladora jd")
+    List<Object[]> findParesIds();
+    
+    // IDs de los desarrolladoras de un juego
+    @Query("SELECT jd.desarrolladora.id FROM JuegoDesarrolladora jd WHERE jd.juego.id = :juegoId")
+    List<Long> findDesarrolladoraIdsByJuegoId(@Param("juegoId") Long juegoId);
+    
+    // IDs de los juegos de una desarrolladora
+    @Query("SELECT jd.juego.id FROM JuegoDesarrolladora jd WHERE jd.desarrolladora.id = :desarrolladoraId")
+    List<Long> findJuegoIdsByDesarrolladoraId(@Param("desarrolladoraId") Long desarrolladoraId);
 }
@@ -3,6 +3,8 @@ package com.looking4rate.backend.repositories;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.looking4rate.backend.entities.JuegoGenero;
 
@@ -19,4 +21,16 @@ public interface JuegoGeneroRepository extends JpaRepository<JuegoGenero, Long>
     
     // Verificar si existe relación
     boolean existsByJuegoIdAndGeneroId(Long juegoId, Long generoId);
+    
+    // Pares [juegoId, generoId] de todo el catálogo (solo claves, sin cargar entidades)
+    @Query("SELECT jg.juego.id, jg.genero.id FROM JuegoGenero jg")
+    List<Object[]> findParesIds();
+    
+    // IDs de los géneros de un juego
+    @Query("SELECT jg.genero.id FROM JuegoGenero jg WHERE jg.juego.id = :juegoId")
+    List<Long> findGeneroIdsByJuegoId(@Param("juegoId") Long juegoId);
+    
+    // IDs de los juegos de un género
+    @Query("SELECT jg.juego.id FROM JuegoGenero jg WHERE jg.genero.id = :generoId")
+    List<Long> findJuegoIdsByGeneroId(@Param("generoId") Long generoId);
 }
@@ -3,6 +3,8 @@ package com.looking4rate.backend.repositories;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.looking4rate.backend.entities.JuegoPlataforma;
 
@@ -19,4 +21,16 @@ public interface JuegoPlataformaRepository extends JpaRepository<JuegoPlataforma
     
     // Verificar si existe relación
     boolean existsByJuegoIdAndPlataformaId(Long juegoId, Long plataformaId);
+    
+    // Pares [juegoId, plataformaId] de todo el catálogo (solo claves, sin cargar entidades)
+    @Query("SELECT jp.juego.id, jp.plataforma.id FROM JuegoPlataforma jp")
+    List<Object[]> findParesIds();
+    
+    // IDs de los plataformas de un juego
+    @Query("SELECT jp.plataforma.id FROM JuegoPlataforma jp WHERE jp.juego.id = :juegoId")
+    List<Long> findPlataformaIdsByJuegoId(@Param("juegoId") Long juegoId);
+    
+    // IDs de los juegos de una plataforma
+    @Query("SELECT jp.juego.id FROM JuegoPlataforma jp WHERE jp.plataforma.id = :plataformaId")
+    List<Long> findJuegoIdsByPlataformaId(@Param("plataformaId") Long plataformaId);
 }
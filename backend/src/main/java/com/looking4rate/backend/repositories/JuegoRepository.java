@@ -1,7 +1,9 @@
 package com.looking4rate.backend.repositories;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -15,63 +17,165 @@ public interface JuegoRepository extends JpaRepository<Juego, Long> {
     // Busca nombres que CONTENGAN lo que escriba el usuario
     List<Juego> findByNombreContainingIgnoreCase(String nombre);
     
-    // ==================== QUERIES OPTIMIZADAS (resuelven N+1) ====================
+    // ==================== QUERIES OPTIMIZADAS (leen el read model juego_stats) ====================
+    
+    /**
+     * Detalle completo de un juego en UNA SOLA ida y vuelta (SQL nativo de PostgreSQL)
+     * Columnas: [id, nombre, descripcion, imagen_portada, fecha_salida, media, total_interacciones,
+     *            plataformas[], desarrolladoras[], generos[], imagen_ids[], imagen_urls[], imagen_alts[], imagen_captions[],
+     *            histograma[10]]
+     * Las relaciones se agregan en arrays con subconsultas correlacionadas, así no se multiplican filas
+     */
+    @Query(value = "SELECT j.id, j.nombre, j.descripcion, j.imagen_portada, j.fecha_salida, " +
+           "CASE WHEN s.total_puntuadas > 0 THEN s.puntuacion_media END, " +
+           "COALESCE(s.total_interacciones, 0), " +
+           "ARRAY(SELECT p.nombre FROM juego_plataforma jp JOIN plataforma p ON p.id = jp.plataforma_id " +
+           "      WHERE jp.juego_id = j.id ORDER BY jp.id), " +
+           "ARRAY(SELECT d.nombre FROM juego_desarrolladora jd JOIN desarrolladora d ON d.id = jd.desarrolladora_id " +
+           "      WHERE jd.juego_id = j.id ORDER BY jd.id), " +
+           "ARRAY(SELECT g.nombre FROM juego_genero jg JOIN genero g ON g.id = jg.genero_id " +
+           "      WHERE jg.juego_id = j.id ORDER BY jg.id), " +
+           "ARRAY(SELECT i.id FROM imagen_juego i WHERE i.juego_id = j.id ORDER BY i.id), " +
+           "ARRAY(SELECT i.url FROM imagen_juego i WHERE i.juego_id = j.id ORDER BY i.id), " +
+           "ARRAY(SELECT i.alt FROM imagen_juego i WHERE i.juego_id = j.id ORDER BY i.id), " +
+           "ARRAY(SELECT i.caption FROM imagen_juego i WHERE i.juego_id = j.id ORDER BY i.id), " +
+           "ARRAY[COALESCE(s.puntuadas_1, 0), COALESCE(s.puntuadas_2, 0), COALESCE(s.puntuadas_3, 0), " +
+           "      COALESCE(s.puntuadas_4, 0), COALESCE(s.puntuadas_5, 0), COALESCE(s.puntuadas_6, 0), " +
+           "      COALESCE(s.puntuadas_7, 0), COALESCE(s.puntuadas_8, 0), COALESCE(s.puntuadas_9, 0), " +
+           "      COALESCE(s.puntuadas_10, 0)] " +
+           "FROM juego j LEFT JOIN juego_stats s ON s.juego_id = j.id " +
+           "WHERE j.id = :id",
+           nativeQuery = true)
+    List<Object[]> findDetalleById(@Param("id") Long id);
     
     /**
      * Lista todos los juegos con su puntuación media en UNA SOLA query
-     * Evita el problema N+1 al calcular AVG directamente en SQL
+     * La media se lee precalculada de juego_stats en vez de agrupar las interacciones
      */
-    @Query("SELECT j.id, j.nombre, j.imagen_portada, j.fecha_salida, AVG(i.puntuacion) " +
-           "FROM Juego j LEFT JOIN j.interacciones i " +
-           "GROUP BY j.id, j.nombre, j.imagen_portada, j.fecha_salida")
+    @Query("SELECT j.id, j.nombre, j.imagen_portada, j.fecha_salida, " +
+           "CASE WHEN s.total_puntuadas > 0 THEN s.puntuacion_media ELSE NULL END " +
+           "FROM Juego j LEFT JOIN JuegoStats s ON s.juego_id = j.id")
     List<Object[]> findAllWithAvgPuntuacion();
     
     /**
      * Juegos ordenados por fecha (novedades) con puntuación media incluida
      */
-    @Query("SELECT j.id, j.nombre, j.imagen_portada, j.fecha_salida, AVG(i.puntuacion) " +
-           "FROM Juego j LEFT JOIN j.interacciones i " +
+    @Query("SELECT j.id, j.nombre, j.imagen_portada, j.fecha_salida, " +
+           "CASE WHEN s.total_puntuadas > 0 THEN s.puntuacion_media ELSE NULL END " +
+           "FROM Juego j LEFT JOIN JuegoStats s ON s.juego_id = j.id " +
            "WHERE j.fecha_salida <= :fecha " +
-           "GROUP BY j.id, j.nombre, j.imagen_portada, j.fecha_salida " +
            "ORDER BY j.fecha_salida DESC")
     List<Object[]> findNovedadesWithAvgPuntuacion(@Param("fecha") LocalDate fecha, Pageable pageable);
     
     /**
      * Próximos lanzamientos con puntuación media incluida
      */
-    @Query("SELECT j.id, j.nombre, j.imagen_portada, j.fecha_salida, AVG(i.puntuacion) " +
-           "FROM Juego j LEFT JOIN j.interacciones i " +
+    @Query("SELECT j.id, j.nombre, j.imagen_portada, j.fecha_salida, " +
+           "CASE WHEN s.total_puntuadas > 0 THEN s.puntuacion_media ELSE NULL END " +
+           "FROM Juego j LEFT JOIN JuegoStats s ON s.juego_id = j.id " +
            "WHERE j.fecha_salida > :fecha " +
-           "GROUP BY j.id, j.nombre, j.imagen_portada, j.fecha_salida " +
            "ORDER BY j.fecha_salida ASC")
     List<Object[]> findProximosWithAvgPuntuacion(@Param("fecha") LocalDate fecha, Pageable pageable);
     
     /**
-     * Top juegos mejor valorados (optimizado)
+     * Resumen de un conjunto de juegos por ID (el orden lo decide quien llama)
+     */
+    @Query("SELECT j.id, j.nombre, j.imagen_portada, j.fecha_salida, " +
+           "CASE WHEN s.total_puntuadas > 0 THEN s.puntuacion_media ELSE NULL END " +
+           "FROM Juego j LEFT JOIN JuegoStats s ON s.juego_id = j.id " +
+           "WHERE j.id IN :ids")
+    List<Object[]> findResumenByIds(@Param("ids") Collection<Long> ids);
+    
+    // ==================== ÍNDICES EN MEMORIA ====================
+    
+    // ID y nombre de todos los juegos (carga del índice de búsqueda)
+    @Query("SELECT j.id, j.nombre FROM Juego j")
+    List<Object[]> findIdYNombre();
+    
+    // Nombre de un juego
+    @Query("SELECT j.nombre FROM Juego j WHERE j.id = :id")
+    Optional<String> findNombreById(@Param("id") Long id);
+
+    // ID y fecha de salida de todos los juegos (carga del índice de facetas)
+    @Query("SELECT j.id, j.fecha_salida FROM Juego j")
+    List<Object[]> findIdYFechaSalida();
+
+    // Fecha de salida de un juego
+    @Query("SELECT j.fecha_salida FROM Juego j WHERE j.id = :id")
+    Optional<LocalDate> findFechaSalidaById(@Param("id") Long id);
+    
+    // Datos de autocompletado de todos los juegos: [id, nombre, imagenPortada, totalInteracciones]
+    @Query("SELECT j.id, j.nombre, j.imagen_portada, COALESCE(s.total_interacciones, 0) " +
+           "FROM Juego j LEFT JOIN JuegoStats s ON s.juego_id = j.id")
+    List<Object[]> findDatosAutocompletado();
+    
+    // Datos de autocompletado de un juego
+    @Query("SELECT j.id, j.nombre, j.imagen_portada, COALESCE(s.total_interacciones, 0) " +
+           "FROM Juego j LEFT JOIN JuegoStats s ON s.juego_id = j.id WHERE j.id = :id")
+    List<Object[]> findDatosAutocompletadoById(@Param("id") Long id);
+    
+    // Datos de la clasificación de todos los juegos:
+    // [id, nombre, imagenPortada, fechaSalida, puntuacionMedia, totalPuntuadas, totalInteracciones, sumaPuntuaciones]
+    @Query("SELECT j.id, j.nombre, j.imagen_portada, j.fecha_salida, COALESCE(s.puntuacion_media, 0), " +
+           "COALESCE(s.total_puntuadas, 0), COALESCE(s.total_interacciones, 0), COALESCE(s.suma_puntuaciones, 0) " +
+           "FROM Juego j LEFT JOIN JuegoStats s ON s.juego_id = j.id")
+    List<Object[]> findDatosClasificacion();
+    
+    // Datos de la clasificación de un juego
+    @Query("SELECT j.id, j.nombre, j.imagen_portada, j.fecha_salida, COALESCE(s.puntuacion_media, 0), " +
+           "COALESCE(s.total_puntuadas, 0), COALESCE(s.total_interacciones, 0), COALESCE(s.suma_puntuaciones, 0) " +
+           "FROM Juego j LEFT JOIN JuegoStats s ON s.juego_id = j.id WHERE j.id = :id")
+    List<Object[]> findDatosClasificacionById(@Param("id") Long id);
+    
+    // ==================== PAGINACIÓN POR CLAVE (keyset) ====================
+    // Columnas: [id, nombre, imagenPortada, fechaSalida, puntuacionMedia, mediaOrden, totalInteracciones]
+    // La primera página se pide con valores centinela que no filtran ninguna fila.
+    // El seek se escribe como comparación de filas (clave, id) para que PostgreSQL lo use
+    // como condición de inicio del recorrido del índice compuesto.
+    
+    /**
+     * Página del catálogo ordenada por nombre ascendente
+     */
+    @Query("SELECT j.id, j.nombre, j.imagen_portada, j.fecha_salida, " +
+           "CASE WHEN s.total_puntuadas > 0 THEN s.puntuacion_media ELSE NULL END, " +
+           "COALESCE(s.puntuacion_media, 0), COALESCE(s.total_interacciones, 0) " +
+           "FROM Juego j LEFT JOIN JuegoStats s ON s.juego_id = j.id " +
+           "WHERE (j.nombre, j.id) > (:nombre, :id) " +
+           "ORDER BY j.nombre ASC, j.id ASC")
+    List<Object[]> findPaginaPorNombre(@Param("nombre") String nombre, @Param("id") Long id, Pageable pageable);
+    
+    /**
+     * Página del catálogo ordenada por fecha de salida descendente
      */
-    @Query("SELECT j.id, j.nombre, j.imagen_portada, j.fecha_salida, AVG(i.puntuacion) as avg " +
-           "FROM Juego j LEFT JOIN j.interacciones i " +
-           "GROUP BY j.id, j.nombre, j.imagen_portada, j.fecha_salida " +
-           "ORDER BY avg DESC NULLS LAST")
-    List<Object[]> findTopRatedWithAvgPuntuacion(Pageable pageable);
+    @Query("SELECT j.id, j.nombre, j.imagen_portada, j.fecha_salida, " +
+           "CASE WHEN s.total_puntuadas > 0 THEN s.puntuacion_media ELSE NULL END, " +
+           "COALESCE(s.puntuacion_media, 0), COALESCE(s.total_interacciones, 0) " +
+           "FROM Juego j LEFT JOIN JuegoStats s ON s.juego_id = j.id " +
+           "WHERE (j.fecha_salida, j.id) < (:fecha, :id) " +
+           "ORDER BY j.fecha_salida DESC, j.id DESC")
+    List<Object[]> findPaginaPorFecha(@Param("fecha") LocalDate fecha, @Param("id") Long id, Pageable pageable);
     
     /**
-     * Juegos más populares (más reviews) optimizado
+     * Página del catálogo ordenada por puntuación media descendente (recorre el índice de juego_stats)
      */
-    @Query("SELECT j.id, j.nombre, j.imagen_portada, j.fecha_salida, AVG(i.puntuacion) " +
-           "FROM Juego j LEFT JOIN j.interacciones i " +
-           "GROUP BY j.id, j.nombre, j.imagen_portada, j.fecha_salida " +
-           "ORDER BY COUNT(i) DESC")
-    List<Object[]> findMostPopularWithAvgPuntuacion(Pageable pageable);
+    @Query("SELECT j.id, j.nombre, j.imagen_portada, j.fecha_salida, " +
+           "CASE WHEN s.total_puntuadas > 0 THEN s.puntuacion_media ELSE NULL END, " +
+           "s.puntuacion_media, s.total_interacciones " +
+           "FROM JuegoStats s JOIN Juego j ON j.id = s.juego_id " +
+           "WHERE (s.puntuacion_media, s.juego_id) < (:media, :id) " +
+           "ORDER BY s.puntuacion_media DESC, s.juego_id DESC")
+    List<Object[]> findPaginaPorPuntuacion(@Param("media") Double media, @Param("id") Long id, Pageable pageable);
     
     /**
-     * Búsqueda por nombre con puntuación media incluida
+     * Página del catálogo ordenada por número de interacciones descendente (recorre el índice de juego_stats)
      */
-    @Query("SELECT j.id, j.nombre, j.imagen_portada, j.fecha_salida, AVG(i.puntuacion) " +
-           "FROM Juego j LEFT JOIN j.interacciones i " +
-           "WHERE LOWER(j.nombre) LIKE LOWER(CONCAT('%', :nombre, '%')) " +
-           "GROUP BY j.id, j.nombre, j.imagen_portada, j.fecha_salida")
-    List<Object[]> findByNombreWithAvgPuntuacion(@Param("nombre") String nombre);
+    @Query("SELECT j.id, j.nombre, j.imagen_portada, j.fecha_salida, " +
+           "CASE WHEN s.total_puntuadas > 0 THEN s.puntuacion_media ELSE NULL END, " +
+           "s.puntuacion_media, s.total_interacciones " +
+           "FROM JuegoStats s JOIN Juego j ON j.id = s.juego_id " +
+           "WHERE (s.total_interacciones, s.juego_id) < (:total, :id) " +
+           "ORDER BY s.total_interacciones DESC, s.juego_id DESC")
+    List<Object[]> findPaginaPorPopularidad(@Param("total") Long total, @Param("id") Long id, Pageable pageable);
     
     // ==================== QUERIES LEGACY (mantener por compatibilidad) ====================
     
@@ -0,0 +1,77 @@
+package com.looking4rate.backend.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.looking4rate.backend.entities.JuegoStats;
+
+/**
+ * Repositorio del read model de agregados por juego
+ */
+public interface JuegoStatsRepository extends JpaRepository<JuegoStats, Long> {
+
+    /**
+     * Aplica un incremento (o decremento) atómico a los contadores de un juego.
+     * Si la fila no existe se crea con los valores del delta (UPSERT).
+     * p1..p10 son los deltas del histograma (interacciones con cada puntuación).
+     */
+    @Modifying
+    @Query(value = "INSERT INTO juego_stats (juego_id, suma_puntuaciones, total_interacciones, total_puntuadas, total_jugados, puntuacion_media, " +
+           "puntuadas_1, puntuadas_2, puntuadas_3, puntuadas_4, puntuadas_5, puntuadas_6, puntuadas_7, puntuadas_8, puntuadas_9, puntuadas_10) " +
+           "VALUES (:juegoId, :suma, :interacciones, :puntuadas, :jugados, :media, " +
+           ":p1, :p2, :p3, :p4, :p5, :p6, :p7, :p8, :p9, :p10) " +
+           "ON CONFLICT (juego_id) DO UPDATE SET " +
+           "suma_puntuaciones = juego_stats.suma_puntuaciones + EXCLUDED.suma_puntuaciones, " +
+           "total_interacciones = juego_stats.total_interacciones + EXCLUDED.total_interacciones, " +
+           "total_puntuadas = juego_stats.total_puntuadas + EXCLUDED.total_puntuadas, " +
+           "total_jugados = juego_stats.total_jugados + EXCLUDED.total_jugados, " +
+           "puntuacion_media = CASE WHEN juego_stats.total_puntuadas + EXCLUDED.total_puntuadas > 0 " +
+           "THEN CAST(juego_stats.suma_puntuaciones + EXCLUDED.suma_puntuaciones AS float8) " +
+           "/ (juego_stats.total_puntuadas + EXCLUDED.total_puntuadas) ELSE 0 END, " +
+           "puntuadas_1 = juego_stats.puntuadas_1 + EXCLUDED.puntuadas_1, puntuadas_2 = juego_stats.puntuadas_2 + EXCLUDED.puntuadas_2, " +
+           "puntuadas_3 = juego_stats.puntuadas_3 + EXCLUDED.puntuadas_3, puntuadas_4 = juego_stats.puntuadas_4 + EXCLUDED.puntuadas_4, " +
+           "puntuadas_5 = juego_stats.puntuadas_5 + EXCLUDED.puntuadas_5, puntuadas_6 = juego_stats.puntuadas_6 + EXCLUDED.puntuadas_6, " +
+           "puntuadas_7 = juego_stats.puntuadas_7 + EXCLUDED.puntuadas_7, puntuadas_8 = juego_stats.puntuadas_8 + EXCLUDED.puntuadas_8, " +
+           "puntuadas_9 = juego_stats.puntuadas_9 + EXCLUDED.puntuadas_9, puntuadas_10 = juego_stats.puntuadas_10 + EXCLUDED.puntuadas_10",
+           nativeQuery = true)
+    void aplicarDelta(@Param("juegoId") Long juegoId,
+                      @Param("suma") long suma,
+                      @Param("interacciones") long interacciones,
+                      @Param("puntuadas") long puntuadas,
+                      @Param("jugados") long jugados,
+                      @Param("media") double media,
+                      @Param("p1") long p1, @Param("p2") long p2, @Param("p3") long p3, @Param("p4") long p4,
+                      @Param("p5") long p5, @Param("p6") long p6, @Param("p7") long p7, @Param("p8") long p8,
+                      @Param("p9") long p9, @Param("p10") long p10);
+
+    /**
+     * Descuenta de los agregados todas las interacciones de un usuario
+     * (se usa antes de eliminar el usuario, ya que sus interacciones se borran en cascada)
+     */
+    @Modifying
+    @Query(value = "UPDATE juego_stats s SET " +
+           "suma_puntuaciones = s.suma_puntuaciones - d.suma, " +
+           "total_interacciones = s.total_interacciones - d.total, " +
+           "total_puntuadas = s.total_puntuadas - d.puntuadas, " +
+           "total_jugados = s.total_jugados - d.jugados, " +
+           "puntuacion_media = CASE WHEN s.total_puntuadas - d.puntuadas > 0 " +
+           "THEN CAST(s.suma_puntuaciones - d.suma AS float8) / (s.total_puntuadas - d.puntuadas) ELSE 0 END, " +
+           "puntuadas_1 = s.puntuadas_1 - d.p1, puntuadas_2 = s.puntuadas_2 - d.p2, " +
+           "puntuadas_3 = s.puntuadas_3 - d.p3, puntuadas_4 = s.puntuadas_4 - d.p4, " +
+           "puntuadas_5 = s.puntuadas_5 - d.p5, puntuadas_6 = s.puntuadas_6 - d.p6, " +
+           "puntuadas_7 = s.puntuadas_7 - d.p7, puntuadas_8 = s.puntuadas_8 - d.p8, " +
+           "puntuadas_9 = s.puntuadas_9 - d.p9, puntuadas_10 = s.puntuadas_10 - d.p10 " +
+           "FROM (SELECT i.juego_id, COALESCE(SUM(i.puntuacion), 0) AS suma, COUNT(*) AS total, " +
+           "COUNT(i.puntuacion) AS puntuadas, COUNT(*) FILTER (WHERE i.estado_jugado) AS jugados, " +
+           "COUNT(*) FILTER (WHERE i.puntuacion = 1) AS p1, COUNT(*) FILTER (WHERE i.puntuacion = 2) AS p2, " +
+           "COUNT(*) FILTER (WHERE i.puntuacion = 3) AS p3, COUNT(*) FILTER (WHERE i.puntuacion = 4) AS p4, " +
+           "COUNT(*) FILTER (WHERE i.puntuacion = 5) AS p5, COUNT(*) FILTER (WHERE i.puntuacion = 6) AS p6, " +
+           "COUNT(*) FILTER (WHERE i.puntuacion = 7) AS p7, COUNT(*) FILTER (WHERE i.puntuacion = 8) AS p8, " +
+           "COUNT(*) FILTER (WHERE i.puntuacion = 9) AS p9, COUNT(*) FILTER (WHERE i.puntuacion = 10) AS p10 " +
+           "FROM interaccion i WHERE i.usuario_id = :usuarioId GROUP BY i.juego_id) d " +
+           "WHERE s.juego_id = d.juego_id",
+           nativeQuery = true)
+    int descontarInteraccionesDeUsuario(@Param("usuarioId") Long usuarioId);
+}
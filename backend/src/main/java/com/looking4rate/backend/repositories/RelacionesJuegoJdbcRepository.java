@@ -0,0 +1,76 @@
+package com.looking4rate.backend.repositories;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Escritura en bloque de las tablas de relación de un juego (plataformas, desarrolladoras y géneros).
+ *
+ * Las entidades de relación usan IDENTITY, así que Hibernate no puede agrupar sus INSERT:
+ * aquí se envían como batch JDBC (una ida y vuelta por lote, no por fila).
+ */
+@Repository
+@RequiredArgsConstructor
+public class RelacionesJuegoJdbcRepository {
+
+    /** Filas por lote enviado al driver */
+    static final int TAMANIO_LOTE = 500;
+
+    private static final String SQL_ELIMINAR_RELACIONES =
+            "WITH plataformas AS (DELETE FROM juego_plataforma WHERE juego_id = ?), " +
+            "desarrolladoras AS (DELETE FROM juego_desarrolladora WHERE juego_id = ?) " +
+            "DELETE FROM juego_genero WHERE juego_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserta las relaciones de un juego en batch (las colecciones vacías no generan sentencias)
+     */
+    public void insertarRelaciones(Long juegoId, Collection<Long> plataformaIds,
+            Collection<Long> desarrolladoraIds, Collection<Long> generoIds) {
+        insertarLote("INSERT INTO juego_plataforma (juego_id, plataforma_id) VALUES (?, ?)", juegoId, plataformaIds);
+        insertarLote("INSERT INTO juego_desarrolladora (juego_id, desarrolladora_id) VALUES (?, ?)", juegoId, desarrolladoraIds);
+        insertarLote("INSERT INTO juego_genero (juego_id, genero_id) VALUES (?, ?)", juegoId, generoIds);
+    }
+
+    /**
+     * Inserta las relaciones de varios juegos a la vez (importación): cada par es {juegoId, id}
+     */
+    public void insertarRelaciones(List<long[]> plataformas, List<long[]> desarrolladoras, List<long[]> generos) {
+        insertarPares("INSERT INTO juego_plataforma (juego_id, plataforma_id) VALUES (?, ?)", plataformas);
+        insertarPares("INSERT INTO juego_desarrolladora (juego_id, desarrolladora_id) VALUES (?, ?)", desarrolladoras);
+        insertarPares("INSERT INTO juego_genero (juego_id, genero_id) VALUES (?, ?)", generos);
+    }
+
+    /**
+     * Elimina todas las relaciones de un juego con una única sentencia
+     */
+    public void eliminarRelaciones(Long juegoId) {
+        jdbcTemplate.update(SQL_ELIMINAR_RELACIONES, juegoId, juegoId, juegoId);
+    }
+
+    private void insertarLote(String sql, Long juegoId, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(sql, ids, TAMANIO_LOTE, (ps, id) -> {
+            ps.setLong(1, juegoId);
+            ps.setLong(2, id);
+        });
+    }
+
+    private void insertarPares(String sql, List<long[]> pares) {
+        if (pares.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(sql, pares, TAMANIO_LOTE, (ps, par) -> {
+            ps.setLong(1, par[0]);
+            ps.setLong(2, par[1]);
+        });
+    }
+}
@@ -4,6 +4,8 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.looking4rate.backend.entities.Usuario;
 
@@ -20,4 +22,29 @@ public interface UsuarioRepository extends JpaRepository<Usuario, Long>{
     
     // Buscar usuarios por nombre (parcial, ignorando mayúsculas)
     List<Usuario> findByNombreContainingIgnoreCase(String nombre);
-}
\ No newline at end of file
+    
+    /**
+     * Estadísticas del perfil en UNA SOLA ida y vuelta (SQL nativo de PostgreSQL); sin filas si no existe
+     * Columnas: [id, jugados, puntuados, media, histograma[10], genero_nombres[], genero_juegos[], genero_medias[]]
+     * Los géneros van ordenados por número de juegos (y nombre) y sus tres arrays en el mismo orden
+     */
+    @Query(value = "SELECT u.id, r.jugados, r.puntuados, r.media, " +
+           "ARRAY(SELECT COUNT(i.id) FROM generate_series(1, 10) AS n(valor) " +
+           "      LEFT JOIN interaccion i ON i.usuario_id = u.id AND i.puntuacion = n.valor " +
+           "      GROUP BY n.valor ORDER BY n.valor), " +
+           "COALESCE(g.nombres, '{}'), COALESCE(g.juegos, '{}'), COALESCE(g.medias, '{}') " +
+           "FROM usuario u " +
+           "CROSS JOIN LATERAL (SELECT COUNT(*) FILTER (WHERE i.estado_jugado) AS jugados, " +
+           "      COUNT(i.puntuacion) AS puntuados, AVG(i.puntuacion) AS media " +
+           "      FROM interaccion i WHERE i.usuario_id = u.id) r " +
+           "CROSS JOIN LATERAL (SELECT array_agg(ge.nombre ORDER BY t.juegos DESC, ge.nombre) AS nombres, " +
+           "      array_agg(t.juegos ORDER BY t.juegos DESC, ge.nombre) AS juegos, " +
+           "      array_agg(t.media ORDER BY t.juegos DESC, ge.nombre) AS medias " +
+           "      FROM (SELECT jg.genero_id, COUNT(*) AS juegos, AVG(i.puntuacion) AS media " +
+           "            FROM interaccion i JOIN juego_genero jg ON jg.juego_id = i.juego_id " +
+           "            WHERE i.usuario_id = u.id GROUP BY jg.genero_id) t " +
+           "      JOIN genero ge ON ge.id = t.genero_id) g " +
+           "WHERE u.id = :id",
+           nativeQuery = true)
+    List<Object[]> findEstadisticasById(@Param("id") Long id);
+}
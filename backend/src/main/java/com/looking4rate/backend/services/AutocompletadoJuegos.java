@@ -0,0 +1,263 @@
+package com.looking4rate.backend.services;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.looking4rate.backend.dtos.SugerenciaJuegoDTO;
+import com.looking4rate.backend.events.JuegoCambiadoEvent;
+import com.looking4rate.backend.events.JuegosImportadosEvent;
+import com.looking4rate.backend.events.TipoCambio;
+import com.looking4rate.backend.repositories.JuegoRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Autocompletado de nombres de juego servido íntegramente desde memoria.
+ *
+ * Estructura (inmutable, se reconstruye copy-on-write en cada cambio del catálogo):
+ * - Un array ordenado con una clave por cada inicio de palabra del nombre normalizado
+ *   ("the legend of zelda", "legend of zelda", "of zelda", "zelda")
+ * - Un prefijo se resuelve con dos búsquedas binarias: el rango [desde, hasta) de claves
+ * - Una sparse table sobre los pesos (popularidad) da el máximo de cualquier rango en O(1),
+ *   así los k mejores de un rango salen en O(k log k) sin recorrerlo entero
+ *
+ * Las consultas nunca acceden a la base de datos.
+ *
+ * Los pesos son el total de interacciones de cada juego. Las valoraciones no avisan a este
+ * índice: la popularidad se relee periódicamente (looking4rate.autocompletado.refresco, 5 minutos
+ * por defecto) y solo se reconstruye si ha cambiado, así el orden de las sugerencias va como
+ * mucho ese intervalo por detrás.
+ */
+@Component
+@RequiredArgsConstructor
+public class AutocompletadoJuegos {
+
+    static final int LIMITE_DEFECTO = 8;
+    static final int LIMITE_MAXIMO = 20;
+
+    private final JuegoRepository juegoRepository;
+
+    private volatile Indice indice = Indice.construir(Map.of());
+
+    // ==================== MANTENIMIENTO ====================
+
+    /**
+     * Construye el índice con todo el catálogo al arrancar
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void inicializar() {
+        Map<Long, Juego> juegos = new HashMap<>();
+        juegoRepository.findDatosAutocompletado().forEach(fila -> {
+            Juego juego = Juego.desdeFila(fila);
+            juegos.put(juego.id(), juego);
+        });
+        indice = Indice.construir(juegos);
+    }
+
+    /**
+     * Relee la popularidad y reconstruye si algún juego ha cambiado
+     */
+    @Scheduled(initialDelayString = "${looking4rate.autocompletado.refresco:5m}",
+            fixedDelayString = "${looking4rate.autocompletado.refresco:5m}")
+    public synchronized void refrescarPopularidad() {
+        Map<Long, Juego> juegos = new HashMap<>();
+        juegoRepository.findDatosAutocompletado().forEach(fila -> {
+            Juego juego = Juego.desdeFila(fila);
+            juegos.put(juego.id(), juego);
+        });
+        if (!juegos.equals(indice.juegos())) {
+            indice = Indice.construir(juegos);
+        }
+    }
+
+    /**
+     * Aplica un cambio del catálogo una vez confirmada la transacción
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void alCambiarJuego(JuegoCambiadoEvent evento) {
+        if (evento.tipo() == TipoCambio.ELIMINADO) {
+            eliminar(evento.juegoId());
+        } else {
+            juegoRepository.findDatosAutocompletadoById(evento.juegoId())
+                    .forEach(fila -> actualizar(Juego.desdeFila(fila)));
+        }
+    }
+
+    /**
+     * Los prefijos se reconstruyen una sola vez tras una importación masiva
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void alImportarJuegos(JuegosImportadosEvent evento) {
+        inicializar();
+    }
+
+    synchronized void actualizar(Juego juego) {
+        Map<Long, Juego> juegos = new HashMap<>(indice.juegos());
+        juegos.put(juego.id(), juego);
+        indice = Indice.construir(juegos);
+    }
+
+    synchronized void eliminar(Long juegoId) {
+        Map<Long, Juego> juegos = new HashMap<>(indice.juegos());
+        juegos.remove(juegoId);
+        indice = Indice.construir(juegos);
+    }
+
+    // ==================== CONSULTA ====================
+
+    /**
+     * Devuelve hasta 'limite' juegos con alguna palabra que empiece por el texto,
+     * los más populares primero
+     */
+    public List<SugerenciaJuegoDTO> sugerir(String texto, Integer limite) {
+        Indice actual = indice;
+        String prefijo = NormalizadorTexto.normalizar(texto);
+        int k = limite == null || limite < 1 ? LIMITE_DEFECTO : Math.min(limite, LIMITE_MAXIMO);
+        if (prefijo.isEmpty()) {
+            return List.of();
+        }
+
+        int desde = actual.limiteInferior(prefijo);
+        int hasta = actual.limiteInferior(prefijo + Character.MAX_VALUE);
+        if (desde >= hasta) {
+            return List.of();
+        }
+
+        // Cola de rangos ordenada por el peso de su máximo; cada extracción parte el rango en dos
+        PriorityQueue<int[]> rangos = new PriorityQueue<>(
+                Comparator.comparingLong((int[] r) -> actual.pesos()[r[2]]).reversed()
+                        .thenComparingInt(r -> r[2]));
+        rangos.add(new int[] { desde, hasta - 1, actual.maximo(desde, hasta - 1) });
+
+        List<SugerenciaJuegoDTO> sugerencias = new ArrayList<>(k);
+        Set<Long> vistos = new HashSet<>();
+        while (!rangos.isEmpty() && sugerencias.size() < k) {
+            int[] rango = rangos.poll();
+            int posicion = rango[2];
+            Juego juego = actual.entradas()[posicion];
+            if (vistos.add(juego.id())) {
+                sugerencias.add(new SugerenciaJuegoDTO(juego.id(), juego.nombre(), juego.imagenPortada()));
+            }
+            if (rango[0] < posicion) {
+                rangos.add(new int[] { rango[0], posicion - 1, actual.maximo(rango[0], posicion - 1) });
+            }
+            if (posicion < rango[1]) {
+                rangos.add(new int[] { posicion + 1, rango[1], actual.maximo(posicion + 1, rango[1]) });
+            }
+        }
+        return sugerencias;
+    }
+
+    // ==================== ESTRUCTURAS ====================
+
+    /**
+     * Datos de un juego necesarios para sugerirlo
+     */
+    record Juego(Long id, String nombre, String imagenPortada, long popularidad) {
+        static Juego desdeFila(Object[] fila) {
+            return new Juego((Long) fila[0], (String) fila[1], (String) fila[2], ((Number) fila[3]).longValue());
+        }
+    }
+
+    /**
+     * Instantánea inmutable: claves ordenadas, juego y peso de cada clave, y sparse table de máximos
+     */
+    private record Indice(
+        Map<Long, Juego> juegos,
+        String[] claves,
+        Juego[] entradas,
+        long[] pesos,
+        int[][] maximos
+    ) {
+        static Indice construir(Map<Long, Juego> juegos) {
+            record Clave(String texto, Juego juego, long peso) {}
+            List<Clave> lista = new ArrayList<>();
+            for (Juego juego : juegos.values()) {
+                String normalizado = NormalizadorTexto.normalizar(juego.nombre());
+                for (int i = 0; i < normalizado.length(); i++) {
+                    if (i == 0 || normalizado.charAt(i - 1) == ' ') {
+                        // La popularidad manda; a igualdad, mejor si coincide el inicio del nombre
+                        lista.add(new Clave(normalizado.substring(i), juego, juego.popularidad() * 2 + (i == 0 ? 1 : 0)));
+                    }
+                }
+            }
+            lista.sort(Comparator.comparing(Clave::texto));
+
+            int n = lista.size();
+            String[] claves = new String[n];
+            Juego[] entradas = new Juego[n];
+            long[] pesos = new long[n];
+            for (int i = 0; i < n; i++) {
+                claves[i] = lista.get(i).texto();
+                entradas[i] = lista.get(i).juego();
+                pesos[i] = lista.get(i).peso();
+            }
+            return new Indice(Map.copyOf(juegos), claves, entradas, pesos, construirMaximos(pesos));
+        }
+
+        /**
+         * maximos[j][i] = posición del mayor peso en [i, i + 2^j)
+         */
+        private static int[][] construirMaximos(long[] pesos) {
+            int n = pesos.length;
+            int niveles = n == 0 ? 1 : 32 - Integer.numberOfLeadingZeros(n);
+            int[][] maximos = new int[niveles][];
+            maximos[0] = new int[n];
+            Arrays.setAll(maximos[0], i -> i);
+            for (int j = 1; j < niveles; j++) {
+                int salto = 1 << (j - 1);
+                maximos[j] = new int[n - (1 << j) + 1];
+                for (int i = 0; i < maximos[j].length; i++) {
+                    maximos[j][i] = mejor(pesos, maximos[j - 1][i], maximos[j - 1][i + salto]);
+                }
+            }
+            return maximos;
+        }
+
+        private static int mejor(long[] pesos, int a, int b) {
+            if (pesos[a] != pesos[b]) {
+                return pesos[a] > pesos[b] ? a : b;
+            }
+            return Math.min(a, b);
+        }
+
+        /**
+         * Posición del mayor peso en el rango cerrado [desde, hasta]
+         */
+        int maximo(int desde, int hasta) {
+            int j = 31 - Integer.numberOfLeadingZeros(hasta - desde + 1);
+            return mejor(pesos, maximos[j][desde], maximos[j][hasta - (1 << j) + 1]);
+        }
+
+        /**
+         * Primera posición cuya clave es mayor o igual que el texto
+         */
+        int limiteInferior(String texto) {
+            int bajo = 0;
+            int alto = claves.length;
+            while (bajo < alto) {
+                int medio = (bajo + alto) >>> 1;
+                if (claves[medio].compareTo(texto) < 0) {
+                    bajo = medio + 1;
+                } else {
+                    alto = medio;
+                }
+            }
+            return bajo;
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.looking4rate.backend.services;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.looking4rate.backend.events.CatalogoCambiadoEvent;
+import com.looking4rate.backend.events.InteraccionCambiadaEvent;
+import com.looking4rate.backend.events.JuegoCambiadoEvent;
+import com.looking4rate.backend.events.TipoCambio;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bus de invalidación entre réplicas del backend mediante LISTEN/NOTIFY de PostgreSQL.
+ *
+ * - Al confirmar un cambio de juego, de catálogo o de una interacción se emite un NOTIFY dentro de la misma
+ *   transacción: PostgreSQL solo lo entrega si la transacción hace commit (el fin de una importación
+ *   masiva o de una reconstrucción de los agregados se avisa una vez, sin transacción)
+ * - Las interacciones de una transacción viajan juntas en un solo aviso (un lote de la escritura
+ *   diferida es un NOTIFY, no uno por fila)
+ * - Cada nodo mantiene una conexión dedicada (fuera del pool) escuchando el canal y vuelve a
+ *   publicar localmente el evento recibido; las cachés y los índices en memoria reaccionan
+ *   igual que ante un cambio propio (sus listeners admiten ejecución sin transacción). Una
+ *   importación se recarga en RecargaIndicesJuegos, sin bloquear la escucha
+ * - Los mensajes llevan el ID del nodo emisor para que este ignore los suyos
+ * - Si la conexión se pierde se reintenta y, como pudieron perderse avisos, se vacían las cachés
+ *   y se programa una recarga completa de los índices y de las versiones
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "looking4rate.cache.bus.habilitado", havingValue = "true", matchIfMissing = true)
+public class BusInvalidacionCache {
+
+    private static final String TIPO_JUEGO = "JUEGO";
+    private static final String TIPO_INTERACCIONES = "INTERACCIONES";
+    private static final String TIPO_IMPORTACION = "IMPORTACION";
+    private static final String TIPO_RECARGA = "RECARGA";
+    private static final int ESPERA_NOTIFICACIONES_MS = 1000;
+    private static final long ESPERA_REINTENTO_MS = 5000;
+    /** Margen bajo los 8000 bytes que admite la carga de un NOTIFY */
+    private static final int CARGA_MAXIMA = 7000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+    private final RecargaIndicesJuegos recargaIndices;
+
+    /** Canal LISTEN/NOTIFY compartido por las réplicas */
+    @Value("${looking4rate.cache.bus.canal:looking4rate_cache}")
+    private String canal;
+
+    private final String nodo = UUID.randomUUID().toString();
+    private volatile boolean activo;
+    private Thread escucha;
+
+    // ==================== EMISIÓN ====================
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void alCambiarJuego(JuegoCambiadoEvent evento) {
+        notificar(TIPO_JUEGO, evento.juegoId(), evento.tipo());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void alCambiarCatalogo(CatalogoCambiadoEvent evento) {
+        notificar(evento.catalogo().name(), evento.id(), evento.tipo());
+    }
+
+    /**
+     * Se acumulan las parejas juego:usuario de la transacción y se avisan todas antes del commit;
+     * sin transacción no se avisa (es un evento recibido de otro nodo)
+     */
+    @EventListener
+    public void alCambiarInteraccion(InteraccionCambiadaEvent evento) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Map<TipoCambio, List<String>> pendientes = (Map<TipoCambio, List<String>>) TransactionSynchronizationManager.getResource(this);
+        if (pendientes == null) {
+            Map<TipoCambio, List<String>> parejas = new EnumMap<>(TipoCambio.class);
+            TransactionSynchronizationManager.bindResource(this, parejas);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean soloLectura) {
+                    parejas.forEach(BusInvalidacionCache.this::notificarInteracciones);
+                }
+
+                @Override
+                public void afterCompletion(int estado) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(BusInvalidacionCache.this);
+                }
+            });
+            pendientes = parejas;
+        }
+        pendientes.computeIfAbsent(evento.tipo(), tipo -> new ArrayList<>())
+                .add(evento.juegoId() + ":" + evento.usuarioId());
+    }
+
+    /**
+     * Lo llama la importación al terminar (cada lote ya ha hecho commit): aviso inmediato y único.
+     * No escucha JuegosImportadosEvent: ese evento también se publica al recibir el aviso de otro
+     * nodo y lo reenviaría
+     */
+    public void notificarImportacion(int juegos) {
+        try {
+            notificar(TIPO_IMPORTACION, (long) juegos, TipoCambio.CREADO);
+        } catch (DataAccessException e) {
+            log.warn("No se pudo avisar de la importación de {} juegos a las demás réplicas: {}", juegos, e.getMessage());
+        }
+    }
+
+    /**
+     * Lo llama la reconstrucción de los agregados, que cambia las estadísticas de todos los juegos
+     * sin publicar un evento por juego: las demás réplicas hacen una recarga completa
+     */
+    public void notificarRecarga() {
+        try {
+            notificar(TIPO_RECARGA, 0L, TipoCambio.ACTUALIZADO);
+        } catch (DataAccessException e) {
+            log.warn("No se pudo pedir una recarga completa a las demás réplicas: {}", e.getMessage());
+        }
+    }
+
+    private void notificar(String recurso, Long id, TipoCambio tipo, String... extra) {
+        String mensaje = String.join("|", nodo, recurso, id.toString(), tipo.name());
+        if (extra.length > 0) {
+            mensaje += "|" + String.join("|", extra);
+        }
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", resultado -> null, canal, mensaje);
+    }
+
+    /**
+     * nodo|INTERACCIONES|n|tipo|juegoId:usuarioId,..., partido en varios avisos si no cabe en uno
+     */
+    private void notificarInteracciones(TipoCambio tipo, List<String> parejas) {
+        List<String> trozo = new ArrayList<>();
+        int longitud = 0;
+        for (String pareja : parejas) {
+            if (!trozo.isEmpty() && longitud + pareja.length() + 1 > CARGA_MAXIMA) {
+                notificar(TIPO_INTERACCIONES, (long) trozo.size(), tipo, String.join(",", trozo));
+                trozo.clear();
+                longitud = 0;
+            }
+            trozo.add(pareja);
+            longitud += pareja.length() + 1;
+        }
+        notificar(TIPO_INTERACCIONES, (long) trozo.size(), tipo, String.join(",", trozo));
+    }
+
+    // ==================== RECEPCIÓN ====================
+
+    /**
+     * Empieza a escuchar cuando los índices en memoria ya están cargados
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void iniciar() {
+        if (activo) {
+            return;
+        }
+        activo = true;
+        escucha = new Thread(this::escuchar, "bus-invalidacion-cache");
+        escucha.setDaemon(true);
+        escucha.start();
+    }
+
+    @PreDestroy
+    public synchronized void detener() throws InterruptedException {
+        activo = false;
+        if (escucha != null) {
+            escucha.interrupt();
+            escucha.join(ESPERA_REINTENTO_MS);
+        }
+    }
+
+    private void escuchar() {
+        boolean reconexion = false;
+        while (activo) {
+            try (Connection conexion = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement sentencia = conexion.createStatement()) {
+                    sentencia.execute("LISTEN " + canal);
+                }
+                if (reconexion) {
+                    cacheManager.getCacheNames().forEach(nombre -> cacheManager.getCache(nombre).clear());
+                    recargaIndices.programarCompleta();
+                }
+                PGConnection postgres = conexion.unwrap(PGConnection.class);
+                while (activo) {
+                    PGNotification[] notificaciones = postgres.getNotifications(ESPERA_NOTIFICACIONES_MS);
+                    if (notificaciones != null) {
+                        for (PGNotification notificacion : notificaciones) {
+                            procesar(notificacion.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!activo) {
+                    return;
+                }
+                log.warn("Conexión del bus de invalidación perdida, reintentando: {}", e.getMessage());
+                reconexion = true;
+                try {
+                    Thread.sleep(ESPERA_REINTENTO_MS);
+                } catch (InterruptedException interrumpido) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Mensaje: nodo|recurso|id|tipo, con recurso JUEGO o el nombre del catálogo (GENERO, PLATAFORMA...),
+     * o nodo|INTERACCIONES|n|tipo|juegoId:usuarioId,..., o nodo|IMPORTACION|juegos|CREADO,
+     * o nodo|RECARGA|0|ACTUALIZADO
+     */
+    void procesar(String mensaje) {
+        String[] partes = mensaje.split("\\|");
+        if (partes.length < 4 || partes[0].equals(nodo)) {
+            return;
+        }
+        try {
+            Long id = Long.valueOf(partes[2]);
+            TipoCambio tipo = TipoCambio.valueOf(partes[3]);
+            if (TIPO_JUEGO.equals(partes[1])) {
+                eventPublisher.publishEvent(new JuegoCambiadoEvent(id, tipo));
+            } else if (TIPO_IMPORTACION.equals(partes[1])) {
+                recargaIndices.programar(id.intValue());
+            } else if (TIPO_RECARGA.equals(partes[1])) {
+                recargaIndices.programarCompleta();
+            } else if (TIPO_INTERACCIONES.equals(partes[1])) {
+                for (String pareja : partes[4].split(",")) {
+                    int separador = pareja.indexOf(':');
+                    eventPublisher.publishEvent(new InteraccionCambiadaEvent(Long.valueOf(pareja.substring(0, separador)),
+                            Long.valueOf(pareja.substring(separador + 1)), tipo));
+                }
+            } else {
+                eventPublisher.publishEvent(new CatalogoCambiadoEvent(CatalogoCambiadoEvent.Catalogo.valueOf(partes[1]), id, tipo));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Aviso de invalidación descartado '{}': {}", mensaje, e.getMessage());
+        }
+    }
+}
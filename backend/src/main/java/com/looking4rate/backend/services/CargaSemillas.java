@@ -0,0 +1,294 @@
+package com.looking4rate.backend.services;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Carga de los datos iniciales desde ficheros CSV (uno por tabla, con cabecera) al arrancar.
+ *
+ * - En PostgreSQL cada fichero se envía tal cual con COPY ... FROM STDIN (CopyManager): una
+ *   sentencia por tabla en lugar de una por fila
+ * - En otras bases de datos, o con looking4rate.semillas.copy=false, se leen con LectorCsv y se
+ *   insertan en batch JDBC
+ * - Las tablas se cargan en el orden de TABLAS; las que no tienen fichero se saltan. Si la
+ *   cabecera trae 'id', la secuencia de la tabla se adelanta al máximo cargado
+ * - Todo va en una transacción, con la huella (SHA-256 de los ficheros) en semilla_aplicada:
+ *   si ya está, no se carga nada. En PostgreSQL la transacción empieza con un advisory lock, así
+ *   dos réplicas que arrancan a la vez no cargan las dos: la segunda espera y ve la huella
+ *
+ * Se ejecuta al crear el bean, tras el EntityManagerFactory (el esquema ya existe) y antes de
+ * ApplicationReadyEvent, cuando los índices en memoria leen el catálogo.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class CargaSemillas implements InitializingBean {
+
+    /** Orden de carga: cada tabla después de aquellas a las que referencia */
+    static final List<String> TABLAS = List.of("genero", "plataforma", "desarrolladora", "juego",
+            "juego_plataforma", "juego_desarrolladora", "juego_genero", "imagen_juego", "usuario");
+
+    private static final Pattern COLUMNA = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final int TAMANIO_LOTE = 500;
+    /** Clave del advisory lock de la carga ("L4RSEMIL" en ASCII) */
+    private static final long CERROJO_CARGA = 0x4C34_5253_454D_494CL;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ResourceLoader resourceLoader;
+
+    /** 'never' desactiva la carga (producción con datos propios) */
+    @Value("${looking4rate.semillas.modo:always}")
+    private String modo;
+
+    @Value("${looking4rate.semillas.ubicacion:classpath:semillas/}")
+    private String ubicacion;
+
+    /** Usar COPY cuando la conexión es de PostgreSQL */
+    @Value("${looking4rate.semillas.copy:true}")
+    private boolean usarCopy;
+
+    @Override
+    public void afterPropertiesSet() {
+        if ("never".equalsIgnoreCase(modo)) {
+            return;
+        }
+        long inicio = System.nanoTime();
+        List<Resource> ficheros = ficheros(ubicacion);
+        String huella = huella(ficheros);
+
+        TransactionTemplate transaccion = new TransactionTemplate(transactionManager);
+        Long filas = transaccion.execute(estado -> {
+            bloquearCarga();
+            List<String> aplicada = jdbcTemplate.queryForList(
+                    "SELECT huella FROM semilla_aplicada WHERE conjunto = ?", String.class, ubicacion);
+            if (!aplicada.isEmpty()) {
+                if (!aplicada.get(0).equals(huella)) {
+                    log.warn("Las semillas de {} han cambiado desde que se cargaron; no se vuelven a cargar "
+                            + "sobre los datos existentes (recrea el esquema para aplicarlas)", ubicacion);
+                }
+                return null;
+            }
+            long cargadas = cargar(ficheros, usarCopy);
+            jdbcTemplate.update("INSERT INTO semilla_aplicada (conjunto, huella, filas, fecha_aplicacion) VALUES (?, ?, ?, ?)",
+                    ubicacion, huella, cargadas, LocalDateTime.now());
+            return cargadas;
+        });
+        long ms = (System.nanoTime() - inicio) / 1_000_000;
+        if (filas == null) {
+            log.info("Semillas de {} ya presentes (huella {}): carga omitida en {} ms", ubicacion, huella.substring(0, 12), ms);
+        } else {
+            log.info("Semillas de {} cargadas: {} filas de {} tablas en {} ms", ubicacion, filas, ficheros.size(), ms);
+        }
+    }
+
+    /**
+     * Serializa la comprobación y la carga entre réplicas; se libera con el commit o el rollback
+     */
+    private void bloquearCarga() {
+        boolean postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) conexion -> conexion.isWrapperFor(PGConnection.class));
+        if (postgres) {
+            jdbcTemplate.query("SELECT pg_advisory_xact_lock(?)", resultado -> null, CERROJO_CARGA);
+        }
+    }
+
+    // ==================== CARGA ====================
+
+    /**
+     * Carga los ficheros de una ubicación sin comprobar ni registrar la huella (en la transacción actual, si hay)
+     */
+    public long cargar(String ubicacion, boolean conCopy) {
+        return cargar(ficheros(ubicacion), conCopy);
+    }
+
+    private long cargar(List<Resource> ficheros, boolean conCopy) {
+        return jdbcTemplate.execute((ConnectionCallback<Long>) conexion -> {
+            boolean postgres = conexion.isWrapperFor(PGConnection.class);
+            long filas = 0;
+            for (Resource fichero : ficheros) {
+                String tabla = tabla(fichero);
+                List<String> columnas = cabecera(fichero);
+                filas += postgres && conCopy
+                        ? copiar(conexion.unwrap(PGConnection.class), tabla, columnas, fichero)
+                        : insertar(conexion, tabla, columnas, fichero);
+                if (columnas.contains("id")) {
+                    ajustarSecuencia(conexion, tabla, postgres);
+                }
+            }
+            return filas;
+        });
+    }
+
+    private long copiar(PGConnection conexion, String tabla, List<String> columnas, Resource fichero) throws SQLException {
+        String sql = "COPY " + tabla + " (" + String.join(", ", columnas) + ") FROM STDIN WITH (FORMAT csv, HEADER true)";
+        try (Reader entrada = lector(fichero)) {
+            return conexion.getCopyAPI().copyIn(sql, entrada);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se puede leer " + fichero.getDescription(), e);
+        }
+    }
+
+    /**
+     * Alternativa sin COPY: batch de INSERT con cada valor convertido al tipo de su columna.
+     * Como en COPY, un campo vacío es NULL
+     */
+    private long insertar(Connection conexion, String tabla, List<String> columnas, Resource fichero) throws SQLException {
+        String listaColumnas = String.join(", ", columnas);
+        int[] tipos = new int[columnas.size()];
+        try (PreparedStatement consulta = conexion.prepareStatement("SELECT " + listaColumnas + " FROM " + tabla + " WHERE 1 = 0")) {
+            ResultSetMetaData metadatos = consulta.executeQuery().getMetaData();
+            for (int i = 0; i < tipos.length; i++) {
+                tipos[i] = metadatos.getColumnType(i + 1);
+            }
+        }
+
+        String sql = "INSERT INTO " + tabla + " (" + listaColumnas + ") VALUES ("
+                + String.join(", ", Collections.nCopies(columnas.size(), "?")) + ")";
+        long filas = 0;
+        try (Reader entrada = lector(fichero); PreparedStatement insercion = conexion.prepareStatement(sql)) {
+            LectorCsv csv = new LectorCsv(entrada);
+            csv.siguiente();
+            List<String> registro;
+            while ((registro = csv.siguiente()) != null) {
+                if (registro.size() != tipos.length) {
+                    throw new IllegalStateException(fichero.getFilename() + ", línea " + csv.lineaRegistro()
+                            + ": se esperaban " + tipos.length + " campos");
+                }
+                for (int i = 0; i < tipos.length; i++) {
+                    String valor = registro.get(i);
+                    if (valor.isEmpty()) {
+                        insercion.setNull(i + 1, tipos[i]);
+                    } else {
+                        insercion.setObject(i + 1, convertir(valor, tipos[i]), tipos[i]);
+                    }
+                }
+                insercion.addBatch();
+                if (++filas % TAMANIO_LOTE == 0) {
+                    insercion.executeBatch();
+                }
+            }
+            insercion.executeBatch();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se puede leer " + fichero.getDescription(), e);
+        }
+        return filas;
+    }
+
+    private static Object convertir(String valor, int tipo) {
+        return switch (tipo) {
+            case Types.BIGINT, Types.INTEGER, Types.SMALLINT, Types.TINYINT -> Long.valueOf(valor);
+            case Types.DOUBLE, Types.FLOAT, Types.REAL, Types.NUMERIC, Types.DECIMAL -> Double.valueOf(valor);
+            case Types.BOOLEAN, Types.BIT -> Boolean.valueOf(valor);
+            case Types.DATE -> Date.valueOf(valor);
+            case Types.TIMESTAMP -> Timestamp.valueOf(valor.replace('T', ' '));
+            default -> valor;
+        };
+    }
+
+    /**
+     * Los IDs vienen en el fichero: la siguiente alta debe empezar tras el mayor
+     */
+    private static void ajustarSecuencia(Connection conexion, String tabla, boolean postgres) throws SQLException {
+        long maximo;
+        try (PreparedStatement consulta = conexion.prepareStatement("SELECT COALESCE(MAX(id), 0) FROM " + tabla)) {
+            var rs = consulta.executeQuery();
+            rs.next();
+            maximo = rs.getLong(1);
+        }
+        String sql = postgres
+                ? "SELECT setval(pg_get_serial_sequence('" + tabla + "', 'id'), " + Math.max(maximo, 1) + ", " + (maximo > 0) + ")"
+                : "ALTER TABLE " + tabla + " ALTER COLUMN id RESTART WITH " + (maximo + 1);
+        try (PreparedStatement ajuste = conexion.prepareStatement(sql)) {
+            ajuste.execute();
+        }
+    }
+
+    // ==================== FICHEROS ====================
+
+    private List<Resource> ficheros(String ubicacion) {
+        List<Resource> ficheros = new ArrayList<>();
+        for (String tabla : TABLAS) {
+            Resource fichero = resourceLoader.getResource(ubicacion + tabla + ".csv");
+            if (fichero.exists()) {
+                ficheros.add(fichero);
+            }
+        }
+        return ficheros;
+    }
+
+    private static String tabla(Resource fichero) {
+        String nombre = fichero.getFilename();
+        return nombre.substring(0, nombre.length() - ".csv".length());
+    }
+
+    private static List<String> cabecera(Resource fichero) {
+        try (Reader entrada = lector(fichero)) {
+            List<String> columnas = new LectorCsv(entrada).siguiente();
+            if (columnas == null || !columnas.stream().allMatch(c -> COLUMNA.matcher(c).matches())) {
+                throw new IllegalStateException("Cabecera no válida en " + fichero.getDescription() + ": " + columnas);
+            }
+            return columnas;
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se puede leer " + fichero.getDescription(), e);
+        }
+    }
+
+    private static String huella(List<Resource> ficheros) {
+        try {
+            MessageDigest sha = MessageDigest.getInstance("SHA-256");
+            for (Resource fichero : ficheros) {
+                sha.update(fichero.getFilename().getBytes(StandardCharsets.UTF_8));
+                try (InputStream entrada = new DigestInputStream(fichero.getInputStream(), sha)) {
+                    entrada.transferTo(OutputStream.nullOutputStream());
+                }
+            }
+            return HexFormat.of().formatHex(sha.digest());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Reader lector(Resource fichero) throws IOException {
+        return new BufferedReader(new InputStreamReader(fichero.getInputStream(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,393 @@
+package com.looking4rate.backend.services;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.looking4rate.backend.dtos.JuegoResumenDTO;
+import com.looking4rate.backend.events.InteraccionCambiadaEvent;
+import com.looking4rate.backend.events.JuegoCambiadoEvent;
+import com.looking4rate.backend.events.JuegosImportadosEvent;
+import com.looking4rate.backend.events.TipoCambio;
+import com.looking4rate.backend.exceptions.BusinessLogicException;
+import com.looking4rate.backend.repositories.JuegoRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Clasificación en memoria de los juegos mejor valorados y con más reviews.
+ *
+ * - Dos conjuntos ordenados (skip lists) con una clave (valor, id) por juego: puntuación
+ *   ponderada y número de interacciones, de mayor a menor y a igualdad por ID
+ * - La puntuación ponderada es la media bayesiana de IMDb, (suma + m·C) / (votos + m): con
+ *   pocas valoraciones un juego tiende a la media global C y con muchas a su propia media.
+ *   Se calcula con los contadores de juego_stats, sin volver a agregar las interacciones
+ * - C se mantiene con las sumas globales; las claves usan la C del último recálculo y solo
+ *   cuando la media real se aleja más del umbral se recalculan todas en paralelo
+ * - Se carga al arrancar y cada interacción o cambio del catálogo confirmado relee la fila
+ *   de ese juego y recoloca sus claves en O(log n) (una vez por juego y transacción)
+ * - Un top N recorre las N primeras claves, con cualquier límite y sin tocar la base de datos
+ * - Las listas servidas se memorizan por límite hasta el siguiente cambio: así la misma
+ *   instancia conserva su ETag y sus bytes precalculados mientras no cambie la clasificación
+ *
+ * Las escrituras se serializan; las lecturas no se bloquean (durante una recolocación pueden
+ * ver las dos claves de un juego, por eso se descartan los IDs repetidos).
+ */
+@Component
+@RequiredArgsConstructor
+public class ClasificacionJuegos {
+
+    /** Límites distintos que se memorizan como mucho entre dos cambios */
+    private static final int MAXIMO_LISTAS_MEMORIZADAS = 32;
+
+    private static final Comparator<Clave> ORDEN = Comparator.comparingDouble(Clave::valor).reversed()
+            .thenComparingLong(Clave::id);
+
+    private final JuegoRepository juegoRepository;
+
+    /** Votos mínimos (m): peso de la media global en la puntuación de cada juego */
+    @Value("${looking4rate.clasificacion.votos-minimos:25}")
+    private int votosMinimos;
+
+    /** Media global (C) fija; si no se indica se calcula con todas las valoraciones */
+    @Value("${looking4rate.clasificacion.media-global:#{null}}")
+    private Double mediaGlobalFija;
+
+    /** Desviación de la media global a partir de la cual se recalculan todas las claves */
+    @Value("${looking4rate.clasificacion.umbral-media-global:0.05}")
+    private double umbralMediaGlobal;
+
+    // Se sustituyen enteros en cada recarga; los lectores toman la referencia una sola vez
+    private volatile Map<Long, Juego> juegos = new ConcurrentHashMap<>();
+    private volatile NavigableSet<Clave> porPopularidad = new ConcurrentSkipListSet<>(ORDEN);
+
+    // Se sustituyen enteros en cada recálculo; los lectores toman la referencia una sola vez
+    private volatile NavigableSet<Clave> porPuntuacion = new ConcurrentSkipListSet<>(ORDEN);
+    private Map<Long, Clave> clavesPuntuacion = new ConcurrentHashMap<>();
+
+    // Sumas globales y media con la que están calculadas las claves actuales
+    private long sumaGlobal;
+    private long puntuadasGlobal;
+    private double mediaReferencia;
+
+    private volatile Map<Integer, List<JuegoResumenDTO>> memoriaPuntuacion = new ConcurrentHashMap<>();
+    private volatile Map<Integer, List<JuegoResumenDTO>> memoriaPopularidad = new ConcurrentHashMap<>();
+    /** Se incrementa al olvidar las listas: identifica las respuestas servidas desde la clasificación */
+    private volatile long generacion;
+
+    // ==================== MANTENIMIENTO ====================
+
+    /**
+     * Carga la clasificación completa al arrancar
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void inicializar() {
+        recargar();
+    }
+
+    /**
+     * Vuelve a leer todos los juegos en estructuras nuevas y las publica de una vez: mientras
+     * tanto los lectores siguen viendo la clasificación anterior completa, nunca una a medias
+     */
+    public synchronized void recargar() {
+        Map<Long, Juego> leidos = new ConcurrentHashMap<>();
+        NavigableSet<Clave> popularidad = new ConcurrentSkipListSet<>(ORDEN);
+        long suma = 0;
+        long puntuadas = 0;
+        for (Object[] fila : juegoRepository.findDatosClasificacion()) {
+            Juego juego = Juego.desdeFila(fila);
+            leidos.put(juego.id(), juego);
+            popularidad.add(juego.clavePopularidad());
+            suma += juego.sumaPuntuaciones();
+            puntuadas += juego.totalPuntuadas();
+        }
+        sumaGlobal = suma;
+        puntuadasGlobal = puntuadas;
+        recalcularPuntuaciones(leidos);
+        juegos = leidos;
+        porPopularidad = popularidad;
+        olvidarListas();
+    }
+
+    /**
+     * Dentro de una transacción se apunta el juego y se relee una sola vez al confirmar,
+     * aunque la transacción toque muchas interacciones suyas (altas en lote)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void alCambiarInteraccion(InteraccionCambiadaEvent evento) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refrescar(evento.juegoId());
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<Long> pendientes = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (pendientes == null) {
+            Set<Long> juegoIds = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, juegoIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    juegoIds.forEach(ClasificacionJuegos.this::refrescar);
+                }
+
+                @Override
+                public void afterCompletion(int estado) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ClasificacionJuegos.this);
+                }
+
+                @Override
+                public int getOrder() {
+                    // Antes que VersionesCatalogo: la versión nueva ya ve la clasificación al día
+                    return Ordered.HIGHEST_PRECEDENCE;
+                }
+            });
+            pendientes = juegoIds;
+        }
+        pendientes.add(evento.juegoId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void alCambiarJuego(JuegoCambiadoEvent evento) {
+        if (evento.tipo() == TipoCambio.ELIMINADO) {
+            eliminar(evento.juegoId());
+        } else {
+            refrescar(evento.juegoId());
+        }
+    }
+
+    /**
+     * Una importación masiva se refleja releyendo todos los juegos de una vez
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void alImportarJuegos(JuegosImportadosEvent evento) {
+        recargar();
+    }
+
+    /**
+     * La lectura va dentro del cerrojo: una fila leída antes nunca se coloca después de otra más nueva
+     */
+    private synchronized void refrescar(Long juegoId) {
+        List<Object[]> filas = juegoRepository.findDatosClasificacionById(juegoId);
+        if (filas.isEmpty()) {
+            eliminar(juegoId);
+        } else {
+            actualizar(Juego.desdeFila(filas.get(0)));
+        }
+    }
+
+    synchronized void actualizar(Juego juego) {
+        colocar(juego);
+        revisarMediaGlobal();
+        olvidarListas();
+    }
+
+    synchronized void eliminar(Long juegoId) {
+        Juego anterior = juegos.remove(juegoId);
+        if (anterior != null) {
+            acumular(anterior, -1);
+            Clave clave = clavesPuntuacion.remove(juegoId);
+            if (clave != null) {
+                porPuntuacion.remove(clave);
+            }
+            porPopularidad.remove(anterior.clavePopularidad());
+            revisarMediaGlobal();
+            olvidarListas();
+        }
+    }
+
+    /**
+     * Inserta las claves nuevas antes de quitar las anteriores: un lector nunca deja de ver el juego
+     */
+    private void colocar(Juego juego) {
+        Juego anterior = juegos.put(juego.id(), juego);
+        if (anterior != null) {
+            acumular(anterior, -1);
+        }
+        acumular(juego, 1);
+
+        Clave puntuacion = juego.clavePuntuacion(votosMinimos, mediaReferencia);
+        Clave puntuacionAnterior = clavesPuntuacion.put(juego.id(), puntuacion);
+        porPuntuacion.add(puntuacion);
+        if (puntuacionAnterior != null && !puntuacionAnterior.equals(puntuacion)) {
+            porPuntuacion.remove(puntuacionAnterior);
+        }
+
+        porPopularidad.add(juego.clavePopularidad());
+        if (anterior != null && !anterior.clavePopularidad().equals(juego.clavePopularidad())) {
+            porPopularidad.remove(anterior.clavePopularidad());
+        }
+    }
+
+    private void acumular(Juego juego, int signo) {
+        sumaGlobal += signo * juego.sumaPuntuaciones();
+        puntuadasGlobal += signo * juego.totalPuntuadas();
+    }
+
+    private double mediaGlobal() {
+        if (mediaGlobalFija != null) {
+            return mediaGlobalFija;
+        }
+        return puntuadasGlobal > 0 ? (double) sumaGlobal / puntuadasGlobal : 0;
+    }
+
+    /**
+     * Recalcula todas las claves si la media global se ha desplazado más que el umbral
+     */
+    private void revisarMediaGlobal() {
+        if (Math.abs(mediaGlobal() - mediaReferencia) > umbralMediaGlobal) {
+            recalcularPuntuaciones(juegos);
+        }
+    }
+
+    /**
+     * Construye en paralelo un conjunto nuevo con la media global actual y lo publica de una vez
+     */
+    private void recalcularPuntuaciones(Map<Long, Juego> base) {
+        double media = mediaGlobal();
+        int votos = votosMinimos;
+        Map<Long, Clave> claves = new ConcurrentHashMap<>(base.size() * 4 / 3 + 1);
+        NavigableSet<Clave> orden = new ConcurrentSkipListSet<>(ORDEN);
+        base.values().parallelStream().forEach(juego -> {
+            Clave clave = juego.clavePuntuacion(votos, media);
+            claves.put(juego.id(), clave);
+            orden.add(clave);
+        });
+        clavesPuntuacion = claves;
+        porPuntuacion = orden;
+        mediaReferencia = media;
+    }
+
+    /**
+     * La generación cambia después de descartar las listas: quien la lee antes de pedir una lista
+     * nunca recibe una lista más antigua que esa generación
+     */
+    private void olvidarListas() {
+        memoriaPuntuacion = new ConcurrentHashMap<>();
+        memoriaPopularidad = new ConcurrentHashMap<>();
+        generacion++;
+    }
+
+    // ==================== CONSULTA ====================
+
+    public long generacion() {
+        return generacion;
+    }
+
+    /**
+     * Los 'limite' juegos con mejor puntuación ponderada (los que no tienen valoraciones, al final)
+     */
+    public List<JuegoResumenDTO> mejorValorados(int limite) {
+        return primeros(porPuntuacion, memoriaPuntuacion, limite);
+    }
+
+    /**
+     * Los 'limite' juegos con más interacciones
+     */
+    public List<JuegoResumenDTO> masReviewados(int limite) {
+        return primeros(porPopularidad, memoriaPopularidad, limite);
+    }
+
+    /**
+     * Recorrido perezoso por puntuación ponderada que no memoriza ninguna lista: para listas a
+     * medida de cada usuario, que solo ocuparían sitio en la memoria de límites
+     */
+    public Stream<JuegoResumenDTO> recorrerMejorValorados() {
+        return recorrer(porPuntuacion);
+    }
+
+    /**
+     * Resumen actual de un juego, o null si no existe
+     */
+    JuegoResumenDTO resumen(Long juegoId) {
+        Juego juego = juegos.get(juegoId);
+        return juego != null ? juego.resumen() : null;
+    }
+
+    private List<JuegoResumenDTO> primeros(NavigableSet<Clave> orden, Map<Integer, List<JuegoResumenDTO>> memoria, int limite) {
+        if (limite < 1) {
+            throw new BusinessLogicException("El límite debe ser mayor que cero");
+        }
+        List<JuegoResumenDTO> memorizada = memoria.get(limite);
+        if (memorizada != null) {
+            return memorizada;
+        }
+
+        List<JuegoResumenDTO> lista = new ArrayList<>(Math.min(limite, juegos.size()));
+        recorrer(orden).limit(limite).forEach(lista::add);
+        List<JuegoResumenDTO> resultado = Collections.unmodifiableList(lista);
+        if (memoria.size() < MAXIMO_LISTAS_MEMORIZADAS) {
+            // Si otro hilo se adelantó se devuelve su lista: una sola instancia por límite
+            List<JuegoResumenDTO> previa = memoria.putIfAbsent(limite, resultado);
+            return previa != null ? previa : resultado;
+        }
+        return resultado;
+    }
+
+    /**
+     * Resúmenes en el orden de las claves, sin los juegos ya eliminados ni los repetidos
+     */
+    private Stream<JuegoResumenDTO> recorrer(NavigableSet<Clave> orden) {
+        Map<Long, Juego> actuales = juegos;
+        Set<Long> vistos = new HashSet<>();
+        return orden.stream()
+                .map(clave -> actuales.get(clave.id()))
+                .filter(juego -> juego != null && vistos.add(juego.id()))
+                .map(Juego::resumen);
+    }
+
+    // ==================== ESTRUCTURAS ====================
+
+    private record Clave(double valor, long id) {}
+
+    /**
+     * Datos de un juego necesarios para la clasificación y su resumen
+     */
+    record Juego(Long id, String nombre, String imagenPortada, LocalDate fechaSalida,
+            double media, long totalPuntuadas, long totalInteracciones, long sumaPuntuaciones) {
+
+        static Juego desdeFila(Object[] fila) {
+            return new Juego((Long) fila[0], (String) fila[1], (String) fila[2], (LocalDate) fila[3],
+                    ((Number) fila[4]).doubleValue(), ((Number) fila[5]).longValue(), ((Number) fila[6]).longValue(),
+                    ((Number) fila[7]).longValue());
+        }
+
+        /**
+         * Media bayesiana con 'votosMinimos' valoraciones virtuales de valor 'mediaGlobal'.
+         * Sin valoraciones vale 0: un juego sin puntuar no se mezcla con los valorados
+         */
+        Clave clavePuntuacion(int votosMinimos, double mediaGlobal) {
+            if (totalPuntuadas == 0) {
+                return new Clave(0, id);
+            }
+            return new Clave((sumaPuntuaciones + votosMinimos * mediaGlobal) / (totalPuntuadas + votosMinimos), id);
+        }
+
+        Clave clavePopularidad() {
+            return new Clave(totalInteracciones, id);
+        }
+
+        JuegoResumenDTO resumen() {
+            return new JuegoResumenDTO(id, nombre, imagenPortada, fechaSalida, totalPuntuadas > 0 ? media : null);
+        }
+    }
+}
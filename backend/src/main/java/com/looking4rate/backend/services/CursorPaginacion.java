@@ -0,0 +1,65 @@
+package com.looking4rate.backend.services;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.looking4rate.backend.exceptions.BusinessLogicException;
+
+/**
+ * Utilidad para los cursores opacos de la paginación por clave (keyset).
+ * 
+ * El cursor codifica en Base64 URL-safe el criterio de orden, el valor de la clave
+ * de ordenación y el ID de la última fila devuelta: "orden|valor|id".
+ * Se usa como predicado de búsqueda (seek) en lugar de OFFSET, así que el coste
+ * de una página no depende de lo lejos que esté del principio.
+ */
+final class CursorPaginacion {
+
+    static final int TAMANIO_DEFECTO = 20;
+    static final int TAMANIO_MAXIMO = 100;
+
+    private static final String SEPARADOR = "|";
+
+    /**
+     * Posición decodificada de un cursor
+     */
+    record Posicion(String valor, long id) {}
+
+    private CursorPaginacion() {
+    }
+
+    static String codificar(String orden, Object valor, long id) {
+        String texto = orden + SEPARADOR + valor + SEPARADOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(texto.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica un cursor; devuelve null si no se envió (primera página)
+     */
+    static Posicion decodificar(String cursor, String ordenEsperado) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String texto = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int primero = texto.indexOf(SEPARADOR);
+            int ultimo = texto.lastIndexOf(SEPARADOR);
+            if (primero < 0 || primero == ultimo || !texto.substring(0, primero).equals(ordenEsperado)) {
+                throw new BusinessLogicException("Cursor de paginación inválido");
+            }
+            return new Posicion(texto.substring(primero + 1, ultimo), Long.parseLong(texto.substring(ultimo + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessLogicException("Cursor de paginación inválido");
+        }
+    }
+
+    /**
+     * Limita el tamaño de página solicitado al rango permitido
+     */
+    static int normalizarTamanio(Integer tamanio) {
+        if (tamanio == null || tamanio < 1) {
+            return TAMANIO_DEFECTO;
+        }
+        return Math.min(tamanio, TAMANIO_MAXIMO);
+    }
+}
@@ -2,11 +2,15 @@ package com.looking4rate.backend.services;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.looking4rate.backend.dtos.DesarrolladoraDTO;
 import com.looking4rate.backend.entities.Desarrolladora;
+import com.looking4rate.backend.events.CatalogoCambiadoEvent;
+import com.looking4rate.backend.events.CatalogoCambiadoEvent.Catalogo;
+import com.looking4rate.backend.events.TipoCambio;
 import com.looking4rate.backend.exceptions.DuplicateResourceException;
 import com.looking4rate.backend.exceptions.ResourceNotFoundException;
 import com.looking4rate.backend.repositories.DesarrolladoraRepository;
@@ -19,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 public class DesarrolladoraService {
     
     private final DesarrolladoraRepository desarrolladoraRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ==================== CRUD ====================
 
@@ -60,6 +65,7 @@ public class DesarrolladoraService {
         
         @SuppressWarnings("null")
         Desarrolladora guardada = desarrolladoraRepository.save(desarrolladora);
+        eventPublisher.publishEvent(new CatalogoCambiadoEvent(Catalogo.DESARROLLADORA, guardada.getId(), TipoCambio.CREADO));
         return convertirADTO(guardada);
     }
 
@@ -89,6 +95,7 @@ public class DesarrolladoraService {
         
         @SuppressWarnings("null")
         Desarrolladora guardada = desarrolladoraRepository.save(actualizada);
+        eventPublisher.publishEvent(new CatalogoCambiadoEvent(Catalogo.DESARROLLADORA, guardada.getId(), TipoCambio.ACTUALIZADO));
         return convertirADTO(guardada);
     }
 
@@ -101,6 +108,7 @@ public class DesarrolladoraService {
             throw new ResourceNotFoundException("Desarrolladora", id);
         }
         desarrolladoraRepository.deleteById(id);
+        eventPublisher.publishEvent(new CatalogoCambiadoEvent(Catalogo.DESARROLLADORA, id, TipoCambio.ELIMINADO));
     }
 
     // ==================== BÚSQUEDAS ====================
@@ -0,0 +1,379 @@
+package com.looking4rate.backend.services;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.looking4rate.backend.dtos.InteraccionCreacionDTO;
+import com.looking4rate.backend.dtos.InteraccionDTO;
+import com.looking4rate.backend.dtos.JuegoResumenDTO;
+import com.looking4rate.backend.entities.Interaccion;
+import com.looking4rate.backend.entities.Juego;
+import com.looking4rate.backend.entities.Usuario;
+import com.looking4rate.backend.events.InteraccionCambiadaEvent;
+import com.looking4rate.backend.events.JuegoCambiadoEvent;
+import com.looking4rate.backend.events.TipoCambio;
+import com.looking4rate.backend.exceptions.BusinessLogicException;
+import com.looking4rate.backend.exceptions.DuplicateResourceException;
+import com.looking4rate.backend.exceptions.ResourceNotFoundException;
+import com.looking4rate.backend.exceptions.ServiceUnavailableException;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Escritura diferida de las altas de interacciones (opcional, looking4rate.interacciones.escritura-diferida.*).
+ *
+ * - El alta se valida en memoria (juego en ClasificacionJuegos, pareja usuario-juego en un índice
+ *   cargado al arrancar) y se encola sin tocar la base de datos; la respuesta es 202 sin ID
+ * - Un único hilo vacía la cola en lotes: batch JDBC de INSERT, deltas de juego_stats agrupados
+ *   por juego y eventos de cada alta, todo en una transacción
+ * - Contrapresión: con la cola llena la petición espera hasta espera-encolar y luego recibe 503
+ * - Al parar la aplicación se deja de aceptar y se guarda todo lo pendiente antes de cerrar el pool;
+ *   lo encolado se pierde solo si el proceso muere sin apagado ordenado
+ * - Cada fila se inserta solo si el usuario y el juego siguen existiendo y no hay otra con la misma
+ *   pareja (restricción única), así una fila inválida no tumba el lote
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EscrituraDiferidaInteracciones {
+
+    private static final String SQL_PARES = "SELECT usuario_id, juego_id FROM interaccion";
+    private static final String SQL_INSERTAR =
+            "INSERT INTO interaccion (usuario_id, juego_id, puntuacion, review, estado_jugado, fecha_interaccion) " +
+            "SELECT ?, ?, ?, ?, ?, ? " +
+            "WHERE EXISTS (SELECT 1 FROM usuario WHERE id = ?) AND EXISTS (SELECT 1 FROM juego WHERE id = ?) " +
+            "ON CONFLICT (usuario_id, juego_id) DO NOTHING";
+    /** Filas por viaje del cursor al cargar el índice */
+    private static final int FILAS_POR_LOTE_CURSOR = 10_000;
+    /** Cada cuánto comprueba el hilo si debe terminar cuando la cola está vacía */
+    private static final long ESPERA_SONDEO_MS = 200;
+    private static final long ESPERA_REINTENTO_MS = 1000;
+    /** Reintentos de un lote durante el cierre antes de darlo por perdido */
+    private static final int INTENTOS_CIERRE = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final JuegoStatsService juegoStatsService;
+    private final ClasificacionJuegos clasificacionJuegos;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${looking4rate.interacciones.escritura-diferida.habilitada:false}")
+    private boolean habilitada;
+
+    /** Altas que caben en la cola antes de aplicar contrapresión */
+    @Value("${looking4rate.interacciones.escritura-diferida.capacidad:10000}")
+    private int capacidad;
+
+    /** Filas por lote enviado al driver */
+    @Value("${looking4rate.interacciones.escritura-diferida.lote:500}")
+    private int tamanioLote;
+
+    /** Espera máxima de una petición con la cola llena */
+    @Value("${looking4rate.interacciones.escritura-diferida.espera-encolar:2s}")
+    private Duration esperaEncolar;
+
+    /** Espera máxima al cerrar para guardar lo pendiente */
+    @Value("${looking4rate.interacciones.escritura-diferida.espera-cierre:30s}")
+    private Duration esperaCierre;
+
+    /** Parejas usuario-juego con interacción, guardada o en cola */
+    private final Set<Pareja> pares = ConcurrentHashMap.newKeySet();
+    /** Altas aceptadas aún sin guardar (en cola, en el lote en curso o a punto de encolarse) */
+    private final AtomicInteger pendientes = new AtomicInteger();
+
+    private BlockingQueue<Pendiente> cola;
+    private volatile boolean aceptando;
+    private Thread drenador;
+
+    /**
+     * Alta aceptada a la espera de guardarse
+     */
+    record Pendiente(Long usuarioId, Long juegoId, Integer puntuacion, String review,
+            boolean estadoJugado, LocalDateTime fecha) {}
+
+    // ==================== CICLO DE VIDA ====================
+
+    /**
+     * Carga el índice de parejas y arranca el hilo que vacía la cola
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void iniciar() {
+        if (!habilitada || drenador != null) {
+            return;
+        }
+        TransactionTemplate transaccion = new TransactionTemplate(transactionManager);
+        transaccion.setReadOnly(true);
+        transaccion.executeWithoutResult(estado -> jdbcTemplate.query(conexion -> {
+            PreparedStatement sentencia = conexion.prepareStatement(SQL_PARES,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            sentencia.setFetchSize(FILAS_POR_LOTE_CURSOR);
+            return sentencia;
+        }, (RowCallbackHandler) fila -> pares.add(new Pareja(fila.getLong(1), fila.getLong(2)))));
+
+        cola = new ArrayBlockingQueue<>(capacidad);
+        aceptando = true;
+        drenador = new Thread(this::drenar, "escritura-interacciones");
+        drenador.setDaemon(true);
+        drenador.start();
+        log.info("Escritura diferida de interacciones activa: {} parejas indexadas, cola de {}", pares.size(), capacidad);
+    }
+
+    /**
+     * Deja de aceptar altas y espera a que se guarde todo lo pendiente
+     * (se ejecuta antes de cerrar el pool de conexiones, del que depende este bean)
+     */
+    @PreDestroy
+    public void cerrar() throws InterruptedException {
+        Thread hilo;
+        synchronized (this) {
+            hilo = drenador;
+            aceptando = false;
+        }
+        if (hilo == null) {
+            return;
+        }
+        hilo.join(esperaCierre.toMillis());
+        if (hilo.isAlive()) {
+            log.error("Cierre de la escritura diferida agotado: {} interacciones sin guardar", pendientes.get());
+            hilo.interrupt();
+        } else {
+            log.info("Escritura diferida cerrada sin interacciones pendientes");
+        }
+        synchronized (this) {
+            drenador = null;
+        }
+    }
+
+    /**
+     * Indica si las altas deben pasar por la cola (desactivado, o ya cerrándose: camino síncrono)
+     */
+    public boolean activa() {
+        return aceptando;
+    }
+
+    /**
+     * Altas aceptadas que aún no se han guardado
+     */
+    public int pendientes() {
+        return pendientes.get();
+    }
+
+    // ==================== ALTA ====================
+
+    /**
+     * Valida el alta en memoria y la encola; la respuesta no tiene ID hasta que se guarda
+     */
+    public InteraccionDTO encolar(Long usuarioId, InteraccionCreacionDTO dto) {
+        Integer puntuacion = dto.puntuacion();
+        if (puntuacion != null && (puntuacion < 1 || puntuacion > 10)) {
+            throw new BusinessLogicException("La puntuación debe estar entre 1 y 10");
+        }
+        JuegoResumenDTO juego = clasificacionJuegos.resumen(dto.juegoId());
+        if (juego == null) {
+            throw new ResourceNotFoundException("Juego", dto.juegoId());
+        }
+        Pareja pareja = new Pareja(usuarioId, dto.juegoId());
+        if (!pares.add(pareja)) {
+            throw new DuplicateResourceException("Ya existe una interacción de este usuario con este juego. Use el método actualizar.");
+        }
+
+        Pendiente pendiente = new Pendiente(usuarioId, dto.juegoId(), puntuacion, dto.review(),
+                dto.estadoJugado(), LocalDateTime.now());
+        // Se cuenta antes de comprobar si se acepta: el drenador no termina mientras quede alguna en vuelo
+        pendientes.incrementAndGet();
+        boolean encolada = false;
+        try {
+            if (!aceptando) {
+                throw new ServiceUnavailableException("El servidor se está deteniendo; inténtalo de nuevo");
+            }
+            encolada = cola.offer(pendiente, esperaEncolar.toMillis(), TimeUnit.MILLISECONDS);
+            if (!encolada) {
+                throw new ServiceUnavailableException("Demasiadas valoraciones pendientes de guardar; inténtalo de nuevo");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Alta de interacción interrumpida; inténtalo de nuevo");
+        } finally {
+            if (!encolada) {
+                pendientes.decrementAndGet();
+                pares.remove(pareja);
+            }
+        }
+
+        return new InteraccionDTO(null, usuarioId, null, null, juego.id(), juego.nombre(), juego.imagenPortada(),
+                puntuacion, dto.review(), dto.estadoJugado(), pendiente.fecha());
+    }
+
+    // ==================== DRENAJE ====================
+
+    /**
+     * Bucle del hilo drenador: toma lo que haya en la cola (hasta un lote) y lo guarda
+     */
+    private void drenar() {
+        List<Pendiente> lote = new ArrayList<>(tamanioLote);
+        while (aceptando || pendientes.get() > 0) {
+            try {
+                Pendiente primera = cola.poll(ESPERA_SONDEO_MS, TimeUnit.MILLISECONDS);
+                if (primera == null) {
+                    continue;
+                }
+                lote.add(primera);
+                cola.drainTo(lote, tamanioLote - 1);
+                guardar(lote);
+            } catch (InterruptedException e) {
+                log.error("Escritura diferida interrumpida: {} interacciones sin guardar", pendientes.get());
+                return;
+            } catch (RuntimeException e) {
+                log.error("Error inesperado guardando {} interacciones", lote.size(), e);
+            } finally {
+                pendientes.addAndGet(-lote.size());
+                lote.clear();
+            }
+        }
+    }
+
+    /**
+     * Guarda un lote reintentando los fallos transitorios (conexión, bloqueos); si alguna fila es
+     * inválida, las guarda de una en una y descarta solo esas
+     */
+    private void guardar(List<Pendiente> lote) throws InterruptedException {
+        for (int intento = 1; ; intento++) {
+            try {
+                escribir(lote);
+                return;
+            } catch (TransientDataAccessException | DataAccessResourceFailureException e) {
+                if (!aceptando && intento >= INTENTOS_CIERRE) {
+                    log.error("Se pierden {} interacciones: la base de datos no responde durante el cierre", lote.size(), e);
+                    return;
+                }
+                log.warn("No se pudo guardar un lote de {} interacciones (intento {}), se reintenta", lote.size(), intento, e);
+                Thread.sleep(ESPERA_REINTENTO_MS);
+            } catch (DataAccessException e) {
+                if (lote.size() == 1) {
+                    Pendiente descartada = lote.get(0);
+                    log.error("Se descarta la interacción del usuario {} con el juego {}",
+                            descartada.usuarioId(), descartada.juegoId(), e);
+                    pares.remove(new Pareja(descartada.usuarioId(), descartada.juegoId()));
+                    return;
+                }
+                for (Pendiente pendiente : lote) {
+                    guardar(List.of(pendiente));
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Inserta el lote, aplica los agregados y publica las altas en una sola transacción
+     */
+    private void escribir(List<Pendiente> lote) {
+        TransactionTemplate transaccion = new TransactionTemplate(transactionManager);
+        int guardadas = transaccion.execute(estado -> {
+            int[][] filas = jdbcTemplate.batchUpdate(SQL_INSERTAR, lote, lote.size(), (ps, pendiente) -> {
+                ps.setLong(1, pendiente.usuarioId());
+                ps.setLong(2, pendiente.juegoId());
+                if (pendiente.puntuacion() != null) {
+                    ps.setInt(3, pendiente.puntuacion());
+                } else {
+                    ps.setNull(3, Types.INTEGER);
+                }
+                ps.setString(4, pendiente.review());
+                ps.setBoolean(5, pendiente.estadoJugado());
+                ps.setTimestamp(6, Timestamp.valueOf(pendiente.fecha()));
+                ps.setLong(7, pendiente.usuarioId());
+                ps.setLong(8, pendiente.juegoId());
+            });
+
+            // Un único lote: filas[0][i] = 1 si la fila i se insertó, 0 si se omitió
+            List<Interaccion> insertadas = new ArrayList<>(lote.size());
+            for (int i = 0; i < lote.size(); i++) {
+                if (filas[0][i] > 0) {
+                    insertadas.add(interaccion(lote.get(i)));
+                }
+            }
+            juegoStatsService.registrarAltas(insertadas);
+            insertadas.forEach(interaccion -> eventPublisher.publishEvent(new InteraccionCambiadaEvent(
+                    interaccion.getJuego().getId(), interaccion.getUsuario().getId(), TipoCambio.CREADO)));
+            return insertadas.size();
+        });
+        if (guardadas < lote.size()) {
+            // El usuario o el juego se borraron mientras esperaban, o la pareja ya existía en otra réplica
+            log.warn("Se omiten {} de {} interacciones de un lote", lote.size() - guardadas, lote.size());
+        }
+    }
+
+    private static Interaccion interaccion(Pendiente pendiente) {
+        return Interaccion.builder()
+                .usuario(Usuario.builder().id(pendiente.usuarioId()).build())
+                .juego(Juego.builder().id(pendiente.juegoId()).build())
+                .puntuacion(pendiente.puntuacion())
+                .review(pendiente.review())
+                .estado_jugado(pendiente.estadoJugado())
+                .fecha_interaccion(pendiente.fecha())
+                .build();
+    }
+
+    // ==================== ÍNDICE DE PAREJAS ====================
+
+    /**
+     * Mantiene el índice al día con las escrituras síncronas (propias o de otras réplicas vía bus)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void alCambiarInteraccion(InteraccionCambiadaEvent evento) {
+        if (!habilitada) {
+            return;
+        }
+        Pareja pareja = new Pareja(evento.usuarioId(), evento.juegoId());
+        if (evento.tipo() == TipoCambio.ELIMINADO) {
+            pares.remove(pareja);
+        } else {
+            pares.add(pareja);
+        }
+    }
+
+    /**
+     * Las interacciones de un juego borrado se eliminan en cascada
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void alCambiarJuego(JuegoCambiadoEvent evento) {
+        if (habilitada && evento.tipo() == TipoCambio.ELIMINADO) {
+            long juegoId = evento.juegoId();
+            pares.removeIf(pareja -> pareja.juegoId() == juegoId);
+        }
+    }
+
+    /**
+     * Clave del índice con los dos IDs completos (empaquetarlos en un long confundía IDs de más de 32 bits)
+     */
+    private record Pareja(long usuarioId, long juegoId) {}
+}
@@ -0,0 +1,295 @@
+package com.looking4rate.backend.services;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.looking4rate.backend.dtos.ExploracionJuegosDTO;
+import com.looking4rate.backend.events.CatalogoCambiadoEvent;
+import com.looking4rate.backend.events.JuegoCambiadoEvent;
+import com.looking4rate.backend.events.JuegosImportadosEvent;
+import com.looking4rate.backend.events.TipoCambio;
+import com.looking4rate.backend.repositories.JuegoDesarrolladoraRepository;
+import com.looking4rate.backend.repositories.JuegoGeneroRepository;
+import com.looking4rate.backend.repositories.JuegoPlataformaRepository;
+import com.looking4rate.backend.repositories.JuegoRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Índice de facetas del catálogo (género, plataforma, desarrolladora y año de salida) en memoria.
+ *
+ * Cada valor de cada faceta guarda un bitmap comprimido (Roaring) con los IDs de sus juegos:
+ * - Dentro de una faceta los valores elegidos se combinan con OR y entre facetas con AND
+ * - El recuento de un valor es la cardinalidad de su bitmap AND el resto de filtros,
+ *   calculada sin materializar la intersección
+ * - Los recuentos de una faceta ignoran su propio filtro, así se ve cuántos juegos
+ *   aportaría añadir otro valor de la misma faceta
+ *
+ * Las consultas no tocan la base de datos. Los bitmaps publicados nunca se modifican:
+ * un cambio clona solo los bitmaps afectados y publica una nueva instantánea.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExploradorJuegos {
+
+    private final JuegoRepository juegoRepository;
+    private final JuegoGeneroRepository juegoGeneroRepository;
+    private final JuegoPlataformaRepository juegoPlataformaRepository;
+    private final JuegoDesarrolladoraRepository juegoDesarrolladoraRepository;
+
+    private volatile Indice indice = new Indice(new RoaringBitmap(), Map.of(), Map.of(), Map.of(), Map.of());
+
+    // ==================== MANTENIMIENTO ====================
+
+    /**
+     * Construye los bitmaps con todo el catálogo al arrancar
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void inicializar() {
+        RoaringBitmap todos = new RoaringBitmap();
+        Map<Integer, RoaringBitmap> anios = new HashMap<>();
+        for (Object[] fila : juegoRepository.findIdYFechaSalida()) {
+            int posicion = posicion((Long) fila[0]);
+            todos.add(posicion);
+            anios.computeIfAbsent(((LocalDate) fila[1]).getYear(), a -> new RoaringBitmap()).add(posicion);
+        }
+        todos.runOptimize();
+        indice = new Indice(todos,
+                comprimir(agrupar(juegoGeneroRepository.findParesIds())),
+                comprimir(agrupar(juegoPlataformaRepository.findParesIds())),
+                comprimir(agrupar(juegoDesarrolladoraRepository.findParesIds())),
+                comprimir(anios));
+    }
+
+    /**
+     * Aplica un cambio de un juego una vez confirmada la transacción
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void alCambiarJuego(JuegoCambiadoEvent evento) {
+        Long juegoId = evento.juegoId();
+        if (evento.tipo() == TipoCambio.ELIMINADO) {
+            eliminar(juegoId);
+            return;
+        }
+        juegoRepository.findFechaSalidaById(juegoId).ifPresent(fecha -> actualizar(juegoId,
+                fecha.getYear(),
+                juegoGeneroRepository.findGeneroIdsByJuegoId(juegoId),
+                juegoPlataformaRepository.findPlataformaIdsByJuegoId(juegoId),
+                juegoDesarrolladoraRepository.findDesarrolladoraIdsByJuegoId(juegoId)));
+    }
+
+    /**
+     * Tras una importación masiva se reconstruyen los bitmaps una sola vez
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void alImportarJuegos(JuegosImportadosEvent evento) {
+        inicializar();
+    }
+
+    /**
+     * Al borrar un género, plataforma o desarrolladora desaparece su valor de la faceta
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void alCambiarCatalogo(CatalogoCambiadoEvent evento) {
+        if (evento.tipo() != TipoCambio.ELIMINADO) {
+            return;
+        }
+        Indice actual = indice;
+        indice = switch (evento.catalogo()) {
+            case GENERO -> new Indice(actual.todos(), sinValor(actual.generos(), evento.id()),
+                    actual.plataformas(), actual.desarrolladoras(), actual.anios());
+            case PLATAFORMA -> new Indice(actual.todos(), actual.generos(),
+                    sinValor(actual.plataformas(), evento.id()), actual.desarrolladoras(), actual.anios());
+            case DESARROLLADORA -> new Indice(actual.todos(), actual.generos(),
+                    actual.plataformas(), sinValor(actual.desarrolladoras(), evento.id()), actual.anios());
+        };
+    }
+
+    synchronized void actualizar(Long juegoId, int anio, Collection<Long> generos,
+            Collection<Long> plataformas, Collection<Long> desarrolladoras) {
+        Indice actual = indice;
+        int posicion = posicion(juegoId);
+        RoaringBitmap todos = actual.todos();
+        if (!todos.contains(posicion)) {
+            todos = todos.clone();
+            todos.add(posicion);
+        }
+        indice = new Indice(todos,
+                reasignar(actual.generos(), posicion, Set.copyOf(generos)),
+                reasignar(actual.plataformas(), posicion, Set.copyOf(plataformas)),
+                reasignar(actual.desarrolladoras(), posicion, Set.copyOf(desarrolladoras)),
+                reasignar(actual.anios(), posicion, Set.of(anio)));
+    }
+
+    synchronized void eliminar(Long juegoId) {
+        Indice actual = indice;
+        int posicion = posicion(juegoId);
+        if (!actual.todos().contains(posicion)) {
+            return;
+        }
+        RoaringBitmap todos = actual.todos().clone();
+        todos.remove(posicion);
+        indice = new Indice(todos,
+                reasignar(actual.generos(), posicion, Set.of()),
+                reasignar(actual.plataformas(), posicion, Set.of()),
+                reasignar(actual.desarrolladoras(), posicion, Set.of()),
+                reasignar(actual.anios(), posicion, Set.of()));
+    }
+
+    // ==================== CONSULTA ====================
+
+    /**
+     * Filtra el catálogo y calcula los recuentos de cada faceta.
+     * Un filtro nulo o vacío no restringe; la página va del juego dado de alta más recientemente (mayor ID) al más antiguo.
+     */
+    public Resultado explorar(Collection<Long> generos, Collection<Long> plataformas,
+            Collection<Long> desarrolladoras, Collection<Integer> anios, int pagina, int tamanio) {
+        Indice actual = indice;
+        RoaringBitmap filtroGeneros = union(actual.generos(), generos);
+        RoaringBitmap filtroPlataformas = union(actual.plataformas(), plataformas);
+        RoaringBitmap filtroDesarrolladoras = union(actual.desarrolladoras(), desarrolladoras);
+        RoaringBitmap filtroAnios = union(actual.anios(), anios);
+
+        RoaringBitmap coincidentes = interseccion(actual.todos(),
+                filtroGeneros, filtroPlataformas, filtroDesarrolladoras, filtroAnios);
+        ExploracionJuegosDTO.Facetas facetas = new ExploracionJuegosDTO.Facetas(
+                contar(actual.generos(), interseccion(actual.todos(),
+                        filtroPlataformas, filtroDesarrolladoras, filtroAnios)),
+                contar(actual.plataformas(), interseccion(actual.todos(),
+                        filtroGeneros, filtroDesarrolladoras, filtroAnios)),
+                contar(actual.desarrolladoras(), interseccion(actual.todos(),
+                        filtroGeneros, filtroPlataformas, filtroAnios)),
+                contar(actual.anios(), interseccion(actual.todos(),
+                        filtroGeneros, filtroPlataformas, filtroDesarrolladoras)));
+
+        // Página por rango sobre el bitmap: select(i) localiza el i-ésimo ID sin recorrer los anteriores
+        int total = coincidentes.getCardinality();
+        long desde = (long) pagina * tamanio;
+        List<Long> ids = new ArrayList<>(tamanio);
+        for (long i = desde; i < Math.min(total, desde + tamanio); i++) {
+            ids.add((long) coincidentes.select((int) (total - 1 - i)));
+        }
+        return new Resultado(ids, total, facetas);
+    }
+
+    /**
+     * IDs de la página pedida, total de juegos que cumplen los filtros y recuentos por faceta
+     */
+    public record Resultado(List<Long> ids, long total, ExploracionJuegosDTO.Facetas facetas) {}
+
+    // ==================== ESTRUCTURAS ====================
+
+    /**
+     * Instantánea inmutable: bitmap del catálogo completo y un bitmap por valor de cada faceta
+     */
+    private record Indice(
+        RoaringBitmap todos,
+        Map<Long, RoaringBitmap> generos,
+        Map<Long, RoaringBitmap> plataformas,
+        Map<Long, RoaringBitmap> desarrolladoras,
+        Map<Integer, RoaringBitmap> anios
+    ) {}
+
+    /**
+     * Los bitmaps son de 32 bits: el ID del juego se usa directamente como posición
+     */
+    private static int posicion(Long juegoId) {
+        return Math.toIntExact(juegoId);
+    }
+
+    private static Map<Long, RoaringBitmap> agrupar(List<Object[]> pares) {
+        Map<Long, RoaringBitmap> valores = new HashMap<>();
+        for (Object[] par : pares) {
+            valores.computeIfAbsent((Long) par[1], v -> new RoaringBitmap()).add(posicion((Long) par[0]));
+        }
+        return valores;
+    }
+
+    private static <K> Map<K, RoaringBitmap> comprimir(Map<K, RoaringBitmap> valores) {
+        valores.values().forEach(RoaringBitmap::runOptimize);
+        return Map.copyOf(valores);
+    }
+
+    /**
+     * Copia de la faceta en la que el juego solo pertenece a los valores indicados.
+     * Se clonan únicamente los bitmaps que cambian y se descartan los que quedan vacíos.
+     */
+    private static <K> Map<K, RoaringBitmap> reasignar(Map<K, RoaringBitmap> valores, int posicion, Set<K> nuevos) {
+        Map<K, RoaringBitmap> resultado = new HashMap<>(valores);
+        valores.forEach((valor, bitmap) -> {
+            boolean dentro = bitmap.contains(posicion);
+            if (dentro != nuevos.contains(valor)) {
+                RoaringBitmap copia = bitmap.clone();
+                copia.flip(posicion);
+                if (copia.isEmpty()) {
+                    resultado.remove(valor);
+                } else {
+                    resultado.put(valor, copia);
+                }
+            }
+        });
+        for (K valor : nuevos) {
+            if (!valores.containsKey(valor)) {
+                resultado.put(valor, RoaringBitmap.bitmapOf(posicion));
+            }
+        }
+        return Map.copyOf(resultado);
+    }
+
+    private static <K> Map<K, RoaringBitmap> sinValor(Map<K, RoaringBitmap> valores, K valor) {
+        Map<K, RoaringBitmap> resultado = new HashMap<>(valores);
+        resultado.remove(valor);
+        return Map.copyOf(resultado);
+    }
+
+    /**
+     * OR de los valores elegidos; null si la faceta no filtra
+     */
+    private static <K> RoaringBitmap union(Map<K, RoaringBitmap> valores, Collection<K> elegidos) {
+        if (elegidos == null || elegidos.isEmpty()) {
+            return null;
+        }
+        return FastAggregation.or(elegidos.stream()
+                .distinct()
+                .map(valores::get)
+                .filter(Objects::nonNull)
+                .iterator());
+    }
+
+    /**
+     * AND de los filtros activos (los nulos no restringen)
+     */
+    private static RoaringBitmap interseccion(RoaringBitmap todos, RoaringBitmap... filtros) {
+        List<RoaringBitmap> activos = new ArrayList<>();
+        for (RoaringBitmap filtro : filtros) {
+            if (filtro != null) {
+                activos.add(filtro);
+            }
+        }
+        if (activos.isEmpty()) {
+            return todos;
+        }
+        return activos.size() == 1 ? activos.get(0) : FastAggregation.and(activos.iterator());
+    }
+
+    private static <K extends Comparable<K>> Map<K, Long> contar(Map<K, RoaringBitmap> valores, RoaringBitmap base) {
+        Map<K, Long> recuentos = new TreeMap<>();
+        valores.forEach((valor, bitmap) -> recuentos.put(valor, (long) RoaringBitmap.andCardinality(bitmap, base)));
+        return recuentos;
+    }
+}
@@ -0,0 +1,161 @@
+package com.looking4rate.backend.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Volcado de tablas completas en NDJSON (un objeto por línea) para análisis externo.
+ *
+ * Las filas se leen con un cursor de PostgreSQL (transacción de solo lectura y fetch size): el
+ * driver trae 'filasPorLectura' cada vez y cada fila se escribe con el JsonGenerator en cuanto
+ * llega, sin entidades ni listas intermedias. La memoria no depende del tamaño de la tabla.
+ *
+ * Los juegos salen con los mismos campos que acepta la importación, así que un volcado se puede
+ * volver a importar tal cual.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExportacionDatos {
+
+    private static final String SQL_INTERACCIONES =
+            "SELECT i.id, i.usuario_id, i.juego_id, i.puntuacion, i.review, i.estado_jugado, i.fecha_interaccion " +
+            "FROM interaccion i ORDER BY i.id";
+
+    private static final String SQL_JUEGOS =
+            "SELECT j.id, j.nombre, j.descripcion, j.imagen_portada, j.fecha_salida, " +
+            "ARRAY(SELECT p.nombre FROM juego_plataforma jp JOIN plataforma p ON p.id = jp.plataforma_id " +
+            "      WHERE jp.juego_id = j.id ORDER BY jp.id), " +
+            "ARRAY(SELECT d.nombre FROM juego_desarrolladora jd JOIN desarrolladora d ON d.id = jd.desarrolladora_id " +
+            "      WHERE jd.juego_id = j.id ORDER BY jd.id), " +
+            "ARRAY(SELECT g.nombre FROM juego_genero jg JOIN genero g ON g.id = jg.genero_id " +
+            "      WHERE jg.juego_id = j.id ORDER BY jg.id), " +
+            "CASE WHEN s.total_puntuadas > 0 THEN s.puntuacion_media END, " +
+            "COALESCE(s.total_interacciones, 0) " +
+            "FROM juego j LEFT JOIN juego_stats s ON s.juego_id = j.id ORDER BY j.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    /** Filas que el driver trae del cursor en cada ida y vuelta */
+    @Value("${looking4rate.exportacion.filas-por-lectura:1000}")
+    private int filasPorLectura;
+
+    // ==================== EXPORTACIÓN ====================
+
+    /**
+     * Escribe todas las interacciones en la salida; devuelve cuántas
+     */
+    public long exportarInteracciones(OutputStream salida, boolean comprimir) {
+        return exportar("interacciones", SQL_INTERACCIONES, salida, comprimir, (rs, json) -> {
+            json.writeNumberField("id", rs.getLong(1));
+            json.writeNumberField("usuarioId", rs.getLong(2));
+            json.writeNumberField("juegoId", rs.getLong(3));
+            int puntuacion = rs.getInt(4);
+            if (rs.wasNull()) {
+                json.writeNullField("puntuacion");
+            } else {
+                json.writeNumberField("puntuacion", puntuacion);
+            }
+            json.writeStringField("review", rs.getString(5));
+            json.writeBooleanField("estadoJugado", rs.getBoolean(6));
+            Timestamp fecha = rs.getTimestamp(7);
+            json.writeStringField("fechaInteraccion", fecha != null ? fecha.toLocalDateTime().toString() : null);
+        });
+    }
+
+    /**
+     * Escribe todos los juegos (con nombres de plataformas, desarrolladoras y géneros); devuelve cuántos
+     */
+    public long exportarJuegos(OutputStream salida, boolean comprimir) {
+        return exportar("juegos", SQL_JUEGOS, salida, comprimir, (rs, json) -> {
+            json.writeNumberField("id", rs.getLong(1));
+            json.writeStringField("nombre", rs.getString(2));
+            json.writeStringField("descripcion", rs.getString(3));
+            json.writeStringField("imagenPortada", rs.getString(4));
+            json.writeStringField("fechaSalida", rs.getDate(5).toLocalDate().toString());
+            escribirNombres(json, "plataformas", rs.getArray(6));
+            escribirNombres(json, "desarrolladoras", rs.getArray(7));
+            escribirNombres(json, "generos", rs.getArray(8));
+            double media = rs.getDouble(9);
+            if (rs.wasNull()) {
+                json.writeNullField("puntuacionMedia");
+            } else {
+                json.writeNumberField("puntuacionMedia", media);
+            }
+            json.writeNumberField("totalReviews", rs.getLong(10));
+        });
+    }
+
+    private long exportar(String tabla, String sql, OutputStream salida, boolean comprimir, EscritorFila escritor) {
+        long inicio = System.nanoTime();
+        long[] filas = {0};
+        try {
+            OutputStream destino = comprimir ? new GZIPOutputStream(salida, 64 * 1024) : salida;
+            try (JsonGenerator json = objectMapper.getFactory().createGenerator(destino)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+                // El separador es el salto de línea que se escribe tras cada fila
+                json.setRootValueSeparator(null);
+                // Sin transacción PostgreSQL ignora el fetch size y trae el resultado entero
+                TransactionTemplate lectura = new TransactionTemplate(transactionManager);
+                lectura.setReadOnly(true);
+                lectura.executeWithoutResult(estado -> jdbcTemplate.query(conexion -> {
+                    var sentencia = conexion.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    sentencia.setFetchSize(filasPorLectura);
+                    return sentencia;
+                }, rs -> {
+                    try {
+                        json.writeStartObject();
+                        escritor.escribir(rs, json);
+                        json.writeEndObject();
+                        json.writeRaw('\n');
+                        filas[0]++;
+                    } catch (IOException e) {
+                        // El cliente ha cortado la descarga: se aborta la lectura del cursor
+                        throw new UncheckedIOException(e);
+                    }
+                }));
+                json.flush();
+            }
+            if (destino instanceof GZIPOutputStream gzip) {
+                gzip.finish();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("Exportación de {}: {} filas en {} ms", tabla, filas[0], (System.nanoTime() - inicio) / 1_000_000);
+        return filas[0];
+    }
+
+    private static void escribirNombres(JsonGenerator json, String campo, Array nombres) throws SQLException, IOException {
+        json.writeArrayFieldStart(campo);
+        for (Object nombre : (Object[]) nombres.getArray()) {
+            json.writeString((String) nombre);
+        }
+        json.writeEndArray();
+    }
+
+    @FunctionalInterface
+    private interface EscritorFila {
+        void escribir(ResultSet rs, JsonGenerator json) throws SQLException, IOException;
+    }
+}
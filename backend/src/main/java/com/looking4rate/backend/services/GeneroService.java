@@ -2,11 +2,15 @@ package com.looking4rate.backend.services;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.looking4rate.backend.dtos.GeneroDTO;
 import com.looking4rate.backend.entities.Genero;
+import com.looking4rate.backend.events.CatalogoCambiadoEvent;
+import com.looking4rate.backend.events.CatalogoCambiadoEvent.Catalogo;
+import com.looking4rate.backend.events.TipoCambio;
 import com.looking4rate.backend.exceptions.DuplicateResourceException;
 import com.looking4rate.backend.exceptions.ResourceNotFoundException;
 import com.looking4rate.backend.repositories.GeneroRepository;
@@ -19,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 public class GeneroService {
     
     private final GeneroRepository generoRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ==================== CRUD ====================
 
@@ -59,6 +64,7 @@ public class GeneroService {
         
         @SuppressWarnings("null")
         Genero guardado = generoRepository.save(genero);
+        eventPublisher.publishEvent(new CatalogoCambiadoEvent(Catalogo.GENERO, guardado.getId(), TipoCambio.CREADO));
         return convertirADTO(guardado);
     }
 
@@ -87,6 +93,7 @@ public class GeneroService {
         
         @SuppressWarnings("null")
         Genero guardado = generoRepository.save(actualizado);
+        eventPublisher.publishEvent(new CatalogoCambiadoEvent(Catalogo.GENERO, guardado.getId(), TipoCambio.ACTUALIZADO));
         return convertirADTO(guardado);
     }
 
@@ -99,6 +106,7 @@ public class GeneroService {
             throw new ResourceNotFoundException("Genero", id);
         }
         generoRepository.deleteById(id);
+        eventPublisher.publishEvent(new CatalogoCambiadoEvent(Catalogo.GENERO, id, TipoCambio.ELIMINADO));
     }
 
     // ==================== BÚSQUEDAS ====================
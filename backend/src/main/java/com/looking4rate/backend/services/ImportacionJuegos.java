@@ -0,0 +1,498 @@
+package com.looking4rate.backend.services;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.looking4rate.backend.dtos.EstadoImportacionDTO;
+import com.looking4rate.backend.dtos.EstadoImportacionDTO.ErrorFila;
+import com.looking4rate.backend.dtos.EstadoImportacionDTO.Estado;
+import com.looking4rate.backend.dtos.JuegoCreacionDTO;
+import com.looking4rate.backend.dtos.JuegoImportacionDTO;
+import com.looking4rate.backend.exceptions.BusinessLogicException;
+import com.looking4rate.backend.exceptions.ResourceNotFoundException;
+import com.looking4rate.backend.repositories.RelacionesJuegoJdbcRepository;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Importación masiva de juegos desde NDJSON (un objeto por línea) o CSV con cabecera.
+ *
+ * - El cuerpo se lee fila a fila mientras llega: nunca se carga entero en memoria
+ * - Plataformas, desarrolladoras y géneros se resuelven por ID o por nombre (sin acentos ni
+ *   mayúsculas) con diccionarios cargados una vez al empezar, sin una consulta por fila
+ * - Cada fila se valida con las mismas reglas que JuegoCreacionDTO; las inválidas se rechazan
+ *   con su número de línea y el resto sigue
+ * - Se guarda por lotes, cada uno en su transacción: los IDs se reservan de la secuencia con una
+ *   consulta y juegos, agregados y relaciones van en batch JDBC
+ * - Al terminar se avisa una vez a las demás réplicas y se programa una única recarga de índices y
+ *   cachés (en lugar de una por juego) que no retiene la respuesta; el estado indica cuándo acaba
+ *
+ * Solo una importación a la vez; el estado de las últimas se puede consultar mientras avanzan.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImportacionJuegos {
+
+    private static final String SQL_RESERVAR_IDS =
+            "SELECT nextval(pg_get_serial_sequence('juego', 'id')) FROM generate_series(1, ?)";
+    private static final String SQL_INSERTAR_JUEGO =
+            "INSERT INTO juego (id, nombre, descripcion, imagen_portada, fecha_salida) VALUES (?, ?, ?, ?, ?)";
+
+    private static final List<String> COLUMNAS_CSV = List.of(
+            "nombre", "descripcion", "imagenportada", "fechasalida", "plataformas", "desarrolladoras", "generos");
+    /** Separador de los valores de una lista dentro de una celda CSV ("PC|Nintendo Switch") */
+    private static final String SEPARADOR_LISTA = "\\|";
+    /** Errores de fila que se guardan por importación (se cuentan todos) */
+    private static final int MAXIMO_ERRORES = 100;
+    private static final int IMPORTACIONES_RECORDADAS = 10;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final RelacionesJuegoJdbcRepository relacionesJuegoJdbcRepository;
+    private final JuegoStatsService juegoStatsService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final RecargaIndicesJuegos recargaIndices;
+    /** Solo existe con el bus activo */
+    private final ObjectProvider<BusInvalidacionCache> bus;
+
+    /** Juegos por transacción */
+    @Value("${looking4rate.importacion.lote:500}")
+    private int tamanioLote;
+
+    private final AtomicLong secuencia = new AtomicLong();
+    private final AtomicBoolean enCurso = new AtomicBoolean();
+    private final Map<Long, Importacion> recientes = new LinkedHashMap<>();
+
+    /**
+     * Formato del cuerpo, según su Content-Type
+     */
+    public enum Formato {
+        NDJSON,
+        CSV;
+
+        public static final String TIPO_NDJSON = "application/x-ndjson";
+
+        public static Formato desde(MediaType tipo) {
+            if (MediaType.valueOf(TIPO_NDJSON).includes(tipo)) {
+                return NDJSON;
+            }
+            if (MediaType.valueOf("text/csv").includes(tipo)) {
+                return CSV;
+            }
+            throw new BusinessLogicException("Formato de importación no soportado: " + tipo);
+        }
+    }
+
+    // ==================== IMPORTACIÓN ====================
+
+    /**
+     * Lee el cuerpo hasta el final guardando por lotes y devuelve el resultado
+     */
+    public EstadoImportacionDTO importar(Formato formato, InputStream cuerpo) {
+        if (!enCurso.compareAndSet(false, true)) {
+            throw new BusinessLogicException("Ya hay una importación de juegos en curso");
+        }
+        Importacion importacion = registrar(formato);
+        try {
+            Diccionarios diccionarios = cargarDiccionarios();
+            List<JuegoCreacionDTO> lote = new ArrayList<>(tamanioLote);
+            Consumer<JuegoCreacionDTO> aceptar = juego -> {
+                lote.add(juego);
+                if (lote.size() == tamanioLote) {
+                    guardar(lote, importacion);
+                }
+            };
+            BufferedReader lector = new BufferedReader(new InputStreamReader(cuerpo, StandardCharsets.UTF_8));
+            if (formato == Formato.NDJSON) {
+                leerNdjson(lector, diccionarios, importacion, aceptar);
+            } else {
+                leerCsv(lector, diccionarios, importacion, aceptar);
+            }
+            if (!lote.isEmpty()) {
+                guardar(lote, importacion);
+            }
+            importacion.terminar(Estado.COMPLETADA);
+        } catch (IOException | DataAccessException | BusinessLogicException e) {
+            log.warn("Importación de juegos {} interrumpida tras {} juegos: {}", importacion.id,
+                    importacion.importados.get(), e.getMessage());
+            importacion.rechazar(importacion.linea, "Importación interrumpida: " + e.getMessage(), false);
+            importacion.terminar(Estado.FALLIDA);
+        } finally {
+            if (importacion.estado == Estado.EN_CURSO) {
+                importacion.terminar(Estado.FALLIDA);
+            }
+            enCurso.set(false);
+            int importados = (int) importacion.importados.get();
+            if (importados > 0) {
+                bus.ifAvailable(avisos -> avisos.notificarImportacion(importados));
+                recargaIndices.programar(importados)
+                        .whenComplete((resultado, error) -> importacion.indicesActualizados = error == null);
+            } else {
+                importacion.indicesActualizados = true;
+            }
+        }
+        EstadoImportacionDTO resultado = importacion.estado();
+        log.info("Importación de juegos {} terminada: {} importados y {} rechazados en {} ms",
+                resultado.id(), resultado.importados(), resultado.rechazados(), resultado.duracionMs());
+        return resultado;
+    }
+
+    private void leerNdjson(BufferedReader lector, Diccionarios diccionarios, Importacion importacion,
+            Consumer<JuegoCreacionDTO> aceptar) throws IOException {
+        ObjectReader lectorJson = objectMapper.readerFor(JuegoImportacionDTO.class);
+        String linea;
+        while ((linea = lector.readLine()) != null) {
+            importacion.linea++;
+            if (linea.isBlank()) {
+                continue;
+            }
+            importacion.filasLeidas.incrementAndGet();
+            try {
+                procesar(lectorJson.readValue(linea), diccionarios, importacion, aceptar);
+            } catch (JsonProcessingException e) {
+                importacion.rechazar(importacion.linea, "JSON no válido: " + e.getOriginalMessage(), true);
+            }
+        }
+    }
+
+    private void leerCsv(BufferedReader lector, Diccionarios diccionarios, Importacion importacion,
+            Consumer<JuegoCreacionDTO> aceptar) throws IOException {
+        LectorCsv csv = new LectorCsv(lector);
+        List<String> cabecera = csv.siguiente();
+        importacion.linea = 1;
+        int[] posiciones = posicionesCsv(cabecera);
+        List<String> campos;
+        while ((campos = csv.siguiente()) != null) {
+            importacion.linea = csv.lineaRegistro();
+            if (campos.size() == 1 && campos.get(0).isBlank()) {
+                continue;
+            }
+            importacion.filasLeidas.incrementAndGet();
+            if (campos.size() != cabecera.size()) {
+                importacion.rechazar(importacion.linea,
+                        "Se esperaban " + cabecera.size() + " columnas y hay " + campos.size(), true);
+                continue;
+            }
+            LocalDate fechaSalida;
+            try {
+                String fecha = celda(campos, posiciones[3]);
+                fechaSalida = fecha != null ? LocalDate.parse(fecha) : null;
+            } catch (DateTimeParseException e) {
+                importacion.rechazar(importacion.linea, "Fecha de salida no válida (se espera AAAA-MM-DD)", true);
+                continue;
+            }
+            procesar(new JuegoImportacionDTO(
+                    celda(campos, posiciones[0]),
+                    celda(campos, posiciones[1]),
+                    celda(campos, posiciones[2]),
+                    fechaSalida,
+                    lista(celda(campos, posiciones[4])),
+                    lista(celda(campos, posiciones[5])),
+                    lista(celda(campos, posiciones[6]))), diccionarios, importacion, aceptar);
+        }
+    }
+
+    /**
+     * Posición de cada columna de COLUMNAS_CSV en la cabecera (sin distinguir mayúsculas;
+     * imagenPortada es opcional)
+     */
+    private static int[] posicionesCsv(List<String> cabecera) {
+        if (cabecera == null) {
+            throw new BusinessLogicException("El CSV está vacío");
+        }
+        List<String> nombres = cabecera.stream()
+                .map(nombre -> nombre.replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT))
+                .toList();
+        int[] posiciones = new int[COLUMNAS_CSV.size()];
+        List<String> faltan = new ArrayList<>();
+        for (int i = 0; i < posiciones.length; i++) {
+            posiciones[i] = nombres.indexOf(COLUMNAS_CSV.get(i));
+            if (posiciones[i] < 0 && i != 2) {
+                faltan.add(COLUMNAS_CSV.get(i));
+            }
+        }
+        if (!faltan.isEmpty()) {
+            throw new BusinessLogicException("Faltan columnas en la cabecera del CSV: " + faltan);
+        }
+        return posiciones;
+    }
+
+    private static String celda(List<String> campos, int posicion) {
+        if (posicion < 0) {
+            return null;
+        }
+        String valor = campos.get(posicion).trim();
+        return valor.isEmpty() ? null : valor;
+    }
+
+    private static List<String> lista(String celda) {
+        return celda == null ? List.of() : Arrays.asList(celda.split(SEPARADOR_LISTA));
+    }
+
+    /**
+     * Resuelve las referencias y valida la fila; si es correcta la pasa al lote
+     */
+    private void procesar(JuegoImportacionDTO fila, Diccionarios diccionarios, Importacion importacion,
+            Consumer<JuegoCreacionDTO> aceptar) {
+        List<String> errores = new ArrayList<>();
+        JuegoCreacionDTO juego = new JuegoCreacionDTO(
+                fila.nombre(),
+                fila.descripcion(),
+                fila.imagenPortada(),
+                fila.fechaSalida(),
+                diccionarios.plataformas().resolver(fila.plataformas(), errores),
+                diccionarios.desarrolladoras().resolver(fila.desarrolladoras(), errores),
+                diccionarios.generos().resolver(fila.generos(), errores));
+        for (ConstraintViolation<JuegoCreacionDTO> violacion : validator.validate(juego)) {
+            errores.add(violacion.getMessage());
+        }
+        if (juego.imagenPortada() == null) {
+            // La columna es NOT NULL
+            errores.add("La imagen de portada es obligatoria");
+        }
+        if (errores.isEmpty()) {
+            aceptar.accept(juego);
+        } else {
+            Collections.sort(errores);
+            importacion.rechazar(importacion.linea, String.join("; ", errores), true);
+        }
+    }
+
+    /**
+     * Guarda un lote en una transacción y lo vacía
+     */
+    private void guardar(List<JuegoCreacionDTO> lote, Importacion importacion) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(estado -> {
+            List<Long> ids = jdbcTemplate.queryForList(SQL_RESERVAR_IDS, Long.class, lote.size());
+            List<long[]> plataformas = new ArrayList<>();
+            List<long[]> desarrolladoras = new ArrayList<>();
+            List<long[]> generos = new ArrayList<>();
+            for (int i = 0; i < lote.size(); i++) {
+                long id = ids.get(i);
+                JuegoCreacionDTO juego = lote.get(i);
+                juego.plataformaIds().forEach(plataforma -> plataformas.add(new long[] {id, plataforma}));
+                juego.desarrolladoraIds().forEach(desarrolladora -> desarrolladoras.add(new long[] {id, desarrolladora}));
+                juego.generoIds().forEach(genero -> generos.add(new long[] {id, genero}));
+            }
+
+            jdbcTemplate.batchUpdate(SQL_INSERTAR_JUEGO, lote, lote.size(), new ParametrosJuego(ids));
+            juegoStatsService.inicializarJuegos(ids);
+            relacionesJuegoJdbcRepository.insertarRelaciones(plataformas, desarrolladoras, generos);
+        });
+        importacion.importados.addAndGet(lote.size());
+        lote.clear();
+    }
+
+    /**
+     * Parámetros del INSERT de cada juego con el ID reservado para su posición en el lote
+     */
+    private static final class ParametrosJuego implements ParameterizedPreparedStatementSetter<JuegoCreacionDTO> {
+
+        private final List<Long> ids;
+        private int siguiente;
+
+        ParametrosJuego(List<Long> ids) {
+            this.ids = ids;
+        }
+
+        @Override
+        public void setValues(PreparedStatement ps, JuegoCreacionDTO juego) throws SQLException {
+            ps.setLong(1, ids.get(siguiente++));
+            ps.setString(2, juego.nombre());
+            ps.setString(3, juego.descripcion());
+            ps.setString(4, juego.imagenPortada());
+            ps.setObject(5, juego.fechaSalida());
+        }
+    }
+
+    // ==================== DICCIONARIOS ====================
+
+    private Diccionarios cargarDiccionarios() {
+        return new Diccionarios(
+                cargarDiccionario("plataforma", "Plataforma"),
+                cargarDiccionario("desarrolladora", "Desarrolladora"),
+                cargarDiccionario("genero", "Genero"));
+    }
+
+    /**
+     * IDs y nombres normalizados de una tabla del catálogo (con nombres repetidos gana el ID menor)
+     */
+    private Diccionario cargarDiccionario(String tabla, String recurso) {
+        Set<Long> ids = new HashSet<>();
+        Map<String, Long> porNombre = new HashMap<>();
+        jdbcTemplate.query("SELECT id, nombre FROM " + tabla + " ORDER BY id", fila -> {
+            long id = fila.getLong(1);
+            ids.add(id);
+            porNombre.putIfAbsent(NormalizadorTexto.normalizar(fila.getString(2)), id);
+        });
+        return new Diccionario(recurso, ids, porNombre);
+    }
+
+    private record Diccionarios(Diccionario plataformas, Diccionario desarrolladoras, Diccionario generos) {}
+
+    private record Diccionario(String recurso, Set<Long> ids, Map<String, Long> porNombre) {
+
+        /**
+         * IDs sin repetir y en el orden recibido; apunta en errores las referencias que no existen
+         */
+        List<Long> resolver(List<String> referencias, List<String> errores) {
+            if (referencias == null) {
+                return List.of();
+            }
+            Set<Long> resueltos = new LinkedHashSet<>();
+            for (String referencia : referencias) {
+                if (referencia == null || referencia.isBlank()) {
+                    continue;
+                }
+                String valor = referencia.trim();
+                Long id = null;
+                // Más de 18 cifras puede desbordar un long: solo puede ser un nombre
+                if (valor.length() <= 18 && valor.chars().allMatch(Character::isDigit)) {
+                    long numero = Long.parseLong(valor);
+                    id = ids.contains(numero) ? numero : null;
+                }
+                if (id == null) {
+                    id = porNombre.get(NormalizadorTexto.normalizar(valor));
+                }
+                if (id == null) {
+                    errores.add(recurso + " '" + valor + "' no encontrada");
+                } else {
+                    resueltos.add(id);
+                }
+            }
+            return new ArrayList<>(resueltos);
+        }
+    }
+
+    // ==================== ESTADO ====================
+
+    public EstadoImportacionDTO estado(long id) {
+        synchronized (recientes) {
+            Importacion importacion = recientes.get(id);
+            if (importacion == null) {
+                throw new ResourceNotFoundException("Importación", id);
+            }
+            return importacion.estado();
+        }
+    }
+
+    /**
+     * Las últimas importaciones, de la más reciente a la más antigua
+     */
+    public List<EstadoImportacionDTO> recientes() {
+        synchronized (recientes) {
+            List<EstadoImportacionDTO> estados = recientes.values().stream()
+                    .map(Importacion::estado)
+                    .collect(Collectors.toCollection(ArrayList::new));
+            Collections.reverse(estados);
+            return estados;
+        }
+    }
+
+    private Importacion registrar(Formato formato) {
+        Importacion importacion = new Importacion(secuencia.incrementAndGet(), formato);
+        synchronized (recientes) {
+            recientes.put(importacion.id, importacion);
+            if (recientes.size() > IMPORTACIONES_RECORDADAS) {
+                recientes.remove(recientes.keySet().iterator().next());
+            }
+        }
+        return importacion;
+    }
+
+    /**
+     * Progreso de una importación: lo escribe el hilo que la ejecuta y lo leen las consultas de estado
+     */
+    private static final class Importacion {
+
+        private final long id;
+        private final Formato formato;
+        private final LocalDateTime inicio = LocalDateTime.now();
+        private final long inicioNanos = System.nanoTime();
+        private final AtomicLong filasLeidas = new AtomicLong();
+        private final AtomicLong importados = new AtomicLong();
+        private final AtomicLong rechazados = new AtomicLong();
+        private final List<ErrorFila> errores = Collections.synchronizedList(new ArrayList<>());
+        /** Línea del fichero que se está procesando (solo la usa el hilo de la importación) */
+        private long linea;
+        private volatile Estado estado = Estado.EN_CURSO;
+        private volatile LocalDateTime fin;
+        private volatile long duracionMs;
+        /** Los índices en memoria ya incluyen los juegos importados */
+        private volatile boolean indicesActualizados;
+
+        Importacion(long id, Formato formato) {
+            this.id = id;
+            this.formato = formato;
+        }
+
+        void rechazar(long linea, String mensaje, boolean fila) {
+            if (fila) {
+                rechazados.incrementAndGet();
+            }
+            if (errores.size() < MAXIMO_ERRORES) {
+                errores.add(new ErrorFila(linea, mensaje));
+            }
+        }
+
+        void terminar(Estado resultado) {
+            duracionMs = Duration.ofNanos(System.nanoTime() - inicioNanos).toMillis();
+            fin = LocalDateTime.now();
+            estado = resultado;
+        }
+
+        EstadoImportacionDTO estado() {
+            Estado actual = estado;
+            long duracion = actual == Estado.EN_CURSO
+                    ? Duration.ofNanos(System.nanoTime() - inicioNanos).toMillis() : duracionMs;
+            List<ErrorFila> copia;
+            synchronized (errores) {
+                copia = List.copyOf(errores);
+            }
+            return new EstadoImportacionDTO(id, formato.name(), actual, filasLeidas.get(), importados.get(),
+                    rechazados.get(), copia, inicio, fin, duracion, indicesActualizados);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.looking4rate.backend.services;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.looking4rate.backend.events.JuegoCambiadoEvent;
+import com.looking4rate.backend.events.JuegosImportadosEvent;
+import com.looking4rate.backend.events.TipoCambio;
+import com.looking4rate.backend.repositories.JuegoRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Índice de trigramas en memoria sobre los nombres de los juegos.
+ *
+ * Sustituye al LIKE '%texto%' (que obliga a recorrer la tabla entera):
+ * - Los nombres se normalizan (minúsculas, sin acentos), así "accion" encuentra "Acción"
+ * - Cada palabra se descompone en trigramas con relleno, como hace pg_trgm
+ * - Una búsqueda solo visita las listas de juegos de los trigramas de la consulta
+ * - Los resultados se ordenan por similitud (coeficiente de Jaccard entre trigramas)
+ * - Con consultas de menos de 3 caracteres solo se encuentran prefijos de palabra
+ *
+ * El índice es inmutable: cada cambio del catálogo construye uno nuevo y lo publica
+ * con una escritura volátil, de modo que las lecturas nunca se bloquean.
+ */
+@Component
+@RequiredArgsConstructor
+public class IndiceBusquedaJuegos {
+
+    /** Similitud mínima para aceptar un resultado que no contiene el texto literalmente */
+    static final double UMBRAL_SIMILITUD = 0.3;
+
+    private final JuegoRepository juegoRepository;
+
+    private volatile Indice indice = Indice.construir(Map.of());
+
+    // ==================== MANTENIMIENTO ====================
+
+    /**
+     * Construye el índice con todo el catálogo al arrancar
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void inicializar() {
+        Map<Long, String> nombres = new HashMap<>();
+        juegoRepository.findIdYNombre().forEach(fila -> nombres.put((Long) fila[0], (String) fila[1]));
+        indice = Indice.construir(nombres);
+    }
+
+    /**
+     * Aplica un cambio del catálogo una vez confirmada la transacción
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void alCambiarJuego(JuegoCambiadoEvent evento) {
+        if (evento.tipo() == TipoCambio.ELIMINADO) {
+            eliminar(evento.juegoId());
+        } else {
+            juegoRepository.findNombreById(evento.juegoId()).ifPresent(nombre -> actualizar(evento.juegoId(), nombre));
+        }
+    }
+
+    /**
+     * Una importación masiva rehace el índice de trigramas de una vez, no juego a juego
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void alImportarJuegos(JuegosImportadosEvent evento) {
+        inicializar();
+    }
+
+    synchronized void actualizar(Long juegoId, String nombre) {
+        Map<Long, String> nombres = new HashMap<>(indice.nombres());
+        nombres.put(juegoId, nombre);
+        indice = Indice.construir(nombres);
+    }
+
+    synchronized void eliminar(Long juegoId) {
+        Map<Long, String> nombres = new HashMap<>(indice.nombres());
+        nombres.remove(juegoId);
+        indice = Indice.construir(nombres);
+    }
+
+    // ==================== BÚSQUEDA ====================
+
+    /**
+     * Devuelve los IDs de los juegos que encajan con el texto, ordenados por relevancia:
+     * primero los que lo contienen literalmente y después por similitud de trigramas
+     */
+    public List<Long> buscar(String texto, int limite) {
+        Indice actual = indice;
+        String consulta = NormalizadorTexto.normalizar(texto);
+        if (consulta.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> trigramasConsulta = trigramas(consulta);
+        // Trigramas en común por juego candidato (solo se visitan las listas de la consulta)
+        Map<Integer, Integer> comunes = new HashMap<>();
+        for (String trigrama : trigramasConsulta) {
+            int[] lista = actual.listas().get(trigrama);
+            if (lista != null) {
+                for (int posicion : lista) {
+                    comunes.merge(posicion, 1, Integer::sum);
+                }
+            }
+        }
+
+        List<Resultado> resultados = new ArrayList<>();
+        comunes.forEach((posicion, enComun) -> {
+            double similitud = (double) enComun
+                    / (trigramasConsulta.size() + actual.totalTrigramas()[posicion] - enComun);
+            boolean contiene = actual.normalizados()[posicion].contains(consulta);
+            if (contiene || similitud >= UMBRAL_SIMILITUD) {
+                resultados.add(new Resultado(posicion, contiene, similitud));
+            }
+        });
+
+        return resultados.stream()
+                .sorted(Comparator.comparing(Resultado::contiene).reversed()
+                        .thenComparing(Comparator.comparingDouble(Resultado::similitud).reversed())
+                        .thenComparing(r -> actual.normalizados()[r.posicion()]))
+                .limit(limite)
+                .map(r -> actual.ids()[r.posicion()])
+                .toList();
+    }
+
+    /**
+     * Indica si un nombre aparecería en los resultados de una búsqueda (mismo criterio que buscar)
+     */
+    public static boolean coincide(String texto, String nombre) {
+        String consulta = NormalizadorTexto.normalizar(texto);
+        if (consulta.isEmpty()) {
+            return false;
+        }
+        String normalizado = NormalizadorTexto.normalizar(nombre);
+        if (normalizado.contains(consulta)) {
+            return true;
+        }
+        Set<String> trigramasConsulta = trigramas(consulta);
+        Set<String> trigramasNombre = trigramas(normalizado);
+        long enComun = trigramasConsulta.stream().filter(trigramasNombre::contains).count();
+        return enComun > 0
+                && (double) enComun / (trigramasConsulta.size() + trigramasNombre.size() - enComun) >= UMBRAL_SIMILITUD;
+    }
+
+    // ==================== ESTRUCTURAS ====================
+
+    /**
+     * Trigramas de un texto ya normalizado: cada palabra se rellena con dos espacios
+     * delante y uno detrás ("zelda" -> "  z", " ze", "zel", "eld", "lda", "da ")
+     */
+    static Set<String> trigramas(String normalizado) {
+        Set<String> resultado = new LinkedHashSet<>();
+        for (String palabra : normalizado.split(" ")) {
+            if (palabra.isEmpty()) {
+                continue;
+            }
+            String relleno = "  " + palabra + " ";
+            for (int i = 0; i + 3 <= relleno.length(); i++) {
+                resultado.add(relleno.substring(i, i + 3));
+            }
+        }
+        return resultado;
+    }
+
+    private record Resultado(int posicion, boolean contiene, double similitud) {}
+
+    /**
+     * Instantánea inmutable del índice: arrays paralelos por posición y listas invertidas
+     */
+    private record Indice(
+        Map<Long, String> nombres,
+        long[] ids,
+        String[] normalizados,
+        int[] totalTrigramas,
+        Map<String, int[]> listas
+    ) {
+        static Indice construir(Map<Long, String> nombres) {
+            int n = nombres.size();
+            long[] ids = new long[n];
+            String[] normalizados = new String[n];
+            int[] totalTrigramas = new int[n];
+            Map<String, List<Integer>> acumuladas = new HashMap<>();
+
+            int posicion = 0;
+            for (Map.Entry<Long, String> entrada : nombres.entrySet()) {
+                ids[posicion] = entrada.getKey();
+                normalizados[posicion] = NormalizadorTexto.normalizar(entrada.getValue());
+                Set<String> propios = trigramas(normalizados[posicion]);
+                totalTrigramas[posicion] = propios.size();
+                for (String trigrama : propios) {
+                    acumuladas.computeIfAbsent(trigrama, t -> new ArrayList<>()).add(posicion);
+                }
+                posicion++;
+            }
+
+            Map<String, int[]> listas = new HashMap<>(acumuladas.size() * 2);
+            acumuladas.forEach((trigrama, lista) ->
+                    listas.put(trigrama, lista.stream().mapToInt(Integer::intValue).toArray()));
+            return new Indice(Map.copyOf(nombres), ids, normalizados, totalTrigramas, listas);
+        }
+    }
+}
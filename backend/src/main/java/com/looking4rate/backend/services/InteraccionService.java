@@ -1,16 +1,24 @@
 package com.looking4rate.backend.services;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.looking4rate.backend.dtos.InteraccionCreacionDTO;
 import com.looking4rate.backend.dtos.InteraccionDTO;
+import com.looking4rate.backend.dtos.PaginaDTO;
 import com.looking4rate.backend.entities.Interaccion;
 import com.looking4rate.backend.entities.Juego;
 import com.looking4rate.backend.entities.Usuario;
+import com.looking4rate.backend.events.InteraccionCambiadaEvent;
+import com.looking4rate.backend.events.TipoCambio;
 import com.looking4rate.backend.exceptions.BusinessLogicException;
 import com.looking4rate.backend.exceptions.DuplicateResourceException;
 import com.looking4rate.backend.exceptions.ResourceNotFoundException;
@@ -28,6 +36,14 @@ public class InteraccionService {
     private final InteraccionRepository interaccionRepository;
     private final UsuarioRepository usuarioRepository;
     private final JuegoRepository juegoRepository;
+    private final JuegoStatsService juegoStatsService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EscrituraDiferidaInteracciones escrituraDiferida;
+
+    /** Identificador del orden en los cursores de interacciones */
+    private static final String ORDEN_CURSOR = "FECHA";
+    /** Centinela de la primera página (orden descendente) */
+    private static final LocalDateTime FECHA_MAXIMA = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
 
     // ==================== CRUD ====================
 
@@ -86,9 +102,28 @@ public class InteraccionService {
         
         @SuppressWarnings("null")
         Interaccion guardada = interaccionRepository.save(interaccion);
+        juegoStatsService.registrarAlta(guardada);
+        publicarCambio(guardada, TipoCambio.CREADO);
         return convertirADTO(guardada);
     }
 
+    /**
+     * Indica si las altas se encolan para guardarse en lote (escritura diferida activa)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean altasDiferidas() {
+        return escrituraDiferida.activa();
+    }
+
+    /**
+     * Acepta una nueva interacción validándola en memoria y la encola para guardarla en lote.
+     * Sin transacción: la petición no ocupa ninguna conexión del pool.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public InteraccionDTO encolar(Long usuarioId, InteraccionCreacionDTO dto) {
+        return escrituraDiferida.encolar(usuarioId, dto);
+    }
+
     /**
      * Actualiza una interacción existente
      * 
@@ -119,8 +154,12 @@ public class InteraccionService {
                 .fecha_interaccion(LocalDateTime.now()) // Actualizar fecha/hora cuando se modifica
                 .build();
         
+        // Los agregados se ajustan antes de guardar: el merge sobrescribe la entidad gestionada
+        juegoStatsService.registrarCambio(interaccion, actualizada);
+        
         @SuppressWarnings("null")
         Interaccion guardada = interaccionRepository.save(actualizada);
+        publicarCambio(guardada, TipoCambio.ACTUALIZADO);
         return convertirADTO(guardada);
     }
 
@@ -141,7 +180,9 @@ public class InteraccionService {
             throw new BusinessLogicException("No puedes eliminar la interacción de otro usuario");
         }
         
+        juegoStatsService.registrarBaja(interaccion);
         interaccionRepository.deleteById(interaccionId);
+        publicarCambio(interaccion, TipoCambio.ELIMINADO);
     }
 
     // ==================== BÚSQUEDAS ====================
@@ -166,6 +207,41 @@ public class InteraccionService {
                 .toList();
     }
 
+    /**
+     * Obtiene una página de todas las interacciones (más recientes primero)
+     */
+    @Transactional(readOnly = true)
+    public PaginaDTO<InteraccionDTO> listarPagina(String cursor, Integer tamanio) {
+        return paginar(cursor, tamanio, (fecha, id, pagina) -> interaccionRepository.findPagina(fecha, id, pagina));
+    }
+
+    /**
+     * Obtiene una página de las interacciones de un usuario (más recientes primero)
+     */
+    @Transactional(readOnly = true)
+    public PaginaDTO<InteraccionDTO> obtenerPaginaPorUsuario(Long usuarioId, String cursor, Integer tamanio) {
+        return paginar(cursor, tamanio,
+                (fecha, id, pagina) -> interaccionRepository.findPaginaByUsuarioId(usuarioId, fecha, id, pagina));
+    }
+
+    /**
+     * Obtiene una página de las reviews de un juego (más recientes primero)
+     */
+    @Transactional(readOnly = true)
+    public PaginaDTO<InteraccionDTO> obtenerPaginaPorJuego(Long juegoId, String cursor, Integer tamanio) {
+        return paginar(cursor, tamanio,
+                (fecha, id, pagina) -> interaccionRepository.findPaginaByJuegoId(juegoId, fecha, id, pagina));
+    }
+
+    /**
+     * Obtiene una página de los juegos jugados por un usuario (más recientes primero)
+     */
+    @Transactional(readOnly = true)
+    public PaginaDTO<InteraccionDTO> obtenerPaginaJuegosJugados(Long usuarioId, String cursor, Integer tamanio) {
+        return paginar(cursor, tamanio,
+                (fecha, id, pagina) -> interaccionRepository.findPaginaJugadosByUsuarioId(usuarioId, fecha, id, pagina));
+    }
+
     /**
      * Obtiene la interacción de un usuario específico con un juego específico
      */
@@ -222,7 +298,54 @@ public class InteraccionService {
     public Interaccion guardarInteraccion(Interaccion interaccion) {
         // Validar puntuación si existe
         validarPuntuacion(interaccion.getPuntuacion());
-        return interaccionRepository.save(interaccion);
+        boolean nueva = interaccion.getId() == null;
+        Interaccion guardada = interaccionRepository.save(interaccion);
+        if (nueva) {
+            juegoStatsService.registrarAlta(guardada);
+        }
+        publicarCambio(guardada, nueva ? TipoCambio.CREADO : TipoCambio.ACTUALIZADO);
+        return guardada;
+    }
+
+    /**
+     * Avisa del cambio (las cachés y versiones del juego reaccionan tras el commit)
+     */
+    private void publicarCambio(Interaccion interaccion, TipoCambio tipo) {
+        eventPublisher.publishEvent(new InteraccionCambiadaEvent(
+                interaccion.getJuego().getId(), interaccion.getUsuario().getId(), tipo));
+    }
+
+    /**
+     * Consulta de una página por clave (fecha_interaccion, id)
+     */
+    @FunctionalInterface
+    private interface ConsultaPagina {
+        List<Interaccion> buscar(LocalDateTime fecha, Long id, Pageable pagina);
+    }
+
+    /**
+     * Resuelve el cursor, ejecuta la consulta pidiendo una fila extra y construye la página
+     */
+    private PaginaDTO<InteraccionDTO> paginar(String cursor, Integer tamanio, ConsultaPagina consulta) {
+        int limite = CursorPaginacion.normalizarTamanio(tamanio);
+        CursorPaginacion.Posicion posicion = CursorPaginacion.decodificar(cursor, ORDEN_CURSOR);
+        LocalDateTime fecha;
+        try {
+            fecha = posicion != null ? LocalDateTime.parse(posicion.valor()) : FECHA_MAXIMA;
+        } catch (DateTimeParseException e) {
+            throw new BusinessLogicException("Cursor de paginación inválido");
+        }
+        
+        List<Interaccion> filas = consulta.buscar(fecha, posicion != null ? posicion.id() : Long.MAX_VALUE,
+                PageRequest.of(0, limite + 1));
+        boolean hayMas = filas.size() > limite;
+        List<Interaccion> visibles = hayMas ? filas.subList(0, limite) : filas;
+        String siguienteCursor = null;
+        if (hayMas) {
+            Interaccion ultima = visibles.get(visibles.size() - 1);
+            siguienteCursor = CursorPaginacion.codificar(ORDEN_CURSOR, ultima.getFecha_interaccion(), ultima.getId());
+        }
+        return new PaginaDTO<>(visibles.stream().map(this::convertirADTO).toList(), siguienteCursor, hayMas);
     }
 
     // ==================== CONVERSIONES ====================
@@ -0,0 +1,207 @@
+package com.looking4rate.backend.services;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.looking4rate.backend.dtos.JuegoResumenDTO;
+import com.looking4rate.backend.events.CatalogoCambiadoEvent;
+import com.looking4rate.backend.events.InteraccionCambiadaEvent;
+import com.looking4rate.backend.events.JuegoCambiadoEvent;
+import com.looking4rate.backend.events.JuegosImportadosEvent;
+import com.looking4rate.backend.events.RecargaCompletaEvent;
+import com.looking4rate.backend.events.TipoCambio;
+import com.looking4rate.backend.repositories.JuegoDesarrolladoraRepository;
+import com.looking4rate.backend.repositories.JuegoGeneroRepository;
+import com.looking4rate.backend.repositories.JuegoPlataformaRepository;
+import com.looking4rate.backend.repositories.JuegoRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Invalidación selectiva de las cachés del catálogo tras confirmar un cambio.
+ *
+ * En lugar de vaciar todas las cachés en cada escritura, solo se expulsan las entradas
+ * que dependen del juego modificado:
+ * - juego-detalle: únicamente la clave del juego (y la de los juegos de un género,
+ *   plataforma o desarrolladora renombrado)
+ * - Listas (listado, novedades, próximos): las entradas que muestran el juego
+ *   con datos que ya no coinciden o en las que podría entrar según su criterio de orden
+ * - juegos-busqueda: igual, y una consulta "podría encontrarlo" si su texto encaja con el nombre
+ * - usuario-estadisticas: la clave del usuario que cambia una interacción; al editar o borrar
+ *   un juego o un género no se sabe a quién afecta y se vacía entera (operaciones de administración)
+ *
+ * Se ejecuta tras el commit, así ninguna lectura concurrente vuelve a cachear datos anteriores al cambio.
+ */
+@Component
+@RequiredArgsConstructor
+public class InvalidadorCacheJuegos {
+
+    /** Tamaño fijo de las listas de novedades y próximos lanzamientos */
+    private static final int TAMANIO_LISTAS_FECHA = 10;
+    /** Se invalida antes de publicar las nuevas versiones (VersionesCatalogo) */
+    static final int ORDEN = Ordered.HIGHEST_PRECEDENCE;
+
+    private final CacheManager cacheManager;
+    private final JuegoRepository juegoRepository;
+    private final JuegoGeneroRepository juegoGeneroRepository;
+    private final JuegoPlataformaRepository juegoPlataformaRepository;
+    private final JuegoDesarrolladoraRepository juegoDesarrolladoraRepository;
+
+    // ==================== EVENTOS ====================
+
+    /**
+     * Expulsa las entradas afectadas por el alta, edición o baja de un juego
+     */
+    @Order(ORDEN)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void alCambiarJuego(JuegoCambiadoEvent evento) {
+        Long id = evento.juegoId();
+        JuegoResumenDTO juego = evento.tipo() == TipoCambio.ELIMINADO ? null
+                : juegoRepository.findResumenByIds(List.of(id)).stream()
+                        .findFirst()
+                        .map(fila -> new JuegoResumenDTO((Long) fila[0], (String) fila[1], (String) fila[2],
+                                (LocalDate) fila[3], (Double) fila[4]))
+                        .orElse(null);
+        invalidar(id, juego);
+        if (evento.tipo() != TipoCambio.CREADO) {
+            // Sus géneros cuentan en las estadísticas de quienes lo tienen (y las interacciones se borran con él)
+            vaciar("usuario-estadisticas");
+        }
+    }
+
+    /**
+     * El detalle muestra la media y el número de reviews; las listas se renuevan al expirar.
+     * Las estadísticas del perfil solo dependen de las interacciones de su usuario
+     */
+    @Order(ORDEN)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void alCambiarInteraccion(InteraccionCambiadaEvent evento) {
+        Cache detalle = cacheManager.getCache("juego-detalle");
+        if (detalle != null) {
+            detalle.evict(evento.juegoId());
+        }
+        Cache estadisticas = cacheManager.getCache("usuario-estadisticas");
+        if (estadisticas != null && evento.usuarioId() != null) {
+            estadisticas.evict(evento.usuarioId());
+        }
+    }
+
+    /**
+     * El detalle de un juego muestra los nombres de sus géneros, plataformas y desarrolladoras
+     */
+    @Order(ORDEN)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void alCambiarCatalogo(CatalogoCambiadoEvent evento) {
+        if (evento.catalogo() == CatalogoCambiadoEvent.Catalogo.GENERO && evento.tipo() != TipoCambio.CREADO) {
+            // El desglose por géneros del perfil muestra sus nombres
+            vaciar("usuario-estadisticas");
+        }
+        Cache detalle = cacheManager.getCache("juego-detalle");
+        if (detalle == null || evento.tipo() == TipoCambio.CREADO) {
+            return;
+        }
+        if (evento.tipo() == TipoCambio.ELIMINADO) {
+            // Las relaciones ya se han borrado en cascada: no se puede saber qué juegos la tenían
+            detalle.clear();
+            return;
+        }
+        List<Long> juegoIds = switch (evento.catalogo()) {
+            case GENERO -> juegoGeneroRepository.findJuegoIdsByGeneroId(evento.id());
+            case PLATAFORMA -> juegoPlataformaRepository.findJuegoIdsByPlataformaId(evento.id());
+            case DESARROLLADORA -> juegoDesarrolladoraRepository.findJuegoIdsByDesarrolladoraId(evento.id());
+        };
+        juegoIds.forEach(detalle::evict);
+    }
+
+    /**
+     * Una importación masiva vacía una sola vez las listas en las que podrían entrar los juegos
+     * nuevos (el detalle no: ningún juego nuevo estaba en caché)
+     */
+    @Order(ORDEN)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void alImportarJuegos(JuegosImportadosEvent evento) {
+        vaciar("juegos-listado");
+        vaciar("juegos-novedades");
+        vaciar("juegos-proximos");
+        vaciar("juegos-busqueda");
+    }
+
+    /**
+     * Tras una recarga completa no se sabe qué entradas siguen al día: se vacían todas
+     */
+    @Order(ORDEN)
+    @EventListener
+    public void alRecargarTodo(RecargaCompletaEvent evento) {
+        cacheManager.getCacheNames().forEach(this::vaciar);
+    }
+
+    // ==================== INVALIDACIÓN ====================
+
+    /**
+     * @param juego estado confirmado del juego, o null si ya no existe
+     */
+    void invalidar(Long id, JuegoResumenDTO juego) {
+        Cache detalle = cacheManager.getCache("juego-detalle");
+        if (detalle != null) {
+            detalle.evict(id);
+        }
+
+        LocalDate hoy = LocalDate.now();
+        expulsarSi("juegos-listado", id, juego, lista -> true);
+        expulsarSi("juegos-novedades", id, juego, lista -> !juego.fechaSalida().isAfter(hoy)
+                && (lista.size() < TAMANIO_LISTAS_FECHA
+                        || !juego.fechaSalida().isBefore(lista.get(lista.size() - 1).fechaSalida())));
+        expulsarSi("juegos-proximos", id, juego, lista -> juego.fechaSalida().isAfter(hoy)
+                && (lista.size() < TAMANIO_LISTAS_FECHA
+                        || !juego.fechaSalida().isAfter(lista.get(lista.size() - 1).fechaSalida())));
+        expulsarSi("juegos-busqueda", id, juego, (texto, lista) -> IndiceBusquedaJuegos.coincide((String) texto, juego.nombre()));
+    }
+
+    private void vaciar(String nombreCache) {
+        Cache cache = cacheManager.getCache(nombreCache);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private void expulsarSi(String nombreCache, Long id, JuegoResumenDTO juego,
+            Predicate<List<JuegoResumenDTO>> podriaEntrar) {
+        expulsarSi(nombreCache, id, juego, (clave, lista) -> podriaEntrar.test(lista));
+    }
+
+    /**
+     * Expulsa las entradas de una caché de listas afectadas por el juego:
+     * - Si la lista lo contiene, cuando sus datos ya no coinciden con los confirmados (o ha desaparecido)
+     * - Si no lo contiene, cuando el juego existe y podría entrar según el criterio de esa lista
+     */
+    @SuppressWarnings("unchecked")
+    private void expulsarSi(String nombreCache, Long id, JuegoResumenDTO juego,
+            BiPredicate<Object, List<JuegoResumenDTO>> podriaEntrar) {
+        if (!(cacheManager.getCache(nombreCache) instanceof CaffeineCache cache)) {
+            return;
+        }
+        cache.getNativeCache().asMap().forEach((clave, valor) -> {
+            List<JuegoResumenDTO> lista = (List<JuegoResumenDTO>) valor;
+            Optional<JuegoResumenDTO> cacheado = lista.stream().filter(j -> j.id().equals(id)).findFirst();
+            boolean afectada = cacheado.isPresent()
+                    ? !cacheado.get().equals(juego)
+                    : juego != null && podriaEntrar.test(clave, lista);
+            if (afectada) {
+                cache.evict(clave);
+            }
+        });
+    }
+}
@@ -1,33 +1,49 @@
 package com.looking4rate.backend.services;
 
+import java.sql.Date;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.looking4rate.backend.dtos.DistribucionPuntuacionesDTO;
+import com.looking4rate.backend.dtos.ExploracionJuegosDTO;
 import com.looking4rate.backend.dtos.ImagenJuegoDTO;
 import com.looking4rate.backend.dtos.JuegoCreacionDTO;
 import com.looking4rate.backend.dtos.JuegoDTO;
 import com.looking4rate.backend.dtos.JuegoResumenDTO;
-import com.looking4rate.backend.entities.ImagenJuego;
+import com.looking4rate.backend.dtos.OrdenJuegos;
+import com.looking4rate.backend.dtos.PaginaDTO;
+import com.looking4rate.backend.entities.Desarrolladora;
+import com.looking4rate.backend.entities.Genero;
 import com.looking4rate.backend.entities.Juego;
-import com.looking4rate.backend.entities.JuegoDesarrolladora;
-import com.looking4rate.backend.entities.JuegoGenero;
-import com.looking4rate.backend.entities.JuegoPlataforma;
+import com.looking4rate.backend.entities.Plataforma;
+import com.looking4rate.backend.events.JuegoCambiadoEvent;
+import com.looking4rate.backend.events.TipoCambio;
+import com.looking4rate.backend.exceptions.BusinessLogicException;
 import com.looking4rate.backend.exceptions.ResourceNotFoundException;
 import com.looking4rate.backend.repositories.DesarrolladoraRepository;
 import com.looking4rate.backend.repositories.GeneroRepository;
-import com.looking4rate.backend.repositories.ImagenJuegoRepository;
 import com.looking4rate.backend.repositories.InteraccionRepository;
-import com.looking4rate.backend.repositories.JuegoDesarrolladoraRepository;
-import com.looking4rate.backend.repositories.JuegoGeneroRepository;
-import com.looking4rate.backend.repositories.JuegoPlataformaRepository;
 import com.looking4rate.backend.repositories.JuegoRepository;
 import com.looking4rate.backend.repositories.PlataformaRepository;
+import com.looking4rate.backend.repositories.RelacionesJuegoJdbcRepository;
 
 import lombok.RequiredArgsConstructor;
 
@@ -39,12 +55,24 @@ public class JuegoService {
     private final JuegoRepository juegoRepository;
     private final InteraccionRepository interaccionRepository;
     private final PlataformaRepository plataformaRepository;
-    private final ImagenJuegoRepository imagenJuegoRepository;
     private final DesarrolladoraRepository desarrolladoraRepository;
     private final GeneroRepository generoRepository;
-    private final JuegoPlataformaRepository juegoPlataformaRepository;
-    private final JuegoDesarrolladoraRepository juegoDesarrolladoraRepository;
-    private final JuegoGeneroRepository juegoGeneroRepository;
+    private final RelacionesJuegoJdbcRepository relacionesJuegoJdbcRepository;
+    private final JuegoStatsService juegoStatsService;
+    private final IndiceBusquedaJuegos indiceBusquedaJuegos;
+    private final ExploradorJuegos exploradorJuegos;
+    private final ClasificacionJuegos clasificacionJuegos;
+    private final TendenciasJuegos tendenciasJuegos;
+    private final RecomendacionesJuegos recomendacionesJuegos;
+    private final SimilaresJuegos similaresJuegos;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** Centinela de la primera página al ordenar por fecha descendente */
+    private static final LocalDate FECHA_MAXIMA = LocalDate.of(9999, 12, 31);
+    /** Número máximo de resultados de una búsqueda por nombre */
+    private static final int MAX_RESULTADOS_BUSQUEDA = 50;
+    /** Límite máximo de top, populares y tendencias */
+    public static final int LIMITE_MAXIMO_CLASIFICACION = 100;
 
     // ==================== CRUD ====================
 
@@ -59,24 +87,90 @@ public class JuegoService {
                 .toList();
     }
 
+    /**
+     * Lista el catálogo paginado por cursor (keyset) según el criterio de orden.
+     * Cada página usa un predicado de búsqueda sobre (clave, id) en lugar de OFFSET.
+     */
+    @Transactional(readOnly = true)
+    public PaginaDTO<JuegoResumenDTO> listarPagina(OrdenJuegos orden, String cursor, Integer tamanio) {
+        int limite = CursorPaginacion.normalizarTamanio(tamanio);
+        CursorPaginacion.Posicion posicion = CursorPaginacion.decodificar(cursor, orden.name());
+        // Se pide una fila extra para saber si hay más páginas
+        PageRequest pagina = PageRequest.of(0, limite + 1);
+        
+        List<Object[]> filas;
+        try {
+            filas = switch (orden) {
+                case NOMBRE -> juegoRepository.findPaginaPorNombre(
+                        posicion != null ? posicion.valor() : "",
+                        posicion != null ? posicion.id() : 0L, pagina);
+                case FECHA -> juegoRepository.findPaginaPorFecha(
+                        posicion != null ? LocalDate.parse(posicion.valor()) : FECHA_MAXIMA,
+                        posicion != null ? posicion.id() : Long.MAX_VALUE, pagina);
+                case PUNTUACION -> juegoRepository.findPaginaPorPuntuacion(
+                        posicion != null ? Double.valueOf(posicion.valor()) : Double.MAX_VALUE,
+                        posicion != null ? posicion.id() : Long.MAX_VALUE, pagina);
+                case POPULARIDAD -> juegoRepository.findPaginaPorPopularidad(
+                        posicion != null ? Long.valueOf(posicion.valor()) : Long.MAX_VALUE,
+                        posicion != null ? posicion.id() : Long.MAX_VALUE, pagina);
+            };
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new BusinessLogicException("Cursor de paginación inválido");
+        }
+        
+        boolean hayMas = filas.size() > limite;
+        List<Object[]> visibles = hayMas ? filas.subList(0, limite) : filas;
+        String siguienteCursor = null;
+        if (hayMas) {
+            Object[] ultima = visibles.get(visibles.size() - 1);
+            Object clave = switch (orden) {
+                case NOMBRE -> ultima[1];
+                case FECHA -> ultima[3];
+                case PUNTUACION -> ultima[5];
+                case POPULARIDAD -> ultima[6];
+            };
+            siguienteCursor = CursorPaginacion.codificar(orden.name(), clave, (Long) ultima[0]);
+        }
+        
+        return new PaginaDTO<>(
+                visibles.stream().map(this::convertirArrayAResumenDTO).toList(),
+                siguienteCursor,
+                hayMas
+        );
+    }
+
     /**
      * Obtiene un juego por su ID con información completa
      */
     @Transactional(readOnly = true)
     @Cacheable(value = "juego-detalle", key = "#id")
     public JuegoDTO obtenerPorId(Long id) {
-        @SuppressWarnings("null")
-        Juego juego = juegoRepository.findById(id)
+        return juegoRepository.findDetalleById(id).stream()
+                .findFirst()
+                .map(this::convertirDetalleADTO)
+                .orElseThrow(() -> new ResourceNotFoundException("Juego", id));
+    }
+
+    /**
+     * Obtiene la distribución de puntuaciones de un juego (contadores precalculados de juego_stats)
+     */
+    @Transactional(readOnly = true)
+    public DistribucionPuntuacionesDTO obtenerDistribucion(Long id) {
+        return juegoStatsService.obtener(id)
+                .map(stats -> JuegoStatsService.distribucion(stats.getHistograma()))
                 .orElseThrow(() -> new ResourceNotFoundException("Juego", id));
-        return convertirADTO(juego);
     }
 
     /**
      * Crea un nuevo juego
+     * (InvalidadorCacheJuegos expulsa tras el commit solo las entradas de caché afectadas)
      */
     @SuppressWarnings("null")
-    @CacheEvict(value = {"juegos-listado", "juegos-novedades", "juegos-proximos", "juegos-top", "juegos-populares"}, allEntries = true)
 public JuegoDTO crear(JuegoCreacionDTO dto) {
+        Set<Long> plataformaIds = validarIds(plataformaRepository, Plataforma::getId, dto.plataformaIds(), "Plataforma");
+        Set<Long> desarrolladoraIds = validarIds(desarrolladoraRepository, Desarrolladora::getId, dto.desarrolladoraIds(), "Desarrolladora");
+        Set<Long> generoIds = validarIds(generoRepository, Genero::getId, dto.generoIds(), "Genero");
+        
         Juego juego = Juego.builder()
                 .nombre(dto.nombre())
                 .descripcion(dto.descripcion())
@@ -86,48 +180,10 @@ public JuegoDTO crear(JuegoCreacionDTO dto) {
         
         @SuppressWarnings("null")
         Juego guardado = juegoRepository.save(juego);
+        juegoStatsService.inicializarJuego(guardado.getId());
+        relacionesJuegoJdbcRepository.insertarRelaciones(guardado.getId(), plataformaIds, desarrolladoraIds, generoIds);
         
-        // Asociar plataformas
-        if (dto.plataformaIds() != null) {
-            dto.plataformaIds().forEach(plataformaId -> {
-                @SuppressWarnings("null")
-                var plataforma = plataformaRepository.findById(plataformaId)
-                        .orElseThrow(() -> new ResourceNotFoundException("Plataforma", plataformaId));
-                JuegoPlataforma jp = JuegoPlataforma.builder()
-                        .juego(guardado)
-                        .plataforma(plataforma)
-                        .build();
-                juegoPlataformaRepository.save(jp);
-            });
-        }
-        
-        // Asociar desarrolladoras
-        if (dto.desarrolladoraIds() != null) {
-            dto.desarrolladoraIds().forEach(desarrolladoraId -> {
-                @SuppressWarnings("null")
-                var desarrolladora = desarrolladoraRepository.findById(desarrolladoraId)
-                        .orElseThrow(() -> new ResourceNotFoundException("Desarrolladora", desarrolladoraId));
-                JuegoDesarrolladora jd = JuegoDesarrolladora.builder()
-                        .juego(guardado)
-                        .desarrolladora(desarrolladora)
-                        .build();
-                juegoDesarrolladoraRepository.save(jd);
-            });
-        }
-        
-        // Asociar géneros
-        if (dto.generoIds() != null) {
-            dto.generoIds().forEach(generoId -> {
-                @SuppressWarnings("null")
-                var genero = generoRepository.findById(generoId)
-                        .orElseThrow(() -> new ResourceNotFoundException("Genero", generoId));
-                JuegoGenero jg = JuegoGenero.builder()
-                        .juego(guardado)
-                        .genero(genero)
-                        .build();
-                juegoGeneroRepository.save(jg);
-            });
-        }
+        eventPublisher.publishEvent(new JuegoCambiadoEvent(guardado.getId(), TipoCambio.CREADO));
         
         // Refrescar y devolver
         return obtenerPorId(guardado.getId());
@@ -137,11 +193,13 @@ public JuegoDTO crear(JuegoCreacionDTO dto) {
      * Actualiza un juego existente
      */
     @SuppressWarnings("null")
-    @CacheEvict(value = {"juegos-listado", "juegos-novedades", "juegos-proximos", "juegos-top", "juegos-populares", "juego-detalle"}, allEntries = true)
 public JuegoDTO actualizar(Long id, JuegoCreacionDTO dto) {
         @SuppressWarnings("null")
         Juego juegoExistente = juegoRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Juego", id));
+        Set<Long> plataformaIds = validarIds(plataformaRepository, Plataforma::getId, dto.plataformaIds(), "Plataforma");
+        Set<Long> desarrolladoraIds = validarIds(desarrolladoraRepository, Desarrolladora::getId, dto.desarrolladoraIds(), "Desarrolladora");
+        Set<Long> generoIds = validarIds(generoRepository, Genero::getId, dto.generoIds(), "Genero");
         
         Juego actualizado = Juego.builder()
                 .id(juegoExistente.getId())
@@ -152,53 +210,14 @@ public JuegoDTO actualizar(Long id, JuegoCreacionDTO dto) {
                 .interacciones(juegoExistente.getInteracciones())
                 .build();
         
-        juegoRepository.save(actualizado);
-        
-        // Actualizar relaciones - eliminar las existentes y crear las nuevas
-        juegoPlataformaRepository.findByJuegoId(id).forEach(jp -> juegoPlataformaRepository.delete(jp));
-        juegoDesarrolladoraRepository.findByJuegoId(id).forEach(jd -> juegoDesarrolladoraRepository.delete(jd));
-        juegoGeneroRepository.findByJuegoId(id).forEach(jg -> juegoGeneroRepository.delete(jg));
-        
-        // Recrear relaciones
-        if (dto.plataformaIds() != null) {
-            dto.plataformaIds().forEach(plataformaId -> {
-                @SuppressWarnings("null")
-                var plataforma = plataformaRepository.findById(plataformaId)
-                        .orElseThrow(() -> new ResourceNotFoundException("Plataforma", plataformaId));
-                JuegoPlataforma jp = JuegoPlataforma.builder()
-                        .juego(actualizado)
-                        .plataforma(plataforma)
-                        .build();
-                juegoPlataformaRepository.save(jp);
-            });
-        }
-        
-        if (dto.desarrolladoraIds() != null) {
-            dto.desarrolladoraIds().forEach(desarrolladoraId -> {
-                @SuppressWarnings("null")
-                var desarrolladora = desarrolladoraRepository.findById(desarrolladoraId)
-                        .orElseThrow(() -> new ResourceNotFoundException("Desarrolladora", desarrolladoraId));
-                JuegoDesarrolladora jd = JuegoDesarrolladora.builder()
-                        .juego(actualizado)
-                        .desarrolladora(desarrolladora)
-                        .build();
-                juegoDesarrolladoraRepository.save(jd);
-            });
-        }
+        // Se sincroniza antes de tocar las relaciones por JDBC para que el flush no se cruce con ellas
+        juegoRepository.saveAndFlush(actualizado);
         
-        if (dto.generoIds() != null) {
-            dto.generoIds().forEach(generoId -> {
-                @SuppressWarnings("null")
-                var genero = generoRepository.findById(generoId)
-                        .orElseThrow(() -> new ResourceNotFoundException("Genero", generoId));
-                JuegoGenero jg = JuegoGenero.builder()
-                        .juego(actualizado)
-                        .genero(genero)
-                        .build();
-                juegoGeneroRepository.save(jg);
-            });
-        }
+        // Actualizar relaciones: un DELETE para las existentes y un batch por tipo para las nuevas
+        relacionesJuegoJdbcRepository.eliminarRelaciones(id);
+        relacionesJuegoJdbcRepository.insertarRelaciones(id, plataformaIds, desarrolladoraIds, generoIds);
         
+        eventPublisher.publishEvent(new JuegoCambiadoEvent(id, TipoCambio.ACTUALIZADO));
         return obtenerPorId(id);
     }
 
@@ -206,33 +225,67 @@ public JuegoDTO actualizar(Long id, JuegoCreacionDTO dto) {
      * Elimina un juego
      */
     @SuppressWarnings("null")
-    @CacheEvict(value = {"juegos-listado", "juegos-novedades", "juegos-proximos", "juegos-top", "juegos-populares", "juego-detalle"}, allEntries = true)
 public void eliminar(Long id) {
         if (!juegoRepository.existsById(id)) {
             throw new ResourceNotFoundException("Juego", id);
         }
         juegoRepository.deleteById(id);
+        juegoStatsService.eliminarJuego(id);
+        eventPublisher.publishEvent(new JuegoCambiadoEvent(id, TipoCambio.ELIMINADO));
     }
 
     // ==================== BÚSQUEDAS ====================
 
     /**
-     * Busca juegos que contengan el texto en su nombre (OPTIMIZADO)
+     * Busca juegos por nombre usando el índice de trigramas en memoria.
+     * Ignora mayúsculas y acentos y ordena los resultados por similitud.
      */
     @Transactional(readOnly = true)
     @Cacheable(value = "juegos-busqueda", key = "#nombre")
     public List<JuegoResumenDTO> buscarPorNombre(String nombre) {
-        return juegoRepository.findByNombreWithAvgPuntuacion(nombre).stream()
-                .map(this::convertirArrayAResumenDTO)
-                .toList();
+        List<Long> ids = indiceBusquedaJuegos.buscar(nombre, MAX_RESULTADOS_BUSQUEDA);
+        return ordenarResumenes(ids, juegoRepository.findResumenByIds(ids));
+    }
+
+    /**
+     * Navegación por facetas: filtra por géneros, plataformas, desarrolladoras y años de salida
+     * (OR dentro de cada faceta, AND entre facetas) y devuelve los recuentos de cada valor.
+     * El filtrado y los recuentos se resuelven en memoria; solo la página se lee de la base de datos.
+     */
+    @Transactional(readOnly = true)
+    public ExploracionJuegosDTO explorar(Collection<Long> generos, Collection<Long> plataformas,
+            Collection<Long> desarrolladoras, Collection<Integer> anios, Integer pagina, Integer tamanio) {
+        if (pagina != null && pagina < 0) {
+            throw new BusinessLogicException("La página no puede ser negativa");
+        }
+        int numeroPagina = pagina == null ? 0 : pagina;
+        int tamanioPagina = CursorPaginacion.normalizarTamanio(tamanio);
+
+        ExploradorJuegos.Resultado resultado = exploradorJuegos.explorar(
+                generos, plataformas, desarrolladoras, anios, numeroPagina, tamanioPagina);
+        List<JuegoResumenDTO> juegos = resultado.ids().isEmpty()
+                ? List.of()
+                : ordenarResumenes(resultado.ids(), juegoRepository.findResumenByIds(resultado.ids()));
+        boolean hayMas = (long) (numeroPagina + 1) * tamanioPagina < resultado.total();
+        return new ExploracionJuegosDTO(juegos, resultado.total(), numeroPagina, hayMas, resultado.facetas());
     }
 
     /**
      * Obtiene los juegos más recientes (OPTIMIZADO - una sola query)
+     * sync = true: peticiones simultáneas con la caché vacía esperan a una única carga
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = "juegos-novedades")
+    @Cacheable(value = "juegos-novedades", sync = true)
     public List<JuegoResumenDTO> obtenerNovedades() {
+        return calcularNovedades();
+    }
+
+    /**
+     * Novedades leídas directamente de la base de datos (sin caché).
+     * CacheConfig la usa para refrescar la caché en segundo plano.
+     */
+    @Transactional(readOnly = true)
+    public List<JuegoResumenDTO> calcularNovedades() {
         return juegoRepository.findNovedadesWithAvgPuntuacion(
                 LocalDate.now(), 
                 PageRequest.of(0, 10)
@@ -245,8 +298,16 @@ public void eliminar(Long id) {
      * Obtiene los próximos lanzamientos (OPTIMIZADO - una sola query)
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = "juegos-proximos")
+    @Cacheable(value = "juegos-proximos", sync = true)
     public List<JuegoResumenDTO> obtenerProximosLanzamientos() {
+        return calcularProximosLanzamientos();
+    }
+
+    /**
+     * Próximos lanzamientos sin caché (refresco en segundo plano)
+     */
+    @Transactional(readOnly = true)
+    public List<JuegoResumenDTO> calcularProximosLanzamientos() {
         return juegoRepository.findProximosWithAvgPuntuacion(
                 LocalDate.now(),
                 PageRequest.of(0, 10)
@@ -256,25 +317,55 @@ public void eliminar(Long id) {
     }
 
     /**
-     * Obtiene los juegos mejor valorados (OPTIMIZADO - una sola query)
+     * Obtiene los juegos mejor valorados (clasificación en memoria, siempre al día)
      */
-    @Transactional(readOnly = true)
-    @Cacheable(value = "juegos-top", key = "#limite")
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<JuegoResumenDTO> obtenerMejorValorados(int limite) {
-        return juegoRepository.findTopRatedWithAvgPuntuacion(PageRequest.of(0, limite)).stream()
-                .map(this::convertirArrayAResumenDTO)
-                .toList();
+        validarLimiteClasificacion(limite);
+        return clasificacionJuegos.mejorValorados(limite);
     }
 
     /**
-     * Obtiene los juegos con más reviews (OPTIMIZADO - una sola query)
+     * Obtiene los juegos con más reviews (clasificación en memoria, siempre al día)
      */
-    @Transactional(readOnly = true)
-    @Cacheable(value = "juegos-populares", key = "#limite")
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<JuegoResumenDTO> obtenerMasReviewados(int limite) {
-        return juegoRepository.findMostPopularWithAvgPuntuacion(PageRequest.of(0, limite)).stream()
-                .map(this::convertirArrayAResumenDTO)
-                .toList();
+        validarLimiteClasificacion(limite);
+        return clasificacionJuegos.masReviewados(limite);
+    }
+
+    /**
+     * Obtiene los juegos con más actividad reciente (contadores en memoria con decaimiento)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<JuegoResumenDTO> obtenerTendencias(int limite) {
+        validarLimiteClasificacion(limite);
+        return tendenciasJuegos.tendencias(limite);
+    }
+
+    /**
+     * Límite de top, populares y tendencias: acota las listas memorizadas y sus respuestas precalculadas
+     */
+    public void validarLimiteClasificacion(int limite) {
+        if (limite < 1 || limite > LIMITE_MAXIMO_CLASIFICACION) {
+            throw new BusinessLogicException("El límite debe estar entre 1 y " + LIMITE_MAXIMO_CLASIFICACION);
+        }
+    }
+
+    /**
+     * Obtiene los juegos que también gustaron a quienes valoraron este (filtrado colaborativo)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<JuegoResumenDTO> obtenerTambienGustaron(Long id, int limite) {
+        return recomendacionesJuegos.tambienGustaron(id, limite);
+    }
+
+    /**
+     * Obtiene los juegos más parecidos por géneros, plataformas y desarrolladoras (precalculados)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<JuegoResumenDTO> obtenerSimilares(Long id, int limite) {
+        return similaresJuegos.similares(id, limite);
     }
 
     /**
@@ -289,48 +380,71 @@ public void eliminar(Long id) {
 
     // ==================== CONVERSIONES ====================
 
-    private JuegoDTO convertirADTO(Juego juego) {
-        Double puntuacionMedia = interaccionRepository.findAveragePuntuacionByJuegoId(juego.getId());
-        Long totalReviews = interaccionRepository.countByJuegoId(juego.getId());
-        
-        List<String> plataformas = juegoPlataformaRepository.findByJuegoId(juego.getId()).stream()
-                .map(jp -> jp.getPlataforma().getNombre())
-                .toList();
-        
-        List<String> desarrolladoras = juegoDesarrolladoraRepository.findByJuegoId(juego.getId()).stream()
-                .map(jd -> jd.getDesarrolladora().getNombre())
-                .toList();
-        
-        List<String> generos = juegoGeneroRepository.findByJuegoId(juego.getId()).stream()
-                .map(jg -> jg.getGenero().getNombre())
-                .toList();
-        
-        List<ImagenJuegoDTO> imagenes = imagenJuegoRepository.findByJuegoId(juego.getId()).stream()
-                .map(this::convertirImagenADTO)
-                .toList();
-        
+    /**
+     * Comprueba con una sola consulta que existen todos los IDs pedidos (sin repetidos, en el orden recibido)
+     * y lanza ResourceNotFoundException indicando todos los que faltan
+     */
+    private <T> Set<Long> validarIds(JpaRepository<T, Long> repositorio, Function<T, Long> obtenerId,
+            List<Long> ids, String recurso) {
+        if (ids == null || ids.isEmpty()) {
+            return Set.of();
+        }
+        Set<Long> pedidos = new LinkedHashSet<>(ids);
+        pedidos.remove(null);
+        Set<Long> faltantes = new LinkedHashSet<>(pedidos);
+        repositorio.findAllById(pedidos).forEach(entidad -> faltantes.remove(obtenerId.apply(entidad)));
+        if (faltantes.size() == 1) {
+            throw new ResourceNotFoundException(recurso, faltantes.iterator().next());
+        }
+        if (!faltantes.isEmpty()) {
+            throw new ResourceNotFoundException(recurso + " con ids " + faltantes + " no encontrados");
+        }
+        return pedidos;
+    }
+
+    /**
+     * Convierte la fila de findDetalleById (relaciones ya agregadas en arrays) a JuegoDTO
+     */
+    private JuegoDTO convertirDetalleADTO(Object[] fila) {
+        Object[] imagenIds = (Object[]) fila[10];
+        Object[] urls = (Object[]) fila[11];
+        Object[] alts = (Object[]) fila[12];
+        Object[] captions = (Object[]) fila[13];
+        List<ImagenJuegoDTO> imagenes = new ArrayList<>(imagenIds.length);
+        for (int i = 0; i < imagenIds.length; i++) {
+            imagenes.add(new ImagenJuegoDTO(
+                    ((Number) imagenIds[i]).longValue(),
+                    (String) urls[i],
+                    (String) alts[i],
+                    (String) captions[i]));
+        }
+
         return new JuegoDTO(
-                juego.getId(),
-                juego.getNombre(),
-                juego.getDescripcion(),
-                juego.getImagen_portada(),
-                juego.getFecha_salida(),
-                plataformas,
-                desarrolladoras,
-                generos,
-                puntuacionMedia,
-                totalReviews != null ? totalReviews.intValue() : 0,
-                imagenes
+                ((Number) fila[0]).longValue(),
+                (String) fila[1],
+                (String) fila[2],
+                (String) fila[3],
+                fila[4] instanceof Date fecha ? fecha.toLocalDate() : (LocalDate) fila[4],
+                nombres(fila[7]),
+                nombres(fila[8]),
+                nombres(fila[9]),
+                fila[5] != null ? ((Number) fila[5]).doubleValue() : null,
+                ((Number) fila[6]).intValue(),
+                imagenes,
+                JuegoStatsService.distribucion(contadores(fila[14]))
         );
     }
 
-    private ImagenJuegoDTO convertirImagenADTO(ImagenJuego imagen) {
-        return new ImagenJuegoDTO(
-                imagen.getId(),
-                imagen.getUrl(),
-                imagen.getAlt(),
-                imagen.getCaption()
-        );
+    private static long[] contadores(Object array) {
+        return Arrays.stream((Object[]) array)
+                .mapToLong(valor -> ((Number) valor).longValue())
+                .toArray();
+    }
+
+    private static List<String> nombres(Object array) {
+        return Arrays.stream((Object[]) array)
+                .map(String.class::cast)
+                .toList();
     }
 
     /**
@@ -347,6 +461,18 @@ public void eliminar(Long id) {
         );
     }
 
+    /**
+     * Convierte filas de resumen respetando el orden de IDs indicado
+     */
+    private List<JuegoResumenDTO> ordenarResumenes(List<Long> ids, List<Object[]> filas) {
+        Map<Long, JuegoResumenDTO> porId = new HashMap<>();
+        filas.forEach(fila -> porId.put((Long) fila[0], convertirArrayAResumenDTO(fila)));
+        return ids.stream()
+                .map(porId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     /**
      * @deprecated Usar convertirArrayAResumenDTO con queries optimizadas
      */
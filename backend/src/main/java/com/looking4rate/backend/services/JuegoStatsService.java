@@ -0,0 +1,312 @@
+package com.looking4rate.backend.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.looking4rate.backend.dtos.DistribucionPuntuacionesDTO;
+import com.looking4rate.backend.dtos.ReconstruccionStatsDTO;
+import com.looking4rate.backend.entities.Interaccion;
+import com.looking4rate.backend.entities.JuegoStats;
+import com.looking4rate.backend.repositories.JuegoStatsRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Mantiene la tabla juego_stats (suma, total, puntuadas, jugados e histograma por juego).
+ * 
+ * Las escrituras de interacciones aplican deltas atómicos en la misma transacción,
+ * y la reconstrucción completa recalcula los agregados por rangos de IDs en paralelo.
+ */
+@Service
+@RequiredArgsConstructor
+public class JuegoStatsService {
+
+    /** Número de valores posibles de una puntuación (1 a 10) */
+    static final int PUNTUACIONES = 10;
+
+    private static final String COLUMNAS_HISTOGRAMA =
+            "puntuadas_1, puntuadas_2, puntuadas_3, puntuadas_4, puntuadas_5, " +
+            "puntuadas_6, puntuadas_7, puntuadas_8, puntuadas_9, puntuadas_10";
+
+    private static final String CONTEOS_HISTOGRAMA =
+            "COUNT(i.id) FILTER (WHERE i.puntuacion = 1), COUNT(i.id) FILTER (WHERE i.puntuacion = 2), " +
+            "COUNT(i.id) FILTER (WHERE i.puntuacion = 3), COUNT(i.id) FILTER (WHERE i.puntuacion = 4), " +
+            "COUNT(i.id) FILTER (WHERE i.puntuacion = 5), COUNT(i.id) FILTER (WHERE i.puntuacion = 6), " +
+            "COUNT(i.id) FILTER (WHERE i.puntuacion = 7), COUNT(i.id) FILTER (WHERE i.puntuacion = 8), " +
+            "COUNT(i.id) FILTER (WHERE i.puntuacion = 9), COUNT(i.id) FILTER (WHERE i.puntuacion = 10)";
+
+    private static final String SQL_INICIALIZAR =
+            "INSERT INTO juego_stats (juego_id, suma_puntuaciones, total_interacciones, total_puntuadas, total_jugados, puntuacion_media, " +
+            COLUMNAS_HISTOGRAMA + ") VALUES (?, 0, 0, 0, 0, 0, " + String.join(", ", Collections.nCopies(PUNTUACIONES, "0")) + ") " +
+            "ON CONFLICT (juego_id) DO NOTHING";
+
+    private static final String SQL_AGREGAR_RANGO =
+            "INSERT INTO juego_stats (juego_id, suma_puntuaciones, total_interacciones, total_puntuadas, total_jugados, puntuacion_media, " +
+            COLUMNAS_HISTOGRAMA + ") " +
+            "SELECT j.id, COALESCE(SUM(i.puntuacion), 0), COUNT(i.id), COUNT(i.puntuacion), " +
+            "COUNT(i.id) FILTER (WHERE i.estado_jugado), COALESCE(AVG(i.puntuacion), 0), " +
+            CONTEOS_HISTOGRAMA + " " +
+            "FROM juego j LEFT JOIN interaccion i ON i.juego_id = j.id " +
+            "WHERE j.id >= ? AND j.id < ? " +
+            "GROUP BY j.id " +
+            "ON CONFLICT (juego_id) DO UPDATE SET " +
+            "suma_puntuaciones = EXCLUDED.suma_puntuaciones, " +
+            "total_interacciones = EXCLUDED.total_interacciones, " +
+            "total_puntuadas = EXCLUDED.total_puntuadas, " +
+            "total_jugados = EXCLUDED.total_jugados, " +
+            "puntuacion_media = EXCLUDED.puntuacion_media, " +
+            "puntuadas_1 = EXCLUDED.puntuadas_1, puntuadas_2 = EXCLUDED.puntuadas_2, " +
+            "puntuadas_3 = EXCLUDED.puntuadas_3, puntuadas_4 = EXCLUDED.puntuadas_4, " +
+            "puntuadas_5 = EXCLUDED.puntuadas_5, puntuadas_6 = EXCLUDED.puntuadas_6, " +
+            "puntuadas_7 = EXCLUDED.puntuadas_7, puntuadas_8 = EXCLUDED.puntuadas_8, " +
+            "puntuadas_9 = EXCLUDED.puntuadas_9, puntuadas_10 = EXCLUDED.puntuadas_10";
+
+    /** Filas del rango en orden de ID, el mismo en que las bloquean los deltas de un lote */
+    private static final String SQL_BLOQUEAR_RANGO =
+            "SELECT juego_id FROM juego_stats WHERE juego_id >= ? AND juego_id < ? ORDER BY juego_id FOR UPDATE";
+
+    private static final String SQL_COMPLETAR_FALTANTES =
+            "INSERT INTO juego_stats (juego_id, suma_puntuaciones, total_interacciones, total_puntuadas, total_jugados, puntuacion_media, " +
+            COLUMNAS_HISTOGRAMA + ") " +
+            "SELECT j.id, COALESCE(SUM(i.puntuacion), 0), COUNT(i.id), COUNT(i.puntuacion), " +
+            "COUNT(i.id) FILTER (WHERE i.estado_jugado), COALESCE(AVG(i.puntuacion), 0), " +
+            CONTEOS_HISTOGRAMA + " " +
+            "FROM juego j LEFT JOIN interaccion i ON i.juego_id = j.id " +
+            "WHERE NOT EXISTS (SELECT 1 FROM juego_stats s WHERE s.juego_id = j.id) " +
+            "GROUP BY j.id";
+
+    private static final String SQL_ELIMINAR_HUERFANOS =
+            "DELETE FROM juego_stats s WHERE NOT EXISTS (SELECT 1 FROM juego j WHERE j.id = s.juego_id)";
+
+    private final JuegoStatsRepository juegoStatsRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final RecargaIndicesJuegos recargaIndices;
+    /** Solo existe con el bus activo */
+    private final ObjectProvider<BusInvalidacionCache> bus;
+
+    @Value("${looking4rate.stats.paralelismo:4}")
+    private int paralelismo;
+
+    // ==================== LECTURA ====================
+
+    /**
+     * Obtiene los agregados precalculados de un juego
+     */
+    @SuppressWarnings("null")
+    @Transactional(readOnly = true)
+    public Optional<JuegoStats> obtener(Long juegoId) {
+        return juegoStatsRepository.findById(juegoId);
+    }
+
+    /**
+     * Distribución de puntuaciones a partir del histograma (posición k - 1 = puntuación k).
+     * Media y varianza se acumulan cubeta a cubeta con la variante ponderada de Welford,
+     * así el coste es fijo (10 pasos) y no depende del número de valoraciones.
+     */
+    static DistribucionPuntuacionesDTO distribucion(long[] histograma) {
+        Map<Integer, Long> cubetas = new LinkedHashMap<>();
+        long total = 0;
+        double media = 0;
+        double m2 = 0;
+        for (int k = 0; k < histograma.length; k++) {
+            long peso = histograma[k];
+            cubetas.put(k + 1, peso);
+            if (peso > 0) {
+                total += peso;
+                double diferencia = (k + 1) - media;
+                media += diferencia * peso / total;
+                m2 += peso * diferencia * ((k + 1) - media);
+            }
+        }
+        if (total == 0) {
+            return new DistribucionPuntuacionesDTO(0, null, null, null, cubetas);
+        }
+        double varianza = m2 / total;
+        return new DistribucionPuntuacionesDTO(total, media, varianza, Math.sqrt(varianza), cubetas);
+    }
+
+    // ==================== DELTAS INCREMENTALES ====================
+
+    /**
+     * Crea la fila de agregados vacía de un juego recién creado
+     */
+    @Transactional
+    public void inicializarJuego(Long juegoId) {
+        aplicar(juegoId, new long[4 + PUNTUACIONES]);
+    }
+
+    /**
+     * Crea en batch las filas vacías de un lote de juegos importados
+     */
+    @Transactional
+    public void inicializarJuegos(Collection<Long> juegoIds) {
+        jdbcTemplate.batchUpdate(SQL_INICIALIZAR, juegoIds, juegoIds.size(), (ps, juegoId) -> ps.setLong(1, juegoId));
+    }
+
+    /**
+     * Suma a los agregados una interacción nueva
+     */
+    @Transactional
+    public void registrarAlta(Interaccion interaccion) {
+        aplicar(interaccion.getJuego().getId(), contribucion(interaccion, 1));
+    }
+
+    /**
+     * Suma un lote de interacciones nuevas con un solo delta por juego, en orden de ID
+     * (como la reconstrucción: dos transacciones que bloquean en el mismo orden no se interbloquean)
+     */
+    @Transactional
+    public void registrarAltas(Collection<Interaccion> interacciones) {
+        Map<Long, long[]> deltas = new TreeMap<>();
+        for (Interaccion interaccion : interacciones) {
+            deltas.merge(interaccion.getJuego().getId(), contribucion(interaccion, 1), JuegoStatsService::sumar);
+        }
+        deltas.forEach(this::aplicar);
+    }
+
+    /**
+     * Sustituye la contribución de una interacción por la de su nueva versión
+     */
+    @Transactional
+    public void registrarCambio(Interaccion anterior, Interaccion nueva) {
+        aplicar(nueva.getJuego().getId(), sumar(contribucion(anterior, -1), contribucion(nueva, 1)));
+    }
+
+    /**
+     * Resta de los agregados una interacción eliminada
+     */
+    @Transactional
+    public void registrarBaja(Interaccion interaccion) {
+        aplicar(interaccion.getJuego().getId(), contribucion(interaccion, -1));
+    }
+
+    /**
+     * Descuenta todas las interacciones de un usuario que va a eliminarse
+     */
+    @Transactional
+    public void descontarUsuario(Long usuarioId) {
+        juegoStatsRepository.descontarInteraccionesDeUsuario(usuarioId);
+    }
+
+    /**
+     * Elimina la fila de agregados de un juego borrado
+     */
+    @SuppressWarnings("null")
+    @Transactional
+    public void eliminarJuego(Long juegoId) {
+        juegoStatsRepository.deleteById(juegoId);
+    }
+
+    // ==================== RECONSTRUCCIÓN ====================
+
+    /**
+     * Al arrancar crea las filas que falten (p.ej. los juegos de las semillas CSV, que no traen juego_stats).
+     * No recalcula las existentes, por lo que es barato si la tabla ya está al día.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void completarFaltantes() {
+        jdbcTemplate.update(SQL_COMPLETAR_FALTANTES);
+    }
+
+    /**
+     * Recalcula todos los agregados desde la tabla interaccion.
+     * El rango de IDs de juego se divide en particiones que se procesan en paralelo,
+     * cada una en su propia transacción (y conexión) independiente.
+     * Cada partición bloquea antes sus filas: un delta confirmado durante la agregación ya
+     * está en la foto de la sentencia, y uno posterior espera al commit y se suma encima.
+     * Ningún cambio publica su evento: se espera a una recarga completa (clasificaciones,
+     * cachés, ETag) y se pide la misma a las demás réplicas.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @CacheEvict(value = {"juegos-listado", "juegos-novedades", "juegos-proximos", "juego-detalle"}, allEntries = true)
+    public ReconstruccionStatsDTO reconstruir() {
+        long inicio = System.currentTimeMillis();
+        long[] rango = jdbcTemplate.queryForObject("SELECT COALESCE(MIN(id), 0), COALESCE(MAX(id), -1) FROM juego",
+                (rs, fila) -> new long[] { rs.getLong(1), rs.getLong(2) });
+
+        int particiones = Math.max(1, paralelismo);
+        long total = rango[1] - rango[0] + 1;
+        int procesados = 0;
+
+        if (total > 0) {
+            long paso = (total + particiones - 1) / particiones;
+            ExecutorService executor = Executors.newFixedThreadPool(particiones);
+            TransactionTemplate transaccion = new TransactionTemplate(transactionManager);
+            try {
+                List<CompletableFuture<Integer>> tareas = new ArrayList<>();
+                for (long desde = rango[0]; desde <= rango[1]; desde += paso) {
+                    long inicioRango = desde;
+                    long finRango = Math.min(desde + paso, rango[1] + 1);
+                    tareas.add(CompletableFuture.supplyAsync(() -> transaccion.execute(estado -> {
+                        jdbcTemplate.query(SQL_BLOQUEAR_RANGO, (RowCallbackHandler) fila -> { }, inicioRango, finRango);
+                        return jdbcTemplate.update(SQL_AGREGAR_RANGO, inicioRango, finRango);
+                    }), executor));
+                }
+                procesados = tareas.stream().mapToInt(CompletableFuture::join).sum();
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        jdbcTemplate.update(SQL_ELIMINAR_HUERFANOS);
+        bus.ifAvailable(BusInvalidacionCache::notificarRecarga);
+        recargaIndices.programarCompleta().join();
+        return new ReconstruccionStatsDTO(procesados, particiones, System.currentTimeMillis() - inicio);
+    }
+
+    // ==================== AUXILIARES ====================
+
+    /**
+     * Contribución de una interacción a los contadores: [suma, total, puntuadas, jugados, histograma 1..10]
+     */
+    private long[] contribucion(Interaccion interaccion, int signo) {
+        Integer puntuacion = interaccion.getPuntuacion();
+        long[] contribucion = new long[4 + PUNTUACIONES];
+        contribucion[0] = signo * (puntuacion != null ? puntuacion : 0);
+        contribucion[1] = signo;
+        contribucion[2] = puntuacion != null ? signo : 0;
+        contribucion[3] = interaccion.isEstado_jugado() ? signo : 0;
+        if (puntuacion != null) {
+            contribucion[3 + puntuacion] = signo;
+        }
+        return contribucion;
+    }
+
+    private static long[] sumar(long[] a, long[] b) {
+        long[] suma = new long[a.length];
+        for (int k = 0; k < suma.length; k++) {
+            suma[k] = a[k] + b[k];
+        }
+        return suma;
+    }
+
+    private void aplicar(Long juegoId, long[] delta) {
+        double media = delta[2] > 0 ? (double) delta[0] / delta[2] : 0;
+        juegoStatsRepository.aplicarDelta(juegoId, delta[0], delta[1], delta[2], delta[3], media,
+                delta[4], delta[5], delta[6], delta[7], delta[8],
+                delta[9], delta[10], delta[11], delta[12], delta[13]);
+    }
+}
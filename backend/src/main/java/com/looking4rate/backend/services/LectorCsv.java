@@ -0,0 +1,114 @@
+package com.looking4rate.backend.services;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lector CSV incremental (RFC 4180): devuelve registro a registro sin cargar el fichero.
+ * Los campos entre comillas pueden contener comas, saltos de línea y comillas dobladas ("");
+ * fuera de comillas una comilla es un carácter más. Acepta finales de línea \n, \r\n y \r.
+ */
+final class LectorCsv {
+
+    private static final int FIN = -1;
+
+    private final Reader entrada;
+    private final StringBuilder campo = new StringBuilder();
+    private long linea = 1;
+    private long lineaRegistro;
+    /** Carácter leído de más al buscar un \n tras un \r */
+    private int pendiente = FIN - 1;
+
+    /**
+     * @param entrada se lee carácter a carácter: conviene que tenga búfer
+     */
+    LectorCsv(Reader entrada) {
+        this.entrada = entrada;
+    }
+
+    /**
+     * Siguiente registro, o null al final del fichero
+     */
+    List<String> siguiente() throws IOException {
+        int c = leer();
+        if (c == FIN) {
+            return null;
+        }
+        lineaRegistro = linea;
+        List<String> campos = new ArrayList<>();
+        campo.setLength(0);
+        boolean entreComillas = false;
+        boolean inicioCampo = true;
+        while (true) {
+            if (entreComillas) {
+                if (c == FIN) {
+                    throw new IOException("Comillas sin cerrar en el registro de la línea " + lineaRegistro);
+                }
+                if (c == '"') {
+                    int siguiente = leer();
+                    if (siguiente == '"') {
+                        campo.append('"');
+                    } else {
+                        entreComillas = false;
+                        c = siguiente;
+                        continue;
+                    }
+                } else {
+                    contarLinea(c);
+                    campo.append((char) c);
+                }
+            } else if (c == '"' && inicioCampo) {
+                entreComillas = true;
+            } else if (c == ',') {
+                campos.add(campo.toString());
+                campo.setLength(0);
+                inicioCampo = true;
+                c = leer();
+                continue;
+            } else if (c == '\n' || c == '\r' || c == FIN) {
+                if (c == '\r') {
+                    int siguiente = leer();
+                    if (siguiente != '\n') {
+                        pendiente = siguiente;
+                    }
+                }
+                if (c != FIN) {
+                    linea++;
+                }
+                campos.add(campo.toString());
+                return campos;
+            } else {
+                campo.append((char) c);
+            }
+            inicioCampo = false;
+            c = leer();
+        }
+    }
+
+    /**
+     * Línea del fichero en la que empieza el último registro devuelto
+     */
+    long lineaRegistro() {
+        return lineaRegistro;
+    }
+
+    private int leer() throws IOException {
+        if (pendiente >= FIN) {
+            int c = pendiente;
+            pendiente = FIN - 1;
+            return c;
+        }
+        return entrada.read();
+    }
+
+    /**
+     * Los saltos de línea dentro de comillas también cuentan para numerar los registros
+     */
+    private void contarLinea(int c) {
+        if (c == '\n') {
+            linea++;
+        }
+    }
+}
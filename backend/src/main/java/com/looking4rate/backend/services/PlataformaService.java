@@ -2,11 +2,15 @@ package com.looking4rate.backend.services;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.looking4rate.backend.dtos.PlataformaDTO;
 import com.looking4rate.backend.entities.Plataforma;
+import com.looking4rate.backend.events.CatalogoCambiadoEvent;
+import com.looking4rate.backend.events.CatalogoCambiadoEvent.Catalogo;
+import com.looking4rate.backend.events.TipoCambio;
 import com.looking4rate.backend.exceptions.DuplicateResourceException;
 import com.looking4rate.backend.exceptions.ResourceNotFoundException;
 import com.looking4rate.backend.repositories.PlataformaRepository;
@@ -19,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 public class PlataformaService {
     
     private final PlataformaRepository plataformaRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ==================== CRUD ====================
 
@@ -61,6 +66,7 @@ public class PlataformaService {
         
         @SuppressWarnings("null")
         Plataforma guardada = plataformaRepository.save(plataforma);
+        eventPublisher.publishEvent(new CatalogoCambiadoEvent(Catalogo.PLATAFORMA, guardada.getId(), TipoCambio.CREADO));
         return convertirADTO(guardada);
     }
 
@@ -91,6 +97,7 @@ public class PlataformaService {
         
         @SuppressWarnings("null")
         Plataforma guardada = plataformaRepository.save(actualizada);
+        eventPublisher.publishEvent(new CatalogoCambiadoEvent(Catalogo.PLATAFORMA, guardada.getId(), TipoCambio.ACTUALIZADO));
         return convertirADTO(guardada);
     }
 
@@ -103,6 +110,7 @@ public class PlataformaService {
             throw new ResourceNotFoundException("Plataforma", id);
         }
         plataformaRepository.deleteById(id);
+        eventPublisher.publishEvent(new CatalogoCambiadoEvent(Catalogo.PLATAFORMA, id, TipoCambio.ELIMINADO));
     }
 
     // ==================== BÚSQUEDAS ====================
@@ -0,0 +1,100 @@
+package com.looking4rate.backend.services;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.looking4rate.backend.events.JuegosImportadosEvent;
+import com.looking4rate.backend.events.RecargaCompletaEvent;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Recarga de los índices en memoria tras una importación masiva o una recarga completa, en un hilo propio.
+ *
+ * - Publica el JuegosImportadosEvent fuera del hilo que la pide: ni la respuesta de la
+ *   importación ni la escucha del bus esperan a que se reconstruyan (SimilaresJuegos tarda
+ *   minutos con catálogos grandes)
+ * - Las peticiones que llegan mientras otra espera turno se unen a ella: la recarga que aún
+ *   no ha empezado ya leerá también sus juegos
+ * - Una recarga completa publica además un RecargaCompletaEvent: las ETag y las cachés que
+ *   no dependen de los índices también se renuevan
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecargaIndicesJuegos {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(tarea -> {
+        Thread hilo = new Thread(tarea, "recarga-indices-juegos");
+        hilo.setDaemon(true);
+        return hilo;
+    });
+
+    /** Recarga en cola que aún no ha empezado, y juegos que acumula */
+    private CompletableFuture<Void> enEspera;
+    private int juegosEnEspera;
+    private boolean completaEnEspera;
+
+    /**
+     * Programa la recarga; el futuro se completa cuando todos los índices ya ven los juegos
+     */
+    public synchronized CompletableFuture<Void> programar(int juegos) {
+        juegosEnEspera += juegos;
+        return encolar();
+    }
+
+    /**
+     * Programa una recarga de todo lo que se mantiene en memoria, para cuando no se sabe qué ha cambiado
+     */
+    public synchronized CompletableFuture<Void> programarCompleta() {
+        completaEnEspera = true;
+        return encolar();
+    }
+
+    private CompletableFuture<Void> encolar() {
+        if (enEspera == null) {
+            CompletableFuture<Void> recarga = new CompletableFuture<>();
+            enEspera = recarga;
+            executor.execute(() -> recargar(recarga));
+        }
+        return enEspera;
+    }
+
+    private void recargar(CompletableFuture<Void> recarga) {
+        int juegos;
+        boolean completa;
+        synchronized (this) {
+            juegos = juegosEnEspera;
+            completa = completaEnEspera;
+            juegosEnEspera = 0;
+            completaEnEspera = false;
+            enEspera = null;
+        }
+        try {
+            long inicio = System.nanoTime();
+            eventPublisher.publishEvent(new JuegosImportadosEvent(juegos));
+            if (completa) {
+                eventPublisher.publishEvent(new RecargaCompletaEvent());
+            }
+            log.info("Índices de juegos recargados ({}, {} juegos importados) en {} ms", completa ? "completa" : "importación",
+                    juegos, (System.nanoTime() - inicio) / 1_000_000);
+            recarga.complete(null);
+        } catch (RuntimeException e) {
+            log.error("Error recargando los índices de juegos", e);
+            recarga.completeExceptionally(e);
+        }
+    }
+
+    @PreDestroy
+    public void detener() {
+        executor.shutdownNow();
+    }
+}
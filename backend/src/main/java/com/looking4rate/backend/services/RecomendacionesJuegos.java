@@ -0,0 +1,164 @@
+package com.looking4rate.backend.services;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.looking4rate.backend.dtos.JuegoResumenDTO;
+import com.looking4rate.backend.dtos.RecalculoRecomendacionesDTO;
+import com.looking4rate.backend.exceptions.BusinessLogicException;
+import com.looking4rate.backend.exceptions.ResourceNotFoundException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Recomendaciones por filtrado colaborativo item-item ("a quien le gustó esto también le gustó").
+ *
+ * - Un proceso programado lee todas las interacciones con un cursor y calcula en paralelo
+ *   una TablaVecinos nueva, que sustituye a la anterior de una sola vez
+ * - Las consultas solo leen la tabla publicada: no tocan la base de datos ni se bloquean
+ * - Las interacciones nuevas se reflejan en el siguiente recálculo (cada 30 minutos por defecto)
+ * - Sin datos suficientes para un usuario se recurre a los mejor valorados que aún no conoce
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecomendacionesJuegos {
+
+    private static final String SQL_INTERACCIONES = "SELECT usuario_id, juego_id, puntuacion FROM interaccion";
+    /** Filas por viaje del cursor: la tabla nunca se carga entera en el driver */
+    private static final int FILAS_POR_LOTE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ClasificacionJuegos clasificacionJuegos;
+
+    /** Vecinos que se guardan por juego */
+    @Value("${looking4rate.recomendaciones.vecinos:50}")
+    private int vecinos;
+
+    /** Usuarios en común (que puntuaron ambos juegos) necesarios para considerar la similitud */
+    @Value("${looking4rate.recomendaciones.minimo-comunes:2}")
+    private int minimoComunes;
+
+    /** Hilos del cálculo; 0 = uno por núcleo */
+    @Value("${looking4rate.recomendaciones.paralelismo:0}")
+    private int paralelismo;
+
+    private volatile TablaVecinos tabla = TablaVecinos.VACIA;
+    /** Se incrementa al publicar cada tabla: forma parte de la ETag de "también gustaron" */
+    private volatile long generacion;
+
+    // ==================== CÁLCULO ====================
+
+    @Scheduled(initialDelayString = "${looking4rate.recomendaciones.retraso-inicial:5s}",
+            fixedDelayString = "${looking4rate.recomendaciones.intervalo:30m}")
+    public void recalcularProgramado() {
+        RecalculoRecomendacionesDTO resultado = recalcular();
+        log.info("Recomendaciones recalculadas: {} interacciones, {} juegos, {} usuarios en {} ms",
+                resultado.interacciones(), resultado.juegos(), resultado.usuarios(), resultado.duracionMs());
+    }
+
+    /**
+     * Lee las interacciones, calcula la tabla de vecinos y la publica
+     */
+    public synchronized RecalculoRecomendacionesDTO recalcular() {
+        long inicio = System.currentTimeMillis();
+        TablaVecinos.Interacciones datos = cargar();
+        long carga = System.currentTimeMillis() - inicio;
+
+        int hilos = paralelismo > 0 ? paralelismo : Runtime.getRuntime().availableProcessors();
+        ForkJoinPool pool = new ForkJoinPool(hilos);
+        try {
+            tabla = TablaVecinos.calcular(datos, vecinos, minimoComunes, pool);
+            generacion++;
+        } finally {
+            pool.shutdown();
+        }
+        return new RecalculoRecomendacionesDTO(datos.filas(), tabla.juegos(), tabla.usuarios(), hilos,
+                carga, System.currentTimeMillis() - inicio);
+    }
+
+    /**
+     * Recorre la tabla con un cursor de solo avance (en PostgreSQL requiere una transacción)
+     */
+    private TablaVecinos.Interacciones cargar() {
+        TablaVecinos.Interacciones datos = new TablaVecinos.Interacciones();
+        TransactionTemplate transaccion = new TransactionTemplate(transactionManager);
+        transaccion.setReadOnly(true);
+        transaccion.executeWithoutResult(estado -> jdbcTemplate.query(conexion -> {
+            PreparedStatement sentencia = conexion.prepareStatement(SQL_INTERACCIONES,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            sentencia.setFetchSize(FILAS_POR_LOTE);
+            return sentencia;
+        }, (RowCallbackHandler) fila -> {
+            // getInt devuelve 0 para NULL: interacción sin puntuar
+            datos.anadir(fila.getLong(1), fila.getLong(2), fila.getInt(3));
+        }));
+        return datos;
+    }
+
+    // ==================== CONSULTA ====================
+
+    public long generacion() {
+        return generacion;
+    }
+
+    /**
+     * Juegos que también gustaron a quienes valoraron bien este
+     */
+    public List<JuegoResumenDTO> tambienGustaron(Long juegoId, int limite) {
+        validarLimite(limite);
+        if (clasificacionJuegos.resumen(juegoId) == null) {
+            throw new ResourceNotFoundException("Juego", juegoId);
+        }
+        return resumenes(tabla.vecinosDe(juegoId, limite));
+    }
+
+    /**
+     * Juegos recomendados para un usuario según lo que ha valorado
+     */
+    public List<JuegoResumenDTO> recomendados(Long usuarioId, int limite) {
+        validarLimite(limite);
+        TablaVecinos actual = tabla;
+        List<JuegoResumenDTO> recomendados = resumenes(actual.recomendados(usuarioId, limite));
+        if (!recomendados.isEmpty()) {
+            return recomendados;
+        }
+        // Arranque en frío: los mejor valorados que el usuario aún no tiene
+        Set<Long> vistos = actual.juegosDe(usuarioId);
+        return clasificacionJuegos.recorrerMejorValorados()
+                .filter(juego -> !vistos.contains(juego.id()))
+                .limit(limite)
+                .toList();
+    }
+
+    private List<JuegoResumenDTO> resumenes(List<Long> ids) {
+        List<JuegoResumenDTO> lista = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            JuegoResumenDTO resumen = clasificacionJuegos.resumen(id);
+            if (resumen != null) {
+                lista.add(resumen);
+            }
+        }
+        return lista;
+    }
+
+    private void validarLimite(int limite) {
+        if (limite < 1) {
+            throw new BusinessLogicException("El límite debe ser mayor que cero");
+        }
+    }
+}
@@ -0,0 +1,695 @@
+package com.looking4rate.backend.services;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.looking4rate.backend.dtos.JuegoResumenDTO;
+import com.looking4rate.backend.events.CatalogoCambiadoEvent;
+import com.looking4rate.backend.events.JuegoCambiadoEvent;
+import com.looking4rate.backend.events.JuegosImportadosEvent;
+import com.looking4rate.backend.events.TipoCambio;
+import com.looking4rate.backend.exceptions.BusinessLogicException;
+import com.looking4rate.backend.exceptions.ResourceNotFoundException;
+import com.looking4rate.backend.repositories.JuegoDesarrolladoraRepository;
+import com.looking4rate.backend.repositories.JuegoGeneroRepository;
+import com.looking4rate.backend.repositories.JuegoPlataformaRepository;
+import com.looking4rate.backend.repositories.JuegoRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Juegos similares por contenido: géneros, plataformas y desarrolladoras en común.
+ *
+ * - Cada juego se codifica como un bitset (long[]) con un tramo de palabras por tipo de dato;
+ *   cada género, plataforma o desarrolladora ocupa un bit de su tramo
+ * - La similitud es un Jaccard ponderado por tipo: Σ peso·|A∩B| / Σ peso·|A∪B|, calculado
+ *   palabra a palabra con AND/OR y bitCount (bucles simples que el JIT vectoriza)
+ * - Un índice invertido (bit → juegos que lo tienen) limita cada cálculo a los juegos que
+ *   comparten algún valor: con el resto la similitud es 0. La carga completa cuenta además los
+ *   bits comunes recorriendo sus listas, sin comparar los bitsets pareja a pareja
+ * - Se precalculan los N vecinos de cada juego al arrancar; al crear, modificar o borrar un
+ *   juego solo se recalcula su lista y se ajustan las de los juegos con valores en común (una
+ *   lista llena de la que baja o sale ese juego se recalcula entera, porque otro candidato
+ *   puede ocupar su hueco). Una importación se aplica igual, juego a juego, salvo que cambie
+ *   una parte grande del catálogo
+ * - Las consultas leen la lista precalculada: no hay cálculo ni base de datos por petición
+ *
+ * Las escrituras se serializan; las listas publicadas son arrays que nunca se modifican.
+ * Una carga completa se calcula fuera del cerrojo y se publica de una vez: los cambios que
+ * llegan mientras tanto se aplican al estado anterior y se repiten sobre el nuevo.
+ */
+@Component
+@RequiredArgsConstructor
+public class SimilaresJuegos {
+
+    private static final Vecino[] SIN_VECINOS = new Vecino[0];
+    /** Bits libres que se reservan en cada tramo para no redistribuir con cada alta del catálogo */
+    private static final int BITS_HOLGURA = 64;
+    /** Una importación que cambia más de 1/N del catálogo se recalcula entera en vez de juego a juego */
+    private static final int FRACCION_RECARGA_COMPLETA = 10;
+    /** Juegos por tarea en la carga completa (cada tarea reutiliza sus marcas de candidatos) */
+    private static final int JUEGOS_POR_TAREA = 256;
+
+    private static final Comparator<Vecino> ORDEN = Comparator.comparingDouble(Vecino::similitud).reversed()
+            .thenComparingLong(Vecino::id);
+
+    private final JuegoRepository juegoRepository;
+    private final JuegoGeneroRepository juegoGeneroRepository;
+    private final JuegoPlataformaRepository juegoPlataformaRepository;
+    private final JuegoDesarrolladoraRepository juegoDesarrolladoraRepository;
+    private final ClasificacionJuegos clasificacionJuegos;
+
+    /** Vecinos precalculados por juego */
+    @Value("${looking4rate.similares.vecinos:20}")
+    private int maximoVecinos;
+
+    @Value("${looking4rate.similares.peso-genero:3}")
+    private double pesoGenero;
+
+    @Value("${looking4rate.similares.peso-plataforma:1}")
+    private double pesoPlataforma;
+
+    @Value("${looking4rate.similares.peso-desarrolladora:2}")
+    private double pesoDesarrolladora;
+
+    /** Serializa las cargas completas e importaciones entre sí, no con los cambios sueltos */
+    private final Object cargas = new Object();
+
+    // Estado de escritura (solo con el cerrojo)
+    private Estado estado;
+    /** Cambios recibidos durante una carga completa, para repetirlos sobre el estado nuevo */
+    private List<Runnable> pendientes;
+
+    /**
+     * Listas publicadas, ordenadas de más a menos parecido. La carga completa construye un mapa
+     * nuevo y lo publica de una vez: las lecturas nunca ven el mapa a medio llenar
+     */
+    private volatile Map<Long, Vecino[]> vecinos = new ConcurrentHashMap<>();
+
+    // ==================== MANTENIMIENTO ====================
+
+    /**
+     * Codifica todo el catálogo y precalcula los vecinos de cada juego al arrancar
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void inicializar() {
+        synchronized (cargas) {
+            synchronized (this) {
+                pendientes = new ArrayList<>();
+            }
+            Estado nuevo = new Estado(leerCatalogo());
+            Map<Long, Vecino[]> calculados = nuevo.calcularTodos();
+            synchronized (this) {
+                estado = nuevo;
+                vecinos = calculados;
+                List<Runnable> cambios = pendientes;
+                pendientes = null;
+                cambios.forEach(Runnable::run);
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void alCambiarJuego(JuegoCambiadoEvent evento) {
+        Long juegoId = evento.juegoId();
+        if (evento.tipo() == TipoCambio.ELIMINADO) {
+            eliminar(juegoId);
+            return;
+        }
+        if (juegoRepository.existsById(juegoId)) {
+            actualizar(juegoId,
+                    juegoGeneroRepository.findGeneroIdsByJuegoId(juegoId),
+                    juegoPlataformaRepository.findPlataformaIdsByJuegoId(juegoId),
+                    juegoDesarrolladoraRepository.findDesarrolladoraIdsByJuegoId(juegoId));
+        }
+    }
+
+    /**
+     * Tras una importación (o una recarga completa) se comparan los datos leídos con los actuales
+     * y solo se aplican los juegos nuevos, cambiados o borrados, cada uno con el cerrojo por separado
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void alImportarJuegos(JuegosImportadosEvent evento) {
+        synchronized (cargas) {
+            Map<Long, Caracteristicas> actuales;
+            synchronized (this) {
+                actuales = estado != null ? Map.copyOf(estado.caracteristicas) : Map.of();
+            }
+            Map<Long, Caracteristicas> leidas = leerCatalogo();
+            Map<Long, Caracteristicas> cambios = new HashMap<>();
+            leidas.forEach((id, c) -> {
+                if (!c.equals(actuales.get(id))) {
+                    cambios.put(id, c);
+                }
+            });
+            actuales.keySet().forEach(id -> {
+                if (!leidas.containsKey(id)) {
+                    cambios.put(id, null);
+                }
+            });
+            if (actuales.isEmpty() || (long) cambios.size() * FRACCION_RECARGA_COMPLETA > leidas.size()) {
+                inicializar();
+                return;
+            }
+            cambios.forEach((id, nuevas) -> sustituir(id, actuales.get(id), nuevas));
+        }
+    }
+
+    /**
+     * Al borrar un género, plataforma o desarrolladora los juegos que lo tenían dejan de compartirlo
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void alCambiarCatalogo(CatalogoCambiadoEvent evento) {
+        if (evento.tipo() != TipoCambio.ELIMINADO) {
+            return;
+        }
+        if (pendientes != null) {
+            pendientes.add(() -> alCambiarCatalogo(evento));
+        }
+        if (estado == null) {
+            return;
+        }
+        Long valor = evento.id();
+        for (Map.Entry<Long, Caracteristicas> entrada : List.copyOf(estado.caracteristicas.entrySet())) {
+            Caracteristicas actual = entrada.getValue();
+            Caracteristicas nueva = switch (evento.catalogo()) {
+                case GENERO -> new Caracteristicas(sin(actual.generos(), valor), actual.plataformas(), actual.desarrolladoras());
+                case PLATAFORMA -> new Caracteristicas(actual.generos(), sin(actual.plataformas(), valor), actual.desarrolladoras());
+                case DESARROLLADORA -> new Caracteristicas(actual.generos(), actual.plataformas(), sin(actual.desarrolladoras(), valor));
+            };
+            if (!nueva.equals(actual)) {
+                colocar(entrada.getKey(), nueva);
+            }
+        }
+    }
+
+    synchronized void actualizar(Long juegoId, Collection<Long> generos, Collection<Long> plataformas,
+            Collection<Long> desarrolladoras) {
+        Caracteristicas nuevas = new Caracteristicas(Set.copyOf(generos), Set.copyOf(plataformas), Set.copyOf(desarrolladoras));
+        if (pendientes != null) {
+            pendientes.add(() -> colocar(juegoId, nuevas));
+        }
+        if (estado != null) {
+            colocar(juegoId, nuevas);
+        }
+    }
+
+    synchronized void eliminar(Long juegoId) {
+        if (pendientes != null) {
+            pendientes.add(() -> quitar(juegoId));
+        }
+        if (estado != null) {
+            quitar(juegoId);
+        }
+    }
+
+    /**
+     * Aplica un cambio leído por la importación solo si nadie ha tocado el juego desde la lectura
+     * (un cambio posterior ya trae datos más nuevos)
+     */
+    private synchronized void sustituir(Long juegoId, Caracteristicas leidas, Caracteristicas nuevas) {
+        if (!Objects.equals(estado.caracteristicas.get(juegoId), leidas)) {
+            return;
+        }
+        if (nuevas == null) {
+            quitar(juegoId);
+        } else {
+            colocar(juegoId, nuevas);
+        }
+    }
+
+    private void colocar(Long juegoId, Caracteristicas nuevas) {
+        if (nuevas.equals(estado.caracteristicas.get(juegoId)) && vecinos.containsKey(juegoId)) {
+            // Solo ha cambiado el nombre, la fecha...: las similitudes son las mismas
+            return;
+        }
+        // Los juegos que compartían algo con sus valores anteriores o lo comparten con los nuevos
+        long[] anterior = estado.vectores.get(juegoId);
+        Set<Long> afectados = anterior != null ? estado.candidatos(juegoId, anterior) : new HashSet<>();
+        estado.colocar(juegoId, nuevas);
+        long[] vector = estado.vectores.get(juegoId);
+        afectados.addAll(estado.candidatos(juegoId, vector));
+
+        Map<Long, Vecino[]> listas = vecinos;
+        listas.put(juegoId, estado.calcularVecinos(juegoId));
+        for (Long otroId : afectados) {
+            Vecino[] lista = ajustar(listas.getOrDefault(otroId, SIN_VECINOS), juegoId,
+                    estado.similitud(vector, estado.vectores.get(otroId)));
+            listas.put(otroId, lista != null ? lista : estado.calcularVecinos(otroId));
+        }
+    }
+
+    private void quitar(Long juegoId) {
+        long[] anterior = estado.vectores.get(juegoId);
+        if (anterior == null) {
+            return;
+        }
+        Set<Long> afectados = estado.candidatos(juegoId, anterior);
+        estado.quitar(juegoId);
+        Map<Long, Vecino[]> listas = vecinos;
+        listas.remove(juegoId);
+        for (Long otroId : afectados) {
+            Vecino[] lista = ajustar(listas.getOrDefault(otroId, SIN_VECINOS), juegoId, 0);
+            listas.put(otroId, lista != null ? lista : estado.calcularVecinos(otroId));
+        }
+    }
+
+    private Map<Long, Caracteristicas> leerCatalogo() {
+        Map<Long, Set<Long>> generos = agrupar(juegoGeneroRepository.findParesIds());
+        Map<Long, Set<Long>> plataformas = agrupar(juegoPlataformaRepository.findParesIds());
+        Map<Long, Set<Long>> desarrolladoras = agrupar(juegoDesarrolladoraRepository.findParesIds());
+
+        Map<Long, Caracteristicas> leidas = new HashMap<>();
+        for (Object[] fila : juegoRepository.findIdYFechaSalida()) {
+            Long id = (Long) fila[0];
+            leidas.put(id, new Caracteristicas(generos.getOrDefault(id, Set.of()),
+                    plataformas.getOrDefault(id, Set.of()), desarrolladoras.getOrDefault(id, Set.of())));
+        }
+        return leidas;
+    }
+
+    // ==================== CONSULTA ====================
+
+    /**
+     * Los 'limite' juegos más parecidos a uno (como mucho los precalculados)
+     */
+    public List<JuegoResumenDTO> similares(Long juegoId, int limite) {
+        if (limite < 1) {
+            throw new BusinessLogicException("El límite debe ser mayor que cero");
+        }
+        if (clasificacionJuegos.resumen(juegoId) == null) {
+            throw new ResourceNotFoundException("Juego", juegoId);
+        }
+        Vecino[] lista = vecinos.getOrDefault(juegoId, SIN_VECINOS);
+        List<JuegoResumenDTO> resultado = new ArrayList<>(Math.min(limite, lista.length));
+        for (int i = 0; i < lista.length && resultado.size() < limite; i++) {
+            JuegoResumenDTO resumen = clasificacionJuegos.resumen(lista[i].id());
+            if (resumen != null) {
+                resultado.add(resumen);
+            }
+        }
+        return resultado;
+    }
+
+    // ==================== CÁLCULO ====================
+
+    /**
+     * Mete el vecino en el montículo de los N mejores (el peor, en la cabeza, sale si sobra)
+     */
+    private void anadir(PriorityQueue<Vecino> mejores, Vecino vecino) {
+        if (mejores.size() >= maximoVecinos && !mejores.isEmpty() && ORDEN.compare(vecino, mejores.peek()) >= 0) {
+            return;
+        }
+        mejores.add(vecino);
+        if (mejores.size() > maximoVecinos) {
+            mejores.poll();
+        }
+    }
+
+    private static Vecino[] ordenar(PriorityQueue<Vecino> mejores) {
+        Vecino[] lista = mejores.toArray(SIN_VECINOS);
+        Arrays.sort(lista, ORDEN);
+        return lista;
+    }
+
+    /**
+     * Lista de 'lista' con la nueva similitud de un juego, o null si hay que recalcularla entera
+     * (estaba llena y ese juego baja o sale: el hueco puede ser de otro que no está en la lista)
+     */
+    private Vecino[] ajustar(Vecino[] lista, Long juegoId, double similitud) {
+        int posicion = -1;
+        for (int i = 0; i < lista.length; i++) {
+            if (lista[i].id().equals(juegoId)) {
+                posicion = i;
+                break;
+            }
+        }
+        Vecino nuevo = new Vecino(juegoId, similitud);
+        boolean llena = lista.length >= maximoVecinos;
+
+        if (posicion >= 0) {
+            if (similitud == lista[posicion].similitud()) {
+                return lista;
+            }
+            // Si baja en una lista llena, solo se sabe que nadie de fuera le adelanta
+            // mientras siga por delante del último
+            if (llena && ORDEN.compare(nuevo, lista[posicion]) > 0
+                    && (posicion == lista.length - 1 || ORDEN.compare(nuevo, lista[lista.length - 1]) > 0)) {
+                return null;
+            }
+            List<Vecino> resultado = new ArrayList<>(Arrays.asList(lista));
+            resultado.remove(posicion);
+            if (similitud > 0) {
+                resultado.add(nuevo);
+            }
+            resultado.sort(ORDEN);
+            return resultado.toArray(SIN_VECINOS);
+        }
+
+        if (similitud <= 0 || (llena && ORDEN.compare(nuevo, lista[lista.length - 1]) > 0)) {
+            return lista;
+        }
+        List<Vecino> resultado = new ArrayList<>(Arrays.asList(lista));
+        resultado.add(nuevo);
+        resultado.sort(ORDEN);
+        if (resultado.size() > maximoVecinos) {
+            resultado.remove(resultado.size() - 1);
+        }
+        return resultado.toArray(SIN_VECINOS);
+    }
+
+    private static int palabras(int valores) {
+        return (valores + BITS_HOLGURA + 63) / 64;
+    }
+
+    private static Map<Long, Integer> bits(Set<Long> valores) {
+        Map<Long, Integer> bits = new HashMap<>();
+        valores.stream().sorted().forEach(valor -> bits.put(valor, bits.size()));
+        return bits;
+    }
+
+    private static Map<Long, Set<Long>> agrupar(List<Object[]> pares) {
+        Map<Long, Set<Long>> valores = new HashMap<>();
+        for (Object[] par : pares) {
+            valores.computeIfAbsent((Long) par[0], j -> new HashSet<>()).add((Long) par[1]);
+        }
+        return valores;
+    }
+
+    private static Set<Long> sin(Set<Long> valores, Long valor) {
+        if (!valores.contains(valor)) {
+            return valores;
+        }
+        Set<Long> resultado = new HashSet<>(valores);
+        resultado.remove(valor);
+        return Set.copyOf(resultado);
+    }
+
+    // ==================== ESTRUCTURAS ====================
+
+    record Vecino(Long id, double similitud) {}
+
+    /**
+     * Catálogo codificado: características, vectores y el índice invertido de sus bits
+     */
+    private final class Estado {
+
+        final Map<Long, Caracteristicas> caracteristicas;
+        final Map<Long, long[]> vectores = new HashMap<>();
+        /** Bit del vector → juegos que lo tienen encendido */
+        final Map<Integer, Set<Long>> porBit = new HashMap<>();
+        Disposicion disposicion;
+
+        Estado(Map<Long, Caracteristicas> caracteristicas) {
+            this.caracteristicas = caracteristicas;
+            redistribuir();
+        }
+
+        void colocar(Long juegoId, Caracteristicas nuevas) {
+            caracteristicas.put(juegoId, nuevas);
+            if (!disposicion.cabe(nuevas)) {
+                redistribuir();
+                return;
+            }
+            desindexar(juegoId);
+            indexar(juegoId, disposicion.codificar(nuevas));
+        }
+
+        void quitar(Long juegoId) {
+            caracteristicas.remove(juegoId);
+            desindexar(juegoId);
+        }
+
+        /**
+         * Juegos que comparten algún bit con el vector (sin el propio juego)
+         */
+        Set<Long> candidatos(Long juegoId, long[] vector) {
+            Set<Long> candidatos = new HashSet<>();
+            forEachBit(vector, bit -> candidatos.addAll(porBit.getOrDefault(bit, Set.of())));
+            candidatos.remove(juegoId);
+            return candidatos;
+        }
+
+        /**
+         * Los N más parecidos entre los candidatos del índice invertido (montículo de tamaño N)
+         */
+        Vecino[] calcularVecinos(Long juegoId) {
+            long[] vector = vectores.get(juegoId);
+            PriorityQueue<Vecino> mejores = new PriorityQueue<>(maximoVecinos + 1, ORDEN.reversed());
+            for (Long otroId : candidatos(juegoId, vector)) {
+                double similitud = similitud(vector, vectores.get(otroId));
+                if (similitud > 0) {
+                    anadir(mejores, new Vecino(otroId, similitud));
+                }
+            }
+            return ordenar(mejores);
+        }
+
+        /**
+         * Vecinos de todo el catálogo en paralelo. Los juegos pasan a posiciones densas y cada juego
+         * recorre las listas del índice invertido de sus bits contando, por tramo, los bits que
+         * comparte con cada candidato: la unión sale de los cardinales, sin comparar bitsets
+         */
+        Map<Long, Vecino[]> calcularTodos() {
+            Long[] ids = vectores.keySet().toArray(Long[]::new);
+            int n = ids.length;
+            long[][] densos = new long[n][];
+            int[][] cardinales = new int[n][];
+            Map<Long, Integer> posiciones = new HashMap<>(n * 4 / 3 + 1);
+            for (int i = 0; i < n; i++) {
+                densos[i] = vectores.get(ids[i]);
+                cardinales[i] = disposicion.cardinales(densos[i]);
+                posiciones.put(ids[i], i);
+            }
+            int[][] juegosPorBit = new int[disposicion.palabras() * 64][];
+            porBit.forEach((bit, juegos) -> juegosPorBit[bit] = juegos.stream().mapToInt(posiciones::get).toArray());
+            int[] tramoPorPalabra = disposicion.tramoPorPalabra();
+
+            Map<Long, Vecino[]> calculados = new ConcurrentHashMap<>(n * 4 / 3 + 1);
+            IntStream.range(0, (n + JUEGOS_POR_TAREA - 1) / JUEGOS_POR_TAREA).parallel().forEach(tarea -> {
+                // Recuentos por tramo y candidatos tocados, reutilizados (y devueltos a 0) juego a juego
+                int[][] comunes = new int[3][n];
+                int[] tocados = new int[n];
+                boolean[] tocado = new boolean[n];
+                for (int i = tarea * JUEGOS_POR_TAREA; i < Math.min(n, (tarea + 1) * JUEGOS_POR_TAREA); i++) {
+                    int cuantos = 0;
+                    long[] vector = densos[i];
+                    for (int palabra = 0; palabra < vector.length; palabra++) {
+                        int[] comunesTramo = comunes[tramoPorPalabra[palabra]];
+                        for (long resto = vector[palabra]; resto != 0; resto &= resto - 1) {
+                            for (int otro : juegosPorBit[palabra * 64 + Long.numberOfTrailingZeros(resto)]) {
+                                if (!tocado[otro]) {
+                                    tocado[otro] = true;
+                                    tocados[cuantos++] = otro;
+                                }
+                                comunesTramo[otro]++;
+                            }
+                        }
+                    }
+
+                    PriorityQueue<Vecino> mejores = new PriorityQueue<>(maximoVecinos + 1, ORDEN.reversed());
+                    int[] propios = cardinales[i];
+                    for (int k = 0; k < cuantos; k++) {
+                        int otro = tocados[k];
+                        int g = comunes[0][otro];
+                        int p = comunes[1][otro];
+                        int d = comunes[2][otro];
+                        comunes[0][otro] = 0;
+                        comunes[1][otro] = 0;
+                        comunes[2][otro] = 0;
+                        tocado[otro] = false;
+                        if (otro == i) {
+                            continue;
+                        }
+                        int[] ajenos = cardinales[otro];
+                        double similitud = disposicion.jaccard(g, p, d, propios[0] + ajenos[0] - g,
+                                propios[1] + ajenos[1] - p, propios[2] + ajenos[2] - d);
+                        if (similitud > 0) {
+                            anadir(mejores, new Vecino(ids[otro], similitud));
+                        }
+                    }
+                    calculados.put(ids[i], ordenar(mejores));
+                }
+            });
+            return calculados;
+        }
+
+        double similitud(long[] a, long[] b) {
+            return disposicion.similitud(a, b);
+        }
+
+        /**
+         * Asigna un bit a cada valor conocido y vuelve a codificar e indexar todos los juegos
+         * (las similitudes no cambian: solo la posición de los bits)
+         */
+        private void redistribuir() {
+            Set<Long> generos = new HashSet<>();
+            Set<Long> plataformas = new HashSet<>();
+            Set<Long> desarrolladoras = new HashSet<>();
+            for (Caracteristicas c : caracteristicas.values()) {
+                generos.addAll(c.generos());
+                plataformas.addAll(c.plataformas());
+                desarrolladoras.addAll(c.desarrolladoras());
+            }
+            disposicion = new Disposicion(
+                    new Tramo(bits(generos), 0, palabras(generos.size())),
+                    new Tramo(bits(plataformas), palabras(generos.size()), palabras(plataformas.size())),
+                    new Tramo(bits(desarrolladoras), palabras(generos.size()) + palabras(plataformas.size()),
+                            palabras(desarrolladoras.size())),
+                    pesoGenero, pesoPlataforma, pesoDesarrolladora);
+            vectores.clear();
+            porBit.clear();
+            caracteristicas.forEach((id, c) -> indexar(id, disposicion.codificar(c)));
+        }
+
+        private void indexar(Long juegoId, long[] vector) {
+            vectores.put(juegoId, vector);
+            forEachBit(vector, bit -> porBit.computeIfAbsent(bit, b -> new HashSet<>()).add(juegoId));
+        }
+
+        private void desindexar(Long juegoId) {
+            long[] vector = vectores.remove(juegoId);
+            if (vector != null) {
+                forEachBit(vector, bit -> {
+                    Set<Long> juegos = porBit.get(bit);
+                    juegos.remove(juegoId);
+                    if (juegos.isEmpty()) {
+                        porBit.remove(bit);
+                    }
+                });
+            }
+        }
+    }
+
+    private static void forEachBit(long[] vector, IntConsumer accion) {
+        for (int palabra = 0; palabra < vector.length; palabra++) {
+            long resto = vector[palabra];
+            while (resto != 0) {
+                accion.accept(palabra * 64 + Long.numberOfTrailingZeros(resto));
+                resto &= resto - 1;
+            }
+        }
+    }
+
+    private record Caracteristicas(Set<Long> generos, Set<Long> plataformas, Set<Long> desarrolladoras) {}
+
+    /**
+     * Bits de un tipo de dato: valor → bit dentro del tramo, y palabras que ocupa el tramo
+     */
+    private record Tramo(Map<Long, Integer> bits, int inicio, int palabras) {
+
+        boolean cabe(Set<Long> valores) {
+            int libres = palabras * 64 - bits.size();
+            int nuevos = 0;
+            for (Long valor : valores) {
+                if (!bits.containsKey(valor)) {
+                    nuevos++;
+                }
+            }
+            return nuevos <= libres;
+        }
+
+        void marcar(long[] vector, Set<Long> valores) {
+            for (Long valor : valores) {
+                // Los valores nuevos toman el siguiente bit libre del tramo
+                int bit = bits.computeIfAbsent(valor, v -> bits.size());
+                vector[inicio + (bit >>> 6)] |= 1L << (bit & 63);
+            }
+        }
+    }
+
+    /**
+     * Reparto de los tres tramos en el bitset (géneros, plataformas, desarrolladoras) y peso de cada uno
+     */
+    private record Disposicion(Tramo[] tramos, double[] pesos, int palabras) {
+
+        Disposicion(Tramo generos, Tramo plataformas, Tramo desarrolladoras,
+                double pesoGenero, double pesoPlataforma, double pesoDesarrolladora) {
+            this(new Tramo[] {generos, plataformas, desarrolladoras},
+                    new double[] {pesoGenero, pesoPlataforma, pesoDesarrolladora},
+                    generos.palabras() + plataformas.palabras() + desarrolladoras.palabras());
+        }
+
+        boolean cabe(Caracteristicas c) {
+            return tramos[0].cabe(c.generos()) && tramos[1].cabe(c.plataformas())
+                    && tramos[2].cabe(c.desarrolladoras());
+        }
+
+        long[] codificar(Caracteristicas c) {
+            long[] vector = new long[palabras];
+            tramos[0].marcar(vector, c.generos());
+            tramos[1].marcar(vector, c.plataformas());
+            tramos[2].marcar(vector, c.desarrolladoras());
+            return vector;
+        }
+
+        /**
+         * Tramo al que pertenece cada palabra del vector
+         */
+        int[] tramoPorPalabra() {
+            int[] tramo = new int[palabras];
+            for (int t = 0; t < tramos.length; t++) {
+                Arrays.fill(tramo, tramos[t].inicio(), tramos[t].inicio() + tramos[t].palabras(), t);
+            }
+            return tramo;
+        }
+
+        /**
+         * Bits encendidos en cada tramo
+         */
+        int[] cardinales(long[] vector) {
+            int[] cardinales = new int[tramos.length];
+            for (int t = 0; t < tramos.length; t++) {
+                for (int i = tramos[t].inicio(); i < tramos[t].inicio() + tramos[t].palabras(); i++) {
+                    cardinales[t] += Long.bitCount(vector[i]);
+                }
+            }
+            return cardinales;
+        }
+
+        /**
+         * Jaccard ponderado entre dos bitsets con esta disposición, con AND/OR y bitCount por palabra
+         */
+        double similitud(long[] a, long[] b) {
+            int[] comunes = new int[tramos.length];
+            int[] union = new int[tramos.length];
+            for (int t = 0; t < tramos.length; t++) {
+                for (int i = tramos[t].inicio(); i < tramos[t].inicio() + tramos[t].palabras(); i++) {
+                    comunes[t] += Long.bitCount(a[i] & b[i]);
+                    union[t] += Long.bitCount(a[i] | b[i]);
+                }
+            }
+            return jaccard(comunes[0], comunes[1], comunes[2], union[0], union[1], union[2]);
+        }
+
+        /**
+         * Σ peso·|A∩B| / Σ peso·|A∪B| a partir de los recuentos por tramo: el cálculo incremental y
+         * la carga completa pasan por aquí y obtienen exactamente el mismo valor (y el mismo desempate)
+         */
+        double jaccard(int generos, int plataformas, int desarrolladoras,
+                int unionGeneros, int unionPlataformas, int unionDesarrolladoras) {
+            double comunes = pesos[0] * generos + pesos[1] * plataformas + pesos[2] * desarrolladoras;
+            double total = pesos[0] * unionGeneros + pesos[1] * unionPlataformas + pesos[2] * unionDesarrolladoras;
+            return total > 0 ? comunes / total : 0;
+        }
+    }
+}
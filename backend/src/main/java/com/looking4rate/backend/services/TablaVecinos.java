@@ -0,0 +1,438 @@
+package com.looking4rate.backend.services;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Tabla inmutable de vecinos item-item calculada con filtrado colaborativo.
+ *
+ * - La matriz usuario × juego se guarda en dos CSR (filas comprimidas) de arrays primitivos:
+ *   por usuario (todas sus interacciones) y por juego (solo las puntuadas)
+ * - Las puntuaciones se centran con la media de cada usuario (coseno ajustado): lo que cuenta
+ *   es si un juego le gustó más o menos que lo habitual para él
+ * - La similitud de cada juego con el resto se acumula recorriendo sus usuarios, en tareas
+ *   fork-join por rangos de juegos; de cada juego se guardan sus k vecinos más parecidos
+ * - Las consultas solo leen arrays: no hay bloqueos ni base de datos
+ */
+final class TablaVecinos {
+
+    /** Juegos por tarea hoja del fork-join */
+    private static final int JUEGOS_POR_TAREA = 32;
+
+    static final TablaVecinos VACIA = new TablaVecinos(new long[0], Map.of(), new int[0][], new float[0][],
+            Map.of(), new int[] {0}, new int[0], new float[0]);
+
+    private final long[] juegoIds;
+    private final Map<Long, Integer> indiceJuegos;
+    private final int[][] vecinos;
+    private final float[][] similitudes;
+
+    // Perfil de cada usuario: sus juegos y la puntuación centrada (NaN si no puntuó)
+    private final Map<Long, Integer> indiceUsuarios;
+    private final int[] inicioUsuario;
+    private final int[] juegosUsuario;
+    private final float[] valoresUsuario;
+
+    private TablaVecinos(long[] juegoIds, Map<Long, Integer> indiceJuegos, int[][] vecinos, float[][] similitudes,
+            Map<Long, Integer> indiceUsuarios, int[] inicioUsuario, int[] juegosUsuario, float[] valoresUsuario) {
+        this.juegoIds = juegoIds;
+        this.indiceJuegos = indiceJuegos;
+        this.vecinos = vecinos;
+        this.similitudes = similitudes;
+        this.indiceUsuarios = indiceUsuarios;
+        this.inicioUsuario = inicioUsuario;
+        this.juegosUsuario = juegosUsuario;
+        this.valoresUsuario = valoresUsuario;
+    }
+
+    // ==================== CONSULTA ====================
+
+    int juegos() {
+        return juegoIds.length;
+    }
+
+    int usuarios() {
+        return indiceUsuarios.size();
+    }
+
+    /**
+     * Los 'limite' juegos más parecidos a uno, de más a menos
+     */
+    List<Long> vecinosDe(Long juegoId, int limite) {
+        Integer juego = indiceJuegos.get(juegoId);
+        if (juego == null) {
+            return List.of();
+        }
+        int[] lista = vecinos[juego];
+        List<Long> ids = new ArrayList<>(Math.min(limite, lista.length));
+        for (int i = 0; i < lista.length && ids.size() < limite; i++) {
+            ids.add(juegoIds[lista[i]]);
+        }
+        return ids;
+    }
+
+    /**
+     * Juegos recomendados para un usuario: suma de las similitudes con sus juegos puntuados,
+     * ponderadas por cuánto le gustaron (los que puntuó por debajo de su media restan)
+     */
+    List<Long> recomendados(Long usuarioId, int limite) {
+        Integer usuario = indiceUsuarios.get(usuarioId);
+        if (usuario == null) {
+            return List.of();
+        }
+        Set<Integer> vistos = new HashSet<>();
+        for (int p = inicioUsuario[usuario]; p < inicioUsuario[usuario + 1]; p++) {
+            vistos.add(juegosUsuario[p]);
+        }
+        Map<Integer, Double> puntuaciones = new HashMap<>();
+        for (int p = inicioUsuario[usuario]; p < inicioUsuario[usuario + 1]; p++) {
+            float valor = valoresUsuario[p];
+            if (Float.isNaN(valor) || valor == 0) {
+                continue;
+            }
+            int juego = juegosUsuario[p];
+            for (int n = 0; n < vecinos[juego].length; n++) {
+                int candidato = vecinos[juego][n];
+                if (!vistos.contains(candidato)) {
+                    puntuaciones.merge(candidato, (double) similitudes[juego][n] * valor, Double::sum);
+                }
+            }
+        }
+        return puntuaciones.entrySet().stream()
+                .filter(e -> e.getValue() > 0)
+                .sorted(Map.Entry.<Integer, Double>comparingByValue().reversed()
+                        .thenComparing(e -> juegoIds[e.getKey()]))
+                .limit(limite)
+                .map(e -> juegoIds[e.getKey()])
+                .toList();
+    }
+
+    /**
+     * IDs de los juegos con los que ha interactuado un usuario (según la última tabla)
+     */
+    Set<Long> juegosDe(Long usuarioId) {
+        Integer usuario = indiceUsuarios.get(usuarioId);
+        if (usuario == null) {
+            return Set.of();
+        }
+        Set<Long> ids = new HashSet<>();
+        for (int p = inicioUsuario[usuario]; p < inicioUsuario[usuario + 1]; p++) {
+            ids.add(juegoIds[juegosUsuario[p]]);
+        }
+        return Collections.unmodifiableSet(ids);
+    }
+
+    // ==================== CÁLCULO ====================
+
+    /**
+     * Calcula la tabla con los 'k' vecinos de cada juego. Dos juegos solo son vecinos si tienen
+     * al menos 'minimoComunes' usuarios que puntuaron ambos y su similitud es positiva
+     */
+    static TablaVecinos calcular(Interacciones datos, int k, int minimoComunes, ForkJoinPool pool) {
+        int numUsuarios = datos.usuarioIds.size();
+        int numJuegos = datos.juegoIds.size();
+        int filas = datos.filas;
+
+        // CSR por usuario (ordenación por recuento: dos pasadas)
+        int[] inicioUsuario = new int[numUsuarios + 1];
+        for (int f = 0; f < filas; f++) {
+            inicioUsuario[datos.usuarios[f] + 1]++;
+        }
+        for (int u = 0; u < numUsuarios; u++) {
+            inicioUsuario[u + 1] += inicioUsuario[u];
+        }
+        int[] posicion = Arrays.copyOf(inicioUsuario, numUsuarios);
+        int[] juegosUsuario = new int[filas];
+        byte[] puntosUsuario = new byte[filas];
+        for (int f = 0; f < filas; f++) {
+            int p = posicion[datos.usuarios[f]]++;
+            juegosUsuario[p] = datos.juegos[f];
+            puntosUsuario[p] = datos.puntuaciones[f];
+        }
+
+        // Puntuaciones centradas con la media de cada usuario
+        float[] valoresUsuario = new float[filas];
+        int[] inicioJuego = new int[numJuegos + 1];
+        for (int u = 0; u < numUsuarios; u++) {
+            long suma = 0;
+            int puntuadas = 0;
+            for (int p = inicioUsuario[u]; p < inicioUsuario[u + 1]; p++) {
+                if (puntosUsuario[p] > 0) {
+                    suma += puntosUsuario[p];
+                    puntuadas++;
+                }
+            }
+            float media = puntuadas > 0 ? (float) suma / puntuadas : 0;
+            for (int p = inicioUsuario[u]; p < inicioUsuario[u + 1]; p++) {
+                if (puntosUsuario[p] > 0) {
+                    valoresUsuario[p] = puntosUsuario[p] - media;
+                    inicioJuego[juegosUsuario[p] + 1]++;
+                } else {
+                    valoresUsuario[p] = Float.NaN;
+                }
+            }
+        }
+
+        // CSR por juego con las puntuaciones centradas y la norma de cada columna
+        for (int j = 0; j < numJuegos; j++) {
+            inicioJuego[j + 1] += inicioJuego[j];
+        }
+        int[] usuariosJuego = new int[inicioJuego[numJuegos]];
+        float[] valoresJuego = new float[inicioJuego[numJuegos]];
+        posicion = Arrays.copyOf(inicioJuego, numJuegos);
+        double[] normas = new double[numJuegos];
+        for (int u = 0; u < numUsuarios; u++) {
+            for (int p = inicioUsuario[u]; p < inicioUsuario[u + 1]; p++) {
+                float valor = valoresUsuario[p];
+                if (!Float.isNaN(valor)) {
+                    int j = juegosUsuario[p];
+                    int q = posicion[j]++;
+                    usuariosJuego[q] = u;
+                    valoresJuego[q] = valor;
+                    normas[j] += (double) valor * valor;
+                }
+            }
+        }
+        for (int j = 0; j < numJuegos; j++) {
+            normas[j] = Math.sqrt(normas[j]);
+        }
+
+        int[][] vecinos = new int[numJuegos][];
+        float[][] similitudes = new float[numJuegos][];
+        Matriz matriz = new Matriz(numJuegos, inicioUsuario, juegosUsuario, valoresUsuario,
+                inicioJuego, usuariosJuego, valoresJuego, normas, k, minimoComunes, vecinos, similitudes);
+        pool.invoke(new CalculoVecinos(matriz, 0, numJuegos));
+
+        long[] juegoIds = datos.juegoIds.stream().mapToLong(Long::longValue).toArray();
+        Map<Long, Integer> indiceJuegos = new HashMap<>(datos.indiceJuegos);
+        Map<Long, Integer> indiceUsuarios = new HashMap<>(datos.indiceUsuarios);
+        return new TablaVecinos(juegoIds, indiceJuegos, vecinos, similitudes,
+                indiceUsuarios, inicioUsuario, juegosUsuario, valoresUsuario);
+    }
+
+    /**
+     * Arrays compartidos (de solo lectura) por todas las tareas; cada una escribe sus propias filas del resultado
+     */
+    private record Matriz(int numJuegos, int[] inicioUsuario, int[] juegosUsuario, float[] valoresUsuario,
+            int[] inicioJuego, int[] usuariosJuego, float[] valoresJuego, double[] normas,
+            int k, int minimoComunes, int[][] vecinos, float[][] similitudes) {}
+
+    /**
+     * Calcula los vecinos de un rango de juegos, dividiéndolo mientras sea grande
+     */
+    private static final class CalculoVecinos extends RecursiveAction {
+
+        private final Matriz m;
+        private final int desde;
+        private final int hasta;
+
+        CalculoVecinos(Matriz m, int desde, int hasta) {
+            this.m = m;
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected void compute() {
+            if (hasta - desde > JUEGOS_POR_TAREA) {
+                int mitad = (desde + hasta) >>> 1;
+                invokeAll(new CalculoVecinos(m, desde, mitad), new CalculoVecinos(m, mitad, hasta));
+                return;
+            }
+            // Acumuladores densos por tarea: se limpian solo las posiciones tocadas
+            double[] productos = new double[m.numJuegos];
+            int[] comunes = new int[m.numJuegos];
+            int[] tocados = new int[m.numJuegos];
+            Seleccion seleccion = new Seleccion(m.k);
+
+            for (int i = desde; i < hasta; i++) {
+                int numTocados = 0;
+                for (int q = m.inicioJuego[i]; q < m.inicioJuego[i + 1]; q++) {
+                    int u = m.usuariosJuego[q];
+                    float valor = m.valoresJuego[q];
+                    for (int p = m.inicioUsuario[u]; p < m.inicioUsuario[u + 1]; p++) {
+                        int j = m.juegosUsuario[p];
+                        float otro = m.valoresUsuario[p];
+                        if (j == i || Float.isNaN(otro)) {
+                            continue;
+                        }
+                        if (comunes[j]++ == 0) {
+                            tocados[numTocados++] = j;
+                        }
+                        productos[j] += (double) valor * otro;
+                    }
+                }
+
+                seleccion.vaciar();
+                for (int t = 0; t < numTocados; t++) {
+                    int j = tocados[t];
+                    if (comunes[j] >= m.minimoComunes && m.normas[i] > 0 && m.normas[j] > 0) {
+                        double similitud = productos[j] / (m.normas[i] * m.normas[j]);
+                        if (similitud > 0) {
+                            seleccion.ofrecer(j, (float) similitud);
+                        }
+                    }
+                    productos[j] = 0;
+                    comunes[j] = 0;
+                }
+                seleccion.volcar(i, m.vecinos, m.similitudes);
+            }
+        }
+    }
+
+    /**
+     * Montículo de mínimos de tamaño k sobre arrays primitivos: conserva los k mayores
+     */
+    private static final class Seleccion {
+
+        private final int[] indices;
+        private final float[] valores;
+        private int tamanio;
+
+        Seleccion(int k) {
+            indices = new int[k];
+            valores = new float[k];
+        }
+
+        void vaciar() {
+            tamanio = 0;
+        }
+
+        void ofrecer(int indice, float valor) {
+            if (tamanio < indices.length) {
+                int i = tamanio++;
+                while (i > 0) {
+                    int padre = (i - 1) >>> 1;
+                    if (!menor(valor, indice, valores[padre], indices[padre])) {
+                        break;
+                    }
+                    indices[i] = indices[padre];
+                    valores[i] = valores[padre];
+                    i = padre;
+                }
+                indices[i] = indice;
+                valores[i] = valor;
+            } else if (tamanio > 0 && menor(valores[0], indices[0], valor, indice)) {
+                int i = 0;
+                while (true) {
+                    int hijo = 2 * i + 1;
+                    if (hijo >= tamanio) {
+                        break;
+                    }
+                    if (hijo + 1 < tamanio && menor(valores[hijo + 1], indices[hijo + 1], valores[hijo], indices[hijo])) {
+                        hijo++;
+                    }
+                    if (!menor(valores[hijo], indices[hijo], valor, indice)) {
+                        break;
+                    }
+                    indices[i] = indices[hijo];
+                    valores[i] = valores[hijo];
+                    i = hijo;
+                }
+                indices[i] = indice;
+                valores[i] = valor;
+            }
+        }
+
+        /**
+         * Escribe la fila del juego ordenada de mayor a menor similitud
+         */
+        void volcar(int juego, int[][] vecinos, float[][] similitudes) {
+            int[] filaIndices = new int[tamanio];
+            float[] filaValores = new float[tamanio];
+            for (int n = tamanio - 1; n >= 0; n--) {
+                filaIndices[n] = indices[0];
+                filaValores[n] = valores[0];
+                tamanio--;
+                indices[0] = indices[tamanio];
+                valores[0] = valores[tamanio];
+                hundir();
+            }
+            vecinos[juego] = filaIndices;
+            similitudes[juego] = filaValores;
+        }
+
+        private void hundir() {
+            int i = 0;
+            while (true) {
+                int hijo = 2 * i + 1;
+                if (hijo >= tamanio) {
+                    return;
+                }
+                if (hijo + 1 < tamanio && menor(valores[hijo + 1], indices[hijo + 1], valores[hijo], indices[hijo])) {
+                    hijo++;
+                }
+                if (!menor(valores[hijo], indices[hijo], valores[i], indices[i])) {
+                    return;
+                }
+                int indice = indices[i];
+                float valor = valores[i];
+                indices[i] = indices[hijo];
+                valores[i] = valores[hijo];
+                indices[hijo] = indice;
+                valores[hijo] = valor;
+                i = hijo;
+            }
+        }
+
+        /** Orden del montículo: menor similitud y, a igualdad, mayor índice */
+        private static boolean menor(float valor, int indice, float otroValor, int otroIndice) {
+            return valor < otroValor || (valor == otroValor && indice > otroIndice);
+        }
+    }
+
+    // ==================== DATOS DE ENTRADA ====================
+
+    /**
+     * Interacciones leídas de la tabla, con los IDs traducidos a índices densos
+     */
+    static final class Interacciones {
+
+        private final Map<Long, Integer> indiceUsuarios = new HashMap<>();
+        private final Map<Long, Integer> indiceJuegos = new HashMap<>();
+        private final List<Long> usuarioIds = new ArrayList<>();
+        private final List<Long> juegoIds = new ArrayList<>();
+        private int[] usuarios = new int[1024];
+        private int[] juegos = new int[1024];
+        private byte[] puntuaciones = new byte[1024];
+        private int filas;
+
+        /**
+         * Añade una interacción; puntuación 0 si no está puntuada
+         */
+        void anadir(long usuarioId, long juegoId, int puntuacion) {
+            if (filas == usuarios.length) {
+                int capacidad = filas * 2;
+                usuarios = Arrays.copyOf(usuarios, capacidad);
+                juegos = Arrays.copyOf(juegos, capacidad);
+                puntuaciones = Arrays.copyOf(puntuaciones, capacidad);
+            }
+            usuarios[filas] = indice(indiceUsuarios, usuarioIds, usuarioId);
+            juegos[filas] = indice(indiceJuegos, juegoIds, juegoId);
+            puntuaciones[filas] = (byte) puntuacion;
+            filas++;
+        }
+
+        int filas() {
+            return filas;
+        }
+
+        private static int indice(Map<Long, Integer> indices, List<Long> ids, long id) {
+            Integer indice = indices.get(id);
+            if (indice == null) {
+                indice = ids.size();
+                indices.put(id, indice);
+                ids.add(id);
+            }
+            return indice;
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.looking4rate.backend.services;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.looking4rate.backend.dtos.JuegoResumenDTO;
+import com.looking4rate.backend.events.InteraccionCambiadaEvent;
+import com.looking4rate.backend.events.JuegoCambiadoEvent;
+import com.looking4rate.backend.events.JuegosImportadosEvent;
+import com.looking4rate.backend.events.RecargaCompletaEvent;
+import com.looking4rate.backend.events.TipoCambio;
+import com.looking4rate.backend.exceptions.BusinessLogicException;
+import com.looking4rate.backend.repositories.InteraccionRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Juegos en tendencia: actividad reciente con decaimiento exponencial.
+ *
+ * - Por juego, un anillo de cubetas de tiempo (por defecto 24 de una hora) con el número
+ *   de interacciones creadas o modificadas en cada una; al reutilizar una cubeta se pone a 0
+ * - La puntuación suma cada cubeta con peso 2^(-edad / vida media), así una review de
+ *   hace una vida media cuenta la mitad que una de ahora; lo que sale de la ventana no cuenta
+ * - Se alimenta de los cambios de interacciones confirmados y se reconstruye desde la tabla
+ *   al arrancar (solo las filas dentro de la ventana)
+ * - La clasificación se calcula una vez por cambio o por cubeta nueva y las listas se
+ *   memorizan por límite: una lectura normal no recorre los contadores
+ *
+ * Las escrituras y los recálculos se serializan; las lecturas solo toman la instantánea actual.
+ */
+@Component
+@RequiredArgsConstructor
+public class TendenciasJuegos {
+
+    /** Límites distintos que se memorizan como mucho por instantánea */
+    private static final int MAXIMO_LISTAS_MEMORIZADAS = 32;
+
+    private static final Comparator<Map.Entry<Long, Double>> ORDEN =
+            Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey());
+
+    private final InteraccionRepository interaccionRepository;
+    private final ClasificacionJuegos clasificacionJuegos;
+
+    /** Anchura de cada cubeta */
+    @Value("${looking4rate.tendencias.cubeta:1h}")
+    private Duration cubeta;
+
+    /** Número de cubetas del anillo (ventana = cubetas × cubeta) */
+    @Value("${looking4rate.tendencias.cubetas:24}")
+    private int cubetas;
+
+    /** Tiempo en el que el peso de una interacción se reduce a la mitad */
+    @Value("${looking4rate.tendencias.vida-media:6h}")
+    private Duration vidaMedia;
+
+    private final Map<Long, Contador> contadores = new ConcurrentHashMap<>();
+    /** Peso de una cubeta según su edad (en cubetas); null hasta la primera carga */
+    private volatile double[] pesos;
+    private long anchoCubeta;
+
+    /** Se incrementa con cada cambio: la instantánea de otra versión está caducada */
+    private volatile long version;
+    private volatile Instantanea instantanea;
+
+    // ==================== MANTENIMIENTO ====================
+
+    /**
+     * Reconstruye los contadores con las interacciones de la ventana al arrancar
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void inicializar() {
+        recargar(System.currentTimeMillis());
+    }
+
+    synchronized void recargar(long ahora) {
+        anchoCubeta = cubeta.toMillis();
+        double[] nuevos = new double[cubetas];
+        for (int edad = 0; edad < cubetas; edad++) {
+            nuevos[edad] = Math.pow(0.5, (double) edad * anchoCubeta / vidaMedia.toMillis());
+        }
+        pesos = nuevos;
+
+        contadores.clear();
+        long actual = ahora / anchoCubeta;
+        LocalDateTime desde = LocalDateTime.ofInstant(
+                Instant.ofEpochMilli((actual - cubetas + 1) * anchoCubeta), ZoneId.systemDefault());
+        for (Object[] fila : interaccionRepository.findActividadDesde(desde)) {
+            long instante = ((LocalDateTime) fila[1]).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            contador((Long) fila[0]).sumar(Math.min(instante / anchoCubeta, actual));
+        }
+        version++;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void alCambiarInteraccion(InteraccionCambiadaEvent evento) {
+        // Quitar una review no resta actividad pasada
+        if (evento.tipo() != TipoCambio.ELIMINADO) {
+            registrar(evento.juegoId(), System.currentTimeMillis());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void alCambiarJuego(JuegoCambiadoEvent evento) {
+        if (evento.tipo() == TipoCambio.ELIMINADO) {
+            contadores.remove(evento.juegoId());
+        }
+        // El nombre o la portada del resumen pueden haber cambiado
+        version++;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void alImportarJuegos(JuegosImportadosEvent evento) {
+        // Sin interacciones no entran en la lista, pero la instantánea se renueva igual que con un alta
+        version++;
+    }
+
+    /**
+     * Pudieron perderse interacciones de otras réplicas: se vuelve a leer la ventana
+     */
+    @EventListener
+    public void alRecargarTodo(RecargaCompletaEvent evento) {
+        recargar(System.currentTimeMillis());
+    }
+
+    synchronized void registrar(Long juegoId, long ahora) {
+        if (pesos == null) {
+            // Aún no se ha cargado: la reconstrucción leerá esta interacción de la tabla
+            return;
+        }
+        contador(juegoId).sumar(ahora / anchoCubeta);
+        version++;
+    }
+
+    private Contador contador(Long juegoId) {
+        return contadores.computeIfAbsent(juegoId, id -> new Contador(cubetas));
+    }
+
+    // ==================== CONSULTA ====================
+
+    /**
+     * Versión de las listas de tendencias: cambios, cubeta actual y generación de la clasificación
+     * (de la que salen los resúmenes). Se lee antes que la lista
+     */
+    public String version() {
+        if (pesos == null) {
+            return "0";
+        }
+        return version + "." + System.currentTimeMillis() / anchoCubeta + "." + clasificacionJuegos.generacion();
+    }
+
+    /**
+     * Los 'limite' juegos con más actividad reciente
+     */
+    public List<JuegoResumenDTO> tendencias(int limite) {
+        return tendencias(limite, System.currentTimeMillis());
+    }
+
+    List<JuegoResumenDTO> tendencias(int limite, long ahora) {
+        if (limite < 1) {
+            throw new BusinessLogicException("El límite debe ser mayor que cero");
+        }
+        if (pesos == null) {
+            return List.of();
+        }
+        Instantanea actual = instantanea(ahora);
+        List<JuegoResumenDTO> memorizada = actual.memoria.get(limite);
+        if (memorizada != null) {
+            return memorizada;
+        }
+
+        List<JuegoResumenDTO> lista = new ArrayList<>(Math.min(limite, actual.ids.size()));
+        for (Long id : actual.ids) {
+            if (lista.size() >= limite) {
+                break;
+            }
+            JuegoResumenDTO resumen = clasificacionJuegos.resumen(id);
+            if (resumen != null) {
+                lista.add(resumen);
+            }
+        }
+        List<JuegoResumenDTO> resultado = Collections.unmodifiableList(lista);
+        if (actual.memoria.size() < MAXIMO_LISTAS_MEMORIZADAS) {
+            List<JuegoResumenDTO> previa = actual.memoria.putIfAbsent(limite, resultado);
+            return previa != null ? previa : resultado;
+        }
+        return resultado;
+    }
+
+    /**
+     * La instantánea vigente, recalculada si ha habido cambios o ha empezado otra cubeta
+     */
+    private Instantanea instantanea(long ahora) {
+        Instantanea actual = instantanea;
+        if (actual != null && actual.version == version && actual.cubeta == ahora / anchoCubeta) {
+            return actual;
+        }
+        synchronized (this) {
+            long cubetaActual = ahora / anchoCubeta;
+            if (instantanea == null || instantanea.version != version || instantanea.cubeta != cubetaActual) {
+                instantanea = calcular(cubetaActual);
+            }
+            return instantanea;
+        }
+    }
+
+    private Instantanea calcular(long cubetaActual) {
+        Map<Long, Double> puntuaciones = new HashMap<>();
+        Iterator<Map.Entry<Long, Contador>> it = contadores.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Long, Contador> entrada = it.next();
+            double puntuacion = entrada.getValue().puntuacion(cubetaActual, pesos);
+            if (puntuacion > 0) {
+                puntuaciones.put(entrada.getKey(), puntuacion);
+            } else {
+                // Sin actividad en la ventana: el contador ya no hace falta
+                it.remove();
+            }
+        }
+        List<Long> ids = puntuaciones.entrySet().stream()
+                .sorted(ORDEN)
+                .map(Map.Entry::getKey)
+                .toList();
+        return new Instantanea(version, cubetaActual, ids, new ConcurrentHashMap<>());
+    }
+
+    // ==================== ESTRUCTURAS ====================
+
+    /**
+     * Juegos ordenados por tendencia en una versión y cubeta, con sus listas ya servidas
+     */
+    private record Instantanea(long version, long cubeta, List<Long> ids, Map<Integer, List<JuegoResumenDTO>> memoria) {}
+
+    /**
+     * Anillo de cubetas de un juego: cada posición recuerda a qué cubeta pertenece su cuenta
+     */
+    private static final class Contador {
+
+        private final long[] cubetas;
+        private final int[] cuentas;
+
+        Contador(int tamanio) {
+            cubetas = new long[tamanio];
+            cuentas = new int[tamanio];
+        }
+
+        void sumar(long cubeta) {
+            int posicion = (int) Math.floorMod(cubeta, (long) cubetas.length);
+            if (cubetas[posicion] != cubeta) {
+                cubetas[posicion] = cubeta;
+                cuentas[posicion] = 0;
+            }
+            cuentas[posicion]++;
+        }
+
+        double puntuacion(long cubetaActual, double[] pesos) {
+            double total = 0;
+            for (int i = 0; i < cubetas.length; i++) {
+                long edad = cubetaActual - cubetas[i];
+                if (edad >= 0 && edad < pesos.length) {
+                    total += cuentas[i] * pesos[(int) edad];
+                }
+            }
+            return total;
+        }
+    }
+}
@@ -1,20 +1,31 @@
 package com.looking4rate.backend.services;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.looking4rate.backend.dtos.CambioContraseniaDTO;
+import com.looking4rate.backend.dtos.EstadisticasUsuarioDTO;
+import com.looking4rate.backend.dtos.JuegoResumenDTO;
 import com.looking4rate.backend.dtos.UsuarioActualizacionDTO;
 import com.looking4rate.backend.dtos.UsuarioDTO;
 import com.looking4rate.backend.dtos.UsuarioLoginDTO;
 import com.looking4rate.backend.dtos.UsuarioRegistroDTO;
 import com.looking4rate.backend.entities.Usuario;
+import com.looking4rate.backend.events.InteraccionCambiadaEvent;
+import com.looking4rate.backend.events.TipoCambio;
 import com.looking4rate.backend.exceptions.DuplicateResourceException;
 import com.looking4rate.backend.exceptions.ResourceNotFoundException;
 import com.looking4rate.backend.exceptions.UnauthorizedException;
+import com.looking4rate.backend.repositories.InteraccionRepository;
 import com.looking4rate.backend.repositories.UsuarioRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -26,6 +37,10 @@ public class UsuarioService {
     
     private final UsuarioRepository usuarioRepository;
     private final PasswordEncoder passwordEncoder;
+    private final JuegoStatsService juegoStatsService;
+    private final InteraccionRepository interaccionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RecomendacionesJuegos recomendacionesJuegos;
     
     // ==================== CRUD ====================
     
@@ -137,7 +152,11 @@ public class UsuarioService {
         if (!usuarioRepository.existsById(id)) {
             throw new ResourceNotFoundException("Usuario", id);
         }
+        // Sus interacciones se eliminan en cascada: descontarlas antes de los agregados por juego
+        List<Long> juegoIds = interaccionRepository.findJuegoIdsByUsuarioId(id);
+        juegoStatsService.descontarUsuario(id);
         usuarioRepository.deleteById(id);
+        juegoIds.forEach(juegoId -> eventPublisher.publishEvent(new InteraccionCambiadaEvent(juegoId, id, TipoCambio.ELIMINADO)));
     }
     
     /**
@@ -163,6 +182,31 @@ public class UsuarioService {
         return convertirADTO(guardado);
     }
     
+    // ==================== ESTADÍSTICAS ====================
+
+    /**
+     * Estadísticas del perfil de un usuario con una sola consulta agregada
+     * (InvalidadorCacheJuegos expulsa la entrada tras cada cambio en sus interacciones)
+     */
+    @Cacheable(value = "usuario-estadisticas", key = "#id")
+    @Transactional(readOnly = true)
+    public EstadisticasUsuarioDTO obtenerEstadisticas(Long id) {
+        return usuarioRepository.findEstadisticasById(id).stream()
+                .findFirst()
+                .map(this::convertirEstadisticasADTO)
+                .orElseThrow(() -> new ResourceNotFoundException("Usuario", id));
+    }
+
+    // ==================== RECOMENDACIONES ====================
+
+    /**
+     * Obtiene los juegos recomendados para un usuario (tabla de vecinos en memoria)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<JuegoResumenDTO> obtenerRecomendaciones(Long id, int limite) {
+        return recomendacionesJuegos.recomendados(id, limite);
+    }
+
     // ==================== LÓGICA DE NEGOCIO ====================
     
     /**
@@ -234,6 +278,44 @@ public class UsuarioService {
                 .interacciones(original.getInteracciones());
     }
     
+    /**
+     * Convierte la fila de findEstadisticasById (histograma y géneros ya agregados en arrays)
+     */
+    private EstadisticasUsuarioDTO convertirEstadisticasADTO(Object[] fila) {
+        Object[] conteos = (Object[]) fila[4];
+        Map<Integer, Long> histograma = new LinkedHashMap<>();
+        for (int i = 0; i < conteos.length; i++) {
+            histograma.put(i + 1, ((Number) conteos[i]).longValue());
+        }
+
+        Object[] nombres = (Object[]) fila[5];
+        Object[] juegos = (Object[]) fila[6];
+        Object[] medias = (Object[]) fila[7];
+        List<EstadisticasUsuarioDTO.Genero> generos = new ArrayList<>(nombres.length);
+        for (int i = 0; i < nombres.length; i++) {
+            generos.add(new EstadisticasUsuarioDTO.Genero(
+                    (String) nombres[i],
+                    ((Number) juegos[i]).longValue(),
+                    media(medias[i])));
+        }
+
+        return new EstadisticasUsuarioDTO(
+                ((Number) fila[0]).longValue(),
+                ((Number) fila[1]).longValue(),
+                ((Number) fila[2]).longValue(),
+                media(fila[3]),
+                histograma,
+                generos
+        );
+    }
+
+    /**
+     * AVG de una columna entera llega como numeric (null si no hay puntuaciones)
+     */
+    private static Double media(Object valor) {
+        return valor != null ? ((Number) valor).doubleValue() : null;
+    }
+
     private UsuarioDTO convertirADTO(Usuario usuario) {
         return new UsuarioDTO(
                 usuario.getId(),
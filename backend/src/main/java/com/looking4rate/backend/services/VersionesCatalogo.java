@@ -0,0 +1,148 @@
+package com.looking4rate.backend.services;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.looking4rate.backend.events.CatalogoCambiadoEvent;
+import com.looking4rate.backend.events.InteraccionCambiadaEvent;
+import com.looking4rate.backend.events.JuegoCambiadoEvent;
+import com.looking4rate.backend.events.JuegosImportadosEvent;
+import com.looking4rate.backend.events.RecargaCompletaEvent;
+
+/**
+ * Versiones del catálogo para las ETag de las respuestas GET (sin calcular hashes del cuerpo).
+ *
+ * - Un contador global y creciente numera cada cambio confirmado (local o recibido por el bus)
+ * - Versión por recurso: géneros, plataformas, desarrolladoras y juegos (cualquier cambio
+ *   en juegos, catálogos o interacciones, que alteran medias y recuentos)
+ * - Versión por juego: sus propios cambios y sus interacciones, más cualquier cambio de los
+ *   catálogos, cuyos nombres aparecen en el detalle
+ * - Las listas cacheadas se versionan por valor: cada lista que entra en caché recibe una
+ *   versión nueva, así una recarga por expiración o refresco también cambia la ETag
+ *
+ * Las versiones viven en memoria: la ETag lleva la época del nodo para que nunca se repita
+ * tras un reinicio ni coincida entre réplicas con contenidos distintos. Una recarga completa
+ * cambia la época: no se sabe qué juegos cambiaron y así caducan todas las ETag de una vez.
+ * Las versiones se leen antes de generar la respuesta y se incrementan después de invalidar
+ * las cachés, de modo que una ETag nunca promete un contenido más nuevo que el servido.
+ */
+@Component
+public class VersionesCatalogo {
+
+    public static final String GENEROS = "generos";
+    public static final String PLATAFORMAS = "plataformas";
+    public static final String DESARROLLADORAS = "desarrolladoras";
+    public static final String JUEGOS = "juegos";
+
+    private volatile String epoca = nuevaEpoca();
+    private final AtomicLong contador = new AtomicLong();
+    private final Map<String, Long> recursos = new ConcurrentHashMap<>();
+    private final Map<Long, Long> juegos = new ConcurrentHashMap<>();
+    /** Claves débiles por identidad: la versión desaparece con la lista cacheada */
+    private final Cache<Object, Long> valores = Caffeine.newBuilder().weakKeys().build();
+
+    // ==================== CONSULTA ====================
+
+    public String etagRecurso(String recurso) {
+        return etag(recursos.getOrDefault(recurso, 0L));
+    }
+
+    public String etagJuego(Long juegoId) {
+        long version = juegos.getOrDefault(juegoId, 0L);
+        for (String catalogo : new String[] { GENEROS, PLATAFORMAS, DESARROLLADORAS }) {
+            version = Math.max(version, recursos.getOrDefault(catalogo, 0L));
+        }
+        return etag(version);
+    }
+
+    /**
+     * Versión actual de un recurso, para componer la de una consulta que depende de él
+     */
+    public long version(String recurso) {
+        return recursos.getOrDefault(recurso, 0L);
+    }
+
+    /**
+     * ETag de un valor servido desde caché: se mantiene mientras la caché devuelva la misma instancia
+     */
+    public String etagValor(Object valor) {
+        return etag(valores.get(valor, v -> contador.incrementAndGet()));
+    }
+
+    /**
+     * ETag de una consulta con versión propia (clasificaciones en memoria): depende de la ruta,
+     * el límite y la versión, no de la instancia devuelta
+     */
+    public String etagConsulta(String ruta, int limite, String version) {
+        return "\"" + epoca + "-" + ruta + "-" + limite + "-" + version + "\"";
+    }
+
+    private String etag(long version) {
+        return "\"" + epoca + "-" + version + "\"";
+    }
+
+    // ==================== EVENTOS ====================
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void alCambiarJuego(JuegoCambiadoEvent evento) {
+        incrementarJuego(evento.juegoId());
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void alCambiarInteraccion(InteraccionCambiadaEvent evento) {
+        incrementarJuego(evento.juegoId());
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void alCambiarCatalogo(CatalogoCambiadoEvent evento) {
+        String recurso = switch (evento.catalogo()) {
+            case GENERO -> GENEROS;
+            case PLATAFORMA -> PLATAFORMAS;
+            case DESARROLLADORA -> DESARROLLADORAS;
+        };
+        long version = contador.incrementAndGet();
+        recursos.merge(recurso, version, Math::max);
+        // Las facetas de exploración cuentan juegos por género, plataforma y desarrolladora
+        recursos.merge(JUEGOS, version, Math::max);
+    }
+
+    /**
+     * Los juegos nuevos no tenían versión propia: basta con la del recurso
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void alImportarJuegos(JuegosImportadosEvent evento) {
+        long version = contador.incrementAndGet();
+        recursos.merge(JUEGOS, version, Math::max);
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener
+    public void alRecargarTodo(RecargaCompletaEvent evento) {
+        epoca = nuevaEpoca();
+    }
+
+    private static String nuevaEpoca() {
+        return UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private void incrementarJuego(Long juegoId) {
+        long version = contador.incrementAndGet();
+        juegos.merge(juegoId, version, Math::max);
+        recursos.merge(JUEGOS, version, Math::max);
+    }
+}
@@ -0,0 +1,121 @@
+package com.looking4rate.backend.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.interceptor.SimpleKey;
+
+import com.looking4rate.backend.dtos.JuegoResumenDTO;
+import com.looking4rate.backend.services.JuegoService;
+
+/**
+ * Comportamiento de las cachés de rankings: fallos concurrentes agrupados y refresco anticipado
+ */
+@ExtendWith(MockitoExtension.class)
+class CacheConfigTest {
+
+    private static final Duration REFRESCO = Duration.ofMillis(100);
+
+    @Mock
+    private JuegoService juegoService;
+
+    @Mock
+    private ObjectProvider<JuegoService> proveedor;
+
+    private Cache novedades;
+    private ExecutorService lectores;
+
+    private final List<JuegoResumenDTO> anteriores = List.of(
+            new JuegoResumenDTO(1L, "Zelda", "zelda.jpg", LocalDate.of(2017, 3, 3), 9.0));
+    private final List<JuegoResumenDTO> recalculadas = List.of(
+            new JuegoResumenDTO(2L, "Tetris", "tetris.jpg", LocalDate.of(1984, 6, 6), 8.0));
+
+    @BeforeEach
+    void setUp() {
+        CachePropiedades propiedades = new CachePropiedades();
+        CachePropiedades.Especificacion especificacion = new CachePropiedades.Especificacion();
+        especificacion.setExpiracion(Duration.ofMinutes(5));
+        especificacion.setRefresco(REFRESCO);
+        propiedades.getEspecificaciones().put("juegos-novedades", especificacion);
+        lenient().when(proveedor.getObject()).thenReturn(juegoService);
+
+        novedades = new CacheConfig().cacheManager(propiedades, proveedor).getCache("juegos-novedades");
+        lectores = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        lectores.shutdownNow();
+    }
+
+    @Test
+    void testFallosConcurrentes_UnSoloCalculo() throws Exception {
+        CountDownLatch calculando = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        when(juegoService.calcularNovedades()).thenAnswer(invocacion -> {
+            calculando.countDown();
+            liberar.await(5, TimeUnit.SECONDS);
+            return anteriores;
+        });
+
+        // Como @Cacheable(sync = true) de obtenerNovedades
+        List<Future<Object>> lecturas = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            lecturas.add(lectores.submit(() -> novedades.get(SimpleKey.EMPTY, juegoService::calcularNovedades)));
+        }
+        assertTrue(calculando.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        liberar.countDown();
+
+        for (Future<Object> lectura : lecturas) {
+            assertEquals(anteriores, lectura.get(5, TimeUnit.SECONDS));
+        }
+        verify(juegoService, times(1)).calcularNovedades();
+    }
+
+    @Test
+    void testLecturaTrasElRefresco_DevuelveElValorAnteriorMientrasRecarga() throws Exception {
+        CountDownLatch recargando = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        when(juegoService.calcularNovedades())
+                .thenReturn(anteriores)
+                .thenAnswer(invocacion -> {
+                    recargando.countDown();
+                    liberar.await(5, TimeUnit.SECONDS);
+                    return recalculadas;
+                });
+        assertEquals(anteriores, novedades.get(SimpleKey.EMPTY, juegoService::calcularNovedades));
+
+        Thread.sleep(REFRESCO.toMillis() * 2);
+        assertEquals(anteriores, novedades.get(SimpleKey.EMPTY).get());
+        assertTrue(recargando.await(5, TimeUnit.SECONDS));
+        // La recarga sigue en curso y las lecturas no esperan por ella
+        assertEquals(anteriores, novedades.get(SimpleKey.EMPTY).get());
+
+        liberar.countDown();
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!recalculadas.equals(novedades.get(SimpleKey.EMPTY).get()) && System.nanoTime() < limite) {
+            Thread.sleep(10);
+        }
+        assertEquals(recalculadas, novedades.get(SimpleKey.EMPTY).get());
+        verify(juegoService, times(2)).calcularNovedades();
+    }
+}
@@ -0,0 +1,153 @@
+package com.looking4rate.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.looking4rate.backend.BackendApplication;
+import com.looking4rate.backend.dtos.EstadoImportacionDTO;
+import com.looking4rate.backend.dtos.JuegoCreacionDTO;
+import com.looking4rate.backend.dtos.JuegoDTO;
+import com.looking4rate.backend.services.ImportacionJuegos;
+import com.looking4rate.backend.services.IndiceBusquedaJuegos;
+import com.looking4rate.backend.services.JuegoService;
+
+/**
+ * Dos réplicas contra la misma base de datos: los cambios hechos en una deben
+ * invalidar las cachés e índices de la otra a través del bus LISTEN/NOTIFY
+ */
+@SpringBootTest
+class BusInvalidacionCacheIntegrationTest {
+
+    private static final Duration CONVERGENCIA_MAXIMA = Duration.ofSeconds(3);
+    /** Margen para que un aviso reenviado llegase a la escucha del test */
+    private static final Duration ECO_MAXIMO = Duration.ofMillis(1500);
+
+    /** Segunda réplica: no crea ni borra el esquema, que pertenece al contexto del test */
+    private static ConfigurableApplicationContext otroNodo;
+
+    @Autowired
+    private JuegoService juegoService;
+
+    @Autowired
+    private IndiceBusquedaJuegos indiceBusquedaJuegos;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Se arranca una vez inyectado el contexto del test, cuando el esquema ya existe
+     */
+    @BeforeEach
+    void arrancarOtroNodo() {
+        if (otroNodo != null) {
+            return;
+        }
+        otroNodo = new SpringApplicationBuilder(BackendApplication.class)
+                .run("--server.port=0", "--spring.jpa.hibernate.ddl-auto=none", "--looking4rate.semillas.modo=never");
+    }
+
+    @AfterAll
+    static void detenerOtroNodo() {
+        otroNodo.close();
+    }
+
+    @Test
+    void testCambiosEnOtroNodo_ConvergenCachesEIndices() {
+        JuegoService juegoServiceRemoto = otroNodo.getBean(JuegoService.class);
+
+        JuegoDTO creado = juegoServiceRemoto.crear(dto("Replica Bus Quetzal"));
+        esperar(() -> indiceBusquedaJuegos.buscar("quetzal", 10).contains(creado.id()));
+
+        assertEquals("Replica Bus Quetzal", juegoService.obtenerPorId(creado.id()).nombre());
+        juegoServiceRemoto.actualizar(creado.id(), dto("Replica Bus Quetzal Editado"));
+        esperar(() -> cacheManager.getCache("juego-detalle").get(creado.id()) == null);
+        assertEquals("Replica Bus Quetzal Editado", juegoService.obtenerPorId(creado.id()).nombre());
+
+        juegoServiceRemoto.eliminar(creado.id());
+        esperar(() -> !indiceBusquedaJuegos.buscar("quetzal", 10).contains(creado.id()));
+    }
+
+    @Test
+    void testImportacionEnOtroNodo_UnSoloAvisoYLosIndicesConvergen() throws Exception {
+        String cuerpo = String.join("\n",
+                "{\"nombre\":\"Replica Import Ocelote\",\"descripcion\":\"D\",\"imagenPortada\":\"o.jpg\","
+                        + "\"fechaSalida\":\"2021-01-01\",\"plataformas\":[1],\"desarrolladoras\":[1],\"generos\":[1]}",
+                "{\"nombre\":\"Replica Import Ocelote Dos\",\"descripcion\":\"D\",\"imagenPortada\":\"o.jpg\","
+                        + "\"fechaSalida\":\"2021-01-01\",\"plataformas\":[1],\"desarrolladoras\":[1],\"generos\":[1]}");
+        List<Long> ids = List.of();
+        try (Connection escucha = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+            try (Statement sentencia = escucha.createStatement()) {
+                sentencia.execute("LISTEN looking4rate_cache");
+            }
+
+            EstadoImportacionDTO resultado = otroNodo.getBean(ImportacionJuegos.class)
+                    .importar(ImportacionJuegos.Formato.NDJSON, new ByteArrayInputStream(cuerpo.getBytes(StandardCharsets.UTF_8)));
+            assertEquals(2, resultado.importados());
+            ids = jdbcTemplate.queryForList("SELECT id FROM juego WHERE nombre LIKE 'Replica Import Ocelote%'", Long.class);
+            List<Long> importados = ids;
+            esperar(() -> indiceBusquedaJuegos.buscar("ocelote", 10).containsAll(importados));
+
+            // Con eco, cada nodo volvería a avisar al recibir el aviso del otro
+            Thread.sleep(ECO_MAXIMO.toMillis());
+            PGNotification[] avisos = escucha.unwrap(PGConnection.class).getNotifications(1);
+            assertNotNull(avisos);
+            assertEquals(1, Arrays.stream(avisos).filter(aviso -> aviso.getParameter().contains("|IMPORTACION|")).count());
+        } finally {
+            JuegoService juegoServiceRemoto = otroNodo.getBean(JuegoService.class);
+            ids.forEach(juegoServiceRemoto::eliminar);
+        }
+    }
+
+    private static JuegoCreacionDTO dto(String nombre) {
+        return new JuegoCreacionDTO(nombre, "Juego creado desde la segunda réplica", "/img/quetzal.jpg",
+                LocalDate.of(2020, 1, 1), List.of(1L), List.of(1L), List.of(1L));
+    }
+
+    /**
+     * Espera a que se cumpla la condición; falla si tarda más de CONVERGENCIA_MAXIMA
+     */
+    private static void esperar(BooleanSupplier condicion) {
+        long inicio = System.nanoTime();
+        while (!condicion.getAsBoolean()) {
+            Duration transcurrido = Duration.ofNanos(System.nanoTime() - inicio);
+            assertTrue(transcurrido.compareTo(CONVERGENCIA_MAXIMA) < 0,
+                    "No se ha convergido en " + CONVERGENCIA_MAXIMA.toMillis() + " ms");
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.looking4rate.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.looking4rate.backend.services.CargaSemillas;
+
+/**
+ * Tests de integración de la carga de datos iniciales desde CSV
+ */
+@SpringBootTest(properties = {
+    "looking4rate.cache.bus.habilitado=false",
+    "spring.jpa.show-sql=false",
+    "logging.level.com.looking4rate=INFO"
+})
+class CargaSemillasIntegrationTest {
+
+    @Autowired
+    private CargaSemillas cargaSemillas;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void testArranque_RegistraHuellaYAjustaSecuencias() {
+        Map<String, Object> semilla = jdbcTemplate.queryForMap("SELECT huella, filas FROM semilla_aplicada");
+        assertEquals(64, semilla.get("huella").toString().length());
+        assertEquals(341L, ((Number) semilla.get("filas")).longValue());
+
+        assertEquals("PlayStation 5", jdbcTemplate.queryForObject("SELECT nombre FROM plataforma WHERE id = 1", String.class));
+        assertNull(jdbcTemplate.queryForObject("SELECT imagen_logo FROM plataforma WHERE id = 6", String.class));
+        // La siguiente alta no choca con los IDs que venían en los ficheros
+        enTransaccionDescartada(() -> {
+            Long id = jdbcTemplate.queryForObject(
+                    "INSERT INTO genero (nombre) VALUES ('Nuevo tras semillas') RETURNING id", Long.class);
+            assertTrue(id > 10);
+            return null;
+        });
+    }
+
+    @Test
+    void testHuellaPresente_NoVuelveACargar() {
+        long antes = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM juego_genero", Long.class);
+
+        cargaSemillas.afterPropertiesSet();
+
+        assertEquals(antes, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM juego_genero", Long.class));
+    }
+
+    @Test
+    void testOtraReplicaCargando_EsperaAlCerrojo() throws Exception {
+        CountDownLatch bloqueado = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        ExecutorService hilos = Executors.newFixedThreadPool(2);
+        try {
+            // Otra réplica en plena carga: tiene el advisory lock de su transacción
+            Future<?> otraReplica = hilos.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(estado -> {
+                jdbcTemplate.query("SELECT pg_advisory_xact_lock(?)", resultado -> null, 0x4C34_5253_454D_494CL);
+                bloqueado.countDown();
+                try {
+                    liberar.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertTrue(bloqueado.await(10, TimeUnit.SECONDS));
+
+            Future<?> arranque = hilos.submit(cargaSemillas::afterPropertiesSet);
+            assertThrows(TimeoutException.class, () -> arranque.get(300, TimeUnit.MILLISECONDS));
+
+            liberar.countDown();
+            otraReplica.get(10, TimeUnit.SECONDS);
+            arranque.get(10, TimeUnit.SECONDS);
+            assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM semilla_aplicada", Integer.class));
+        } finally {
+            liberar.countDown();
+            hilos.shutdownNow();
+        }
+    }
+
+    @Test
+    void testCopyYBatch_MismoResultado() {
+        List<Map<String, Object>> conCopy = enTransaccionDescartada(() -> {
+            assertEquals(3, cargaSemillas.cargar("classpath:semillas-prueba/", true));
+            return generosDePrueba();
+        });
+        List<Map<String, Object>> conBatch = enTransaccionDescartada(() -> {
+            assertEquals(3, cargaSemillas.cargar("classpath:semillas-prueba/", false));
+            return generosDePrueba();
+        });
+
+        assertEquals(conCopy, conBatch);
+        assertEquals("Con coma, y \"comillas\"", conCopy.get(0).get("descripcion"));
+        assertNull(conCopy.get(1).get("descripcion"));
+        assertEquals("Semilla\nmultilínea", conCopy.get(2).get("nombre"));
+    }
+
+    /**
+     * mvn test -Dtest=CargaSemillasIntegrationTest -Dbenchmark=true
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmark_CopyFrenteABatchYFilaAFila(@TempDir Path carpeta) throws IOException {
+        int filas = 50_000;
+        try (Writer salida = Files.newBufferedWriter(carpeta.resolve("juego.csv"))) {
+            salida.write("nombre,descripcion,imagen_portada,fecha_salida\n");
+            for (int i = 0; i < filas; i++) {
+                salida.write("Semilla " + i + ",\"Descripción, con coma\",x.jpg,2020-01-01\n");
+            }
+        }
+        String ubicacion = "file:" + carpeta + "/";
+
+        for (int ronda = 0; ronda < 2; ronda++) {
+            medir("COPY", filas, () -> cargaSemillas.cargar(ubicacion, true));
+            medir("Batch JDBC", filas, () -> cargaSemillas.cargar(ubicacion, false));
+            medir("INSERT fila a fila (como data.sql)", filas, () -> {
+                for (int i = 0; i < filas; i++) {
+                    jdbcTemplate.update("INSERT INTO juego (nombre, descripcion, imagen_portada, fecha_salida) "
+                            + "VALUES ('Semilla " + i + "', 'Descripción, con coma', 'x.jpg', '2020-01-01')");
+                }
+                return (long) filas;
+            });
+        }
+    }
+
+    private void medir(String nombre, int filas, Supplier<Long> carga) {
+        enTransaccionDescartada(() -> {
+            long inicio = System.nanoTime();
+            assertEquals(filas, carga.get());
+            long ms = (System.nanoTime() - inicio) / 1_000_000;
+            System.out.printf("%s, %d juegos: %d ms (%.0f filas/s)%n", nombre, filas, ms, filas * 1000.0 / Math.max(ms, 1));
+            return null;
+        });
+    }
+
+    private List<Map<String, Object>> generosDePrueba() {
+        return jdbcTemplate.queryForList(
+                "SELECT nombre, descripcion FROM genero WHERE nombre LIKE 'Semilla%' ORDER BY id");
+    }
+
+    private <T> T enTransaccionDescartada(Supplier<T> accion) {
+        return new TransactionTemplate(transactionManager).execute(estado -> {
+            estado.setRollbackOnly();
+            return accion.get();
+        });
+    }
+}
@@ -0,0 +1,223 @@
+package com.looking4rate.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import com.looking4rate.backend.dtos.InteraccionCreacionDTO;
+import com.looking4rate.backend.dtos.InteraccionDTO;
+import com.looking4rate.backend.entities.JuegoStats;
+import com.looking4rate.backend.exceptions.DuplicateResourceException;
+import com.looking4rate.backend.exceptions.ServiceUnavailableException;
+import com.looking4rate.backend.services.EscrituraDiferidaInteracciones;
+import com.looking4rate.backend.services.InteraccionService;
+import com.looking4rate.backend.services.JuegoStatsService;
+
+/**
+ * Tests de integración de la escritura diferida de interacciones (cola + lotes JDBC).
+ * El bus usa un canal propio: los miles de altas no deben llegar a los contextos de los demás tests
+ */
+@SpringBootTest(properties = {
+    "looking4rate.interacciones.escritura-diferida.habilitada=true",
+    "looking4rate.cache.bus.canal=looking4rate_cache_escritura_diferida",
+    "spring.jpa.show-sql=false",
+    "logging.level.com.looking4rate=INFO"
+})
+class EscrituraDiferidaInteraccionesIntegrationTest {
+
+    private static final int JUEGOS = 30;
+
+    @Autowired
+    private InteraccionService interaccionService;
+    
+    @Autowired
+    private EscrituraDiferidaInteracciones escrituraDiferida;
+    
+    @Autowired
+    private JuegoStatsService juegoStatsService;
+    
+    /** Espía para contar las sentencias de cada lote */
+    @MockitoSpyBean
+    private JdbcTemplate jdbcTemplate;
+    
+    private Long usuarioId;
+    
+    @BeforeEach
+    void setUp() {
+        usuarioId = crearUsuarios(1).get(0);
+    }
+    
+    @Test
+    void testAltas_SeGuardanConSusAgregados() throws InterruptedException {
+        JuegoStats antes = juegoStatsService.obtener(1L).orElseThrow();
+        
+        assertTrue(interaccionService.altasDiferidas());
+        InteraccionDTO aceptada = interaccionService.encolar(usuarioId, new InteraccionCreacionDTO(1L, 9, "Genial", true));
+        interaccionService.encolar(usuarioId, new InteraccionCreacionDTO(2L, null, null, false));
+        esperarVaciado();
+        
+        assertNull(aceptada.id());
+        List<InteraccionDTO> guardadas = interaccionService.obtenerPorUsuario(usuarioId);
+        assertEquals(2, guardadas.size());
+        assertTrue(guardadas.stream().allMatch(i -> i.id() != null));
+        JuegoStats despues = juegoStatsService.obtener(1L).orElseThrow();
+        assertEquals(antes.getTotal_interacciones() + 1, despues.getTotal_interacciones());
+        assertEquals(antes.getHistograma()[8] + 1, despues.getHistograma()[8]);
+    }
+    
+    @Test
+    void testAlta_DuplicadaDeUnaYaGuardada() throws InterruptedException {
+        interaccionService.crear(usuarioId, new InteraccionCreacionDTO(3L, 7, null, true));
+        
+        assertThrows(DuplicateResourceException.class,
+                () -> interaccionService.encolar(usuarioId, new InteraccionCreacionDTO(3L, 8, null, true)));
+        esperarVaciado();
+        assertEquals(1, interaccionService.obtenerPorUsuario(usuarioId).size());
+    }
+    
+    @Test
+    void testCierre_GuardaTodoLoPendiente() throws InterruptedException {
+        List<Long> usuarios = crearUsuarios(100);
+        for (Long usuario : usuarios) {
+            for (long juego = 1; juego <= 10; juego++) {
+                interaccionService.encolar(usuario, new InteraccionCreacionDTO(juego, 5, null, true));
+            }
+        }
+        
+        try {
+            escrituraDiferida.cerrar();
+            
+            assertEquals(0, escrituraDiferida.pendientes());
+            assertFalse(interaccionService.altasDiferidas());
+            assertEquals(1000, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM interaccion WHERE usuario_id = ANY(?)", Integer.class,
+                    (Object) usuarios.toArray(Long[]::new)));
+        } finally {
+            escrituraDiferida.iniciar();
+        }
+    }
+    
+    /**
+     * mvn test -Dtest=EscrituraDiferidaInteraccionesIntegrationTest -Dbenchmark=true
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmark_SincronaFrenteADiferida() throws Exception {
+        int hilos = 16;
+        int porUsuario = 10;
+        int usuarios = 2_000;
+        
+        medir("síncrona", hilos, crearUsuarios(usuarios), porUsuario,
+                (usuario, dto) -> interaccionService.crear(usuario, dto));
+        List<Long> diferidos = crearUsuarios(usuarios);
+        clearInvocations(jdbcTemplate);
+        medir("diferida", hilos, diferidos, porUsuario,
+                this::encolarReintentando);
+        
+        // Cada lote: un INSERT por lotes y un solo NOTIFY con todas sus parejas, no uno por fila
+        long lotes = sentencias(JdbcTemplate.class.getMethod("batchUpdate", String.class, Collection.class, int.class,
+                ParameterizedPreparedStatementSetter.class), "INSERT INTO interaccion");
+        long avisos = sentencias(JdbcTemplate.class.getMethod("query", String.class, ResultSetExtractor.class, Object[].class),
+                "SELECT pg_notify");
+        System.out.printf("Altas diferida: %d lotes, %d NOTIFY%n", lotes, avisos);
+        assertTrue(lotes > 0);
+        assertEquals(lotes, avisos);
+    }
+    
+    /**
+     * Llamadas al JdbcTemplate espiado con ese método y una sentencia que empieza así
+     * (las sobrecargas que se invocan entre sí por dentro no se cuentan)
+     */
+    private long sentencias(Method metodo, String prefijo) {
+        return mockingDetails(jdbcTemplate).getInvocations().stream()
+                .filter(invocacion -> invocacion.getMethod().equals(metodo))
+                .filter(invocacion -> invocacion.getArgument(0) instanceof String sql && sql.startsWith(prefijo))
+                .count();
+    }
+    
+    /**
+     * Como un cliente que respeta el 503 con Retry-After (aquí con una espera corta)
+     */
+    private void encolarReintentando(Long usuario, InteraccionCreacionDTO dto) {
+        while (true) {
+            try {
+                interaccionService.encolar(usuario, dto);
+                return;
+            } catch (ServiceUnavailableException e) {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException interrupcion) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+    
+    private void medir(String modo, int hilos, List<Long> usuarios, int porUsuario,
+            BiConsumer<Long, InteraccionCreacionDTO> alta) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(hilos);
+        try {
+            long inicio = System.nanoTime();
+            List<Future<?>> tareas = new ArrayList<>();
+            for (int h = 0; h < hilos; h++) {
+                int hilo = h;
+                tareas.add(executor.submit(() -> {
+                    for (int u = hilo; u < usuarios.size(); u += hilos) {
+                        for (int j = 0; j < porUsuario; j++) {
+                            long juego = 1 + (u + j) % JUEGOS;
+                            alta.accept(usuarios.get(u), new InteraccionCreacionDTO(juego, 1 + (u + j) % 10, null, true));
+                        }
+                    }
+                }));
+            }
+            for (Future<?> tarea : tareas) {
+                tarea.get();
+            }
+            long respondidas = System.nanoTime() - inicio;
+            esperarVaciado();
+            long guardadas = System.nanoTime() - inicio;
+            
+            int total = usuarios.size() * porUsuario;
+            System.out.printf("Altas %s, %d interacciones, %d hilos: respondidas en %d ms (%.0f/s), guardadas en %d ms (%.0f/s)%n",
+                    modo, total, hilos, respondidas / 1_000_000, total * 1e9 / respondidas,
+                    guardadas / 1_000_000, total * 1e9 / guardadas);
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    private void esperarVaciado() throws InterruptedException {
+        for (int i = 0; i < 600 && escrituraDiferida.pendientes() > 0; i++) {
+            Thread.sleep(50);
+        }
+        assertEquals(0, escrituraDiferida.pendientes());
+    }
+    
+    private List<Long> crearUsuarios(int cantidad) {
+        String prefijo = UUID.randomUUID().toString().substring(0, 8);
+        return jdbcTemplate.queryForList(
+                "INSERT INTO usuario (nombre, email, contrasenia, fecha_registro, rol, activo) " +
+                "SELECT 'bench-' || ? || '-' || n, 'bench-' || ? || '-' || n || '@test.com', 'x', CURRENT_DATE, 'USER', true " +
+                "FROM generate_series(1, ?) AS n RETURNING id", Long.class, prefijo, prefijo, cantidad);
+    }
+}
@@ -0,0 +1,62 @@
+package com.looking4rate.backend.integration;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Tests de integración de las políticas de caché y su exposición en Actuator
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class EstadoCachesIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private CacheManager cacheManager;
+    
+    @Test
+    @WithMockUser(authorities = "ADMIN")
+    void testEstadoCaches_MuestraAciertosYPoliticas() throws Exception {
+        cacheManager.getCache("juego-detalle").clear();
+        mockMvc.perform(get("/api/juegos/2")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/juegos/2")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/juegos")).andExpect(status().isOk());
+        
+        mockMvc.perform(get("/actuator/estadocaches"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.juego-detalle.aciertos").value(greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("$.juego-detalle.limiteEntradas").value(5000))
+                .andExpect(jsonPath("$.juegos-listado.limitePesoBytes").value(16 * 1024 * 1024))
+                .andExpect(jsonPath("$.juegos-listado.pesoEstimadoBytes").value(greaterThan(0)));
+    }
+    
+    @Test
+    void testEstadoCaches_SinAutenticar_Rechazado() throws Exception {
+        mockMvc.perform(get("/actuator/estadocaches"))
+                .andExpect(status().isForbidden());
+    }
+    
+    @Test
+    @WithMockUser(authorities = "USER")
+    void testEstadoCaches_UsuarioNoAdmin_Prohibido() throws Exception {
+        mockMvc.perform(get("/actuator/estadocaches"))
+                .andExpect(status().isForbidden());
+    }
+    
+    @Test
+    void testMetricasCaffeine_PublicadasEnMicrometer() throws Exception {
+        mockMvc.perform(get("/actuator/metrics/cache.gets").param("tag", "cache:juego-detalle"))
+                .andExpect(status().isOk());
+    }
+}
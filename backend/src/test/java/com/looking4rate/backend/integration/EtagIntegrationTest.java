@@ -0,0 +1,163 @@
+package com.looking4rate.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.looking4rate.backend.events.CatalogoCambiadoEvent;
+import com.looking4rate.backend.events.InteraccionCambiadaEvent;
+import com.looking4rate.backend.events.JuegoCambiadoEvent;
+import com.looking4rate.backend.events.TipoCambio;
+import com.looking4rate.backend.services.JuegoStatsService;
+import com.looking4rate.backend.services.RecargaIndicesJuegos;
+import com.looking4rate.backend.services.RecomendacionesJuegos;
+
+/**
+ * Tests de integración de las ETag por versión y los GET condicionales (304)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class EtagIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private RecargaIndicesJuegos recargaIndicesJuegos;
+
+    @Autowired
+    private JuegoStatsService juegoStatsService;
+
+    @Autowired
+    private RecomendacionesJuegos recomendacionesJuegos;
+
+    @Test
+    void testCatalogo_MismaVersionDevuelve304() throws Exception {
+        String etag = etag("/api/generos");
+
+        mockMvc.perform(get("/api/generos").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        eventPublisher.publishEvent(new CatalogoCambiadoEvent(CatalogoCambiadoEvent.Catalogo.GENERO, 1L, TipoCambio.ACTUALIZADO));
+
+        mockMvc.perform(get("/api/generos").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+        assertNotEquals(etag, etag("/api/generos"));
+    }
+
+    @Test
+    void testDetalleJuego_CambiaConSusInteracciones() throws Exception {
+        String etagJuego = etag("/api/juegos/3");
+        String etagOtro = etag("/api/juegos/4");
+
+        eventPublisher.publishEvent(new InteraccionCambiadaEvent(3L, 1L, TipoCambio.CREADO));
+
+        mockMvc.perform(get("/api/juegos/3").header(HttpHeaders.IF_NONE_MATCH, etagJuego))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/juegos/4").header(HttpHeaders.IF_NONE_MATCH, etagOtro))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void testClasificacion_EtagPorLimite() throws Exception {
+        String etag = etag("/api/juegos/top");
+
+        mockMvc.perform(get("/api/juegos/top").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/juegos/top").param("limite", "5").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testClasificacion_EtagCambiaConLaVersion() throws Exception {
+        String top = etag("/api/juegos/top?limite=7");
+        String populares = etag("/api/juegos/populares?limite=7");
+        assertEquals(top, etag("/api/juegos/top?limite=7"));
+
+        eventPublisher.publishEvent(new InteraccionCambiadaEvent(5L, 1L, TipoCambio.ACTUALIZADO));
+
+        mockMvc.perform(get("/api/juegos/top").param("limite", "7").header(HttpHeaders.IF_NONE_MATCH, top))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/juegos/populares").param("limite", "7").header(HttpHeaders.IF_NONE_MATCH, populares))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testSimilares_CambiaConCualquierJuegoYConElLimite() throws Exception {
+        String etag = etag("/api/juegos/8/similares");
+
+        mockMvc.perform(get("/api/juegos/8/similares").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/juegos/8/similares").param("limite", "3").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+
+        // Otro juego puede entrar, salir o cambiar de nombre en la lista
+        eventPublisher.publishEvent(new JuegoCambiadoEvent(9L, TipoCambio.ACTUALIZADO));
+
+        mockMvc.perform(get("/api/juegos/8/similares").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testTambienGustaron_CambiaAlPublicarOtraTabla() throws Exception {
+        String etag = etag("/api/juegos/8/tambien-gustaron");
+
+        mockMvc.perform(get("/api/juegos/8/tambien-gustaron").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        recomendacionesJuegos.recalcular();
+
+        mockMvc.perform(get("/api/juegos/8/tambien-gustaron").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testRecargaCompleta_CaducanTodasLasEtag() throws Exception {
+        String etagJuego = etag("/api/juegos/6");
+        String etagGeneros = etag("/api/generos");
+
+        // La que programa el bus al reconectar, cuando pudo perderse cualquier aviso
+        recargaIndicesJuegos.programarCompleta().get(10, TimeUnit.SECONDS);
+
+        mockMvc.perform(get("/api/juegos/6").header(HttpHeaders.IF_NONE_MATCH, etagJuego))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/generos").header(HttpHeaders.IF_NONE_MATCH, etagGeneros))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testReconstruccionStats_CaducaElDetalleYLasClasificaciones() throws Exception {
+        String etagJuego = etag("/api/juegos/7");
+        String etagTop = etag("/api/juegos/top");
+
+        juegoStatsService.reconstruir();
+
+        mockMvc.perform(get("/api/juegos/7").header(HttpHeaders.IF_NONE_MATCH, etagJuego))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/juegos/top").header(HttpHeaders.IF_NONE_MATCH, etagTop))
+                .andExpect(status().isOk());
+    }
+
+    private String etag(String url) throws Exception {
+        String etag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        assertTrue(etag.startsWith("\""), "La ETag debe ser fuerte");
+        return etag;
+    }
+}
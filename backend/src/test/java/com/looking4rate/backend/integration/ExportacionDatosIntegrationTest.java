@@ -0,0 +1,227 @@
+package com.looking4rate.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.looking4rate.backend.services.ExportacionDatos;
+import com.looking4rate.backend.services.InteraccionService;
+
+/**
+ * Tests de integración de los volcados NDJSON de /api/admin/export
+ */
+@SpringBootTest(properties = {
+    "looking4rate.cache.bus.habilitado=false",
+    "looking4rate.exportacion.filas-por-lectura=2",
+    "spring.jpa.show-sql=false",
+    "logging.level.com.looking4rate=INFO"
+})
+@AutoConfigureMockMvc
+class ExportacionDatosIntegrationTest {
+
+    @Autowired
+    private ExportacionDatos exportacionDatos;
+
+    @Autowired
+    private InteraccionService interaccionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private String prefijo;
+
+    @BeforeEach
+    void setUp() {
+        prefijo = "export-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM interaccion WHERE usuario_id IN (SELECT id FROM usuario WHERE nombre LIKE ?)", prefijo + "%");
+        jdbcTemplate.update("DELETE FROM usuario WHERE nombre LIKE ?", prefijo + "%");
+    }
+
+    @Test
+    @WithMockUser(authorities = "ADMIN")
+    void testInteracciones_UnaLineaPorFilaConNulos() throws Exception {
+        Long usuarioId = crearUsuarios(1).get(0);
+        jdbcTemplate.update("INSERT INTO interaccion (usuario_id, juego_id, puntuacion, review, estado_jugado, fecha_interaccion) "
+                + "VALUES (?, 1, 9, 'Con \"comillas\"\ny salto', true, '2025-02-03 10:11:12'), (?, 2, NULL, NULL, false, NOW()), "
+                + "(?, 3, 4, NULL, true, NOW())", usuarioId, usuarioId, usuarioId);
+        long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM interaccion", Long.class);
+
+        List<JsonNode> lineas = lineas(descargar("/api/admin/export/interacciones"));
+
+        assertEquals(total, lineas.size());
+        List<JsonNode> propias = lineas.stream().filter(l -> l.get("usuarioId").asLong() == usuarioId).toList();
+        assertEquals(List.of(1L, 2L, 3L), propias.stream().map(l -> l.get("juegoId").asLong()).toList());
+        assertEquals(9, propias.get(0).get("puntuacion").asInt());
+        assertEquals("Con \"comillas\"\ny salto", propias.get(0).get("review").asText());
+        assertEquals("2025-02-03T10:11:12", propias.get(0).get("fechaInteraccion").asText());
+        assertTrue(propias.get(1).get("puntuacion").isNull());
+        assertFalse(propias.get(1).get("estadoJugado").asBoolean());
+    }
+
+    @Test
+    @WithMockUser(authorities = "ADMIN")
+    void testJuegos_ComprimidoYConNombres() throws Exception {
+        MvcResult resultado = mockMvc.perform(get("/api/admin/export/juegos").param("gzip", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        byte[] comprimido = mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/gzip"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"juegos.ndjson.gz\""))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        String texto;
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(comprimido))) {
+            texto = new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        List<JsonNode> juegos = lineas(texto);
+        assertEquals(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM juego", Long.class), juegos.size());
+
+        JsonNode primero = juegos.get(0);
+        assertEquals(1, primero.get("id").asLong());
+        List<String> plataformas = jdbcTemplate.queryForList(
+                "SELECT p.nombre FROM juego_plataforma jp JOIN plataforma p ON p.id = jp.plataforma_id "
+                        + "WHERE jp.juego_id = 1 ORDER BY jp.id", String.class);
+        assertEquals(plataformas, objectMapper.convertValue(primero.get("plataformas"), List.class));
+        assertFalse(primero.get("generos").isEmpty());
+        assertTrue(primero.has("fechaSalida"));
+    }
+
+    /**
+     * mvn test -Dtest=ExportacionDatosIntegrationTest -Dbenchmark=true
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmark_MemoriaFrenteAListarTodas() throws Exception {
+        List<Long> usuarios = crearUsuarios(20_000);
+        jdbcTemplate.update("INSERT INTO interaccion (usuario_id, juego_id, puntuacion, review, estado_jugado, fecha_interaccion) "
+                + "SELECT u.id, j.id, 1 + (u.id + j.id) % 10, 'Review de prueba ' || j.id, true, NOW() "
+                + "FROM usuario u CROSS JOIN (SELECT id FROM juego WHERE id <= 25) j WHERE u.nombre LIKE ?", prefijo + "%");
+        long filas = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM interaccion", Long.class);
+        System.out.printf("Interacciones en la tabla: %d (%d usuarios de prueba)%n", filas, usuarios.size());
+
+        for (int ronda = 0; ronda < 2; ronda++) {
+            AtomicLong bytes = new AtomicLong();
+            OutputStream descartar = new OutputStream() {
+                @Override
+                public void write(int b) {
+                    bytes.incrementAndGet();
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) {
+                    bytes.addAndGet(len);
+                }
+            };
+            long[] exportadas = {0};
+            medir("Exportación NDJSON con cursor", () -> exportadas[0] = exportacionDatos.exportarInteracciones(descartar, false));
+            assertEquals(filas, exportadas[0]);
+            System.out.printf("  %d filas, %d MB%n", exportadas[0], bytes.get() >> 20);
+
+            int[] listadas = {0};
+            medir("GET /api/interacciones (listarTodas + serializar)", () -> {
+                try {
+                    byte[] json = objectMapper.writeValueAsBytes(interaccionService.listarTodas());
+                    listadas[0] = json.length;
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            System.out.printf("  %d MB%n", listadas[0] >> 20);
+        }
+    }
+
+    private void medir(String nombre, Runnable tarea) throws InterruptedException {
+        MemoryMXBean memoria = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long base = memoria.getHeapMemoryUsage().getUsed();
+        AtomicLong pico = new AtomicLong(base);
+        AtomicBoolean terminado = new AtomicBoolean();
+        Thread muestreo = new Thread(() -> {
+            while (!terminado.get()) {
+                pico.accumulateAndGet(memoria.getHeapMemoryUsage().getUsed(), Math::max);
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        muestreo.start();
+        long inicio = System.nanoTime();
+        try {
+            tarea.run();
+        } finally {
+            terminado.set(true);
+            muestreo.join();
+        }
+        System.out.printf("%s: %d ms, pico de heap +%d MB%n", nombre, (System.nanoTime() - inicio) / 1_000_000,
+                (pico.get() - base) >> 20);
+    }
+
+    private String descargar(String url) throws Exception {
+        MvcResult resultado = mockMvc.perform(get(url))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    private List<JsonNode> lineas(String ndjson) throws IOException {
+        assertTrue(ndjson.isEmpty() || ndjson.endsWith("\n"));
+        List<JsonNode> nodos = new ArrayList<>();
+        for (String linea : ndjson.split("\n")) {
+            if (!linea.isEmpty()) {
+                nodos.add(objectMapper.readTree(linea));
+            }
+        }
+        return nodos;
+    }
+
+    private List<Long> crearUsuarios(int cantidad) {
+        return jdbcTemplate.queryForList(
+                "INSERT INTO usuario (nombre, email, contrasenia, fecha_registro, rol, activo) " +
+                "SELECT ? || '-' || n, ? || '-' || n || '@test.com', 'x', CURRENT_DATE, 'USER', true " +
+                "FROM generate_series(1, ?) AS n RETURNING id", Long.class, prefijo, prefijo, cantidad);
+    }
+}
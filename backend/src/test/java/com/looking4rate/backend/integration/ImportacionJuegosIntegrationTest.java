@@ -0,0 +1,228 @@
+package com.looking4rate.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.looking4rate.backend.dtos.EstadoImportacionDTO;
+import com.looking4rate.backend.dtos.JuegoCreacionDTO;
+import com.looking4rate.backend.dtos.JuegoDTO;
+import com.looking4rate.backend.dtos.JuegoResumenDTO;
+import com.looking4rate.backend.services.ImportacionJuegos;
+import com.looking4rate.backend.services.JuegoService;
+import com.looking4rate.backend.services.RecargaIndicesJuegos;
+
+/**
+ * Tests de integración de la importación masiva de juegos (NDJSON y CSV).
+ * Sin bus: los demás contextos de test no deben recargar sus índices con estos juegos
+ */
+@SpringBootTest(properties = {
+    "looking4rate.cache.bus.habilitado=false",
+    "looking4rate.importacion.lote=2",
+    "spring.jpa.show-sql=false",
+    "logging.level.com.looking4rate=INFO"
+})
+@AutoConfigureMockMvc
+class ImportacionJuegosIntegrationTest {
+
+    @Autowired
+    private ImportacionJuegos importacionJuegos;
+
+    @Autowired
+    private JuegoService juegoService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RecargaIndicesJuegos recargaIndicesJuegos;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private long ultimoIdPrevio;
+
+    @BeforeEach
+    void setUp() {
+        ultimoIdPrevio = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM juego", Long.class);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (String tabla : List.of("juego_plataforma", "juego_desarrolladora", "juego_genero", "juego_stats")) {
+            jdbcTemplate.update("DELETE FROM " + tabla + " WHERE juego_id > ?", ultimoIdPrevio);
+        }
+        jdbcTemplate.update("DELETE FROM juego WHERE id > ?", ultimoIdPrevio);
+        // Detrás de la recarga de la última importación, si aún no ha terminado
+        recargaIndicesJuegos.programar(0).get(1, TimeUnit.MINUTES);
+    }
+
+    @Test
+    void testNdjson_ResuelveNombresEIdsYRechazaFilasInvalidas() {
+        String cuerpo = String.join("\n",
+                "{\"nombre\":\"Importado Uno\",\"descripcion\":\"D\",\"imagenPortada\":\"uno.jpg\",\"fechaSalida\":\"2021-03-04\","
+                        + "\"plataformas\":[\"pc\",\"Nintendo Switch\"],\"desarrolladoras\":[1],\"generos\":[\"accion\",\"RPG\",\"1\"]}",
+                "",
+                "{\"nombre\":\"Importado Dos\",\"descripcion\":\"D\",\"imagenPortada\":\"dos.jpg\",\"fechaSalida\":\"2019-01-01\","
+                        + "\"plataformaIds\":[1],\"desarrolladoraIds\":[2],\"generoIds\":[3]}",
+                "{\"nombre\":\"Sin plataforma\",\"descripcion\":\"D\",\"imagenPortada\":\"x.jpg\",\"fechaSalida\":\"2019-01-01\","
+                        + "\"plataformas\":[\"Atari 2600\"],\"desarrolladoras\":[1],\"generos\":[1]}",
+                "{no es json",
+                "{\"nombre\":\"\",\"descripcion\":\"D\",\"imagenPortada\":\"x.jpg\",\"fechaSalida\":\"2019-01-01\","
+                        + "\"plataformas\":[1],\"desarrolladoras\":[1],\"generos\":[1]}",
+                "{\"nombre\":\"Importado Tres\",\"descripcion\":\"D\",\"imagenPortada\":\"tres.jpg\",\"fechaSalida\":\"2020-06-01\","
+                        + "\"plataformas\":[6],\"desarrolladoras\":[1],\"generos\":[2]}");
+
+        EstadoImportacionDTO resultado = importacionJuegos.importar(ImportacionJuegos.Formato.NDJSON, flujo(cuerpo));
+
+        assertEquals(EstadoImportacionDTO.Estado.COMPLETADA, resultado.estado());
+        assertEquals(6, resultado.filasLeidas());
+        assertEquals(3, resultado.importados());
+        assertEquals(3, resultado.rechazados());
+        assertEquals(List.of(4L, 5L, 6L), resultado.errores().stream().map(EstadoImportacionDTO.ErrorFila::linea).toList());
+        assertTrue(resultado.errores().get(0).mensaje().contains("Atari 2600"));
+
+        Long id = idDe("Importado Uno");
+        JuegoDTO juego = juegoService.obtenerPorId(id);
+        assertEquals(List.of("Nintendo Switch", "PC"), juego.plataformas().stream().sorted().toList());
+        assertEquals(List.of("Acción", "RPG"), juego.generos().stream().sorted().toList());
+        assertEquals(0, juego.totalReviews());
+        assertEquals(3, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM juego_stats WHERE juego_id > ?", Integer.class, ultimoIdPrevio));
+
+        // Los índices en memoria se recargan después de responder
+        esperarIndices(resultado.id());
+        assertTrue(juegoService.buscarPorNombre("importado").stream()
+                .map(JuegoResumenDTO::id).toList().contains(id));
+    }
+
+    @Test
+    void testReferenciaConDemasiadasCifras_RechazaSoloEsaFila() {
+        String cuerpo = String.join("\n",
+                "{\"nombre\":\"Importado Largo\",\"descripcion\":\"D\",\"imagenPortada\":\"l.jpg\",\"fechaSalida\":\"2021-03-04\","
+                        + "\"plataformas\":[\"123456789012345678901234567890\"],\"desarrolladoras\":[1],\"generos\":[1]}",
+                "{\"nombre\":\"Importado Corto\",\"descripcion\":\"D\",\"imagenPortada\":\"c.jpg\",\"fechaSalida\":\"2021-03-04\","
+                        + "\"plataformas\":[\"1\"],\"desarrolladoras\":[1],\"generos\":[1]}");
+
+        EstadoImportacionDTO resultado = importacionJuegos.importar(ImportacionJuegos.Formato.NDJSON, flujo(cuerpo));
+
+        assertEquals(EstadoImportacionDTO.Estado.COMPLETADA, resultado.estado());
+        assertEquals(1, resultado.importados());
+        assertEquals(1, resultado.rechazados());
+        assertTrue(resultado.errores().get(0).mensaje().contains("123456789012345678901234567890"));
+    }
+
+    @Test
+    @WithMockUser(authorities = "ADMIN")
+    void testCsv_PorElEndpointConComillasYListas() throws Exception {
+        String cuerpo = "nombre,descripcion,imagenPortada,fechaSalida,plataformas,desarrolladoras,generos\r\n"
+                + "\"Importado, con coma\",\"Dice \"\"hola\"\"\ny sigue\",c.jpg,2018-05-05,PC|PlayStation 5,FromSoftware,Acción|3\r\n"
+                + "Mala fecha,D,c.jpg,05/05/2018,PC,1,1\r\n"
+                + "Corta,D\r\n";
+
+        mockMvc.perform(post("/api/admin/importaciones/juegos").contentType("text/csv").content(cuerpo))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.estado").value("COMPLETADA"))
+                .andExpect(jsonPath("$.importados").value(1))
+                .andExpect(jsonPath("$.rechazados").value(2))
+                .andExpect(jsonPath("$.errores[0].linea").value(4))
+                .andExpect(jsonPath("$.errores[1].linea").value(5));
+
+        JuegoDTO juego = juegoService.obtenerPorId(idDe("Importado, con coma"));
+        assertEquals("Dice \"hola\"\ny sigue", juego.descripcion());
+        assertEquals(List.of("Acción", "Aventura"), juego.generos().stream().sorted().toList());
+
+        mockMvc.perform(get("/api/admin/importaciones"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].formato").value("CSV"));
+    }
+
+    @Test
+    @WithMockUser(authorities = "ADMIN")
+    void testCsv_SinColumnasObligatoriasFalla() throws Exception {
+        mockMvc.perform(post("/api/admin/importaciones/juegos").contentType("text/csv").content("nombre,descripcion\nA,B\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.estado").value("FALLIDA"))
+                .andExpect(jsonPath("$.importados").value(0));
+    }
+
+    /**
+     * mvn test -Dtest=ImportacionJuegosIntegrationTest -Dbenchmark=true
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmark_ImportacionFrenteACrearUnoAUno() {
+        int unoAUno = 500;
+        long inicio = System.nanoTime();
+        for (int i = 0; i < unoAUno; i++) {
+            juegoService.crear(new JuegoCreacionDTO("Uno a uno " + i, "D", "x.jpg", LocalDate.of(2020, 1, 1),
+                    List.of(1L, 6L), List.of(1L), List.of(1L, 2L)));
+        }
+        double porSegundo = unoAUno * 1e9 / (System.nanoTime() - inicio);
+        System.out.printf("Alta uno a uno (POST /api/juegos), %d juegos: %.0f juegos/s%n", unoAUno, porSegundo);
+
+        int importados = 20_000;
+        StringBuilder cuerpo = new StringBuilder();
+        for (int i = 0; i < importados; i++) {
+            cuerpo.append("{\"nombre\":\"Masivo ").append(i).append("\",\"descripcion\":\"D\",\"imagenPortada\":\"x.jpg\",")
+                    .append("\"fechaSalida\":\"2020-01-01\",\"plataformas\":[\"PC\",\"Nintendo Switch\"],")
+                    .append("\"desarrolladoras\":[\"FromSoftware\"],\"generos\":[\"Acción\",\"RPG\"]}\n");
+        }
+        ReflectionTestUtils.setField(importacionJuegos, "tamanioLote", 500);
+        try {
+            inicio = System.nanoTime();
+            EstadoImportacionDTO resultado = importacionJuegos.importar(ImportacionJuegos.Formato.NDJSON, flujo(cuerpo.toString()));
+            long respuesta = (System.nanoTime() - inicio) / 1_000_000;
+            esperarIndices(resultado.id());
+            long total = (System.nanoTime() - inicio) / 1_000_000;
+            assertEquals(importados, resultado.importados());
+            System.out.printf("Importación NDJSON, %d juegos: respondida en %d ms (%.0f juegos/s), "
+                    + "con la recarga de índices %d ms (%.0f juegos/s)%n", importados, respuesta,
+                    importados * 1000.0 / respuesta, total, importados * 1000.0 / total);
+        } finally {
+            ReflectionTestUtils.setField(importacionJuegos, "tamanioLote", 2);
+        }
+    }
+
+    /**
+     * Espera a la recarga de índices (la del benchmark, con 20 000 juegos, tarda minutos)
+     */
+    private void esperarIndices(long importacion) {
+        long limite = System.nanoTime() + TimeUnit.MINUTES.toNanos(5);
+        while (!importacionJuegos.estado(importacion).indicesActualizados() && System.nanoTime() < limite) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(e);
+            }
+        }
+        assertTrue(importacionJuegos.estado(importacion).indicesActualizados());
+    }
+
+    private Long idDe(String nombre) {
+        return jdbcTemplate.queryForObject("SELECT id FROM juego WHERE nombre = ? AND id > ?", Long.class, nombre, ultimoIdPrevio);
+    }
+
+    private static ByteArrayInputStream flujo(String cuerpo) {
+        return new ByteArrayInputStream(cuerpo.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,141 @@
+package com.looking4rate.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tests de integración de la paginación por cursor (fecha_interaccion, id) de las interacciones
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class InteraccionPaginacionIntegrationTest {
+
+    /** Juego sin interacciones en los datos iniciales, para que la página por juego sea solo la del test */
+    private static final long JUEGO = 27L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String prefijo;
+    private Long usuarioId;
+
+    @BeforeEach
+    void setUp() {
+        prefijo = "pagina-" + UUID.randomUUID().toString().substring(0, 8);
+        usuarioId = crearUsuario(prefijo + "-a");
+        Long otro = crearUsuario(prefijo + "-b");
+        // Tres con la misma fecha (empates que desempata el id), una jugada sin fecha repetida
+        // y la otra en la fecha centinela de la primera página
+        jdbcTemplate.update("INSERT INTO interaccion (usuario_id, juego_id, puntuacion, estado_jugado, fecha_interaccion) VALUES "
+                + "(?, 1, 5, true, '2024-05-05 10:00:00'), (?, 2, 6, false, '2024-05-05 10:00:00'), "
+                + "(?, 3, 7, true, '2024-05-05 10:00:00'), (?, 4, NULL, true, '2023-01-01 00:00:00'), "
+                + "(?, ?, 9, false, '9999-12-31 23:59:59'), (?, ?, 8, true, '2024-05-05 10:00:00')",
+                usuarioId, usuarioId, usuarioId, usuarioId, usuarioId, JUEGO, otro, JUEGO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM interaccion WHERE usuario_id IN (SELECT id FROM usuario WHERE nombre LIKE ?)", prefijo + "%");
+        jdbcTemplate.update("DELETE FROM usuario WHERE nombre LIKE ?", prefijo + "%");
+    }
+
+    @Test
+    @WithMockUser(authorities = "ADMIN")
+    void testTodas_MismoOrdenQueLaConsultaCompleta() throws Exception {
+        List<Long> esperadas = jdbcTemplate.queryForList(
+                "SELECT id FROM interaccion ORDER BY fecha_interaccion DESC, id DESC", Long.class);
+
+        assertEquals(esperadas, recorrer("/api/interacciones/pagina", 4));
+    }
+
+    @Test
+    void testPorUsuario_RecorreLosEmpatesPorId() throws Exception {
+        assertEquals(esperadas("usuario_id = ?", usuarioId), recorrer("/api/interacciones/usuario/" + usuarioId + "/pagina", 2));
+    }
+
+    @Test
+    void testPorJuego() throws Exception {
+        List<Long> ids = recorrer("/api/interacciones/juego/" + JUEGO + "/pagina", 1);
+
+        assertEquals(esperadas("juego_id = ?", JUEGO), ids);
+        assertEquals(2, ids.size());
+    }
+
+    @Test
+    void testJugados_SoloEstadoJugado() throws Exception {
+        List<Long> ids = recorrer("/api/interacciones/usuario/" + usuarioId + "/jugados/pagina", 2);
+
+        assertEquals(esperadas("usuario_id = ? AND estado_jugado = true", usuarioId), ids);
+        assertEquals(3, ids.size());
+    }
+
+    @Test
+    void testPrimeraPagina_IncluyeLaFechaCentinela() throws Exception {
+        JsonNode pagina = pagina("/api/interacciones/usuario/" + usuarioId + "/pagina", null, 1);
+
+        assertEquals(JUEGO, pagina.get("contenido").get(0).get("juegoId").asLong());
+        assertTrue(pagina.get("hayMas").asBoolean());
+    }
+
+    @Test
+    void testCursorInvalido_400() throws Exception {
+        mockMvc.perform(get("/api/interacciones/usuario/" + usuarioId + "/pagina").param("cursor", "RkVDSEF8YXllcnwx"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private List<Long> esperadas(String filtro, Long valor) {
+        return jdbcTemplate.queryForList("SELECT id FROM interaccion WHERE " + filtro
+                + " ORDER BY fecha_interaccion DESC, id DESC", Long.class, valor);
+    }
+
+    private List<Long> recorrer(String url, int tamanio) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            JsonNode pagina = pagina(url, cursor, tamanio);
+            assertTrue(pagina.get("contenido").size() <= tamanio);
+            pagina.get("contenido").forEach(i -> ids.add(i.get("id").asLong()));
+            cursor = pagina.get("siguienteCursor").isNull() ? null : pagina.get("siguienteCursor").asText();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private JsonNode pagina(String url, String cursor, int tamanio) throws Exception {
+        var peticion = get(url).param("tamanio", String.valueOf(tamanio));
+        if (cursor != null) {
+            peticion.param("cursor", cursor);
+        }
+        return objectMapper.readTree(mockMvc.perform(peticion)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+
+    private Long crearUsuario(String nombre) {
+        return jdbcTemplate.queryForObject("INSERT INTO usuario (nombre, email, contrasenia, fecha_registro, rol, activo) "
+                + "VALUES (?, ?, 'x', CURRENT_DATE, 'USER', true) RETURNING id", Long.class, nombre, nombre + "@test.com");
+    }
+}
@@ -0,0 +1,61 @@
+package com.looking4rate.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import com.looking4rate.backend.dtos.JuegoDTO;
+import com.looking4rate.backend.exceptions.ResourceNotFoundException;
+import com.looking4rate.backend.services.JuegoService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Tests de integración del detalle de juego: debe montarse con una sola sentencia SQL
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class JuegoDetalleIntegrationTest {
+
+    @Autowired
+    private JuegoService juegoService;
+    
+    @Autowired
+    private CacheManager cacheManager;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    private Statistics estadisticas;
+    
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache("juego-detalle").clear();
+        estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estadisticas.clear();
+    }
+    
+    @Test
+    void testObtenerPorId_UnaSolaSentencia() {
+        JuegoDTO juego = juegoService.obtenerPorId(1L);
+        
+        assertEquals(1, estadisticas.getPrepareStatementCount());
+        assertEquals(1L, juego.id());
+        assertFalse(juego.plataformas().isEmpty());
+        assertFalse(juego.desarrolladoras().isEmpty());
+        assertFalse(juego.generos().isEmpty());
+        assertNotNull(juego.imagenes());
+    }
+    
+    @Test
+    void testObtenerPorId_NoExiste_UnaSolaSentencia() {
+        assertThrows(ResourceNotFoundException.class, () -> juegoService.obtenerPorId(999_999L));
+        
+        assertEquals(1, estadisticas.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,134 @@
+package com.looking4rate.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.looking4rate.backend.dtos.JuegoResumenDTO;
+import com.looking4rate.backend.dtos.OrdenJuegos;
+import com.looking4rate.backend.dtos.PaginaDTO;
+import com.looking4rate.backend.services.JuegoService;
+
+/**
+ * Tests de integración de la paginación por cursor del catálogo (/api/juegos/pagina)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class JuegoPaginacionIntegrationTest {
+
+    @Autowired
+    private JuegoService juegoService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @ParameterizedTest
+    @EnumSource(OrdenJuegos.class)
+    void testRecorrerConCursor_MismoOrdenQueLaConsultaCompleta(OrdenJuegos orden) {
+        assertEquals(ordenEsperado(orden), recorrer(orden, 7));
+    }
+
+    @Test
+    void testTamanio_LimitadoACien() {
+        enTransaccionDescartada(() -> {
+            jdbcTemplate.update("INSERT INTO juego (nombre, descripcion, imagen_portada, fecha_salida) "
+                    + "SELECT 'Paginación ' || n, 'x', 'x.jpg', DATE '2020-01-01' FROM generate_series(1, 120) AS n");
+
+            PaginaDTO<JuegoResumenDTO> pagina = juegoService.listarPagina(OrdenJuegos.NOMBRE, null, 500);
+
+            assertEquals(100, pagina.contenido().size());
+            assertTrue(pagina.hayMas());
+            assertNotNull(pagina.siguienteCursor());
+            return null;
+        });
+    }
+
+    @Test
+    void testEmpatesEnLaClave_CadaJuegoUnaSolaVez() {
+        enTransaccionDescartada(() -> {
+            List<Long> empatados = jdbcTemplate.queryForList("INSERT INTO juego (nombre, descripcion, imagen_portada, fecha_salida) "
+                    + "SELECT 'Empate', 'x', 'x.jpg', DATE '2001-02-03' FROM generate_series(1, 5) AS n RETURNING id", Long.class);
+
+            List<Long> porNombre = recorrer(OrdenJuegos.NOMBRE, 2);
+            List<Long> porFecha = recorrer(OrdenJuegos.FECHA, 2);
+
+            assertEquals(ordenEsperado(OrdenJuegos.NOMBRE), porNombre);
+            assertEquals(ordenEsperado(OrdenJuegos.FECHA), porFecha);
+            // Nombre ascendente desempata por id ascendente; fecha descendente, por id descendente
+            assertEquals(empatados, porNombre.stream().filter(empatados::contains).toList());
+            assertEquals(empatados.reversed(), porFecha.stream().filter(empatados::contains).toList());
+            return null;
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"no-es-base64!", "Tk9NQlJF", "RkVDSEF8MjAyMC0wMS0wMXwx", "UE9QVUxBUklEQUR8bXVjaGFzfDE"})
+    void testCursorInvalido_400(String cursor) throws Exception {
+        // "NOMBRE" sin separadores, "FECHA|2020-01-01|1" con otro orden y "POPULARIDAD|muchas|1"
+        mockMvc.perform(get("/api/juegos/pagina").param("orden", "POPULARIDAD").param("cursor", cursor))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testCursorDeOtroOrden_400() throws Exception {
+        String cursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("NOMBRE|Zelda|3".getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(get("/api/juegos/pagina").param("orden", "FECHA").param("cursor", cursor))
+                .andExpect(status().isBadRequest());
+    }
+
+    private List<Long> recorrer(OrdenJuegos orden, int tamanio) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            PaginaDTO<JuegoResumenDTO> pagina = juegoService.listarPagina(orden, cursor, tamanio);
+            assertTrue(pagina.contenido().size() <= tamanio);
+            pagina.contenido().forEach(j -> ids.add(j.id()));
+            assertEquals(pagina.hayMas(), pagina.siguienteCursor() != null);
+            cursor = pagina.siguienteCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private List<Long> ordenEsperado(OrdenJuegos orden) {
+        String sql = switch (orden) {
+            case NOMBRE -> "SELECT id FROM juego ORDER BY nombre, id";
+            case FECHA -> "SELECT id FROM juego ORDER BY fecha_salida DESC, id DESC";
+            case PUNTUACION -> "SELECT juego_id FROM juego_stats ORDER BY puntuacion_media DESC, juego_id DESC";
+            case POPULARIDAD -> "SELECT juego_id FROM juego_stats ORDER BY total_interacciones DESC, juego_id DESC";
+        };
+        return jdbcTemplate.queryForList(sql, Long.class);
+    }
+
+    private <T> T enTransaccionDescartada(Supplier<T> accion) {
+        return new TransactionTemplate(transactionManager).execute(estado -> {
+            estado.setRollbackOnly();
+            return accion.get();
+        });
+    }
+}
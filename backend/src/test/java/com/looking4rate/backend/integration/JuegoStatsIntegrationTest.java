@@ -0,0 +1,135 @@
+package com.looking4rate.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.looking4rate.backend.dtos.InteraccionCreacionDTO;
+import com.looking4rate.backend.dtos.UsuarioRegistroDTO;
+import com.looking4rate.backend.services.InteraccionService;
+import com.looking4rate.backend.services.JuegoStatsService;
+import com.looking4rate.backend.services.UsuarioService;
+
+/**
+ * Tests de integración de los deltas de juego_stats aplicados al escribir interacciones
+ * y de su reconstrucción completa
+ */
+@SpringBootTest
+class JuegoStatsIntegrationTest {
+
+    private static final long JUEGO = 12L;
+
+    @Autowired
+    private InteraccionService interaccionService;
+
+    @Autowired
+    private UsuarioService usuarioService;
+
+    @Autowired
+    private JuegoStatsService juegoStatsService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long usuarioId;
+    private Map<String, Object> inicial;
+
+    @BeforeEach
+    void setUp() {
+        String nombre = "deltas-" + UUID.randomUUID().toString().substring(0, 8);
+        usuarioId = usuarioService.registrar(new UsuarioRegistroDTO(nombre, nombre + "@test.com", "secreto123")).id();
+        inicial = agregados();
+    }
+
+    @AfterEach
+    void tearDown() {
+        usuarioService.eliminar(usuarioId);
+    }
+
+    @Test
+    void testAltaCambioSinPuntuarYBaja_MantienenLosAgregados() {
+        Long id = interaccionService.crear(usuarioId, new InteraccionCreacionDTO(JUEGO, 7, null, true)).id();
+        assertDeltas(1, 1, 7);
+
+        interaccionService.actualizar(usuarioId, id, new InteraccionCreacionDTO(JUEGO, 4, null, true));
+        assertDeltas(1, 1, 4);
+
+        interaccionService.actualizar(usuarioId, id, new InteraccionCreacionDTO(JUEGO, null, null, true));
+        assertDeltas(1, 0, 0);
+
+        interaccionService.actualizar(usuarioId, id, new InteraccionCreacionDTO(JUEGO, 10, null, false));
+        assertDeltas(1, 1, 10);
+
+        interaccionService.eliminar(usuarioId, id);
+        assertDeltas(0, 0, 0);
+    }
+
+    @Test
+    void testReconstruccion_EsperaAlDeltaEnCursoYNoLoPisa() throws Exception {
+        CountDownLatch aplicado = new CountDownLatch(1);
+        CountDownLatch confirmar = new CountDownLatch(1);
+        ExecutorService hilos = Executors.newFixedThreadPool(2);
+        try {
+            // Alta con el delta ya aplicado y la transacción aún abierta
+            Future<?> alta = hilos.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(estado -> {
+                interaccionService.crear(usuarioId, new InteraccionCreacionDTO(JUEGO, 7, null, true));
+                aplicado.countDown();
+                try {
+                    confirmar.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertTrue(aplicado.await(10, TimeUnit.SECONDS));
+
+            Future<?> reconstruccion = hilos.submit(juegoStatsService::reconstruir);
+            assertThrows(TimeoutException.class, () -> reconstruccion.get(300, TimeUnit.MILLISECONDS));
+
+            confirmar.countDown();
+            alta.get(10, TimeUnit.SECONDS);
+            reconstruccion.get(30, TimeUnit.SECONDS);
+        } finally {
+            confirmar.countDown();
+            hilos.shutdownNow();
+        }
+        assertDeltas(1, 1, 7);
+    }
+
+    /**
+     * Diferencia respecto a los agregados del juego antes del test
+     */
+    private void assertDeltas(long interacciones, long puntuadas, long suma) {
+        Map<String, Object> actual = agregados();
+        assertEquals(interacciones, delta(actual, "total_interacciones"), "total_interacciones");
+        assertEquals(puntuadas, delta(actual, "total_puntuadas"), "total_puntuadas");
+        assertEquals(suma, delta(actual, "suma_puntuaciones"), "suma_puntuaciones");
+    }
+
+    private long delta(Map<String, Object> actual, String columna) {
+        return ((Number) actual.get(columna)).longValue() - ((Number) inicial.get(columna)).longValue();
+    }
+
+    private Map<String, Object> agregados() {
+        return jdbcTemplate.queryForMap(
+                "SELECT total_interacciones, total_puntuadas, suma_puntuaciones FROM juego_stats WHERE juego_id = ?", JUEGO);
+    }
+}
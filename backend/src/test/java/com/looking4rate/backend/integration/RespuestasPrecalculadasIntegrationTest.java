@@ -0,0 +1,97 @@
+package com.looking4rate.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.io.ByteArrayInputStream;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.aayushatharva.brotli4j.decoder.Decoder;
+
+/**
+ * Tests de integración de las respuestas pre-serializadas y pre-comprimidas de la portada
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class RespuestasPrecalculadasIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testVariantes_MismoJsonEnCadaCodificacion() throws Exception {
+        MockHttpServletResponse json = pedir("/api/juegos/novedades", null);
+        MockHttpServletResponse gzip = pedir("/api/juegos/novedades", "gzip, deflate");
+        MockHttpServletResponse brotli = pedir("/api/juegos/novedades", "gzip, deflate, br");
+
+        assertNull(json.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("gzip", gzip.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("br", brotli.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertTrue(json.getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT_ENCODING));
+
+        byte[] original = json.getContentAsByteArray();
+        try (GZIPInputStream entrada = new GZIPInputStream(new ByteArrayInputStream(gzip.getContentAsByteArray()))) {
+            assertArrayEquals(original, entrada.readAllBytes());
+        }
+        assertArrayEquals(original, Decoder.decompress(brotli.getContentAsByteArray()).getDecompressedData());
+
+        // Una ETag fuerte por representación
+        assertNotEquals(json.getHeader(HttpHeaders.ETAG), gzip.getHeader(HttpHeaders.ETAG));
+        assertNotEquals(gzip.getHeader(HttpHeaders.ETAG), brotli.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void testVariantes_RevalidacionPorCodificacion() throws Exception {
+        String etag = pedir("/api/juegos/populares", "gzip").getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/juegos/populares").header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/juegos/populares").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testVariantes_GzipExcluidoConQCero() throws Exception {
+        assertNull(pedir("/api/juegos/top", "gzip;q=0").getHeader(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/api/juegos/top", "/api/juegos/populares", "/api/juegos/tendencias"})
+    void testClasificaciones_LimiteEntreUnoYCien(String url) throws Exception {
+        mockMvc.perform(get(url).param("limite", "0")).andExpect(status().isBadRequest());
+        mockMvc.perform(get(url).param("limite", "101")).andExpect(status().isBadRequest());
+        mockMvc.perform(get(url).param("limite", "100")).andExpect(status().isOk());
+    }
+
+    @Test
+    void testClasificacion_MismosBytesParaLaMismaConsulta() throws Exception {
+        MockHttpServletResponse primera = pedir("/api/juegos/tendencias?limite=3", null);
+        MockHttpServletResponse segunda = pedir("/api/juegos/tendencias?limite=3", null);
+
+        assertEquals(primera.getHeader(HttpHeaders.ETAG), segunda.getHeader(HttpHeaders.ETAG));
+        assertArrayEquals(primera.getContentAsByteArray(), segunda.getContentAsByteArray());
+        assertNotEquals(primera.getHeader(HttpHeaders.ETAG), pedir("/api/juegos/tendencias?limite=4", null).getHeader(HttpHeaders.ETAG));
+    }
+
+    private MockHttpServletResponse pedir(String url, String acceptEncoding) throws Exception {
+        var peticion = get(url);
+        if (acceptEncoding != null) {
+            peticion.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return mockMvc.perform(peticion)
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+    }
+}
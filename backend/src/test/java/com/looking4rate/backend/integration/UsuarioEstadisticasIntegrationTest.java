@@ -0,0 +1,111 @@
+package com.looking4rate.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.looking4rate.backend.dtos.EstadisticasUsuarioDTO;
+import com.looking4rate.backend.dtos.InteraccionCreacionDTO;
+import com.looking4rate.backend.dtos.UsuarioRegistroDTO;
+import com.looking4rate.backend.exceptions.ResourceNotFoundException;
+import com.looking4rate.backend.services.InteraccionService;
+import com.looking4rate.backend.services.UsuarioService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Tests de integración de las estadísticas del perfil: una sola sentencia SQL y caché por usuario
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class UsuarioEstadisticasIntegrationTest {
+
+    @Autowired
+    private UsuarioService usuarioService;
+    
+    @Autowired
+    private InteraccionService interaccionService;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    private Statistics estadisticas;
+    private Long usuarioId;
+    
+    @BeforeEach
+    void setUp() {
+        String nombre = "stats-" + UUID.randomUUID().toString().substring(0, 8);
+        usuarioId = usuarioService.registrar(new UsuarioRegistroDTO(nombre, nombre + "@test.com", "secreto123")).id();
+        interaccionService.crear(usuarioId, new InteraccionCreacionDTO(1L, 9, null, true));
+        interaccionService.crear(usuarioId, new InteraccionCreacionDTO(2L, 7, "Muy bueno", true));
+        interaccionService.crear(usuarioId, new InteraccionCreacionDTO(3L, null, null, false));
+        estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estadisticas.clear();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        usuarioService.eliminar(usuarioId);
+    }
+    
+    @Test
+    void testObtenerEstadisticas_UnaSolaSentencia() {
+        EstadisticasUsuarioDTO resultado = usuarioService.obtenerEstadisticas(usuarioId);
+        
+        assertEquals(1, estadisticas.getPrepareStatementCount());
+        assertEquals(usuarioId, resultado.usuarioId());
+        assertEquals(2, resultado.juegosJugados());
+        assertEquals(2, resultado.juegosPuntuados());
+        assertEquals(8.0, resultado.puntuacionMedia(), 1e-9);
+        assertEquals(10, resultado.histograma().size());
+        assertEquals(1L, resultado.histograma().get(9));
+        assertEquals(1L, resultado.histograma().get(7));
+        assertEquals(0L, resultado.histograma().get(10));
+        assertFalse(resultado.generos().isEmpty());
+        // Ordenados de más a menos juegos
+        for (int i = 1; i < resultado.generos().size(); i++) {
+            assertTrue(resultado.generos().get(i - 1).juegos() >= resultado.generos().get(i).juegos());
+        }
+    }
+    
+    @Test
+    void testObtenerEstadisticas_CacheadasHastaQueElUsuarioInteractua() {
+        usuarioService.obtenerEstadisticas(usuarioId);
+        usuarioService.obtenerEstadisticas(usuarioId);
+        assertEquals(1, estadisticas.getPrepareStatementCount());
+        
+        interaccionService.crear(usuarioId, new InteraccionCreacionDTO(4L, 10, null, true));
+        EstadisticasUsuarioDTO resultado = usuarioService.obtenerEstadisticas(usuarioId);
+        
+        assertEquals(3, resultado.juegosPuntuados());
+        assertEquals(1L, resultado.histograma().get(10));
+    }
+    
+    @Test
+    void testObtenerEstadisticas_UsuarioSinInteracciones() {
+        String nombre = "vacio-" + UUID.randomUUID().toString().substring(0, 8);
+        Long vacio = usuarioService.registrar(new UsuarioRegistroDTO(nombre, nombre + "@test.com", "secreto123")).id();
+        try {
+            EstadisticasUsuarioDTO resultado = usuarioService.obtenerEstadisticas(vacio);
+            
+            assertEquals(0, resultado.juegosJugados());
+            assertNull(resultado.puntuacionMedia());
+            assertTrue(resultado.histograma().values().stream().allMatch(n -> n == 0));
+            assertTrue(resultado.generos().isEmpty());
+        } finally {
+            usuarioService.eliminar(vacio);
+        }
+    }
+    
+    @Test
+    void testObtenerEstadisticas_NoExiste() {
+        assertThrows(ResourceNotFoundException.class, () -> usuarioService.obtenerEstadisticas(999_999L));
+    }
+}
@@ -0,0 +1,83 @@
+package com.looking4rate.backend.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.looking4rate.backend.dtos.SugerenciaJuegoDTO;
+import com.looking4rate.backend.repositories.JuegoRepository;
+
+@ExtendWith(MockitoExtension.class)
+class AutocompletadoJuegosTest {
+
+    @Mock
+    private JuegoRepository juegoRepository;
+    
+    @InjectMocks
+    private AutocompletadoJuegos autocompletado;
+    
+    @BeforeEach
+    void setUp() {
+        List<Object[]> juegos = new ArrayList<>();
+        juegos.add(new Object[] {1L, "The Legend of Zelda", "zelda.jpg", 50L});
+        juegos.add(new Object[] {2L, "The Last of Us", "tlou.jpg", 120L});
+        juegos.add(new Object[] {3L, "Tetris", "tetris.jpg", 10L});
+        juegos.add(new Object[] {4L, "Élite Dangerous", "elite.jpg", 5L});
+        when(juegoRepository.findDatosAutocompletado()).thenReturn(juegos);
+        autocompletado.inicializar();
+    }
+    
+    @Test
+    void testSugerir_OrdenaPorPopularidad() {
+        var sugerencias = autocompletado.sugerir("t", 10);
+        
+        assertEquals(List.of(2L, 1L, 3L), sugerencias.stream().map(SugerenciaJuegoDTO::id).toList());
+    }
+    
+    @Test
+    void testSugerir_CoincideInicioDePalabraSinAcentos() {
+        assertEquals(List.of(1L), autocompletado.sugerir("zel", 10).stream().map(SugerenciaJuegoDTO::id).toList());
+        assertEquals(List.of(4L), autocompletado.sugerir("ELI", 10).stream().map(SugerenciaJuegoDTO::id).toList());
+    }
+    
+    @Test
+    void testSugerir_RespetaLimite() {
+        assertEquals(1, autocompletado.sugerir("the", 1).size());
+    }
+    
+    @Test
+    void testSugerir_ReflejaCambiosDelCatalogo() {
+        autocompletado.actualizar(new AutocompletadoJuegos.Juego(5L, "Tekken 8", "tekken.jpg", 500L));
+        autocompletado.eliminar(2L);
+        
+        assertEquals(List.of(5L, 1L, 3L), autocompletado.sugerir("t", 10).stream().map(SugerenciaJuegoDTO::id).toList());
+    }
+    
+    @Test
+    void testRefrescarPopularidad_ReordenaLasSugerencias() {
+        List<Object[]> juegos = new ArrayList<>();
+        juegos.add(new Object[] {1L, "The Legend of Zelda", "zelda.jpg", 50L});
+        juegos.add(new Object[] {2L, "The Last of Us", "tlou.jpg", 120L});
+        juegos.add(new Object[] {3L, "Tetris", "tetris.jpg", 900L});
+        juegos.add(new Object[] {4L, "Élite Dangerous", "elite.jpg", 5L});
+        when(juegoRepository.findDatosAutocompletado()).thenReturn(juegos);
+        
+        autocompletado.refrescarPopularidad();
+        
+        assertEquals(List.of(3L, 2L, 1L), autocompletado.sugerir("t", 10).stream().map(SugerenciaJuegoDTO::id).toList());
+    }
+    
+    @Test
+    void testSugerir_SinCoincidencias() {
+        assertTrue(autocompletado.sugerir("zzz", 10).isEmpty());
+    }
+}
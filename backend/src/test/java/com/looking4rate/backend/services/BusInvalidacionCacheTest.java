@@ -0,0 +1,121 @@
+package com.looking4rate.backend.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import com.looking4rate.backend.events.InteraccionCambiadaEvent;
+import com.looking4rate.backend.events.TipoCambio;
+
+@ExtendWith(MockitoExtension.class)
+class BusInvalidacionCacheTest {
+
+    private static final String CANAL = "canal_test";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private RecargaIndicesJuegos recargaIndices;
+
+    @InjectMocks
+    private BusInvalidacionCache bus;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(bus, "canal", CANAL);
+    }
+
+    @Test
+    void testTransaccion_UnAvisoConTodasLasInteracciones() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            for (long usuario = 1; usuario <= 3; usuario++) {
+                bus.alCambiarInteraccion(new InteraccionCambiadaEvent(4L, usuario, TipoCambio.CREADO));
+            }
+            bus.alCambiarInteraccion(new InteraccionCambiadaEvent(5L, 9L, TipoCambio.ELIMINADO));
+            verifyNoInteractions(jdbcTemplate);
+
+            TransactionSynchronizationUtils.triggerBeforeCommit(false);
+            TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        List<String> mensajes = avisos(2);
+        assertTrue(mensajes.get(0).endsWith("|INTERACCIONES|3|CREADO|4:1,4:2,4:3"));
+        assertTrue(mensajes.get(1).endsWith("|INTERACCIONES|1|ELIMINADO|5:9"));
+        assertNull(TransactionSynchronizationManager.getResource(bus));
+    }
+
+    @Test
+    void testLoteGrande_SePartePorLaCargaMaxima() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            for (long usuario = 1_000_000; usuario < 1_002_000; usuario++) {
+                bus.alCambiarInteraccion(new InteraccionCambiadaEvent(12L, usuario, TipoCambio.CREADO));
+            }
+            TransactionSynchronizationUtils.triggerBeforeCommit(false);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+            TransactionSynchronizationManager.unbindResourceIfPossible(bus);
+        }
+
+        // 2000 parejas de 10 caracteres más la coma: 22 000 bytes en avisos de menos de 8000
+        List<String> mensajes = avisos(4);
+        assertTrue(mensajes.stream().allMatch(mensaje -> mensaje.length() < 8000));
+        assertEquals(2000, mensajes.stream().mapToInt(mensaje -> Integer.parseInt(mensaje.split("\\|")[2])).sum());
+    }
+
+    @Test
+    void testSinTransaccion_NoSeAvisa() {
+        bus.alCambiarInteraccion(new InteraccionCambiadaEvent(4L, 1L, TipoCambio.CREADO));
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void testRecibirInteracciones_UnEventoPorPareja() {
+        bus.procesar("otro-nodo|INTERACCIONES|2|ACTUALIZADO|4:1,7:3");
+
+        verify(eventPublisher).publishEvent(new InteraccionCambiadaEvent(4L, 1L, TipoCambio.ACTUALIZADO));
+        verify(eventPublisher).publishEvent(new InteraccionCambiadaEvent(7L, 3L, TipoCambio.ACTUALIZADO));
+        verifyNoMoreInteractions(eventPublisher);
+    }
+
+    @Test
+    void testRecibirRecarga_ProgramaUnaRecargaCompleta() {
+        bus.procesar("otro-nodo|RECARGA|0|ACTUALIZADO");
+
+        verify(recargaIndices).programarCompleta();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> avisos(int cantidad) {
+        ArgumentCaptor<String> mensaje = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, times(cantidad)).query(eq("SELECT pg_notify(?, ?)"), any(ResultSetExtractor.class),
+                eq(CANAL), mensaje.capture());
+        return mensaje.getAllValues();
+    }
+}
@@ -0,0 +1,228 @@
+package com.looking4rate.backend.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import com.looking4rate.backend.dtos.JuegoResumenDTO;
+import com.looking4rate.backend.events.InteraccionCambiadaEvent;
+import com.looking4rate.backend.events.JuegoCambiadoEvent;
+import com.looking4rate.backend.events.TipoCambio;
+import com.looking4rate.backend.exceptions.BusinessLogicException;
+import com.looking4rate.backend.repositories.JuegoRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ClasificacionJuegosTest {
+
+    @Mock
+    private JuegoRepository juegoRepository;
+
+    @InjectMocks
+    private ClasificacionJuegos clasificacion;
+
+    @BeforeEach
+    void setUp() {
+        List<Object[]> juegos = new ArrayList<>();
+        juegos.add(fila(1L, 8.0, 2, 5));
+        juegos.add(fila(2L, 9.5, 4, 4));
+        juegos.add(fila(3L, 8.0, 1, 9));
+        juegos.add(fila(4L, 0.0, 0, 0));
+        when(juegoRepository.findDatosClasificacion()).thenReturn(juegos);
+        clasificacion.inicializar();
+    }
+
+    @Test
+    void testMejorValorados_OrdenPorMediaYDespuesPorId() {
+        assertEquals(List.of(2L, 1L, 3L, 4L), ids(clasificacion.mejorValorados(10)));
+        assertEquals(List.of(2L, 1L), ids(clasificacion.mejorValorados(2)));
+        // Sin valoraciones la media del resumen es null
+        assertNull(clasificacion.mejorValorados(4).get(3).puntuacionMedia());
+    }
+
+    @Test
+    void testMasReviewados_OrdenPorInteracciones() {
+        assertEquals(List.of(3L, 1L, 2L, 4L), ids(clasificacion.masReviewados(10)));
+    }
+
+    @Test
+    void testInteraccion_RecolocaElJuego() {
+        when(juegoRepository.findDatosClasificacionById(4L)).thenReturn(List.<Object[]>of(fila(4L, 10.0, 1, 12)));
+
+        clasificacion.alCambiarInteraccion(new InteraccionCambiadaEvent(4L, 7L, TipoCambio.CREADO));
+
+        assertEquals(List.of(4L, 2L, 1L, 3L), ids(clasificacion.mejorValorados(10)));
+        assertEquals(List.of(4L, 3L, 1L, 2L), ids(clasificacion.masReviewados(10)));
+    }
+
+    @Test
+    void testTransaccion_ReleeCadaJuegoUnaVezAlConfirmar() {
+        when(juegoRepository.findDatosClasificacionById(4L)).thenReturn(List.<Object[]>of(fila(4L, 10.0, 3, 3)));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            for (long usuario = 1; usuario <= 3; usuario++) {
+                clasificacion.alCambiarInteraccion(new InteraccionCambiadaEvent(4L, usuario, TipoCambio.CREADO));
+            }
+            verify(juegoRepository, never()).findDatosClasificacionById(any());
+
+            TransactionSynchronizationUtils.triggerAfterCommit();
+            TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(juegoRepository, times(1)).findDatosClasificacionById(4L);
+        assertEquals(4L, clasificacion.mejorValorados(1).get(0).id());
+        assertNull(TransactionSynchronizationManager.getResource(clasificacion));
+    }
+
+    @Test
+    void testEliminarJuego_DesapareceDeAmbasListas() {
+        clasificacion.alCambiarJuego(new JuegoCambiadoEvent(2L, TipoCambio.ELIMINADO));
+
+        assertEquals(List.of(1L, 3L, 4L), ids(clasificacion.mejorValorados(10)));
+        assertEquals(List.of(3L, 1L, 4L), ids(clasificacion.masReviewados(10)));
+        verify(juegoRepository, never()).findDatosClasificacionById(any());
+    }
+
+    @Test
+    void testListas_MismaInstanciaHastaElSiguienteCambio() {
+        List<JuegoResumenDTO> primera = clasificacion.mejorValorados(3);
+        assertSame(primera, clasificacion.mejorValorados(3));
+
+        when(juegoRepository.findDatosClasificacionById(1L)).thenReturn(List.<Object[]>of(fila(1L, 7.0, 3, 6)));
+        clasificacion.alCambiarInteraccion(new InteraccionCambiadaEvent(1L, 7L, TipoCambio.ACTUALIZADO));
+
+        List<JuegoResumenDTO> segunda = clasificacion.mejorValorados(3);
+        assertNotSame(primera, segunda);
+        assertEquals(List.of(2L, 3L, 1L), ids(segunda));
+    }
+
+    @Test
+    void testRecargar_LosLectoresVenLaClasificacionAnteriorHastaElFinal() {
+        List<List<Long>> vistas = new ArrayList<>();
+        when(juegoRepository.findDatosClasificacion()).thenAnswer(invocacion -> {
+            // Lectura concurrente mientras se leen las filas nuevas
+            vistas.add(ids(clasificacion.masReviewados(10)));
+            vistas.add(ids(clasificacion.mejorValorados(10)));
+            return List.of(fila(1L, 8.0, 2, 5), fila(5L, 6.0, 1, 1));
+        });
+
+        clasificacion.recargar();
+
+        assertEquals(List.of(List.of(3L, 1L, 2L, 4L), List.of(2L, 1L, 3L, 4L)), vistas);
+        assertEquals(List.of(1L, 5L), ids(clasificacion.masReviewados(10)));
+    }
+
+    @Test
+    void testMediaBayesiana_MuchasValoracionesPesanMasQueUnaSola() {
+        ReflectionTestUtils.setField(clasificacion, "votosMinimos", 10);
+        when(juegoRepository.findDatosClasificacion()).thenReturn(List.of(
+                fila(1L, 10.0, 1, 1), fila(2L, 9.4, 5000, 5000), fila(3L, 6.0, 2000, 2000)));
+
+        clasificacion.recargar();
+
+        assertEquals(List.of(2L, 1L, 3L), ids(clasificacion.mejorValorados(10)));
+        // El resumen sigue mostrando la media real
+        assertEquals(10.0, clasificacion.mejorValorados(10).get(1).puntuacionMedia());
+    }
+
+    @Test
+    void testMediaGlobal_SeRecalculaSoloAlSuperarElUmbral() {
+        ReflectionTestUtils.setField(clasificacion, "votosMinimos", 5);
+        when(juegoRepository.findDatosClasificacion()).thenReturn(List.of(fila(1L, 9.0, 2, 2), fila(2L, 7.0, 20, 20)));
+        when(juegoRepository.findDatosClasificacionById(3L)).thenReturn(List.<Object[]>of(fila(3L, 1.0, 200, 200)));
+
+        // Con C ≈ 7,2 el juego 1 (pocas valoraciones altas) va primero
+        ReflectionTestUtils.setField(clasificacion, "umbralMediaGlobal", 100.0);
+        clasificacion.recargar();
+        assertEquals(List.of(1L, 2L), ids(clasificacion.mejorValorados(10)));
+
+        // Un desplazamiento por debajo del umbral conserva la C anterior
+        clasificacion.alCambiarInteraccion(new InteraccionCambiadaEvent(3L, 7L, TipoCambio.CREADO));
+        assertEquals(List.of(1L, 2L, 3L), ids(clasificacion.mejorValorados(10)));
+
+        // Al superarlo (C ≈ 1,6) se recalculan todos y el juego 2 pasa delante
+        ReflectionTestUtils.setField(clasificacion, "umbralMediaGlobal", 0.5);
+        clasificacion.alCambiarInteraccion(new InteraccionCambiadaEvent(3L, 7L, TipoCambio.ACTUALIZADO));
+        assertEquals(List.of(2L, 1L, 3L), ids(clasificacion.mejorValorados(10)));
+    }
+
+    @Test
+    void testMediaGlobalFija_IgnoraLasValoraciones() {
+        ReflectionTestUtils.setField(clasificacion, "votosMinimos", 5);
+        ReflectionTestUtils.setField(clasificacion, "mediaGlobalFija", 10.0);
+        when(juegoRepository.findDatosClasificacion()).thenReturn(List.of(fila(1L, 9.0, 2, 2), fila(2L, 9.5, 50, 50)));
+
+        clasificacion.recargar();
+
+        // Con C = 10 las pocas valoraciones del juego 1 suben hacia 10
+        assertEquals(List.of(1L, 2L), ids(clasificacion.mejorValorados(10)));
+    }
+
+    @Test
+    void testLimiteNoPositivo_LanzaExcepcion() {
+        assertThrows(BusinessLogicException.class, () -> clasificacion.mejorValorados(0));
+    }
+
+    @Test
+    void testRecorrerMejorValorados_MismoOrdenSinMemorizar() {
+        assertEquals(List.of(2L, 1L, 3L, 4L), ids(clasificacion.recorrerMejorValorados().toList()));
+        assertEquals(List.of(1L, 3L), ids(clasificacion.recorrerMejorValorados().filter(j -> j.id() != 2L).limit(2).toList()));
+
+        Map<?, ?> memoria = (Map<?, ?>) ReflectionTestUtils.getField(clasificacion, "memoriaPuntuacion");
+        assertTrue(memoria.isEmpty());
+    }
+
+    @Test
+    void testRefrescosConcurrentes_GanaLaUltimaLectura() throws Exception {
+        CountDownLatch leyendo = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        when(juegoRepository.findDatosClasificacionById(4L))
+                .thenAnswer(invocacion -> {
+                    leyendo.countDown();
+                    liberar.await(5, TimeUnit.SECONDS);
+                    return List.<Object[]>of(fila(4L, 5.0, 1, 1));
+                })
+                .thenReturn(List.<Object[]>of(fila(4L, 6.0, 2, 20)));
+
+        Thread primero = new Thread(() -> clasificacion.alCambiarInteraccion(new InteraccionCambiadaEvent(4L, 7L, TipoCambio.CREADO)));
+        primero.start();
+        assertTrue(leyendo.await(5, TimeUnit.SECONDS));
+        // El segundo cambio espera a que el primero coloque su fila antes de leer la suya
+        Thread segundo = new Thread(() -> clasificacion.alCambiarInteraccion(new InteraccionCambiadaEvent(4L, 8L, TipoCambio.CREADO)));
+        segundo.start();
+        Thread.sleep(100);
+        liberar.countDown();
+        primero.join(5000);
+        segundo.join(5000);
+
+        assertEquals(4L, clasificacion.masReviewados(1).get(0).id());
+    }
+
+    private static Object[] fila(Long id, double media, long puntuadas, long interacciones) {
+        return new Object[] {id, "Juego " + id, null, LocalDate.of(2020, 1, 1), media, puntuadas, interacciones,
+                Math.round(media * puntuadas)};
+    }
+
+    private static List<Long> ids(List<JuegoResumenDTO> juegos) {
+        return juegos.stream().map(JuegoResumenDTO::id).toList();
+    }
+}
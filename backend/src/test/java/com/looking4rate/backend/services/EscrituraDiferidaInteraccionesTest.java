@@ -0,0 +1,142 @@
+package com.looking4rate.backend.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.ArrayBlockingQueue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.looking4rate.backend.dtos.InteraccionCreacionDTO;
+import com.looking4rate.backend.dtos.InteraccionDTO;
+import com.looking4rate.backend.dtos.JuegoResumenDTO;
+import com.looking4rate.backend.events.InteraccionCambiadaEvent;
+import com.looking4rate.backend.events.JuegoCambiadoEvent;
+import com.looking4rate.backend.events.TipoCambio;
+import com.looking4rate.backend.exceptions.BusinessLogicException;
+import com.looking4rate.backend.exceptions.DuplicateResourceException;
+import com.looking4rate.backend.exceptions.ResourceNotFoundException;
+import com.looking4rate.backend.exceptions.ServiceUnavailableException;
+
+/**
+ * Validación en memoria y contrapresión de la cola (sin hilo drenador: la cola no se vacía)
+ */
+@ExtendWith(MockitoExtension.class)
+class EscrituraDiferidaInteraccionesTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    @Mock
+    private JuegoStatsService juegoStatsService;
+    
+    @Mock
+    private ClasificacionJuegos clasificacionJuegos;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @InjectMocks
+    private EscrituraDiferidaInteracciones escritura;
+    
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(escritura, "habilitada", true);
+        ReflectionTestUtils.setField(escritura, "esperaEncolar", Duration.ofMillis(20));
+        ReflectionTestUtils.setField(escritura, "cola", new ArrayBlockingQueue<>(2));
+        ReflectionTestUtils.setField(escritura, "aceptando", true);
+        lenient().when(clasificacionJuegos.resumen(anyLong()))
+                .thenAnswer(inv -> new JuegoResumenDTO(inv.getArgument(0), "Juego", "portada.jpg", LocalDate.of(2020, 1, 1), null));
+    }
+    
+    @Test
+    void testEncolar_RespondeSinIdYSinTocarLaBaseDeDatos() {
+        InteraccionDTO aceptada = escritura.encolar(1L, dto(5L, 8));
+        
+        assertNull(aceptada.id());
+        assertEquals(5L, aceptada.juegoId());
+        assertEquals("Juego", aceptada.nombreJuego());
+        assertEquals(8, aceptada.puntuacion());
+        assertEquals(1, escritura.pendientes());
+        verifyNoInteractions(jdbcTemplate, transactionManager, juegoStatsService);
+    }
+    
+    @Test
+    void testEncolar_Duplicada_SeRechazaEnMemoria() {
+        escritura.encolar(1L, dto(5L, 8));
+        
+        assertThrows(DuplicateResourceException.class, () -> escritura.encolar(1L, dto(5L, 3)));
+        
+        // Una ya guardada por el camino síncrono también cuenta
+        escritura.alCambiarInteraccion(new InteraccionCambiadaEvent(6L, 1L, TipoCambio.CREADO));
+        assertThrows(DuplicateResourceException.class, () -> escritura.encolar(1L, dto(6L, 3)));
+        
+        // Y tras borrarla se puede volver a crear
+        escritura.alCambiarInteraccion(new InteraccionCambiadaEvent(6L, 1L, TipoCambio.ELIMINADO));
+        assertNotNull(escritura.encolar(1L, dto(6L, 3)));
+    }
+    
+    @Test
+    void testIdsDeMasDe32Bits_NoSeConfundenEnElIndice() {
+        long juegoGrande = (1L << 32) + 5;
+        escritura.encolar(1L, dto(5L, 8));
+
+        // Con usuarioId << 32 | juegoId ambas parejas daban la misma clave
+        assertNotNull(escritura.encolar(0L, dto(juegoGrande, 8)));
+
+        // Borrar el juego 5 no libera la pareja del otro juego
+        escritura.alCambiarJuego(new JuegoCambiadoEvent(5L, TipoCambio.ELIMINADO));
+        assertThrows(DuplicateResourceException.class, () -> escritura.encolar(0L, dto(juegoGrande, 3)));
+    }
+    
+    @Test
+    void testEncolar_DatosInvalidos() {
+        when(clasificacionJuegos.resumen(99L)).thenReturn(null);
+        
+        assertThrows(ResourceNotFoundException.class, () -> escritura.encolar(1L, dto(99L, 8)));
+        assertThrows(BusinessLogicException.class, () -> escritura.encolar(1L, dto(5L, 11)));
+        assertEquals(0, escritura.pendientes());
+    }
+    
+    @Test
+    void testColaLlena_EsperaYRechazaSinReservarLaPareja() {
+        escritura.encolar(1L, dto(1L, 8));
+        escritura.encolar(1L, dto(2L, 8));
+        
+        long inicio = System.nanoTime();
+        assertThrows(ServiceUnavailableException.class, () -> escritura.encolar(1L, dto(3L, 8)));
+        
+        assertTrue(System.nanoTime() - inicio >= Duration.ofMillis(20).toNanos());
+        assertEquals(2, escritura.pendientes());
+        // La pareja rechazada queda libre para el reintento
+        ReflectionTestUtils.setField(escritura, "cola", new ArrayBlockingQueue<>(2));
+        assertNotNull(escritura.encolar(1L, dto(3L, 8)));
+    }
+    
+    @Test
+    void testCerrando_NoAceptaAltas() {
+        ReflectionTestUtils.setField(escritura, "aceptando", false);
+        
+        assertFalse(escritura.activa());
+        assertThrows(ServiceUnavailableException.class, () -> escritura.encolar(1L, dto(1L, 8)));
+        assertEquals(0, escritura.pendientes());
+    }
+    
+    private static InteraccionCreacionDTO dto(Long juegoId, Integer puntuacion) {
+        return new InteraccionCreacionDTO(juegoId, puntuacion, null, true);
+    }
+}
@@ -0,0 +1,122 @@
+package com.looking4rate.backend.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.looking4rate.backend.events.CatalogoCambiadoEvent;
+import com.looking4rate.backend.events.CatalogoCambiadoEvent.Catalogo;
+import com.looking4rate.backend.events.TipoCambio;
+import com.looking4rate.backend.repositories.JuegoDesarrolladoraRepository;
+import com.looking4rate.backend.repositories.JuegoGeneroRepository;
+import com.looking4rate.backend.repositories.JuegoPlataformaRepository;
+import com.looking4rate.backend.repositories.JuegoRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ExploradorJuegosTest {
+
+    @Mock
+    private JuegoRepository juegoRepository;
+    
+    @Mock
+    private JuegoGeneroRepository juegoGeneroRepository;
+    
+    @Mock
+    private JuegoPlataformaRepository juegoPlataformaRepository;
+    
+    @Mock
+    private JuegoDesarrolladoraRepository juegoDesarrolladoraRepository;
+    
+    @InjectMocks
+    private ExploradorJuegos explorador;
+    
+    @BeforeEach
+    void setUp() {
+        // Juegos 1-4; géneros 10 (1, 2, 3) y 11 (3, 4); plataformas 20 (1, 3) y 21 (2, 4); desarrolladora 30 (1, 2)
+        List<Object[]> juegos = new ArrayList<>();
+        juegos.add(new Object[] {1L, LocalDate.of(2020, 3, 1)});
+        juegos.add(new Object[] {2L, LocalDate.of(2020, 9, 1)});
+        juegos.add(new Object[] {3L, LocalDate.of(2023, 5, 1)});
+        juegos.add(new Object[] {4L, LocalDate.of(2023, 11, 1)});
+        when(juegoRepository.findIdYFechaSalida()).thenReturn(juegos);
+        when(juegoGeneroRepository.findParesIds()).thenReturn(pares(1L, 10L, 2L, 10L, 3L, 10L, 3L, 11L, 4L, 11L));
+        when(juegoPlataformaRepository.findParesIds()).thenReturn(pares(1L, 20L, 3L, 20L, 2L, 21L, 4L, 21L));
+        when(juegoDesarrolladoraRepository.findParesIds()).thenReturn(pares(1L, 30L, 2L, 30L));
+        explorador.inicializar();
+    }
+    
+    @Test
+    void testExplorar_SinFiltrosDevuelveTodoElCatalogo() {
+        var resultado = explorador.explorar(null, null, null, null, 0, 10);
+        
+        assertEquals(4, resultado.total());
+        assertEquals(List.of(4L, 3L, 2L, 1L), resultado.ids());
+        assertEquals(Map.of(10L, 3L, 11L, 2L), resultado.facetas().generos());
+        assertEquals(Map.of(2020, 2L, 2023, 2L), resultado.facetas().anios());
+    }
+    
+    @Test
+    void testExplorar_OrDentroDeFacetaYAndEntreFacetas() {
+        var resultado = explorador.explorar(List.of(10L, 11L), List.of(20L), null, List.of(2023), 0, 10);
+        
+        assertEquals(List.of(3L), resultado.ids());
+    }
+    
+    @Test
+    void testExplorar_RecuentosIgnoranElFiltroDeSuPropiaFaceta() {
+        var resultado = explorador.explorar(List.of(11L), null, null, null, 0, 10);
+        
+        assertEquals(List.of(4L, 3L), resultado.ids());
+        // Los géneros se cuentan sobre todo el catálogo; el resto de facetas sobre los juegos del género 11
+        assertEquals(Map.of(10L, 3L, 11L, 2L), resultado.facetas().generos());
+        assertEquals(Map.of(20L, 1L, 21L, 1L), resultado.facetas().plataformas());
+        assertEquals(Map.of(30L, 0L), resultado.facetas().desarrolladoras());
+    }
+    
+    @Test
+    void testExplorar_PaginaYValorDesconocido() {
+        var pagina = explorador.explorar(null, null, null, null, 1, 3);
+        assertEquals(List.of(1L), pagina.ids());
+        assertEquals(4, pagina.total());
+        
+        assertEquals(0, explorador.explorar(List.of(99L), null, null, null, 0, 10).total());
+    }
+    
+    @Test
+    void testExplorar_ReflejaCambiosDelCatalogo() {
+        explorador.actualizar(5L, 2024, List.of(11L), List.of(20L), List.of());
+        explorador.actualizar(1L, 2020, List.of(11L), List.of(20L), List.of(30L));
+        explorador.eliminar(4L);
+        
+        var resultado = explorador.explorar(List.of(11L), null, null, null, 0, 10);
+        assertEquals(List.of(5L, 3L, 1L), resultado.ids());
+        assertEquals(Map.of(10L, 2L, 11L, 3L), resultado.facetas().generos());
+        assertEquals(Map.of(2020, 2L, 2023, 1L, 2024, 1L), explorador.explorar(null, null, null, null, 0, 10).facetas().anios());
+    }
+    
+    @Test
+    void testExplorar_EliminarGeneroQuitaSuValor() {
+        explorador.alCambiarCatalogo(new CatalogoCambiadoEvent(Catalogo.GENERO, 10L, TipoCambio.ELIMINADO));
+        
+        assertEquals(Map.of(11L, 2L), explorador.explorar(null, null, null, null, 0, 10).facetas().generos());
+    }
+    
+    private static List<Object[]> pares(Long... valores) {
+        List<Object[]> pares = new ArrayList<>();
+        for (int i = 0; i < valores.length; i += 2) {
+            pares.add(new Object[] {valores[i], valores[i + 1]});
+        }
+        return pares;
+    }
+}
@@ -0,0 +1,66 @@
+package com.looking4rate.backend.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.looking4rate.backend.repositories.JuegoRepository;
+
+@ExtendWith(MockitoExtension.class)
+class IndiceBusquedaJuegosTest {
+
+    @Mock
+    private JuegoRepository juegoRepository;
+    
+    @InjectMocks
+    private IndiceBusquedaJuegos indice;
+    
+    @BeforeEach
+    void setUp() {
+        List<Object[]> juegos = new ArrayList<>();
+        juegos.add(new Object[] {1L, "Acción Total"});
+        juegos.add(new Object[] {2L, "The Legend of Zelda: Breath of the Wild"});
+        juegos.add(new Object[] {3L, "Zelda"});
+        juegos.add(new Object[] {4L, "Hades"});
+        when(juegoRepository.findIdYNombre()).thenReturn(juegos);
+        indice.inicializar();
+    }
+    
+    @Test
+    void testBuscar_IgnoraAcentosYMayusculas() {
+        assertEquals(List.of(1L), indice.buscar("ACCION", 10));
+    }
+    
+    @Test
+    void testBuscar_OrdenaPorSimilitud() {
+        // Los dos contienen "zelda"; el nombre exacto es más similar
+        assertEquals(List.of(3L, 2L), indice.buscar("zelda", 10));
+    }
+    
+    @Test
+    void testBuscar_ToleraErroresTipograficos() {
+        assertEquals(List.of(4L), indice.buscar("hadess", 10));
+    }
+    
+    @Test
+    void testBuscar_ReflejaCambiosDelCatalogo() {
+        indice.actualizar(5L, "Hades II");
+        indice.eliminar(4L);
+        
+        assertEquals(List.of(5L), indice.buscar("hades", 10));
+    }
+    
+    @Test
+    void testBuscar_TextoVacio() {
+        assertTrue(indice.buscar("  ", 10).isEmpty());
+    }
+}
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.looking4rate.backend.dtos.InteraccionCreacionDTO;
 import com.looking4rate.backend.entities.Interaccion;
@@ -37,6 +38,15 @@ class InteraccionServiceTest {
     @Mock
     private JuegoRepository juegoRepository;
     
+    @Mock
+    private JuegoStatsService juegoStatsService;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Mock
+    private EscrituraDiferidaInteracciones escrituraDiferida;
+    
     @InjectMocks
     private InteraccionService interaccionService;
     
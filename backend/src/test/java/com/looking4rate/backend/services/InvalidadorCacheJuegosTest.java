@@ -0,0 +1,170 @@
+package com.looking4rate.backend.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+
+import com.looking4rate.backend.dtos.JuegoResumenDTO;
+import com.looking4rate.backend.events.CatalogoCambiadoEvent;
+import com.looking4rate.backend.events.CatalogoCambiadoEvent.Catalogo;
+import com.looking4rate.backend.events.InteraccionCambiadaEvent;
+import com.looking4rate.backend.events.JuegoCambiadoEvent;
+import com.looking4rate.backend.events.TipoCambio;
+import com.looking4rate.backend.repositories.JuegoDesarrolladoraRepository;
+import com.looking4rate.backend.repositories.JuegoGeneroRepository;
+import com.looking4rate.backend.repositories.JuegoPlataformaRepository;
+import com.looking4rate.backend.repositories.JuegoRepository;
+
+@ExtendWith(MockitoExtension.class)
+class InvalidadorCacheJuegosTest {
+
+    @Mock
+    private JuegoRepository juegoRepository;
+    
+    @Mock
+    private JuegoGeneroRepository juegoGeneroRepository;
+    
+    @Mock
+    private JuegoPlataformaRepository juegoPlataformaRepository;
+    
+    @Mock
+    private JuegoDesarrolladoraRepository juegoDesarrolladoraRepository;
+    
+    private CacheManager cacheManager;
+    private InvalidadorCacheJuegos invalidador;
+    
+    private final JuegoResumenDTO zelda = new JuegoResumenDTO(1L, "Zelda", "zelda.jpg", LocalDate.of(2017, 3, 3), 9.0);
+    private final JuegoResumenDTO tetris = new JuegoResumenDTO(2L, "Tetris", "tetris.jpg", LocalDate.of(1984, 6, 6), 8.0);
+    
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CaffeineCacheManager("juegos-listado", "juegos-novedades", "juegos-proximos",
+                "juego-detalle", "juegos-busqueda", "usuario-estadisticas");
+        invalidador = new InvalidadorCacheJuegos(cacheManager, juegoRepository,
+                juegoGeneroRepository, juegoPlataformaRepository, juegoDesarrolladoraRepository);
+        
+        cacheManager.getCache("juego-detalle").put(1L, "detalle zelda");
+        cacheManager.getCache("juego-detalle").put(2L, "detalle tetris");
+        cacheManager.getCache("juegos-listado").put(SimpleKey.EMPTY, List.of(zelda, tetris));
+        cacheManager.getCache("juegos-proximos").put(SimpleKey.EMPTY, List.of());
+        cacheManager.getCache("juegos-busqueda").put("zelda", List.of(zelda));
+        cacheManager.getCache("juegos-busqueda").put("mario", List.of());
+        cacheManager.getCache("usuario-estadisticas").put(10L, "estadisticas usuario 10");
+        cacheManager.getCache("usuario-estadisticas").put(11L, "estadisticas usuario 11");
+    }
+    
+    @Test
+    void testEditarSinCambiosVisibles_SoloExpulsaElDetalle() {
+        stubResumen(zelda);
+        
+        invalidador.alCambiarJuego(new JuegoCambiadoEvent(1L, TipoCambio.ACTUALIZADO));
+        
+        assertFalse(presente("juego-detalle", 1L));
+        assertTrue(presente("juego-detalle", 2L));
+        assertTrue(presente("juegos-listado", SimpleKey.EMPTY));
+        assertTrue(presente("juegos-busqueda", "zelda"));
+    }
+    
+    @Test
+    void testRenombrar_ExpulsaListasQueLoMuestranYBusquedasQueLoEncuentran() {
+        stubResumen(new JuegoResumenDTO(1L, "Super Mario", "zelda.jpg", LocalDate.of(2017, 3, 3), 9.0));
+        
+        invalidador.alCambiarJuego(new JuegoCambiadoEvent(1L, TipoCambio.ACTUALIZADO));
+        
+        assertFalse(presente("juegos-listado", SimpleKey.EMPTY));
+        assertFalse(presente("juegos-busqueda", "zelda"));
+        assertFalse(presente("juegos-busqueda", "mario"));
+        assertTrue(presente("juegos-proximos", SimpleKey.EMPTY));
+    }
+    
+    @Test
+    void testCrear_SoloExpulsaListasEnLasQuePuedeEntrar() {
+        stubResumen(new JuegoResumenDTO(3L, "Tekken", "tekken.jpg", LocalDate.of(2024, 1, 26), null));
+        
+        invalidador.alCambiarJuego(new JuegoCambiadoEvent(3L, TipoCambio.CREADO));
+        
+        // Entra en el listado completo; ya ha salido, así que no en próximos lanzamientos
+        assertFalse(presente("juegos-listado", SimpleKey.EMPTY));
+        assertTrue(presente("juegos-proximos", SimpleKey.EMPTY));
+        assertTrue(presente("juegos-busqueda", "zelda"));
+        assertTrue(presente("juego-detalle", 1L));
+    }
+    
+    @Test
+    void testCrear_NovedadesSegunFecha() {
+        List<JuegoResumenDTO> novedades = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            novedades.add(new JuegoResumenDTO(100L + i, "Juego " + i, null, LocalDate.of(2020, 1, 10 - i), null));
+        }
+        cacheManager.getCache("juegos-novedades").put(SimpleKey.EMPTY, novedades);
+        
+        invalidador.invalidar(3L, new JuegoResumenDTO(3L, "Antiguo", null, LocalDate.of(1990, 1, 1), null));
+        assertTrue(presente("juegos-novedades", SimpleKey.EMPTY));
+        
+        invalidador.invalidar(4L, new JuegoResumenDTO(4L, "Reciente", null, LocalDate.of(2021, 1, 1), null));
+        assertFalse(presente("juegos-novedades", SimpleKey.EMPTY));
+    }
+    
+    @Test
+    void testEliminar_SoloExpulsaListasQueLoContienen() {
+        invalidador.alCambiarJuego(new JuegoCambiadoEvent(1L, TipoCambio.ELIMINADO));
+        
+        assertFalse(presente("juegos-listado", SimpleKey.EMPTY));
+        assertFalse(presente("juegos-busqueda", "zelda"));
+        assertTrue(presente("juegos-busqueda", "mario"));
+        assertTrue(presente("juegos-proximos", SimpleKey.EMPTY));
+        verifyNoInteractions(juegoRepository);
+    }
+    
+    @Test
+    void testRenombrarGenero_ExpulsaElDetalleDeSusJuegos() {
+        when(juegoGeneroRepository.findJuegoIdsByGeneroId(7L)).thenReturn(List.of(2L));
+        
+        invalidador.alCambiarCatalogo(new CatalogoCambiadoEvent(Catalogo.GENERO, 7L, TipoCambio.ACTUALIZADO));
+        
+        assertTrue(presente("juego-detalle", 1L));
+        assertFalse(presente("juego-detalle", 2L));
+    }
+    
+    @Test
+    void testInteraccion_ExpulsaSoloLasEstadisticasDeSuUsuario() {
+        invalidador.alCambiarInteraccion(new InteraccionCambiadaEvent(1L, 10L, TipoCambio.CREADO));
+        
+        assertFalse(presente("juego-detalle", 1L));
+        assertFalse(presente("usuario-estadisticas", 10L));
+        assertTrue(presente("usuario-estadisticas", 11L));
+    }
+    
+    @Test
+    void testCrearJuego_NoTocaLasEstadisticas_EliminarLasVacia() {
+        stubResumen(new JuegoResumenDTO(3L, "Tekken", "tekken.jpg", LocalDate.of(2024, 1, 26), null));
+        invalidador.alCambiarJuego(new JuegoCambiadoEvent(3L, TipoCambio.CREADO));
+        assertTrue(presente("usuario-estadisticas", 10L));
+        
+        invalidador.alCambiarJuego(new JuegoCambiadoEvent(1L, TipoCambio.ELIMINADO));
+        assertFalse(presente("usuario-estadisticas", 10L));
+        assertFalse(presente("usuario-estadisticas", 11L));
+    }
+    
+    private void stubResumen(JuegoResumenDTO juego) {
+        List<Object[]> filas = new ArrayList<>();
+        filas.add(new Object[] {juego.id(), juego.nombre(), juego.imagenPortada(), juego.fechaSalida(), juego.puntuacionMedia()});
+        when(juegoRepository.findResumenByIds(List.of(juego.id()))).thenReturn(filas);
+    }
+    
+    private boolean presente(String cache, Object clave) {
+        return cacheManager.getCache(cache).get(clave) != null;
+    }
+}
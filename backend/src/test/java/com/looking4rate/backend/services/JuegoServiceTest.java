@@ -5,8 +5,10 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Optional;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.looking4rate.backend.dtos.JuegoCreacionDTO;
 import com.looking4rate.backend.entities.Desarrolladora;
@@ -24,11 +27,9 @@ import com.looking4rate.backend.exceptions.ResourceNotFoundException;
 import com.looking4rate.backend.repositories.DesarrolladoraRepository;
 import com.looking4rate.backend.repositories.GeneroRepository;
 import com.looking4rate.backend.repositories.InteraccionRepository;
-import com.looking4rate.backend.repositories.JuegoDesarrolladoraRepository;
-import com.looking4rate.backend.repositories.JuegoGeneroRepository;
-import com.looking4rate.backend.repositories.JuegoPlataformaRepository;
 import com.looking4rate.backend.repositories.JuegoRepository;
 import com.looking4rate.backend.repositories.PlataformaRepository;
+import com.looking4rate.backend.repositories.RelacionesJuegoJdbcRepository;
 
 @ExtendWith(MockitoExtension.class)
 class JuegoServiceTest {
@@ -49,13 +50,31 @@ class JuegoServiceTest {
     private GeneroRepository generoRepository;
     
     @Mock
-    private JuegoPlataformaRepository juegoPlataformaRepository;
+    private JuegoStatsService juegoStatsService;
     
     @Mock
-    private JuegoDesarrolladoraRepository juegoDesarrolladoraRepository;
+    private IndiceBusquedaJuegos indiceBusquedaJuegos;
     
     @Mock
-    private JuegoGeneroRepository juegoGeneroRepository;
+    private ExploradorJuegos exploradorJuegos;
+    
+    @Mock
+    private ClasificacionJuegos clasificacionJuegos;
+
+    @Mock
+    private TendenciasJuegos tendenciasJuegos;
+
+    @Mock
+    private RecomendacionesJuegos recomendacionesJuegos;
+
+    @Mock
+    private SimilaresJuegos similaresJuegos;
+    
+    @Mock
+    private RelacionesJuegoJdbcRepository relacionesJuegoJdbcRepository;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     
     @InjectMocks
     private JuegoService juegoService;
@@ -87,13 +106,39 @@ class JuegoServiceTest {
     @Test
     void testObtenerPorId_NoExisteJuego() {
         // Given
-        when(juegoRepository.findById(999L)).thenReturn(Optional.empty());
+        when(juegoRepository.findDetalleById(999L)).thenReturn(List.of());
         
         // When & Then
         assertThrows(ResourceNotFoundException.class, () -> {
             juegoService.obtenerPorId(999L);
         });
-        verify(juegoRepository, times(1)).findById(999L);
+        verify(juegoRepository, times(1)).findDetalleById(999L);
+    }
+    
+    @Test
+    void testObtenerPorId_ConvierteFilaAgregada() {
+        // Given: una única fila con las relaciones agregadas en arrays
+        List<Object[]> filas = new ArrayList<>();
+        filas.add(filaDetalle());
+        when(juegoRepository.findDetalleById(1L)).thenReturn(filas);
+        
+        // When
+        var resultado = juegoService.obtenerPorId(1L);
+        
+        // Then
+        assertEquals("The Legend of Zelda", resultado.nombre());
+        assertEquals(LocalDate.of(2017, 3, 3), resultado.fechaSalida());
+        assertEquals(List.of("Nintendo Switch", "Wii U"), resultado.plataformas());
+        assertEquals(List.of("Nintendo"), resultado.desarrolladoras());
+        assertEquals(List.of("Aventura"), resultado.generos());
+        assertEquals(9.5, resultado.puntuacionMedia());
+        assertEquals(4, resultado.totalReviews());
+        assertEquals(1, resultado.imagenes().size());
+        assertEquals("captura.jpg", resultado.imagenes().get(0).url());
+        assertNull(resultado.imagenes().get(0).caption());
+        assertEquals(4, resultado.distribucion().totalPuntuadas());
+        assertEquals(0.25, resultado.distribucion().varianza(), 1e-12);
+        assertEquals(2L, resultado.distribucion().histograma().get(10));
     }
     
     @Test
@@ -104,15 +149,14 @@ class JuegoServiceTest {
         Genero genero = Genero.builder().id(1L).nombre("Aventura").build();
         
         when(juegoRepository.save(any(Juego.class))).thenReturn(juegoTest);
-        when(plataformaRepository.findById(1L)).thenReturn(Optional.of(plataforma));
-        when(desarrolladoraRepository.findById(1L)).thenReturn(Optional.of(desarrolladora));
-        when(generoRepository.findById(1L)).thenReturn(Optional.of(genero));
+        when(plataformaRepository.findAllById(Set.of(1L))).thenReturn(List.of(plataforma));
+        when(desarrolladoraRepository.findAllById(Set.of(1L))).thenReturn(List.of(desarrolladora));
+        when(generoRepository.findAllById(Set.of(1L))).thenReturn(List.of(genero));
         
-        // Mocks para el método obtenerPorId que se llama al final
-        when(juegoRepository.findById(1L)).thenReturn(Optional.of(juegoTest));
-        when(juegoPlataformaRepository.findByJuegoId(1L)).thenReturn(Arrays.asList());
-        when(juegoDesarrolladoraRepository.findByJuegoId(1L)).thenReturn(Arrays.asList());
-        when(juegoGeneroRepository.findByJuegoId(1L)).thenReturn(Arrays.asList());
+        // Mock para el método obtenerPorId que se llama al final
+        List<Object[]> filas = new ArrayList<>();
+        filas.add(filaDetalle());
+        when(juegoRepository.findDetalleById(1L)).thenReturn(filas);
         
         // When
         var resultado = juegoService.crear(juegoCreacionDTO);
@@ -120,9 +164,25 @@ class JuegoServiceTest {
         // Then
         assertNotNull(resultado);
         verify(juegoRepository, times(1)).save(any(Juego.class));
-        verify(plataformaRepository, times(1)).findById(1L);
-        verify(desarrolladoraRepository, times(1)).findById(1L);
-        verify(generoRepository, times(1)).findById(1L);
+        verify(plataformaRepository, times(1)).findAllById(Set.of(1L));
+        verify(desarrolladoraRepository, times(1)).findAllById(Set.of(1L));
+        verify(generoRepository, times(1)).findAllById(Set.of(1L));
+        verify(relacionesJuegoJdbcRepository, times(1)).insertarRelaciones(1L, Set.of(1L), Set.of(1L), Set.of(1L));
+    }
+    
+    @Test
+    void testCrear_ConIdsInexistentes_NoInsertaNada() {
+        // Given: se piden las plataformas 1, 5 y 7 pero solo existe la 1
+        Plataforma plataforma = Plataforma.builder().id(1L).nombre("Nintendo Switch").build();
+        JuegoCreacionDTO dto = new JuegoCreacionDTO("Nuevo", "Descripción", "nuevo.jpg", LocalDate.of(2020, 1, 1),
+                List.of(1L, 5L, 7L), List.of(1L), List.of(1L));
+        when(plataformaRepository.findAllById(Set.of(1L, 5L, 7L))).thenReturn(List.of(plataforma));
+        
+        // When & Then
+        ResourceNotFoundException excepcion = assertThrows(ResourceNotFoundException.class, () -> juegoService.crear(dto));
+        assertTrue(excepcion.getMessage().contains("[5, 7]"));
+        verify(juegoRepository, never()).save(any(Juego.class));
+        verifyNoInteractions(relacionesJuegoJdbcRepository);
     }
     
     @Test
@@ -154,7 +214,11 @@ class JuegoServiceTest {
     @Test
     void testBuscarPorNombre() {
         // Given
-        when(juegoRepository.findByNombreContainingIgnoreCase("Zelda")).thenReturn(Arrays.asList(juegoTest));
+        Object[] fila = {1L, "The Legend of Zelda", "zelda.jpg", LocalDate.of(2017, 3, 3), 9.5};
+        List<Object[]> filas = new ArrayList<>();
+        filas.add(fila);
+        when(indiceBusquedaJuegos.buscar(eq("Zelda"), anyInt())).thenReturn(List.of(1L));
+        when(juegoRepository.findResumenByIds(List.of(1L))).thenReturn(filas);
         
         // When
         var resultado = juegoService.buscarPorNombre("Zelda");
@@ -162,6 +226,16 @@ class JuegoServiceTest {
         // Then
         assertNotNull(resultado);
         assertEquals(1, resultado.size());
-        verify(juegoRepository, times(1)).findByNombreContainingIgnoreCase("Zelda");
+        assertEquals("The Legend of Zelda", resultado.get(0).nombre());
+        verify(indiceBusquedaJuegos, times(1)).buscar(eq("Zelda"), anyInt());
+    }
+    
+    private static Object[] filaDetalle() {
+        return new Object[] {
+            1L, "The Legend of Zelda", "Juego de aventuras", "zelda.jpg", LocalDate.of(2017, 3, 3), 9.5, 4L,
+            new String[] {"Nintendo Switch", "Wii U"}, new String[] {"Nintendo"}, new String[] {"Aventura"},
+            new Long[] {7L}, new String[] {"captura.jpg"}, new String[] {"Captura"}, new String[] {null},
+            new Long[] {0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 2L, 2L}
+        };
     }
 }
@@ -0,0 +1,110 @@
+package com.looking4rate.backend.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.looking4rate.backend.dtos.DistribucionPuntuacionesDTO;
+import com.looking4rate.backend.entities.Interaccion;
+import com.looking4rate.backend.entities.Juego;
+import com.looking4rate.backend.repositories.JuegoStatsRepository;
+
+@ExtendWith(MockitoExtension.class)
+class JuegoStatsServiceTest {
+
+    @Mock
+    private JuegoStatsRepository juegoStatsRepository;
+    
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    
+    @Mock
+    private RecargaIndicesJuegos recargaIndices;
+    
+    @InjectMocks
+    private JuegoStatsService juegoStatsService;
+    
+    private final Juego juego = Juego.builder().id(1L).nombre("Zelda").build();
+    
+    @Test
+    void testRegistrarAlta_SumaSuCubetaDelHistograma() {
+        juegoStatsService.registrarAlta(interaccion(8, true));
+        
+        verify(juegoStatsRepository).aplicarDelta(1L, 8, 1, 1, 1, 8.0,
+                0, 0, 0, 0, 0, 0, 0, 1, 0, 0);
+    }
+    
+    @Test
+    void testRegistrarCambio_MueveElVotoDeCubeta() {
+        juegoStatsService.registrarCambio(interaccion(3, true), interaccion(9, true));
+        
+        verify(juegoStatsRepository).aplicarDelta(eq(1L), eq(6L), eq(0L), eq(0L), eq(0L), anyDouble(),
+                eq(0L), eq(0L), eq(-1L), eq(0L), eq(0L), eq(0L), eq(0L), eq(0L), eq(1L), eq(0L));
+    }
+    
+    @Test
+    void testRegistrarBaja_SinPuntuacion_NoTocaElHistograma() {
+        juegoStatsService.registrarBaja(interaccion(null, false));
+        
+        verify(juegoStatsRepository).aplicarDelta(1L, 0, -1, 0, 0, 0.0,
+                0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+    }
+    
+    @Test
+    void testDistribucion_MediaYVarianzaDelHistograma() {
+        // Puntuaciones 2, 4, 4, 4, 5, 5, 7, 9: media 5 y varianza 4
+        DistribucionPuntuacionesDTO distribucion = JuegoStatsService.distribucion(
+                new long[] {0, 1, 0, 3, 2, 0, 1, 0, 1, 0});
+        
+        assertEquals(8, distribucion.totalPuntuadas());
+        assertEquals(5.0, distribucion.media(), 1e-12);
+        assertEquals(4.0, distribucion.varianza(), 1e-12);
+        assertEquals(2.0, distribucion.desviacionTipica(), 1e-12);
+        assertEquals(10, distribucion.histograma().size());
+        assertEquals(3L, distribucion.histograma().get(4));
+    }
+    
+    @Test
+    void testDistribucion_IgualQueRecorrerLasPuntuaciones() {
+        Random random = new Random(5);
+        long[] histograma = new long[10];
+        double suma = 0;
+        double sumaCuadrados = 0;
+        int total = 100_000;
+        for (int i = 0; i < total; i++) {
+            int puntuacion = 1 + random.nextInt(10);
+            histograma[puntuacion - 1]++;
+            suma += puntuacion;
+            sumaCuadrados += puntuacion * puntuacion;
+        }
+        double media = suma / total;
+        
+        DistribucionPuntuacionesDTO distribucion = JuegoStatsService.distribucion(histograma);
+        
+        assertEquals(media, distribucion.media(), 1e-9);
+        assertEquals(sumaCuadrados / total - media * media, distribucion.varianza(), 1e-9);
+    }
+    
+    @Test
+    void testDistribucion_SinPuntuaciones() {
+        DistribucionPuntuacionesDTO distribucion = JuegoStatsService.distribucion(new long[10]);
+        
+        assertEquals(0, distribucion.totalPuntuadas());
+        assertNull(distribucion.media());
+        assertNull(distribucion.varianza());
+        assertTrue(distribucion.histograma().values().stream().allMatch(n -> n == 0));
+    }
+    
+    private Interaccion interaccion(Integer puntuacion, boolean jugado) {
+        return Interaccion.builder().juego(juego).puntuacion(puntuacion).estado_jugado(jugado).build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.looking4rate.backend.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class LectorCsvTest {
+
+    @Test
+    void testComillas_ComasSaltosYComillasDobladas() throws IOException {
+        LectorCsv lector = new LectorCsv(new StringReader("a,\"b,c\",\"d\"\"e\"\r\n\"f\ng\",h\ri,j\"k\n"));
+
+        assertEquals(List.of("a", "b,c", "d\"e"), lector.siguiente());
+        assertEquals(1, lector.lineaRegistro());
+        assertEquals(List.of("f\ng", "h"), lector.siguiente());
+        assertEquals(2, lector.lineaRegistro());
+        // Una comilla a mitad de campo no abre comillas
+        assertEquals(List.of("i", "j\"k"), lector.siguiente());
+        assertEquals(4, lector.lineaRegistro());
+        assertNull(lector.siguiente());
+    }
+
+    @Test
+    void testUltimoRegistroSinSaltoYCamposVacios() throws IOException {
+        LectorCsv lector = new LectorCsv(new StringReader(",x,\n\nfin"));
+
+        assertEquals(List.of("", "x", ""), lector.siguiente());
+        assertEquals(List.of(""), lector.siguiente());
+        assertEquals(List.of("fin"), lector.siguiente());
+        assertNull(lector.siguiente());
+    }
+
+    @Test
+    void testComillasSinCerrar_LanzaExcepcion() throws IOException {
+        LectorCsv lector = new LectorCsv(new StringReader("ok\n\"abierta,\nsigue"));
+
+        assertEquals(List.of("ok"), lector.siguiente());
+        IOException e = assertThrows(IOException.class, lector::siguiente);
+        assertTrue(e.getMessage().contains("línea 2"));
+    }
+}
@@ -0,0 +1,307 @@
+package com.looking4rate.backend.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.looking4rate.backend.dtos.JuegoResumenDTO;
+import com.looking4rate.backend.events.CatalogoCambiadoEvent;
+import com.looking4rate.backend.events.JuegosImportadosEvent;
+import com.looking4rate.backend.events.TipoCambio;
+import com.looking4rate.backend.exceptions.BusinessLogicException;
+import com.looking4rate.backend.repositories.JuegoDesarrolladoraRepository;
+import com.looking4rate.backend.repositories.JuegoGeneroRepository;
+import com.looking4rate.backend.repositories.JuegoPlataformaRepository;
+import com.looking4rate.backend.repositories.JuegoRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SimilaresJuegosTest {
+
+    @Mock
+    private JuegoRepository juegoRepository;
+
+    @Mock
+    private JuegoGeneroRepository juegoGeneroRepository;
+
+    @Mock
+    private JuegoPlataformaRepository juegoPlataformaRepository;
+
+    @Mock
+    private JuegoDesarrolladoraRepository juegoDesarrolladoraRepository;
+
+    @Mock
+    private ClasificacionJuegos clasificacionJuegos;
+
+    @InjectMocks
+    private SimilaresJuegos similares;
+
+    /** juegoId → {géneros, plataformas, desarrolladoras} */
+    private final Map<Long, List<Set<Long>>> catalogo = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        configurar(similares, 2);
+        lenient().when(clasificacionJuegos.resumen(any()))
+                .thenAnswer(inv -> new JuegoResumenDTO(inv.getArgument(0), "Juego", null, LocalDate.of(2020, 1, 1), null));
+
+        juego(1L, Set.of(10L, 11L), Set.of(1L), Set.of(100L));
+        juego(2L, Set.of(10L, 11L), Set.of(2L), Set.of(100L));
+        juego(3L, Set.of(10L), Set.of(1L), Set.of(200L));
+        juego(4L, Set.of(12L), Set.of(1L), Set.of(300L));
+        juego(5L, Set.of(13L), Set.of(3L), Set.of(400L));
+        cargar(similares);
+    }
+
+    @Test
+    void testSimilares_OrdenPorJaccardPonderado() {
+        // 1-2: (3·2 + 2) / (3·2 + 1·2 + 2) = 0,8; 1-3: (3 + 1) / (3·2 + 1 + 2·2) ≈ 0,36; 1-4 ≈ 0,07
+        assertEquals(List.of(2L, 3L), ids(similares.similares(1L, 10)));
+        assertEquals(List.of(2L), ids(similares.similares(1L, 1)));
+        // Sin nada en común no hay vecinos
+        assertEquals(List.of(), ids(similares.similares(5L, 10)));
+    }
+
+    @Test
+    void testActualizar_RecolocaEnLasListasDeLosDemas() {
+        // El 5 pasa a ser casi igual que el 1: entra en su lista y desplaza al 3
+        similares.actualizar(5L, Set.of(10L, 11L), Set.of(1L), Set.of(100L));
+
+        assertEquals(List.of(5L, 2L), ids(similares.similares(1L, 10)));
+        assertEquals(List.of(1L, 2L), ids(similares.similares(5L, 10)));
+    }
+
+    @Test
+    void testEliminar_LaListaLlenaSeRecalcula() {
+        similares.eliminar(2L);
+
+        assertEquals(List.of(3L, 4L), ids(similares.similares(1L, 10)));
+    }
+
+    @Test
+    void testBorrarGenero_DejaDeContarComoComun() {
+        similares.alCambiarCatalogo(new CatalogoCambiadoEvent(CatalogoCambiadoEvent.Catalogo.GENERO, 10L, TipoCambio.ELIMINADO));
+
+        // El 3 ya solo comparte plataforma con el 1, igual que el 4 (desempata el ID)
+        assertEquals(List.of(2L, 3L), ids(similares.similares(1L, 10)));
+        assertEquals(List.of(1L, 4L), ids(similares.similares(3L, 10)));
+    }
+
+    @Test
+    void testIncremental_IgualQueCalcularDesdeCero() {
+        Random random = new Random(11);
+        for (int i = 0; i < 300; i++) {
+            long id = 1 + random.nextInt(40);
+            if (random.nextInt(10) == 0) {
+                catalogo.remove(id);
+                similares.eliminar(id);
+            } else {
+                // Valores nuevos de vez en cuando (más que la holgura de un tramo: obliga a redistribuir)
+                Set<Long> generos = aleatorios(random, i > 150 ? 120 : 8, 3);
+                Set<Long> plataformas = aleatorios(random, 4, 2);
+                Set<Long> desarrolladoras = aleatorios(random, 10, 1);
+                catalogo.put(id, List.of(generos, plataformas, desarrolladoras));
+                similares.actualizar(id, generos, plataformas, desarrolladoras);
+            }
+        }
+
+        SimilaresJuegos desdeCero = new SimilaresJuegos(juegoRepository, juegoGeneroRepository,
+                juegoPlataformaRepository, juegoDesarrolladoraRepository, clasificacionJuegos);
+        configurar(desdeCero, 2);
+        cargar(desdeCero);
+        for (Long id : catalogo.keySet()) {
+            assertEquals(ids(desdeCero.similares(id, 10)), ids(similares.similares(id, 10)), "Juego " + id);
+        }
+    }
+
+    @Test
+    void testLimiteNoPositivo_LanzaExcepcion() {
+        assertThrows(BusinessLogicException.class, () -> similares.similares(1L, 0));
+    }
+
+    private void juego(Long id, Set<Long> generos, Set<Long> plataformas, Set<Long> desarrolladoras) {
+        catalogo.put(id, List.of(generos, plataformas, desarrolladoras));
+    }
+
+    @Test
+    void testRecargaCompleta_PublicaUnMapaNuevoSinVaciarElAnterior() {
+        Map<?, ?> anterior = (Map<?, ?>) ReflectionTestUtils.getField(similares, "vecinos");
+        Set<?> juegos = Set.copyOf(anterior.keySet());
+
+        similares.inicializar();
+
+        // Quien aún lee el mapa anterior sigue viendo todas las listas
+        assertNotSame(anterior, ReflectionTestUtils.getField(similares, "vecinos"));
+        assertEquals(juegos, anterior.keySet());
+        assertEquals(List.of(2L, 3L), ids(similares.similares(1L, 10)));
+    }
+
+    @Test
+    void testImportacion_SoloAplicaLosJuegosNuevosSobreLasListasActuales() {
+        for (long id = 6; id <= 55; id++) {
+            juego(id, Set.of(20L + id % 3), Set.of(1L + id % 2), Set.of(500L + id % 7));
+        }
+        cargar(similares);
+        Map<?, ?> publicado = (Map<?, ?>) ReflectionTestUtils.getField(similares, "vecinos");
+        juego(56L, Set.of(10L, 11L), Set.of(1L), Set.of(100L));
+        juego(57L, Set.of(21L), Set.of(2L), Set.of(501L));
+        cargar(similares, false);
+
+        similares.alImportarJuegos(new JuegosImportadosEvent(2));
+
+        // Sin carga completa ni mapa nuevo: las listas se han ajustado en su sitio
+        assertSame(publicado, ReflectionTestUtils.getField(similares, "vecinos"));
+        assertEquals(List.of(56L, 2L), ids(similares.similares(1L, 10)));
+        assertIgualQueDesdeCero();
+    }
+
+    @Test
+    void testImportacionGrande_RecalculaTodo() {
+        Map<?, ?> publicado = (Map<?, ?>) ReflectionTestUtils.getField(similares, "vecinos");
+        catalogo.remove(5L);
+        juego(3L, Set.of(13L), Set.of(3L), Set.of(400L));
+        cargar(similares, false);
+
+        similares.alImportarJuegos(new JuegosImportadosEvent(0));
+
+        assertNotSame(publicado, ReflectionTestUtils.getField(similares, "vecinos"));
+        assertEquals(List.of(2L, 4L), ids(similares.similares(1L, 10)));
+        assertIgualQueDesdeCero();
+    }
+
+    @Test
+    void testCambioDuranteLaCargaCompleta_NoEsperaYSeConserva() {
+        List<Object[]> generos = new ArrayList<>();
+        catalogo.forEach((id, datos) -> datos.get(0).forEach(v -> generos.add(new Object[] {id, v})));
+        when(juegoGeneroRepository.findParesIds()).thenAnswer(invocacion -> {
+            // Un administrador edita el 5 mientras se lee el catálogo: no debe quedar bloqueado
+            ExecutorService otroHilo = Executors.newSingleThreadExecutor();
+            try {
+                otroHilo.submit(() -> similares.actualizar(5L, Set.of(10L, 11L), Set.of(1L), Set.of(100L)))
+                        .get(5, TimeUnit.SECONDS);
+            } finally {
+                otroHilo.shutdown();
+            }
+            return generos;
+        });
+
+        similares.inicializar();
+
+        // Las filas leídas aún traían el 5 antiguo; el cambio se repite sobre el estado nuevo
+        assertEquals(List.of(5L, 2L), ids(similares.similares(1L, 10)));
+    }
+
+    /**
+     * mvn test -Dtest=SimilaresJuegosTest -Dbenchmark=true
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmark_VeinteMilJuegos() {
+        Random random = new Random(7);
+        catalogo.clear();
+        for (long id = 1; id <= 20_000; id++) {
+            // Géneros y plataformas muy repartidos, desarrolladoras casi exclusivas
+            juego(id, sesgados(random, 25, 3), sesgados(random, 40, 4), Set.of((long) random.nextInt(4_000)));
+        }
+        configurar(similares, 20);
+        cargar(similares, false);
+
+        long inicio = System.nanoTime();
+        similares.inicializar();
+        System.out.printf("Similares, 20 000 juegos, carga completa: %d ms%n", (System.nanoTime() - inicio) / 1_000_000);
+
+        for (long id = 20_001; id <= 20_200; id++) {
+            juego(id, sesgados(random, 25, 3), sesgados(random, 40, 4), Set.of((long) random.nextInt(4_000)));
+        }
+        cargar(similares, false);
+        inicio = System.nanoTime();
+        similares.alImportarJuegos(new JuegosImportadosEvent(200));
+        System.out.printf("Similares, importar 200 juegos: %d ms%n", (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    private void assertIgualQueDesdeCero() {
+        SimilaresJuegos desdeCero = new SimilaresJuegos(juegoRepository, juegoGeneroRepository,
+                juegoPlataformaRepository, juegoDesarrolladoraRepository, clasificacionJuegos);
+        configurar(desdeCero, 2);
+        cargar(desdeCero);
+        for (Long id : catalogo.keySet()) {
+            assertEquals(ids(desdeCero.similares(id, 10)), ids(similares.similares(id, 10)), "Juego " + id);
+        }
+    }
+
+    private void cargar(SimilaresJuegos destino) {
+        cargar(destino, true);
+    }
+
+    private void cargar(SimilaresJuegos destino, boolean inicializar) {
+        List<Object[]> ids = new ArrayList<>();
+        List<Object[]> generos = new ArrayList<>();
+        List<Object[]> plataformas = new ArrayList<>();
+        List<Object[]> desarrolladoras = new ArrayList<>();
+        catalogo.forEach((id, datos) -> {
+            ids.add(new Object[] {id, LocalDate.of(2020, 1, 1)});
+            datos.get(0).forEach(v -> generos.add(new Object[] {id, v}));
+            datos.get(1).forEach(v -> plataformas.add(new Object[] {id, v}));
+            datos.get(2).forEach(v -> desarrolladoras.add(new Object[] {id, v}));
+        });
+        when(juegoRepository.findIdYFechaSalida()).thenReturn(ids);
+        when(juegoGeneroRepository.findParesIds()).thenReturn(generos);
+        when(juegoPlataformaRepository.findParesIds()).thenReturn(plataformas);
+        when(juegoDesarrolladoraRepository.findParesIds()).thenReturn(desarrolladoras);
+        if (inicializar) {
+            destino.inicializar();
+        }
+    }
+
+    private static void configurar(SimilaresJuegos destino, int vecinos) {
+        ReflectionTestUtils.setField(destino, "maximoVecinos", vecinos);
+        ReflectionTestUtils.setField(destino, "pesoGenero", 3.0);
+        ReflectionTestUtils.setField(destino, "pesoPlataforma", 1.0);
+        ReflectionTestUtils.setField(destino, "pesoDesarrolladora", 2.0);
+    }
+
+    private static Set<Long> aleatorios(Random random, int rango, int maximo) {
+        Set<Long> valores = new HashSet<>();
+        int cuantos = random.nextInt(maximo + 1);
+        while (valores.size() < cuantos) {
+            valores.add((long) random.nextInt(rango));
+        }
+        return valores;
+    }
+
+    /**
+     * Entre 1 y 'maximo' valores, con los primeros mucho más frecuentes
+     */
+    private static Set<Long> sesgados(Random random, int rango, int maximo) {
+        Set<Long> valores = new HashSet<>();
+        int cuantos = 1 + random.nextInt(maximo);
+        while (valores.size() < cuantos) {
+            valores.add((long) (rango * Math.pow(random.nextDouble(), 2)));
+        }
+        return valores;
+    }
+
+    private static List<Long> ids(List<JuegoResumenDTO> juegos) {
+        return juegos.stream().map(JuegoResumenDTO::id).toList();
+    }
+}
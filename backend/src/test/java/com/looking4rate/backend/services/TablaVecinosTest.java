@@ -0,0 +1,141 @@
+package com.looking4rate.backend.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+class TablaVecinosTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void testVecinos_SoloLosJuegosQueGustanALosMismos() {
+        TablaVecinos tabla = TablaVecinos.calcular(dosGrupos(), 10, 2, pool);
+
+        assertEquals(List.of(2L), tabla.vecinosDe(1L, 10));
+        assertEquals(List.of(4L), tabla.vecinosDe(3L, 10));
+        assertEquals(List.of(), tabla.vecinosDe(99L, 10));
+    }
+
+    @Test
+    void testRecomendados_SumaLoQueGustoYRestaLoQueNo() {
+        TablaVecinos tabla = TablaVecinos.calcular(dosGrupos(), 10, 2, pool);
+
+        // Al usuario 5 le gustó el 1 y no el 3: se le recomienda el 2, nunca el 4 ni lo que ya tiene
+        assertEquals(List.of(2L), tabla.recomendados(5L, 10));
+        assertEquals(Set.of(1L, 3L, 6L), tabla.juegosDe(5L));
+        assertEquals(List.of(), tabla.recomendados(99L, 10));
+    }
+
+    @Test
+    void testMinimoComunes_DescartaSimilitudesSinApoyo() {
+        TablaVecinos tabla = TablaVecinos.calcular(dosGrupos(), 10, 5, pool);
+
+        assertEquals(List.of(), tabla.vecinosDe(1L, 10));
+    }
+
+    @Test
+    void testParalelo_MismoResultadoQueConUnHilo() {
+        TablaVecinos.Interacciones datos = aleatorias(2_000, 300, 15, 7);
+        ForkJoinPool unHilo = new ForkJoinPool(1);
+        try {
+            TablaVecinos secuencial = TablaVecinos.calcular(datos, 20, 2, unHilo);
+            TablaVecinos paralela = TablaVecinos.calcular(datos, 20, 2, pool);
+            for (long juego = 0; juego < 300; juego++) {
+                assertEquals(secuencial.vecinosDe(juego, 20), paralela.vecinosDe(juego, 20));
+            }
+            assertEquals(secuencial.recomendados(3L, 10), paralela.recomendados(3L, 10));
+        } finally {
+            unHilo.shutdown();
+        }
+    }
+
+    /**
+     * mvn test -Dtest=TablaVecinosTest -Dbenchmark=true
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmark_UnMillonDeInteracciones() {
+        TablaVecinos.Interacciones datos = aleatorias(100_000, 20_000, 10, 42);
+        assertEquals(1_000_000, datos.filas());
+
+        int nucleos = Runtime.getRuntime().availableProcessors();
+        for (int hilos : new int[] {1, nucleos}) {
+            ForkJoinPool benchmark = new ForkJoinPool(hilos);
+            try {
+                TablaVecinos.calcular(datos, 50, 2, benchmark); // calentamiento
+                long mejor = Long.MAX_VALUE;
+                for (int i = 0; i < 3; i++) {
+                    long inicio = System.nanoTime();
+                    TablaVecinos.calcular(datos, 50, 2, benchmark);
+                    mejor = Math.min(mejor, (System.nanoTime() - inicio) / 1_000_000);
+                }
+                System.out.printf("Vecinos item-item, 1M interacciones, %d hilo(s): %d ms%n", hilos, mejor);
+            } finally {
+                benchmark.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Juegos 1 y 2 gustan a unos usuarios y 3 y 4 a otros; el usuario 5 solo valoró 1 (alto) y 3 (bajo)
+     * y jugó al 6 sin puntuarlo
+     */
+    private static TablaVecinos.Interacciones dosGrupos() {
+        TablaVecinos.Interacciones datos = new TablaVecinos.Interacciones();
+        int[][] puntuaciones = {
+            {1, 9, 9, 2, 2},
+            {2, 8, 9, 3, 2},
+            {3, 2, 3, 9, 8},
+            {4, 3, 2, 8, 9},
+        };
+        for (int[] fila : puntuaciones) {
+            for (int juego = 1; juego <= 4; juego++) {
+                datos.anadir(fila[0], juego, fila[juego]);
+            }
+        }
+        datos.anadir(5, 1, 10);
+        datos.anadir(5, 3, 1);
+        datos.anadir(5, 6, 0);
+        return datos;
+    }
+
+    /**
+     * Interacciones sintéticas: popularidad de juegos sesgada (unos pocos concentran la mayoría)
+     * y puntuación según la calidad del juego más ruido
+     */
+    private static TablaVecinos.Interacciones aleatorias(int usuarios, int juegos, int porUsuario, long semilla) {
+        Random random = new Random(semilla);
+        double[] calidad = new double[juegos];
+        for (int j = 0; j < juegos; j++) {
+            calidad[j] = 3 + random.nextDouble() * 6;
+        }
+        TablaVecinos.Interacciones datos = new TablaVecinos.Interacciones();
+        Set<Integer> elegidos = new HashSet<>();
+        for (int u = 0; u < usuarios; u++) {
+            elegidos.clear();
+            while (elegidos.size() < porUsuario) {
+                elegidos.add((int) (juegos * Math.pow(random.nextDouble(), 3)));
+            }
+            for (int j : elegidos) {
+                int puntuacion = random.nextInt(5) == 0 ? 0
+                        : (int) Math.max(1, Math.min(10, Math.round(calidad[j] + random.nextGaussian() * 1.5)));
+                datos.anadir(u, j, puntuacion);
+            }
+        }
+        return datos;
+    }
+}
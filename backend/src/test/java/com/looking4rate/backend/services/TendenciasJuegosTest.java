@@ -0,0 +1,119 @@
+package com.looking4rate.backend.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.looking4rate.backend.dtos.JuegoResumenDTO;
+import com.looking4rate.backend.events.InteraccionCambiadaEvent;
+import com.looking4rate.backend.events.JuegoCambiadoEvent;
+import com.looking4rate.backend.events.TipoCambio;
+import com.looking4rate.backend.exceptions.BusinessLogicException;
+import com.looking4rate.backend.repositories.InteraccionRepository;
+
+@ExtendWith(MockitoExtension.class)
+class TendenciasJuegosTest {
+
+    private static final long HORA = Duration.ofHours(1).toMillis();
+    private static final long AHORA = 1_000 * HORA;
+
+    @Mock
+    private InteraccionRepository interaccionRepository;
+
+    @Mock
+    private ClasificacionJuegos clasificacionJuegos;
+
+    @InjectMocks
+    private TendenciasJuegos tendencias;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(tendencias, "cubeta", Duration.ofHours(1));
+        ReflectionTestUtils.setField(tendencias, "cubetas", 24);
+        ReflectionTestUtils.setField(tendencias, "vidaMedia", Duration.ofHours(6));
+        lenient().when(clasificacionJuegos.resumen(any()))
+                .thenAnswer(inv -> new JuegoResumenDTO(inv.getArgument(0), "Juego", null, LocalDate.of(2020, 1, 1), null));
+    }
+
+    @Test
+    void testReconstruccion_LaActividadAntiguaPesaMenos() {
+        // Juego 1: tres interacciones hace 10 horas; juego 2: dos en la última hora; juego 3: fuera de la ventana
+        when(interaccionRepository.findActividadDesde(any())).thenReturn(List.of(
+                fila(1L, AHORA - 10 * HORA), fila(1L, AHORA - 10 * HORA), fila(1L, AHORA - 10 * HORA),
+                fila(2L, AHORA - HORA / 2), fila(2L, AHORA),
+                fila(3L, AHORA - 30 * HORA)));
+
+        tendencias.recargar(AHORA);
+
+        assertEquals(List.of(2L, 1L), ids(tendencias.tendencias(10, AHORA)));
+        // Quince horas después el juego 1 ha salido de la ventana, y pasadas 24 ya no queda nada
+        assertEquals(List.of(2L), ids(tendencias.tendencias(10, AHORA + 15 * HORA)));
+        assertEquals(List.of(), ids(tendencias.tendencias(10, AHORA + 24 * HORA)));
+    }
+
+    @Test
+    void testInteracciones_SumanActividadYLasBajasNoRestan() {
+        when(interaccionRepository.findActividadDesde(any())).thenReturn(List.<Object[]>of(fila(1L, AHORA)));
+        tendencias.recargar(AHORA);
+
+        tendencias.registrar(2L, AHORA);
+        tendencias.registrar(2L, AHORA);
+        tendencias.alCambiarInteraccion(new InteraccionCambiadaEvent(2L, 7L, TipoCambio.ELIMINADO));
+
+        assertEquals(List.of(2L, 1L), ids(tendencias.tendencias(10, AHORA)));
+    }
+
+    @Test
+    void testListas_MismaInstanciaHastaElSiguienteCambioOCubeta() {
+        when(interaccionRepository.findActividadDesde(any())).thenReturn(List.of(fila(1L, AHORA), fila(2L, AHORA)));
+        tendencias.recargar(AHORA);
+
+        List<JuegoResumenDTO> primera = tendencias.tendencias(5, AHORA);
+        assertSame(primera, tendencias.tendencias(5, AHORA + 1));
+        assertNotSame(primera, tendencias.tendencias(5, AHORA + HORA));
+
+        List<JuegoResumenDTO> segunda = tendencias.tendencias(5, AHORA + HORA);
+        tendencias.registrar(2L, AHORA + HORA);
+        assertNotSame(segunda, tendencias.tendencias(5, AHORA + HORA));
+        assertEquals(List.of(2L, 1L), ids(tendencias.tendencias(5, AHORA + HORA)));
+    }
+
+    @Test
+    void testEliminarJuego_DesapareceDeLasTendencias() {
+        when(interaccionRepository.findActividadDesde(any())).thenReturn(List.of(fila(1L, AHORA), fila(2L, AHORA)));
+        tendencias.recargar(AHORA);
+
+        tendencias.alCambiarJuego(new JuegoCambiadoEvent(1L, TipoCambio.ELIMINADO));
+
+        assertEquals(List.of(2L), ids(tendencias.tendencias(10, AHORA)));
+    }
+
+    @Test
+    void testSinCargar_ListaVaciaYLimiteValidado() {
+        assertEquals(List.of(), tendencias.tendencias(10, AHORA));
+        assertThrows(BusinessLogicException.class, () -> tendencias.tendencias(0, AHORA));
+    }
+
+    private static Object[] fila(Long juegoId, long instante) {
+        return new Object[] {juegoId, LocalDateTime.ofInstant(Instant.ofEpochMilli(instante), ZoneId.systemDefault())};
+    }
+
+    private static List<Long> ids(List<JuegoResumenDTO> juegos) {
+        return juegos.stream().map(JuegoResumenDTO::id).toList();
+    }
+}